@@ -87,6 +87,11 @@ public class PropertyKeyConst {
     
     public static final String ENABLE_REMOTE_SYNC_CONFIG = "enableRemoteSyncConfig";
     
+    /**
+     * Receive changed config as a delta against the content already held, for large configs.
+     */
+    public static final String ENABLE_CONFIG_DELTA = "enableConfigDelta";
+    
     public static final String NAMING_LOAD_CACHE_AT_START = "namingLoadCacheAtStart";
     
     public static final String NAMING_CACHE_REGISTRY_DIR = "namingCacheRegistryDir";
@@ -37,6 +37,29 @@ public enum AbilityKey {
     SERVER_SUPPORT_PERSISTENT_INSTANCE_BY_GRPC("supportPersistentInstanceByGrpc",
             "support persistent instance by grpc", AbilityMode.SERVER),
     
+    /**
+     * Server support querying a batch of configs in one request.
+     */
+    SERVER_SUPPORT_BATCH_CONFIG_QUERY("supportBatchConfigQuery", "support batch config query", AbilityMode.SERVER),
+    
+    /**
+     * Sdk client support receiving a batch of config change notify in one request.
+     */
+    SDK_CLIENT_SUPPORT_BATCH_CONFIG_CHANGE_NOTIFY("supportBatchConfigChangeNotify",
+            "support batch config change notify", AbilityMode.SDK_CLIENT),
+    
+    /**
+     * Sdk client support receiving compressed config content.
+     */
+    SDK_CLIENT_SUPPORT_CONFIG_COMPRESSION("supportConfigCompression", "support compressed config content",
+            AbilityMode.SDK_CLIENT),
+    
+    /**
+     * Sdk client support applying incremental naming push.
+     */
+    SDK_CLIENT_SUPPORT_NAMING_DELTA_PUSH("supportNamingDeltaPush", "support incremental naming push",
+            AbilityMode.SDK_CLIENT),
+    
     /**
      * For Test temporarily.
      */
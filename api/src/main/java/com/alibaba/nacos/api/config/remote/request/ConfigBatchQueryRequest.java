@@ -0,0 +1,112 @@
+/*
+ * Copyright 1999-2025 Alibaba Group Holding Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.alibaba.nacos.api.config.remote.request;
+
+import com.alibaba.nacos.api.common.Constants;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * request to query a batch of configs in one round trip, all configs should be in the same namespace.
+ *
+ * <p>Only sent to the servers which support
+ * {@link com.alibaba.nacos.api.ability.constant.AbilityKey#SERVER_SUPPORT_BATCH_CONFIG_QUERY}.
+ *
+ * @author Nacos
+ */
+public class ConfigBatchQueryRequest extends AbstractConfigRequest {
+    
+    private List<ConfigQueryContext> configQueryContexts = new ArrayList<>();
+    
+    /**
+     * add query config.
+     *
+     * @param dataId dataId
+     * @param group  group
+     * @param tenant tenant
+     */
+    public void addConfigQueryContext(String dataId, String group, String tenant) {
+        ConfigQueryContext configQueryContext = new ConfigQueryContext();
+        configQueryContext.setDataId(dataId);
+        configQueryContext.setGroup(group);
+        configQueryContext.setTenant(tenant);
+        configQueryContexts.add(configQueryContext);
+    }
+    
+    public List<ConfigQueryContext> getConfigQueryContexts() {
+        return configQueryContexts;
+    }
+    
+    public void setConfigQueryContexts(List<ConfigQueryContext> configQueryContexts) {
+        this.configQueryContexts = configQueryContexts;
+    }
+    
+    public boolean isNotify() {
+        String notify = getHeader(Constants.Config.NOTIFY_HEADER, Boolean.FALSE.toString());
+        return Boolean.parseBoolean(notify);
+    }
+    
+    public static class ConfigQueryContext {
+        
+        String dataId;
+        
+        String group;
+        
+        String tenant;
+        
+        String tag;
+        
+        public String getDataId() {
+            return dataId;
+        }
+        
+        public void setDataId(String dataId) {
+            this.dataId = dataId;
+        }
+        
+        public String getGroup() {
+            return group;
+        }
+        
+        public void setGroup(String group) {
+            this.group = group;
+        }
+        
+        public String getTenant() {
+            return tenant;
+        }
+        
+        public void setTenant(String tenant) {
+            this.tenant = tenant;
+        }
+        
+        public String getTag() {
+            return tag;
+        }
+        
+        public void setTag(String tag) {
+            this.tag = tag;
+        }
+        
+        @Override
+        public String toString() {
+            return "ConfigQueryContext{" + "dataId='" + dataId + '\'' + ", group='" + group + '\'' + ", tenant='"
+                    + tenant + '\'' + ", tag='" + tag + '\'' + '}';
+        }
+    }
+}
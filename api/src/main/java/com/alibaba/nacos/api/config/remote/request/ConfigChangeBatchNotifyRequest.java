@@ -0,0 +1,103 @@
+/*
+ * Copyright 1999-2025 Alibaba Group Holding Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.alibaba.nacos.api.config.remote.request;
+
+import com.alibaba.nacos.api.common.Constants;
+import com.alibaba.nacos.api.remote.request.ServerRequest;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Notify a batch of changed configs to one client in one request.
+ *
+ * <p>Only pushed to the clients which support
+ * {@link com.alibaba.nacos.api.ability.constant.AbilityKey#SDK_CLIENT_SUPPORT_BATCH_CONFIG_CHANGE_NOTIFY}.
+ *
+ * @author Nacos
+ */
+public class ConfigChangeBatchNotifyRequest extends ServerRequest {
+    
+    private List<ConfigContext> configContexts = new ArrayList<>();
+    
+    /**
+     * add changed config.
+     *
+     * @param dataId dataId
+     * @param group  group
+     * @param tenant tenant
+     */
+    public void addConfigContext(String dataId, String group, String tenant) {
+        ConfigContext configContext = new ConfigContext();
+        configContext.setDataId(dataId);
+        configContext.setGroup(group);
+        configContext.setTenant(tenant);
+        configContexts.add(configContext);
+    }
+    
+    public List<ConfigContext> getConfigContexts() {
+        return configContexts;
+    }
+    
+    public void setConfigContexts(List<ConfigContext> configContexts) {
+        this.configContexts = configContexts;
+    }
+    
+    @Override
+    public String getModule() {
+        return Constants.Config.CONFIG_MODULE;
+    }
+    
+    public static class ConfigContext {
+        
+        String dataId;
+        
+        String group;
+        
+        String tenant;
+        
+        public String getDataId() {
+            return dataId;
+        }
+        
+        public void setDataId(String dataId) {
+            this.dataId = dataId;
+        }
+        
+        public String getGroup() {
+            return group;
+        }
+        
+        public void setGroup(String group) {
+            this.group = group;
+        }
+        
+        public String getTenant() {
+            return tenant;
+        }
+        
+        public void setTenant(String tenant) {
+            this.tenant = tenant;
+        }
+        
+        @Override
+        public String toString() {
+            return "ConfigContext{" + "dataId='" + dataId + '\'' + ", group='" + group + '\'' + ", tenant='" + tenant
+                    + '\'' + '}';
+        }
+    }
+}
@@ -28,6 +28,11 @@ public class ConfigQueryRequest extends AbstractConfigRequest {
     
     private String tag;
     
+    /**
+     * md5 of the content the client already holds, if present the server may respond with a delta against it.
+     */
+    private String deltaBaseMd5;
+    
     /**
      * request builder.
      *
@@ -62,6 +67,14 @@ public class ConfigQueryRequest extends AbstractConfigRequest {
         this.tag = tag;
     }
     
+    public String getDeltaBaseMd5() {
+        return deltaBaseMd5;
+    }
+    
+    public void setDeltaBaseMd5(String deltaBaseMd5) {
+        this.deltaBaseMd5 = deltaBaseMd5;
+    }
+    
     public boolean isNotify() {
         String notify = getHeader(Constants.Config.NOTIFY_HEADER, Boolean.FALSE.toString());
         return Boolean.parseBoolean(notify);
@@ -46,6 +46,16 @@ public class ConfigQueryResponse extends Response {
     
     String tag;
     
+    /**
+     * Patch from the content of request deltaBaseMd5 to the content of md5, content is null if delta is present.
+     */
+    String delta;
+    
+    /**
+     * GZIP compressed content, only for clients supporting config compression, content is null if it is present.
+     */
+    byte[] compressedContent;
+    
     public ConfigQueryResponse() {
     }
     
@@ -82,6 +92,22 @@ public class ConfigQueryResponse extends Response {
         this.tag = tag;
     }
     
+    public String getDelta() {
+        return delta;
+    }
+    
+    public void setDelta(String delta) {
+        this.delta = delta;
+    }
+    
+    public byte[] getCompressedContent() {
+        return compressedContent;
+    }
+    
+    public void setCompressedContent(byte[] compressedContent) {
+        this.compressedContent = compressedContent;
+    }
+    
     public String getMd5() {
         return md5;
     }
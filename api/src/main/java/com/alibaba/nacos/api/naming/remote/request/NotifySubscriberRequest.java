@@ -16,9 +16,12 @@
 
 package com.alibaba.nacos.api.naming.remote.request;
 
+import com.alibaba.nacos.api.naming.pojo.Instance;
 import com.alibaba.nacos.api.naming.pojo.ServiceInfo;
 import com.alibaba.nacos.api.remote.request.ServerRequest;
 
+import java.util.List;
+
 import static com.alibaba.nacos.api.common.Constants.Naming.NAMING_MODULE;
 
 /**
@@ -36,6 +39,22 @@ public class NotifySubscriberRequest extends ServerRequest {
     
     private ServiceInfo serviceInfo;
     
+    /**
+     * Revision ({@link ServiceInfo#getLastRefTime()}) of the service info which this incremental push is based on,
+     * {@code 0} means {@link #serviceInfo} contains all instances.
+     */
+    private long baseRevision;
+    
+    /**
+     * Digest of the instances in the base service info, see
+     * {@link com.alibaba.nacos.api.naming.utils.NamingUtils#calculateInstancesDigest(java.util.Collection)}.
+     */
+    private long baseDigest;
+    
+    private List<Instance> changedInstances;
+    
+    private List<Instance> removedInstances;
+    
     public NotifySubscriberRequest() {
     }
     
@@ -52,6 +71,26 @@ public class NotifySubscriberRequest extends ServerRequest {
         return new NotifySubscriberRequest(serviceInfo);
     }
     
+    /**
+     * Build incremental notify subscriber request.
+     *
+     * @param serviceInfo      service info without hosts, carries the new revision and other attributes
+     * @param baseRevision     revision of the base service info
+     * @param baseDigest       digest of the instances in the base service info
+     * @param changedInstances added or modified instances
+     * @param removedInstances removed instances
+     * @return incremental notify subscriber request
+     */
+    public static NotifySubscriberRequest buildDeltaNotifySubscriberRequest(ServiceInfo serviceInfo,
+            long baseRevision, long baseDigest, List<Instance> changedInstances, List<Instance> removedInstances) {
+        NotifySubscriberRequest result = new NotifySubscriberRequest(serviceInfo);
+        result.setBaseRevision(baseRevision);
+        result.setBaseDigest(baseDigest);
+        result.setChangedInstances(changedInstances);
+        result.setRemovedInstances(removedInstances);
+        return result;
+    }
+    
     public ServiceInfo getServiceInfo() {
         return serviceInfo;
     }
@@ -84,4 +123,36 @@ public class NotifySubscriberRequest extends ServerRequest {
         this.groupName = groupName;
     }
     
+    public long getBaseRevision() {
+        return baseRevision;
+    }
+    
+    public void setBaseRevision(long baseRevision) {
+        this.baseRevision = baseRevision;
+    }
+    
+    public long getBaseDigest() {
+        return baseDigest;
+    }
+    
+    public void setBaseDigest(long baseDigest) {
+        this.baseDigest = baseDigest;
+    }
+    
+    public List<Instance> getChangedInstances() {
+        return changedInstances;
+    }
+    
+    public void setChangedInstances(List<Instance> changedInstances) {
+        this.changedInstances = changedInstances;
+    }
+    
+    public List<Instance> getRemovedInstances() {
+        return removedInstances;
+    }
+    
+    public void setRemovedInstances(List<Instance> removedInstances) {
+        this.removedInstances = removedInstances;
+    }
+    
 }
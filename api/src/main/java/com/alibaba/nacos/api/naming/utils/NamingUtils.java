@@ -23,6 +23,7 @@ import com.alibaba.nacos.api.model.v2.ErrorCode;
 import com.alibaba.nacos.api.naming.pojo.Instance;
 import com.alibaba.nacos.api.utils.StringUtils;
 
+import java.util.Collection;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Set;
@@ -198,4 +199,30 @@ public class NamingUtils {
     public static boolean isNumber(String str) {
         return !StringUtils.isEmpty(str) && NUMBER_PATTERN.matcher(str).matches();
     }
+    
+    /**
+     * Get the key which identifies an instance inside one service, used to match instances of incremental push.
+     *
+     * @param instance instance
+     * @return 'ip#port#clusterName'
+     */
+    public static String getInstanceDeltaKey(Instance instance) {
+        return instance.getIp() + Constants.NAMING_INSTANCE_ID_SPLITTER + instance.getPort()
+                + Constants.NAMING_INSTANCE_ID_SPLITTER + instance.getClusterName();
+    }
+    
+    /**
+     * Calculate the digest of the instance keys, which does not depend on the order of instances. Both sides of an
+     * incremental push use it to make sure they hold the same instances before applying the delta.
+     *
+     * @param instances instances
+     * @return digest of the instance keys
+     */
+    public static long calculateInstancesDigest(Collection<Instance> instances) {
+        long result = 0L;
+        for (Instance each : instances) {
+            result += getInstanceDeltaKey(each).hashCode();
+        }
+        return result;
+    }
 }
@@ -35,6 +35,10 @@ public class ConnectionSetupRequest extends InternalRequest {
     
     private Map<String, Boolean> abilityTable;
     
+    private String payloadCodec;
+    
+    private String payloadCompressor;
+    
     public ConnectionSetupRequest() {
     }
     
@@ -69,4 +73,20 @@ public class ConnectionSetupRequest extends InternalRequest {
     public void setAbilityTable(Map<String, Boolean> abilityTable) {
         this.abilityTable = abilityTable;
     }
+    
+    public String getPayloadCodec() {
+        return payloadCodec;
+    }
+    
+    public void setPayloadCodec(String payloadCodec) {
+        this.payloadCodec = payloadCodec;
+    }
+    
+    public String getPayloadCompressor() {
+        return payloadCompressor;
+    }
+    
+    public void setPayloadCompressor(String payloadCompressor) {
+        this.payloadCompressor = payloadCompressor;
+    }
 }
@@ -16,6 +16,8 @@
 
 package com.alibaba.nacos.api.remote.response;
 
+import java.util.List;
+
 /**
  * response of server check.
  *
@@ -28,6 +30,16 @@ public class ServerCheckResponse extends Response {
     
     private boolean supportAbilityNegotiation;
     
+    /**
+     * Payload codecs supported by server, null if server only supports json.
+     */
+    private List<String> payloadCodecs;
+    
+    /**
+     * Payload compressors supported by server, null if server does not support payload compression.
+     */
+    private List<String> payloadCompressors;
+    
     public ServerCheckResponse() {
     
     }
@@ -52,4 +64,20 @@ public class ServerCheckResponse extends Response {
     public void setSupportAbilityNegotiation(boolean supportAbilityNegotiation) {
         this.supportAbilityNegotiation = supportAbilityNegotiation;
     }
+    
+    public List<String> getPayloadCodecs() {
+        return payloadCodecs;
+    }
+    
+    public void setPayloadCodecs(List<String> payloadCodecs) {
+        this.payloadCodecs = payloadCodecs;
+    }
+    
+    public List<String> getPayloadCompressors() {
+        return payloadCompressors;
+    }
+    
+    public void setPayloadCompressors(List<String> payloadCompressors) {
+        this.payloadCompressors = payloadCompressors;
+    }
 }
@@ -0,0 +1,69 @@
+/*
+ * Copyright 1999-2025 Alibaba Group Holding Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.alibaba.nacos.api.config.remote.request;
+
+import com.alibaba.nacos.api.common.Constants;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class ConfigBatchQueryRequestTest extends BasedConfigRequestTest {
+    
+    ConfigBatchQueryRequest configBatchQueryRequest;
+    
+    String requestId;
+    
+    @BeforeEach
+    void before() {
+        configBatchQueryRequest = new ConfigBatchQueryRequest();
+        configBatchQueryRequest.addConfigQueryContext(DATA_ID, GROUP, TENANT);
+        configBatchQueryRequest.putAllHeader(HEADERS);
+        requestId = injectRequestUuId(configBatchQueryRequest);
+    }
+    
+    @Override
+    @Test
+    public void testSerialize() throws JsonProcessingException {
+        String json = mapper.writeValueAsString(configBatchQueryRequest);
+        assertTrue(json.contains("\"module\":\"" + Constants.Config.CONFIG_MODULE));
+        assertTrue(json.contains("\"configQueryContexts\":[{"));
+        assertTrue(json.contains("\"dataId\":\"" + DATA_ID));
+        assertTrue(json.contains("\"group\":\"" + GROUP));
+        assertTrue(json.contains("\"tenant\":\"" + TENANT));
+        assertTrue(json.contains("\"requestId\":\"" + requestId));
+    }
+    
+    @Override
+    @Test
+    public void testDeserialize() throws JsonProcessingException {
+        String json = "{\"headers\":{\"header1\":\"test_header1\"},\"configQueryContexts\":[{\"dataId\":\"test_data\","
+                + "\"group\":\"group\",\"tenant\":\"test_tenant\",\"tag\":\"tag\"}],\"module\":\"config\"}";
+        ConfigBatchQueryRequest actual = mapper.readValue(json, ConfigBatchQueryRequest.class);
+        assertEquals(1, actual.getConfigQueryContexts().size());
+        assertEquals(DATA_ID, actual.getConfigQueryContexts().get(0).getDataId());
+        assertEquals(GROUP, actual.getConfigQueryContexts().get(0).getGroup());
+        assertEquals(TENANT, actual.getConfigQueryContexts().get(0).getTenant());
+        assertEquals("tag", actual.getConfigQueryContexts().get(0).getTag());
+        assertEquals(Constants.Config.CONFIG_MODULE, actual.getModule());
+        assertEquals(HEADER_VALUE, actual.getHeader(HEADER_KEY));
+        assertFalse(actual.isNotify());
+    }
+}
@@ -41,6 +41,7 @@ class ConfigQueryRequestTest extends BasedConfigRequestTest {
         configQueryRequest = ConfigQueryRequest.build(DATA_ID, GROUP, TENANT);
         configQueryRequest.putAllHeader(headers);
         configQueryRequest.setTag(TAG);
+        configQueryRequest.setDeltaBaseMd5(MD5);
         requestId = injectRequestUuId(configQueryRequest);
     }
     
@@ -58,6 +59,7 @@ class ConfigQueryRequestTest extends BasedConfigRequestTest {
         assertTrue(json.contains("\"group\":\"" + GROUP));
         assertTrue(json.contains("\"tenant\":\"" + TENANT));
         assertTrue(json.contains("\"tag\":\"" + TAG));
+        assertTrue(json.contains("\"deltaBaseMd5\":\"" + MD5));
         assertTrue(json.contains("\"requestId\":\"" + requestId));
     }
     
@@ -65,12 +67,14 @@ class ConfigQueryRequestTest extends BasedConfigRequestTest {
     @Test
     public void testDeserialize() throws JsonProcessingException {
         String json = "{\"headers\":{\"notify\":\"true\"},\"dataId\":\"test_data\",\"group\":\"group\","
-                + "\"tenant\":\"test_tenant\",\"notify\":true,\"module\":\"config\",\"tag\":\"tag\"}";
+                + "\"tenant\":\"test_tenant\",\"notify\":true,\"module\":\"config\",\"tag\":\"tag\","
+                + "\"deltaBaseMd5\":\"test_MD5\"}";
         ConfigQueryRequest actual = mapper.readValue(json, ConfigQueryRequest.class);
         assertEquals(DATA_ID, actual.getDataId());
         assertEquals(GROUP, actual.getGroup());
         assertEquals(TENANT, actual.getTenant());
         assertEquals(TAG, actual.getTag());
+        assertEquals(MD5, actual.getDeltaBaseMd5());
         assertEquals(Constants.Config.CONFIG_MODULE, actual.getModule());
     }
 }
@@ -21,7 +21,9 @@ import com.fasterxml.jackson.core.JsonProcessingException;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
 class ConfigQueryResponseTest extends BasedConfigResponseTest {
@@ -81,4 +83,27 @@ class ConfigQueryResponseTest extends BasedConfigResponseTest {
         assertEquals("text", actual.getContentType());
         assertEquals(1111111L, actual.getLastModified());
     }
+    
+    @Test
+    void testSerializeDeltaResponse() throws JsonProcessingException {
+        ConfigQueryResponse deltaResponse = new ConfigQueryResponse();
+        deltaResponse.setMd5(MD5);
+        deltaResponse.setDelta("=1\n");
+        String json = mapper.writeValueAsString(deltaResponse);
+        assertTrue(json.contains("\"delta\":\"=1\\n\""));
+        ConfigQueryResponse actual = mapper.readValue(json, ConfigQueryResponse.class);
+        assertEquals("=1\n", actual.getDelta());
+        assertEquals(MD5, actual.getMd5());
+    }
+    
+    @Test
+    void testSerializeCompressedResponse() throws JsonProcessingException {
+        ConfigQueryResponse compressedResponse = new ConfigQueryResponse();
+        compressedResponse.setCompressedContent(new byte[] {31, -117, 8, 0});
+        String json = mapper.writeValueAsString(compressedResponse);
+        assertTrue(json.contains("\"compressedContent\":\"H4sIAA==\""));
+        ConfigQueryResponse actual = mapper.readValue(json, ConfigQueryResponse.class);
+        assertArrayEquals(new byte[] {31, -117, 8, 0}, actual.getCompressedContent());
+        assertNull(actual.getContent());
+    }
 }
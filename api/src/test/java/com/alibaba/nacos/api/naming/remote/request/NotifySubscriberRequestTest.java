@@ -16,6 +16,7 @@
 
 package com.alibaba.nacos.api.naming.remote.request;
 
+import com.alibaba.nacos.api.naming.pojo.Instance;
 import com.alibaba.nacos.api.naming.pojo.ServiceInfo;
 import com.fasterxml.jackson.annotation.JsonInclude;
 import com.fasterxml.jackson.core.JsonProcessingException;
@@ -24,8 +25,11 @@ import com.fasterxml.jackson.databind.ObjectMapper;
 import org.junit.jupiter.api.BeforeAll;
 import org.junit.jupiter.api.Test;
 
+import java.util.Collections;
+
 import static com.alibaba.nacos.api.common.Constants.Naming.NAMING_MODULE;
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
 class NotifySubscriberRequestTest {
@@ -57,6 +61,26 @@ class NotifySubscriberRequestTest {
         assertTrue(json.contains("\"serviceInfo\":{"));
     }
     
+    @Test
+    void testSerializeDelta() throws JsonProcessingException {
+        ServiceInfo serviceInfo = new ServiceInfo(GROUP + "@@" + SERVICE);
+        Instance changed = new Instance();
+        changed.setIp("1.1.1.1");
+        changed.setPort(8848);
+        NotifySubscriberRequest request = NotifySubscriberRequest.buildDeltaNotifySubscriberRequest(serviceInfo, 100L,
+                10L, Collections.singletonList(changed), Collections.emptyList());
+        String json = mapper.writeValueAsString(request);
+        assertTrue(json.contains("\"baseRevision\":100"));
+        assertTrue(json.contains("\"baseDigest\":10"));
+        assertTrue(json.contains("\"changedInstances\":[{"));
+        assertTrue(json.contains("\"removedInstances\":[]"));
+        NotifySubscriberRequest actual = mapper.readValue(json, NotifySubscriberRequest.class);
+        assertEquals(100L, actual.getBaseRevision());
+        assertEquals(10L, actual.getBaseDigest());
+        assertEquals("1.1.1.1", actual.getChangedInstances().get(0).getIp());
+        assertTrue(actual.getRemovedInstances().isEmpty());
+    }
+    
     @Test
     void testDeserialize() throws JsonProcessingException {
         String json = "{\"headers\":{},\"namespace\":\"namespace\",\"serviceName\":\"service\",\"groupName\":\"group\","
@@ -66,6 +90,8 @@ class NotifySubscriberRequestTest {
         NotifySubscriberRequest actual = mapper.readValue(json, NotifySubscriberRequest.class);
         checkRequestBasedInfo(actual);
         assertEquals(GROUP + "@@" + SERVICE, actual.getServiceInfo().getKey());
+        assertEquals(0L, actual.getBaseRevision());
+        assertNull(actual.getChangedInstances());
     }
     
     private void checkRequestBasedInfo(NotifySubscriberRequest request) {
@@ -24,12 +24,15 @@ import com.alibaba.nacos.api.utils.StringUtils;
 import org.junit.jupiter.api.Test;
 
 import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
@@ -274,4 +277,21 @@ class NamingUtilsTest {
         String str2 = "123456";
         assertTrue(NamingUtils.isNumber(str2));
     }
+    
+    @Test
+    void testCalculateInstancesDigest() {
+        Instance instance1 = new Instance();
+        instance1.setIp("127.0.0.1");
+        instance1.setPort(9089);
+        Instance instance2 = new Instance();
+        instance2.setIp("127.0.0.2");
+        instance2.setPort(9089);
+        instance1.setClusterName(Constants.DEFAULT_CLUSTER_NAME);
+        assertEquals("127.0.0.1#9089#DEFAULT", NamingUtils.getInstanceDeltaKey(instance1));
+        assertEquals(NamingUtils.calculateInstancesDigest(Arrays.asList(instance1, instance2)),
+                NamingUtils.calculateInstancesDigest(Arrays.asList(instance2, instance1)));
+        assertNotEquals(NamingUtils.calculateInstancesDigest(Collections.singletonList(instance1)),
+                NamingUtils.calculateInstancesDigest(Collections.singletonList(instance2)));
+        assertEquals(0L, NamingUtils.calculateInstancesDigest(Collections.emptyList()));
+    }
 }
@@ -282,6 +282,17 @@ class DefaultRequestFutureTest {
         assertEquals(callback, requestFuture.getRequestCallBack());
     }
     
+    @Test
+    void testASyncGetResponseWithoutScheduleTimeout() throws InterruptedException {
+        MockTimeoutInnerTrigger trigger = new MockTimeoutInnerTrigger();
+        MockRequestCallback callback = new MockRequestCallback(100L);
+        new DefaultRequestFuture(CONNECTION_ID, REQUEST_ID, callback, trigger, false);
+        TimeUnit.MILLISECONDS.sleep(500);
+        assertNull(callback.response);
+        assertNull(callback.exception);
+        assertFalse(trigger.isTimeout);
+    }
+    
     private class MockTimeoutInnerTrigger implements DefaultRequestFuture.TimeoutInnerTrigger {
         
         boolean isTimeout;
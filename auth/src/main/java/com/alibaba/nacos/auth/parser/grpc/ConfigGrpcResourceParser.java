@@ -18,6 +18,7 @@ package com.alibaba.nacos.auth.parser.grpc;
 
 import com.alibaba.nacos.api.config.remote.request.AbstractConfigRequest;
 import com.alibaba.nacos.api.config.remote.request.ConfigBatchListenRequest;
+import com.alibaba.nacos.api.config.remote.request.ConfigBatchQueryRequest;
 import com.alibaba.nacos.api.remote.request.Request;
 import com.alibaba.nacos.common.utils.ReflectUtils;
 import com.alibaba.nacos.common.utils.StringUtils;
@@ -40,6 +41,12 @@ public class ConfigGrpcResourceParser extends AbstractGrpcResourceParser {
             if (!configListenContexts.isEmpty()) {
                 namespaceId = ((ConfigBatchListenRequest) request).getConfigListenContexts().get(0).getTenant();
             }
+        } else if (request instanceof ConfigBatchQueryRequest) {
+            List<ConfigBatchQueryRequest.ConfigQueryContext> configQueryContexts = ((ConfigBatchQueryRequest) request)
+                    .getConfigQueryContexts();
+            if (!configQueryContexts.isEmpty()) {
+                namespaceId = configQueryContexts.get(0).getTenant();
+            }
         } else if (request instanceof AbstractConfigRequest) {
             namespaceId = ((AbstractConfigRequest) request).getTenant();
         } else {
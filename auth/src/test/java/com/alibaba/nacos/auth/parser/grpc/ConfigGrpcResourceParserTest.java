@@ -18,6 +18,7 @@ package com.alibaba.nacos.auth.parser.grpc;
 
 import com.alibaba.nacos.api.common.Constants;
 import com.alibaba.nacos.api.config.remote.request.ConfigBatchListenRequest;
+import com.alibaba.nacos.api.config.remote.request.ConfigBatchQueryRequest;
 import com.alibaba.nacos.api.config.remote.request.ConfigChangeNotifyRequest;
 import com.alibaba.nacos.api.config.remote.request.ConfigPublishRequest;
 import com.alibaba.nacos.api.remote.request.Request;
@@ -107,6 +108,25 @@ class ConfigGrpcResourceParserTest {
         assertEquals(Constants.Config.CONFIG_MODULE, actual.getType());
     }
     
+    @Test
+    @Secured(signType = Constants.Config.CONFIG_MODULE)
+    void testParseWithConfigBatchQueryRequest() throws NoSuchMethodException {
+        Secured secured = getMethodSecure();
+        ConfigBatchQueryRequest request = new ConfigBatchQueryRequest();
+        request.addConfigQueryContext("testD", "testG", "testNs");
+        Resource actual = resourceParser.parse(request, secured);
+        assertEquals("testNs", actual.getNamespaceId());
+        assertEquals(StringUtils.EMPTY, actual.getGroup());
+        assertEquals(StringUtils.EMPTY, actual.getName());
+        assertEquals(Constants.Config.CONFIG_MODULE, actual.getType());
+        request.getConfigQueryContexts().clear();
+        actual = resourceParser.parse(request, secured);
+        assertEquals(StringUtils.EMPTY, actual.getNamespaceId());
+        assertEquals(StringUtils.EMPTY, actual.getGroup());
+        assertEquals(StringUtils.EMPTY, actual.getName());
+        assertEquals(Constants.Config.CONFIG_MODULE, actual.getType());
+    }
+    
     @Test
     @Secured(signType = Constants.Config.CONFIG_MODULE)
     void testParseWithReflectionRequest() throws NoSuchMethodException {
@@ -30,6 +30,7 @@ import com.alibaba.nacos.client.utils.LogUtils;
 import com.alibaba.nacos.client.utils.TenantUtil;
 import com.alibaba.nacos.common.executor.NameThreadFactory;
 import com.alibaba.nacos.common.notify.NotifyCenter;
+import com.alibaba.nacos.common.utils.LineDiffUtils;
 import com.alibaba.nacos.common.utils.MD5Utils;
 import com.alibaba.nacos.common.utils.NumberUtils;
 import com.alibaba.nacos.common.utils.StringUtils;
@@ -507,6 +508,29 @@ public class CacheData {
         return (null == config) ? Constants.NULL : MD5Utils.md5Hex(config, Constants.ENCODE);
     }
     
+    /**
+     * Apply the delta received from server to the current content.
+     *
+     * @param delta     delta against the current content
+     * @param targetMd5 md5 of the content after applying the delta
+     * @return new content, or null if the delta can not be applied or the md5 of result is not matched
+     */
+    String applyDelta(String delta, String targetMd5) {
+        String currentContent = this.content;
+        if (currentContent == null || delta == null || targetMd5 == null) {
+            return null;
+        }
+        String newContent;
+        try {
+            newContent = LineDiffUtils.patch(currentContent, delta);
+        } catch (IllegalArgumentException e) {
+            LOGGER.warn("[{}] [apply-delta] delta is not applicable, dataId={}, group={}, tenant={}", envName, dataId,
+                    group, tenant, e);
+            return null;
+        }
+        return targetMd5.equals(getMd5String(newContent)) ? newContent : null;
+    }
+    
     private String loadCacheContentFromDiskLocal(String name, String dataId, String group, String tenant) {
         String content = LocalConfigInfoProcessor.getFailover(name, dataId, group, tenant);
         content = (null != content) ? content : LocalConfigInfoProcessor.getSnapshot(name, dataId, group, tenant);
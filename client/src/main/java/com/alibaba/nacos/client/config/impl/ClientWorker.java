@@ -17,17 +17,23 @@
 package com.alibaba.nacos.client.config.impl;
 
 import com.alibaba.nacos.api.PropertyKeyConst;
+import com.alibaba.nacos.api.ability.constant.AbilityKey;
+import com.alibaba.nacos.api.ability.constant.AbilityStatus;
 import com.alibaba.nacos.api.common.Constants;
 import com.alibaba.nacos.api.config.ConfigType;
 import com.alibaba.nacos.api.config.listener.Listener;
 import com.alibaba.nacos.api.config.remote.request.ClientConfigMetricRequest;
 import com.alibaba.nacos.api.config.remote.request.ConfigBatchListenRequest;
+import com.alibaba.nacos.api.config.remote.request.ConfigBatchQueryRequest;
+import com.alibaba.nacos.api.config.remote.request.ConfigChangeBatchNotifyRequest;
 import com.alibaba.nacos.api.config.remote.request.ConfigChangeNotifyRequest;
 import com.alibaba.nacos.api.config.remote.request.ConfigPublishRequest;
 import com.alibaba.nacos.api.config.remote.request.ConfigQueryRequest;
 import com.alibaba.nacos.api.config.remote.request.ConfigRemoveRequest;
 import com.alibaba.nacos.api.config.remote.response.ClientConfigMetricResponse;
+import com.alibaba.nacos.api.config.remote.response.ConfigBatchQueryResponse;
 import com.alibaba.nacos.api.config.remote.response.ConfigChangeBatchListenResponse;
+import com.alibaba.nacos.api.config.remote.response.ConfigChangeBatchNotifyResponse;
 import com.alibaba.nacos.api.config.remote.response.ConfigChangeNotifyResponse;
 import com.alibaba.nacos.api.config.remote.response.ConfigPublishResponse;
 import com.alibaba.nacos.api.config.remote.response.ConfigQueryResponse;
@@ -65,6 +71,7 @@ import com.alibaba.nacos.common.remote.client.ServerListFactory;
 import com.alibaba.nacos.common.remote.client.grpc.GrpcClientConfig;
 import com.alibaba.nacos.common.utils.ConnLabelsUtils;
 import com.alibaba.nacos.common.utils.ConvertUtils;
+import com.alibaba.nacos.common.utils.IoUtils;
 import com.alibaba.nacos.common.utils.JacksonUtils;
 import com.alibaba.nacos.common.utils.MD5Utils;
 import com.alibaba.nacos.common.utils.StringUtils;
@@ -147,10 +154,17 @@ public class ClientWorker implements Closeable {
     
     private boolean enableRemoteSyncConfig = false;
     
+    private boolean enableConfigDelta = false;
+    
     private static final int MIN_THREAD_NUM = 2;
     
     private static final int THREAD_MULTIPLE = 1;
     
+    /**
+     * max configs queried in one batch query request.
+     */
+    private static final int BATCH_QUERY_SIZE = 100;
+    
     private boolean enableClientMetrics = true;
     
     /**
@@ -543,6 +557,7 @@ public class ClientWorker implements Closeable {
         
         this.enableRemoteSyncConfig = Boolean.parseBoolean(
                 properties.getProperty(PropertyKeyConst.ENABLE_REMOTE_SYNC_CONFIG));
+        this.enableConfigDelta = Boolean.parseBoolean(properties.getProperty(PropertyKeyConst.ENABLE_CONFIG_DELTA));
         this.enableClientMetrics = Boolean.parseBoolean(
                 properties.getProperty(PropertyKeyConst.ENABLE_CLIENT_METRICS, "true"));
         initAppLabels(properties.getProperties(SourceType.PROPERTIES));
@@ -707,6 +722,31 @@ public class ClientWorker implements Closeable {
             return new ConfigChangeNotifyResponse();
         }
         
+        ConfigChangeBatchNotifyResponse handleConfigChangeBatchNotifyRequest(
+                ConfigChangeBatchNotifyRequest configChangeBatchNotifyRequest, String clientName) {
+            List<ConfigChangeBatchNotifyRequest.ConfigContext> configContexts =
+                    configChangeBatchNotifyRequest.getConfigContexts();
+            LOGGER.info("[{}] [server-push] batch config changed. size={}", clientName, configContexts.size());
+            boolean changed = false;
+            for (ConfigChangeBatchNotifyRequest.ConfigContext configContext : configContexts) {
+                String groupKey = GroupKey.getKeyTenant(configContext.getDataId(), configContext.getGroup(),
+                        configContext.getTenant());
+                CacheData cacheData = cacheMap.get().get(groupKey);
+                if (cacheData != null) {
+                    synchronized (cacheData) {
+                        cacheData.getReceiveNotifyChanged().set(true);
+                        cacheData.setConsistentWithServer(false);
+                    }
+                    changed = true;
+                }
+            }
+            // refresh all changed configs in one listen round.
+            if (changed) {
+                notifyListenConfig();
+            }
+            return new ConfigChangeBatchNotifyResponse();
+        }
+        
         ClientConfigMetricResponse handleClientMetricsRequest(ClientConfigMetricRequest configMetricRequest) {
             ClientConfigMetricResponse response = new ClientConfigMetricResponse();
             response.setMetrics(getMetrics(configMetricRequest.getMetricsKeys()));
@@ -722,6 +762,10 @@ public class ClientWorker implements Closeable {
                     return handleConfigChangeNotifyRequest((ConfigChangeNotifyRequest) request,
                             rpcClientInner.getName());
                 }
+                if (request instanceof ConfigChangeBatchNotifyRequest) {
+                    return handleConfigChangeBatchNotifyRequest((ConfigChangeBatchNotifyRequest) request,
+                            rpcClientInner.getName());
+                }
                 return null;
             });
             
@@ -952,25 +996,99 @@ public class ClientWorker implements Closeable {
         private void refreshContentAndCheck(RpcClient rpcClient, CacheData cacheData, boolean notify) {
             try {
                 
-                ConfigResponse response = this.queryConfigInner(rpcClient, cacheData.dataId, cacheData.group,
-                        cacheData.tenant, requestTimeout, notify);
-                cacheData.setEncryptedDataKey(response.getEncryptedDataKey());
-                cacheData.setContent(response.getContent());
-                if (null != response.getConfigType()) {
-                    cacheData.setType(response.getConfigType());
-                }
-                if (notify) {
-                    LOGGER.info("[{}] [data-received] dataId={}, group={}, tenant={}, md5={}, type={}", agent.getName(),
-                            cacheData.dataId, cacheData.group, cacheData.tenant, cacheData.getMd5(),
-                            response.getConfigType());
+                ConfigResponse response;
+                if (enableConfigDelta) {
+                    response = queryConfigWithDelta(rpcClient, cacheData, notify);
+                } else {
+                    response = this.queryConfigInner(rpcClient, cacheData.dataId, cacheData.group, cacheData.tenant,
+                            requestTimeout, notify);
                 }
-                cacheData.checkListenerMd5();
+                refreshContentAndCheck(cacheData, response, notify);
             } catch (Exception e) {
                 LOGGER.error("refresh content and check md5 fail ,dataId={},group={},tenant={} ", cacheData.dataId,
                         cacheData.group, cacheData.tenant, e);
             }
         }
         
+        private void refreshContentAndCheck(CacheData cacheData, ConfigResponse response, boolean notify) {
+            cacheData.setEncryptedDataKey(response.getEncryptedDataKey());
+            cacheData.setContent(response.getContent());
+            if (null != response.getConfigType()) {
+                cacheData.setType(response.getConfigType());
+            }
+            if (notify) {
+                LOGGER.info("[{}] [data-received] dataId={}, group={}, tenant={}, md5={}, type={}", agent.getName(),
+                        cacheData.dataId, cacheData.group, cacheData.tenant, cacheData.getMd5(),
+                        response.getConfigType());
+            }
+            cacheData.checkListenerMd5();
+        }
+        
+        /**
+         * Refresh the content of initializing caches without notify, by batch query if the server supports it,
+         * otherwise one by one.
+         *
+         * @param rpcClient rpc client
+         * @param caches    initializing caches
+         */
+        void refreshContentAndCheck(RpcClient rpcClient, List<CacheData> caches) {
+            if (caches.size() <= 1 || !isBatchQuerySupported(rpcClient)) {
+                for (CacheData cacheData : caches) {
+                    refreshContentAndCheck(rpcClient, cacheData, false);
+                }
+                return;
+            }
+            for (int from = 0; from < caches.size(); from += BATCH_QUERY_SIZE) {
+                List<CacheData> batch = caches.subList(from, Math.min(from + BATCH_QUERY_SIZE, caches.size()));
+                List<ConfigQueryResponse> responses = batchQueryConfig(rpcClient, batch);
+                for (int i = 0; i < batch.size(); i++) {
+                    CacheData cacheData = batch.get(i);
+                    if (responses == null) {
+                        refreshContentAndCheck(rpcClient, cacheData, false);
+                        continue;
+                    }
+                    try {
+                        ConfigResponse response = handleQueryResponse(responses.get(i), cacheData.dataId,
+                                cacheData.group, cacheData.tenant);
+                        refreshContentAndCheck(cacheData, response, false);
+                    } catch (Exception e) {
+                        LOGGER.error("refresh content and check md5 fail ,dataId={},group={},tenant={} ",
+                                cacheData.dataId, cacheData.group, cacheData.tenant, e);
+                    }
+                }
+            }
+        }
+        
+        private boolean isBatchQuerySupported(RpcClient rpcClient) {
+            return rpcClient.getConnectionAbility(AbilityKey.SERVER_SUPPORT_BATCH_CONFIG_QUERY)
+                    == AbilityStatus.SUPPORTED;
+        }
+        
+        /**
+         * Query a batch of configs in one request.
+         *
+         * @return responses in the same order as caches, or null if failed.
+         */
+        private List<ConfigQueryResponse> batchQueryConfig(RpcClient rpcClient, List<CacheData> caches) {
+            ConfigBatchQueryRequest request = new ConfigBatchQueryRequest();
+            for (CacheData cacheData : caches) {
+                request.addConfigQueryContext(cacheData.dataId, cacheData.group, cacheData.tenant);
+            }
+            request.putHeader(NOTIFY_HEADER, String.valueOf(false));
+            try {
+                ConfigBatchQueryResponse response = (ConfigBatchQueryResponse) requestProxy(rpcClient, request);
+                if (response.isSuccess() && response.getConfigQueryResponses().size() == caches.size()) {
+                    return response.getConfigQueryResponses();
+                }
+                LOGGER.warn("[{}] [batch-query] batch query {} configs fail, query one by one, code={}, msg={}",
+                        agent.getName(), caches.size(), response.getErrorCode(), response.getMessage());
+            } catch (Exception e) {
+                LOGGER.warn("[{}] [batch-query] batch query {} configs fail, query one by one", agent.getName(),
+                        caches.size(), e);
+            }
+            return null;
+        }
+        
         private void checkRemoveListenCache(Map<String, List<CacheData>> removeListenCachesMap) throws NacosException {
             if (!removeListenCachesMap.isEmpty()) {
                 List<Future> listenFutures = new ArrayList<>();
@@ -1049,13 +1167,20 @@ public class ClientWorker implements Closeable {
                                 //handle changed keys,notify listener
                                 if (!CollectionUtils.isEmpty(changedConfigs)) {
                                     hasChangedKeys.set(true);
+                                    List<CacheData> initializingCaches = new ArrayList<>();
                                     for (ConfigChangeBatchListenResponse.ConfigContext changeConfig : changedConfigs) {
                                         String changeKey = GroupKey.getKeyTenant(changeConfig.getDataId(),
                                                 changeConfig.getGroup(), changeConfig.getTenant());
                                         changeKeys.add(changeKey);
-                                        boolean isInitializing = cacheMap.get().get(changeKey).isInitializing();
-                                        refreshContentAndCheck(rpcClient, changeKey, !isInitializing);
+                                        CacheData changeCache = cacheMap.get().get(changeKey);
+                                        if (changeCache != null && changeCache.isInitializing()) {
+                                            initializingCaches.add(changeCache);
+                                        } else {
+                                            refreshContentAndCheck(rpcClient, changeKey, true);
+                                        }
                                     }
+                                    // caches added at startup are warmed up in batches.
+                                    refreshContentAndCheck(rpcClient, initializingCaches);
                                     
                                 }
                                 
@@ -1185,8 +1310,46 @@ public class ClientWorker implements Closeable {
             request.putHeader(NOTIFY_HEADER, String.valueOf(notify));
             
             ConfigQueryResponse response = (ConfigQueryResponse) requestProxy(rpcClient, request, readTimeouts);
+            return handleQueryResponse(response, dataId, group, tenant);
+        }
+        
+        /**
+         * Query config with the md5 of the content held by cache, the server may answer a delta for large configs.
+         * Fall back to a full query if the delta can not be applied to the content of cache.
+         */
+        private ConfigResponse queryConfigWithDelta(RpcClient rpcClient, CacheData cacheData, boolean notify)
+                throws NacosException {
+            String dataId = cacheData.dataId;
+            String group = cacheData.group;
+            String tenant = cacheData.tenant;
+            if (cacheData.getContent() == null) {
+                return queryConfigInner(rpcClient, dataId, group, tenant, requestTimeout, notify);
+            }
+            ConfigQueryRequest request = ConfigQueryRequest.build(dataId, group, tenant);
+            request.putHeader(NOTIFY_HEADER, String.valueOf(notify));
+            request.setDeltaBaseMd5(cacheData.getMd5());
             
+            ConfigQueryResponse response = (ConfigQueryResponse) requestProxy(rpcClient, request, requestTimeout);
+            if (response.isSuccess() && response.getDelta() != null) {
+                String content = cacheData.applyDelta(response.getDelta(), response.getMd5());
+                if (content == null) {
+                    LOGGER.warn("[{}] [data-delta] apply delta fail, query full content, dataId={}, group={}, "
+                            + "tenant={}", agent.getName(), dataId, group, tenant);
+                    return queryConfigInner(rpcClient, dataId, group, tenant, requestTimeout, notify);
+                }
+                response.setContent(content);
+                response.setDelta(null);
+            }
+            return handleQueryResponse(response, dataId, group, tenant);
+        }
+        
+        private ConfigResponse handleQueryResponse(ConfigQueryResponse response, String dataId, String group,
+                String tenant) throws NacosException {
             ConfigResponse configResponse = new ConfigResponse();
+            if (response.isSuccess() && response.getCompressedContent() != null) {
+                response.setContent(decompressContent(response.getCompressedContent(), dataId, group, tenant));
+                response.setCompressedContent(null);
+            }
             if (response.isSuccess()) {
                 LocalConfigInfoProcessor.saveSnapshot(this.getName(), dataId, group, tenant, response.getContent());
                 configResponse.setContent(response.getContent());
@@ -1222,6 +1385,17 @@ public class ClientWorker implements Closeable {
             }
         }
         
+        private String decompressContent(byte[] compressedContent, String dataId, String group, String tenant)
+                throws NacosException {
+            try {
+                return new String(IoUtils.tryDecompress(compressedContent), ENCODE);
+            } catch (Exception e) {
+                throw new NacosException(NacosException.SERVER_ERROR,
+                        "decompress config content fail, dataId=" + dataId + ",group=" + group + ",tenant=" + tenant,
+                        e);
+            }
+        }
+        
         private Response requestProxy(RpcClient rpcClientInner, Request request) throws NacosException {
             return requestProxy(rpcClientInner, request, requestTimeout);
         }
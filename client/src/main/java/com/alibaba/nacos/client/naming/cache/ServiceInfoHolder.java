@@ -18,7 +18,9 @@ package com.alibaba.nacos.client.naming.cache;
 
 import com.alibaba.nacos.api.PropertyKeyConst;
 import com.alibaba.nacos.api.exception.NacosException;
+import com.alibaba.nacos.api.naming.pojo.Instance;
 import com.alibaba.nacos.api.naming.pojo.ServiceInfo;
+import com.alibaba.nacos.api.naming.remote.request.NotifySubscriberRequest;
 import com.alibaba.nacos.api.naming.utils.NamingUtils;
 import com.alibaba.nacos.client.env.NacosClientProperties;
 import com.alibaba.nacos.client.monitor.MetricsMonitor;
@@ -32,6 +34,8 @@ import com.alibaba.nacos.common.utils.ConvertUtils;
 import com.alibaba.nacos.common.utils.JacksonUtils;
 import com.alibaba.nacos.common.utils.StringUtils;
 
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
 import java.util.Map;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ConcurrentMap;
@@ -163,6 +167,40 @@ public class ServiceInfoHolder implements Closeable {
         return serviceInfo;
     }
     
+    /**
+     * Process incremental push, apply the changed and removed instances to the cached service info.
+     *
+     * @param request incremental notify subscriber request
+     * @return service info, or {@code null} if the cached service info is not the base of this push
+     */
+    public ServiceInfo processServiceInfoDelta(NotifySubscriberRequest request) {
+        ServiceInfo serviceInfo = request.getServiceInfo();
+        String serviceKey = serviceInfo.getKeyWithoutClusters();
+        ServiceInfo oldService = null == serviceKey ? null : serviceInfoMap.get(serviceKey);
+        if (null == oldService || oldService.getLastRefTime() != request.getBaseRevision()
+                || NamingUtils.calculateInstancesDigest(oldService.getHosts()) != request.getBaseDigest()) {
+            NAMING_LOGGER.warn("process service info delta but base not matched, serviceKey: {}, baseRevision: {}",
+                    serviceKey, request.getBaseRevision());
+            return null;
+        }
+        Map<String, Instance> instances = new LinkedHashMap<>(oldService.getHosts().size() * 4 / 3 + 1);
+        for (Instance each : oldService.getHosts()) {
+            instances.put(NamingUtils.getInstanceDeltaKey(each), each);
+        }
+        if (null != request.getRemovedInstances()) {
+            for (Instance each : request.getRemovedInstances()) {
+                instances.remove(NamingUtils.getInstanceDeltaKey(each));
+            }
+        }
+        if (null != request.getChangedInstances()) {
+            for (Instance each : request.getChangedInstances()) {
+                instances.put(NamingUtils.getInstanceDeltaKey(each), each);
+            }
+        }
+        serviceInfo.setHosts(new ArrayList<>(instances.values()));
+        return processServiceInfo(serviceInfo);
+    }
+    
     private boolean isEmptyOrErrorPush(ServiceInfo serviceInfo) {
         return null == serviceInfo.getHosts() || (pushEmptyProtection && !serviceInfo.validate());
     }
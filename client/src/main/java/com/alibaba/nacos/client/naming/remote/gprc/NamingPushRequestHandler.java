@@ -16,6 +16,7 @@
 
 package com.alibaba.nacos.client.naming.remote.gprc;
 
+import com.alibaba.nacos.api.exception.NacosException;
 import com.alibaba.nacos.api.naming.remote.request.NotifySubscriberRequest;
 import com.alibaba.nacos.api.naming.remote.response.NotifySubscriberResponse;
 import com.alibaba.nacos.api.remote.request.Request;
@@ -41,8 +42,16 @@ public class NamingPushRequestHandler implements ServerRequestHandler {
     public Response requestReply(Request request, Connection connection) {
         if (request instanceof NotifySubscriberRequest) {
             NotifySubscriberRequest notifyRequest = (NotifySubscriberRequest) request;
-            serviceInfoHolder.processServiceInfo(notifyRequest.getServiceInfo());
-            return new NotifySubscriberResponse();
+            if (notifyRequest.getBaseRevision() <= 0) {
+                serviceInfoHolder.processServiceInfo(notifyRequest.getServiceInfo());
+                return new NotifySubscriberResponse();
+            }
+            NotifySubscriberResponse response = new NotifySubscriberResponse();
+            if (null == serviceInfoHolder.processServiceInfoDelta(notifyRequest)) {
+                // Let server push the full service info instead.
+                response.setErrorInfo(NacosException.CLIENT_INVALID_PARAM, "base of delta push not matched");
+            }
+            return response;
         }
         return null;
     }
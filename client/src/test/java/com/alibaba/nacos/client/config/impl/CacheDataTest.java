@@ -26,6 +26,7 @@ import com.alibaba.nacos.client.config.listener.impl.AbstractConfigChangeListene
 import com.alibaba.nacos.common.notify.Event;
 import com.alibaba.nacos.common.notify.NotifyCenter;
 import com.alibaba.nacos.common.notify.listener.Subscriber;
+import com.alibaba.nacos.common.utils.LineDiffUtils;
 import com.alibaba.nacos.common.utils.MD5Utils;
 import org.junit.jupiter.api.Test;
 
@@ -93,6 +94,21 @@ class CacheDataTest {
         assertEquals(timeStamp, cacheData1.getLocalConfigInfoVersion());
     }
     
+    @Test
+    void testApplyDelta() {
+        ConfigFilterChainManager filter = new ConfigFilterChainManager(new Properties());
+        final CacheData cacheData = new CacheData(filter, "name1", "key", "group", "tenant");
+        cacheData.setContent("a: 1\nb: 2\n");
+        String newContent = "a: 1\nb: 3\n";
+        String delta = LineDiffUtils.diff(cacheData.getContent(), newContent, 100);
+        assertEquals(newContent, cacheData.applyDelta(delta, MD5Utils.md5Hex(newContent, "UTF-8")));
+        // md5 of the result not matched.
+        assertNull(cacheData.applyDelta(delta, "otherMd5"));
+        // delta created for another content.
+        assertNull(cacheData.applyDelta(LineDiffUtils.diff("a: 1\n", newContent, 100),
+                MD5Utils.md5Hex(newContent, "UTF-8")));
+    }
+    
     @Test
     void testNotifyWarnTimeout() {
         System.setProperty("nacos.listener.notify.warn.timeout", "5000");
@@ -17,16 +17,21 @@
 package com.alibaba.nacos.client.config.impl;
 
 import com.alibaba.nacos.api.PropertyKeyConst;
+import com.alibaba.nacos.api.ability.constant.AbilityKey;
+import com.alibaba.nacos.api.ability.constant.AbilityStatus;
 import com.alibaba.nacos.api.config.ConfigType;
 import com.alibaba.nacos.api.config.listener.AbstractListener;
 import com.alibaba.nacos.api.config.listener.Listener;
 import com.alibaba.nacos.api.config.remote.request.ClientConfigMetricRequest;
 import com.alibaba.nacos.api.config.remote.request.ConfigBatchListenRequest;
+import com.alibaba.nacos.api.config.remote.request.ConfigBatchQueryRequest;
+import com.alibaba.nacos.api.config.remote.request.ConfigChangeBatchNotifyRequest;
 import com.alibaba.nacos.api.config.remote.request.ConfigChangeNotifyRequest;
 import com.alibaba.nacos.api.config.remote.request.ConfigPublishRequest;
 import com.alibaba.nacos.api.config.remote.request.ConfigQueryRequest;
 import com.alibaba.nacos.api.config.remote.request.ConfigRemoveRequest;
 import com.alibaba.nacos.api.config.remote.response.ClientConfigMetricResponse;
+import com.alibaba.nacos.api.config.remote.response.ConfigBatchQueryResponse;
 import com.alibaba.nacos.api.config.remote.response.ConfigChangeBatchListenResponse;
 import com.alibaba.nacos.api.config.remote.response.ConfigPublishResponse;
 import com.alibaba.nacos.api.config.remote.response.ConfigQueryResponse;
@@ -41,6 +46,7 @@ import com.alibaba.nacos.common.remote.ConnectionType;
 import com.alibaba.nacos.common.remote.client.RpcClient;
 import com.alibaba.nacos.common.remote.client.RpcClientFactory;
 import com.alibaba.nacos.common.remote.client.grpc.GrpcClientConfig;
+import com.alibaba.nacos.common.utils.IoUtils;
 import com.alibaba.nacos.common.utils.JacksonUtils;
 import com.alibaba.nacos.common.utils.MD5Utils;
 import com.fasterxml.jackson.databind.JsonNode;
@@ -395,6 +401,44 @@ class ClientWorkerTest {
         Mockito.verify(atomicBoolean, times(1)).set(true);
     }
     
+    @Test
+    void testHandleConfigChangeBatchNotifyRequest() throws Exception {
+        
+        Properties prop = new Properties();
+        String tenant = "c";
+        
+        prop.put(NAMESPACE, tenant);
+        ConfigServerListManager agent = Mockito.mock(ConfigServerListManager.class);
+        final NacosClientProperties nacosClientProperties = NacosClientProperties.PROTOTYPE.derive(prop);
+        ClientWorker clientWorker = new ClientWorker(null, agent, nacosClientProperties);
+        
+        AtomicReference<Map<String, CacheData>> cacheMapMocked = Mockito.mock(AtomicReference.class);
+        Field cacheMap = ClientWorker.class.getDeclaredField("cacheMap");
+        cacheMap.setAccessible(true);
+        cacheMap.set(clientWorker, cacheMapMocked);
+        Map<String, CacheData> cacheDataMapMocked = Mockito.mock(Map.class);
+        Mockito.when(cacheMapMocked.get()).thenReturn(cacheDataMapMocked);
+        CacheData cacheDataMocked1 = Mockito.mock(CacheData.class);
+        AtomicBoolean atomicBoolean1 = Mockito.mock(AtomicBoolean.class);
+        Mockito.when(cacheDataMocked1.getReceiveNotifyChanged()).thenReturn(atomicBoolean1);
+        CacheData cacheDataMocked2 = Mockito.mock(CacheData.class);
+        AtomicBoolean atomicBoolean2 = Mockito.mock(AtomicBoolean.class);
+        Mockito.when(cacheDataMocked2.getReceiveNotifyChanged()).thenReturn(atomicBoolean2);
+        String group = "b";
+        Mockito.when(cacheDataMapMocked.get(GroupKey.getKeyTenant("a1", group, tenant))).thenReturn(cacheDataMocked1);
+        Mockito.when(cacheDataMapMocked.get(GroupKey.getKeyTenant("a2", group, tenant))).thenReturn(cacheDataMocked2);
+        ConfigChangeBatchNotifyRequest batchNotifyRequest = new ConfigChangeBatchNotifyRequest();
+        batchNotifyRequest.addConfigContext("a1", group, tenant);
+        batchNotifyRequest.addConfigContext("a2", group, tenant);
+        batchNotifyRequest.addConfigContext("notListened", group, tenant);
+        ((ClientWorker.ConfigRpcTransportClient) clientWorker.getAgent()).handleConfigChangeBatchNotifyRequest(
+                batchNotifyRequest, "testname");
+        Mockito.verify(cacheDataMocked1, times(1)).setConsistentWithServer(false);
+        Mockito.verify(atomicBoolean1, times(1)).set(true);
+        Mockito.verify(cacheDataMocked2, times(1)).setConsistentWithServer(false);
+        Mockito.verify(atomicBoolean2, times(1)).set(true);
+    }
+    
     @Test
     void testHandleClientMetricsReqeust() throws Exception {
         
@@ -596,6 +640,99 @@ class ClientWorkerTest {
         
     }
     
+    @Test
+    void testRefreshInitializingCachesByBatchQuery() throws Exception {
+        final ClientWorker.ConfigRpcTransportClient transportClient =
+                (ClientWorker.ConfigRpcTransportClient) clientWorker.getAgent();
+        List<CacheData> caches = new ArrayList<>();
+        for (int i = 0; i < 3; i++) {
+            caches.add(new CacheData(null, clientWorker.getAgentName(), "data" + i, "group", TEST_NAMESPACE));
+        }
+        ConfigBatchQueryResponse batchQueryResponse = new ConfigBatchQueryResponse();
+        for (int i = 0; i < 3; i++) {
+            batchQueryResponse.addConfigQueryResponse(ConfigQueryResponse.buildSuccessResponse("content" + i));
+        }
+        Mockito.when(rpcClient.getConnectionAbility(AbilityKey.SERVER_SUPPORT_BATCH_CONFIG_QUERY))
+                .thenReturn(AbilityStatus.SUPPORTED);
+        Mockito.when(rpcClient.request(any(ConfigBatchQueryRequest.class), anyLong())).thenReturn(batchQueryResponse);
+        
+        transportClient.refreshContentAndCheck(rpcClient, caches);
+        
+        for (int i = 0; i < 3; i++) {
+            assertEquals("content" + i, caches.get(i).getContent());
+        }
+        verify(rpcClient, never()).request(any(ConfigQueryRequest.class), anyLong());
+    }
+    
+    @Test
+    void testRefreshInitializingCachesWithoutBatchQueryAbility() throws Exception {
+        final ClientWorker.ConfigRpcTransportClient transportClient =
+                (ClientWorker.ConfigRpcTransportClient) clientWorker.getAgent();
+        List<CacheData> caches = new ArrayList<>();
+        for (int i = 0; i < 2; i++) {
+            caches.add(new CacheData(null, clientWorker.getAgentName(), "data" + i, "group", TEST_NAMESPACE));
+        }
+        Mockito.when(rpcClient.getConnectionAbility(AbilityKey.SERVER_SUPPORT_BATCH_CONFIG_QUERY))
+                .thenReturn(AbilityStatus.NOT_SUPPORTED);
+        Mockito.when(rpcClient.request(any(ConfigQueryRequest.class), anyLong()))
+                .thenReturn(ConfigQueryResponse.buildSuccessResponse("content"));
+        
+        transportClient.refreshContentAndCheck(rpcClient, caches);
+        
+        assertEquals("content", caches.get(0).getContent());
+        assertEquals("content", caches.get(1).getContent());
+        verify(rpcClient, times(2)).request(any(ConfigQueryRequest.class), anyLong());
+        verify(rpcClient, never()).request(any(ConfigBatchQueryRequest.class), anyLong());
+    }
+    
+    @Test
+    void testRefreshContentWithDelta() throws Exception {
+        Properties prop = new Properties();
+        prop.put(PropertyKeyConst.ENABLE_CONFIG_DELTA, "true");
+        ConfigServerListManager agent = Mockito.mock(ConfigServerListManager.class);
+        ClientWorker clientWorker = new ClientWorker(null, agent, NacosClientProperties.PROTOTYPE.derive(prop));
+        final ClientWorker.ConfigRpcTransportClient transportClient =
+                (ClientWorker.ConfigRpcTransportClient) clientWorker.getAgent();
+        CacheData cacheData = new CacheData(null, clientWorker.getAgentName(), "data", "group", TEST_NAMESPACE);
+        String baseContent = "a: 1\nb: 2\n";
+        String newContent = "a: 1\nb: 3\n";
+        cacheData.setContent(baseContent);
+        ConfigQueryResponse deltaResponse = new ConfigQueryResponse();
+        deltaResponse.setMd5(MD5Utils.md5Hex(newContent, "UTF-8"));
+        deltaResponse.setDelta("=1\n-1\n+5\nb: 3\n");
+        ConfigQueryResponse fullResponse = ConfigQueryResponse.buildSuccessResponse(newContent);
+        Mockito.when(rpcClient.request(any(ConfigQueryRequest.class), anyLong())).thenAnswer(
+                invocation -> ((ConfigQueryRequest) invocation.getArgument(0)).getDeltaBaseMd5() == null
+                        ? fullResponse : deltaResponse);
+        
+        transportClient.refreshContentAndCheck(rpcClient, Collections.singletonList(cacheData));
+        assertEquals(newContent, cacheData.getContent());
+        verify(rpcClient, times(1)).request(any(ConfigQueryRequest.class), anyLong());
+        
+        // delta not matched the content of cache, expect query full content.
+        cacheData.setContent("a: 2\n");
+        transportClient.refreshContentAndCheck(rpcClient, Collections.singletonList(cacheData));
+        assertEquals(newContent, cacheData.getContent());
+        verify(rpcClient, times(3)).request(any(ConfigQueryRequest.class), anyLong());
+    }
+    
+    @Test
+    void testGetServerConfigCompressed() throws NacosException {
+        Properties prop = new Properties();
+        ConfigServerListManager agent = Mockito.mock(ConfigServerListManager.class);
+        ClientWorker clientWorker = new ClientWorker(null, agent, NacosClientProperties.PROTOTYPE.derive(prop));
+        String content = "a: 1\nb: 2\n";
+        ConfigQueryResponse configQueryResponse = new ConfigQueryResponse();
+        configQueryResponse.setCompressedContent(IoUtils.tryCompress(content, "UTF-8"));
+        Mockito.when(rpcClient.request(any(ConfigQueryRequest.class), anyLong())).thenReturn(configQueryResponse);
+        
+        ConfigResponse configResponse = clientWorker.getServerConfig("a", "b", "c", 100, true);
+        assertEquals(content, configResponse.getContent());
+        localConfigInfoProcessorMockedStatic.verify(
+                () -> LocalConfigInfoProcessor.saveSnapshot(eq(clientWorker.getAgentName()), eq("a"), eq("b"),
+                        eq("c"), eq(content)), times(1));
+    }
+    
     private CacheData discardCache(ConfigFilterChainManager filter, String envName, String dataId, String group,
             String tenant) {
         CacheData cacheData = new CacheData(filter, envName, dataId, group, tenant);
@@ -22,6 +22,8 @@ import com.alibaba.nacos.api.PropertyKeyConst;
 import com.alibaba.nacos.api.exception.NacosException;
 import com.alibaba.nacos.api.naming.pojo.Instance;
 import com.alibaba.nacos.api.naming.pojo.ServiceInfo;
+import com.alibaba.nacos.api.naming.remote.request.NotifySubscriberRequest;
+import com.alibaba.nacos.api.naming.utils.NamingUtils;
 import com.alibaba.nacos.client.env.NacosClientProperties;
 import com.alibaba.nacos.client.monitor.MetricsMonitor;
 import com.alibaba.nacos.client.naming.backups.FailoverReactor;
@@ -34,6 +36,8 @@ import org.mockito.Mockito;
 
 import java.lang.reflect.Field;
 import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
 import java.util.List;
 import java.util.Properties;
 import java.util.concurrent.ScheduledExecutorService;
@@ -101,6 +105,51 @@ class ServiceInfoHolderTest {
         assertEquals(info2, actual2);
     }
     
+    @Test
+    void testProcessServiceInfoDelta() {
+        ServiceInfo info = new ServiceInfo("a@@b@@c");
+        info.setLastRefTime(100L);
+        List<Instance> hosts = new ArrayList<>();
+        hosts.add(createInstance("1.1.1.1", 1));
+        hosts.add(createInstance("1.1.1.2", 2));
+        info.setHosts(hosts);
+        holder.processServiceInfo(info);
+        
+        ServiceInfo header = new ServiceInfo("a@@b@@c");
+        header.setLastRefTime(200L);
+        Instance changed = createInstance("1.1.1.1", 1);
+        changed.setWeight(2.0);
+        NotifySubscriberRequest request = NotifySubscriberRequest.buildDeltaNotifySubscriberRequest(header, 100L,
+                NamingUtils.calculateInstancesDigest(hosts), Arrays.asList(changed, createInstance("1.1.1.3", 3)),
+                Collections.singletonList(createInstance("1.1.1.2", 2)));
+        ServiceInfo actual = holder.processServiceInfoDelta(request);
+        
+        assertEquals(200L, actual.getLastRefTime());
+        assertEquals(2, actual.getHosts().size());
+        assertEquals(2.0, actual.getHosts().get(0).getWeight(), 0.0);
+        assertEquals("1.1.1.3", actual.getHosts().get(1).getIp());
+        assertEquals(actual, holder.getServiceInfoMap().get("a@@b"));
+    }
+    
+    @Test
+    void testProcessServiceInfoDeltaWithBaseNotMatched() {
+        ServiceInfo info = new ServiceInfo("a@@b@@c");
+        info.setLastRefTime(100L);
+        info.setHosts(Collections.singletonList(createInstance("1.1.1.1", 1)));
+        holder.processServiceInfo(info);
+        
+        ServiceInfo header = new ServiceInfo("a@@b@@c");
+        header.setLastRefTime(200L);
+        NotifySubscriberRequest request = NotifySubscriberRequest.buildDeltaNotifySubscriberRequest(header, 99L,
+                NamingUtils.calculateInstancesDigest(info.getHosts()), Collections.emptyList(),
+                Collections.emptyList());
+        assertNull(holder.processServiceInfoDelta(request));
+        request.setBaseRevision(100L);
+        request.setBaseDigest(0L);
+        assertNull(holder.processServiceInfoDelta(request));
+        assertEquals(info, holder.getServiceInfoMap().get("a@@b"));
+    }
+    
     @Test
     void testProcessServiceInfoEnableClientMetricsTrue() {
         ServiceInfoHolder holder = createServiceInfoHolder(true);
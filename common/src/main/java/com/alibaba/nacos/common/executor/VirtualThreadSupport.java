@@ -0,0 +1,113 @@
+/*
+ * Copyright 1999-2025 Alibaba Group Holding Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.alibaba.nacos.common.executor;
+
+import java.lang.reflect.Method;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadFactory;
+
+/**
+ * Virtual thread support, which is only available on JDK 21 and later.
+ *
+ * <p>Nacos is compiled on JDK 8, so the virtual thread API is accessed by reflection.
+ *
+ * @author Nacos
+ */
+public final class VirtualThreadSupport {
+    
+    private static final Method OF_VIRTUAL;
+    
+    private static final Method BUILDER_NAME;
+    
+    private static final Method BUILDER_FACTORY;
+    
+    private static final Method NEW_THREAD_PER_TASK_EXECUTOR;
+    
+    static {
+        Method ofVirtual = null;
+        Method builderName = null;
+        Method builderFactory = null;
+        Method newThreadPerTaskExecutor = null;
+        try {
+            Class<?> builderClass = Class.forName("java.lang.Thread$Builder");
+            ofVirtual = Thread.class.getMethod("ofVirtual");
+            builderName = builderClass.getMethod("name", String.class, long.class);
+            builderFactory = builderClass.getMethod("factory");
+            newThreadPerTaskExecutor = Executors.class.getMethod("newThreadPerTaskExecutor", ThreadFactory.class);
+        } catch (ClassNotFoundException | NoSuchMethodException ignored) {
+            ofVirtual = null;
+        }
+        OF_VIRTUAL = ofVirtual;
+        BUILDER_NAME = builderName;
+        BUILDER_FACTORY = builderFactory;
+        NEW_THREAD_PER_TASK_EXECUTOR = newThreadPerTaskExecutor;
+    }
+    
+    private VirtualThreadSupport() {
+    }
+    
+    /**
+     * Whether virtual threads are supported by current JVM.
+     *
+     * @return {@code true} if running on JDK 21 or later
+     */
+    public static boolean isSupported() {
+        return null != OF_VIRTUAL;
+    }
+    
+    /**
+     * Create a thread factory of virtual threads, the threads are named by the prefix and an increasing number.
+     *
+     * @param namePrefix name prefix of threads
+     * @return virtual thread factory
+     * @throws UnsupportedOperationException if virtual threads are not supported
+     */
+    public static ThreadFactory newThreadFactory(String namePrefix) {
+        checkSupported();
+        try {
+            Object builder = OF_VIRTUAL.invoke(null);
+            builder = BUILDER_NAME.invoke(builder, namePrefix, 0L);
+            return (ThreadFactory) BUILDER_FACTORY.invoke(builder);
+        } catch (ReflectiveOperationException e) {
+            throw new IllegalStateException("Create virtual thread factory failed.", e);
+        }
+    }
+    
+    /**
+     * Create an executor which starts a new virtual thread for each task.
+     *
+     * @param namePrefix name prefix of threads
+     * @return virtual thread per task executor
+     * @throws UnsupportedOperationException if virtual threads are not supported
+     */
+    public static ExecutorService newThreadPerTaskExecutor(String namePrefix) {
+        ThreadFactory threadFactory = newThreadFactory(namePrefix);
+        try {
+            return (ExecutorService) NEW_THREAD_PER_TASK_EXECUTOR.invoke(null, threadFactory);
+        } catch (ReflectiveOperationException e) {
+            throw new IllegalStateException("Create virtual thread executor failed.", e);
+        }
+    }
+    
+    private static void checkSupported() {
+        if (!isSupported()) {
+            throw new UnsupportedOperationException(
+                    "Virtual threads require JDK 21 or later, current is " + System.getProperty("java.version"));
+        }
+    }
+}
@@ -19,6 +19,8 @@ package com.alibaba.nacos.common.remote.client.grpc;
 import com.alibaba.nacos.common.remote.TlsConfig;
 import com.alibaba.nacos.common.remote.client.RpcClientTlsConfig;
 import com.alibaba.nacos.common.remote.client.RpcClientTlsConfigFactory;
+import com.alibaba.nacos.common.remote.codec.GzipPayloadCompressor;
+import com.alibaba.nacos.common.remote.codec.JsonPayloadCodec;
 import com.alibaba.nacos.common.utils.ThreadUtils;
 
 import java.util.HashMap;
@@ -64,6 +66,12 @@ public class DefaultGrpcClientConfig implements GrpcClientConfig {
     
     private final long capabilityNegotiationTimeout;
     
+    private final String payloadCodec;
+    
+    private final String payloadCompressor;
+    
+    private final int payloadCompressionThreshold;
+    
     private final Map<String, String> labels;
     
     private RpcClientTlsConfig tlsConfig = new RpcClientTlsConfig();
@@ -89,6 +97,9 @@ public class DefaultGrpcClientConfig implements GrpcClientConfig {
         this.healthCheckTimeOut = builder.healthCheckTimeOut;
         this.channelKeepAliveTimeout = builder.channelKeepAliveTimeout;
         this.capabilityNegotiationTimeout = builder.capabilityNegotiationTimeout;
+        this.payloadCodec = builder.payloadCodec;
+        this.payloadCompressor = builder.payloadCompressor;
+        this.payloadCompressionThreshold = builder.payloadCompressionThreshold;
         this.labels = builder.labels;
         this.labels.put("tls.enable", "false");
         if (Objects.nonNull(builder.tlsConfig)) {
@@ -177,6 +188,21 @@ public class DefaultGrpcClientConfig implements GrpcClientConfig {
         return this.capabilityNegotiationTimeout;
     }
     
+    @Override
+    public String payloadCodec() {
+        return this.payloadCodec;
+    }
+    
+    @Override
+    public String payloadCompressor() {
+        return this.payloadCompressor;
+    }
+    
+    @Override
+    public int payloadCompressionThreshold() {
+        return this.payloadCompressionThreshold;
+    }
+    
     @Override
     public int healthCheckRetryTimes() {
         return healthCheckRetryTimes;
@@ -228,6 +254,12 @@ public class DefaultGrpcClientConfig implements GrpcClientConfig {
         
         private long capabilityNegotiationTimeout = 5000L;
         
+        private String payloadCodec = JsonPayloadCodec.NAME;
+        
+        private String payloadCompressor = GzipPayloadCompressor.NAME;
+        
+        private int payloadCompressionThreshold = 64 * 1024;
+        
         private final Map<String, String> labels = new HashMap<>();
         
         private RpcClientTlsConfig tlsConfig = new RpcClientTlsConfig();
@@ -308,6 +340,16 @@ public class DefaultGrpcClientConfig implements GrpcClientConfig {
                 this.channelKeepAliveTimeout = Integer.parseInt(
                         properties.getProperty(GrpcConstants.GRPC_CHANNEL_KEEP_ALIVE_TIMEOUT));
             }
+            if (properties.containsKey(GrpcConstants.GRPC_PAYLOAD_CODEC)) {
+                this.payloadCodec = properties.getProperty(GrpcConstants.GRPC_PAYLOAD_CODEC);
+            }
+            if (properties.containsKey(GrpcConstants.GRPC_PAYLOAD_COMPRESSOR)) {
+                this.payloadCompressor = properties.getProperty(GrpcConstants.GRPC_PAYLOAD_COMPRESSOR);
+            }
+            if (properties.containsKey(GrpcConstants.GRPC_PAYLOAD_COMPRESSION_THRESHOLD)) {
+                this.payloadCompressionThreshold = Integer.parseInt(
+                        properties.getProperty(GrpcConstants.GRPC_PAYLOAD_COMPRESSION_THRESHOLD));
+            }
             this.tlsConfig = tlsConfig;
             return this;
         }
@@ -420,6 +462,21 @@ public class DefaultGrpcClientConfig implements GrpcClientConfig {
             return this;
         }
         
+        public Builder setPayloadCodec(String payloadCodec) {
+            this.payloadCodec = payloadCodec;
+            return this;
+        }
+        
+        public Builder setPayloadCompressor(String payloadCompressor) {
+            this.payloadCompressor = payloadCompressor;
+            return this;
+        }
+        
+        public Builder setPayloadCompressionThreshold(int payloadCompressionThreshold) {
+            this.payloadCompressionThreshold = payloadCompressionThreshold;
+            return this;
+        }
+        
         /**
          * set healthCheckRetryTimes.
          */
@@ -40,6 +40,7 @@ import com.alibaba.nacos.common.remote.client.RpcClientStatus;
 import com.alibaba.nacos.common.remote.client.RpcClientTlsConfig;
 import com.alibaba.nacos.common.remote.client.ServerListFactory;
 import com.alibaba.nacos.common.remote.client.ServerRequestHandler;
+import com.alibaba.nacos.common.remote.codec.PayloadCodecManager;
 import com.alibaba.nacos.common.utils.JacksonUtils;
 import com.alibaba.nacos.common.utils.LoggerUtils;
 import com.alibaba.nacos.common.utils.StringUtils;
@@ -365,10 +366,14 @@ public abstract class GrpcClient extends RpcClient {
             ServerCheckResponse serverCheckResponse = (ServerCheckResponse) response;
             connectionId = serverCheckResponse.getConnectionId();
             
-            BiRequestStreamGrpc.BiRequestStreamStub biRequestStreamStub = BiRequestStreamGrpc.newStub(
+            final BiRequestStreamGrpc.BiRequestStreamStub biRequestStreamStub = BiRequestStreamGrpc.newStub(
                     newChannelStubTemp.getChannel());
             GrpcConnection grpcConn = new GrpcConnection(serverInfo, grpcExecutor);
             grpcConn.setConnectionId(connectionId);
+            grpcConn.setPayloadCodec(PayloadCodecManager.negotiate(clientConfig.payloadCodec(),
+                    serverCheckResponse.getPayloadCodecs()));
+            grpcConn.setPayloadCompressor(PayloadCodecManager.negotiateCompressor(clientConfig.payloadCompressor(),
+                    serverCheckResponse.getPayloadCompressors()), clientConfig.payloadCompressionThreshold());
             // if not supported, it will be false
             if (serverCheckResponse.isSupportAbilityNegotiation()) {
                 // mark
@@ -392,6 +397,10 @@ public abstract class GrpcClient extends RpcClient {
             conSetupRequest.setAbilityTable(
                     NacosAbilityManagerHolder.getInstance().getCurrentNodeAbilities(abilityMode()));
             conSetupRequest.setTenant(super.getTenant());
+            conSetupRequest.setPayloadCodec(grpcConn.getPayloadCodec().getName());
+            if (null != grpcConn.getPayloadCompressor()) {
+                conSetupRequest.setPayloadCompressor(grpcConn.getPayloadCompressor().getName());
+            }
             grpcConn.sendRequest(conSetupRequest);
             // wait for response
             if (recAbilityContext.isNeedToSync()) {
@@ -19,6 +19,8 @@ package com.alibaba.nacos.common.remote.client.grpc;
 import com.alibaba.nacos.common.remote.TlsConfig;
 import com.alibaba.nacos.common.remote.client.RpcClientConfig;
 import com.alibaba.nacos.common.remote.client.RpcClientTlsConfig;
+import com.alibaba.nacos.common.remote.codec.GzipPayloadCompressor;
+import com.alibaba.nacos.common.remote.codec.JsonPayloadCodec;
 
 /**
  * GrpcClient config. Use to collect and init Grpc client configuration.
@@ -110,4 +112,31 @@ public interface GrpcClientConfig extends RpcClientConfig {
      * @return timeout of connection setup
      */
     long capabilityNegotiationTimeout();
+    
+    /**
+     * get preferred payload codec name, which is used only if server supports it too.
+     *
+     * @return preferred payload codec name
+     */
+    default String payloadCodec() {
+        return JsonPayloadCodec.NAME;
+    }
+    
+    /**
+     * get preferred payload compressor name, which is used only if server supports it too, blank means no compression.
+     *
+     * @return preferred payload compressor name
+     */
+    default String payloadCompressor() {
+        return GzipPayloadCompressor.NAME;
+    }
+    
+    /**
+     * get min body size of the request payload to compress, negative means never compress the request payloads.
+     *
+     * @return compression threshold in bytes
+     */
+    default int payloadCompressionThreshold() {
+        return 64 * 1024;
+    }
 }
@@ -22,12 +22,16 @@ import com.alibaba.nacos.api.grpc.auto.RequestGrpc;
 import com.alibaba.nacos.api.remote.RequestCallBack;
 import com.alibaba.nacos.api.remote.RequestFuture;
 import com.alibaba.nacos.api.remote.RpcScheduledExecutor;
+import com.alibaba.nacos.api.remote.request.ConnectionSetupRequest;
 import com.alibaba.nacos.api.remote.request.Request;
 import com.alibaba.nacos.api.remote.response.ErrorResponse;
 import com.alibaba.nacos.api.remote.response.Response;
 import com.alibaba.nacos.api.remote.response.ResponseCode;
 import com.alibaba.nacos.common.remote.client.Connection;
 import com.alibaba.nacos.common.remote.client.RpcClient;
+import com.alibaba.nacos.common.remote.codec.PayloadCodec;
+import com.alibaba.nacos.common.remote.codec.PayloadCodecManager;
+import com.alibaba.nacos.common.remote.codec.PayloadCompressor;
 import com.google.common.util.concurrent.FutureCallback;
 import com.google.common.util.concurrent.Futures;
 import com.google.common.util.concurrent.ListenableFuture;
@@ -62,6 +66,18 @@ public class GrpcConnection extends Connection {
     
     protected StreamObserver<Payload> payloadStreamObserver;
     
+    /**
+     * codec of the payloads sent by this connection, negotiated with server.
+     */
+    protected PayloadCodec payloadCodec = PayloadCodecManager.getDefaultCodec();
+    
+    /**
+     * compressor of the payloads sent by this connection, null if not negotiated with server.
+     */
+    protected PayloadCompressor payloadCompressor;
+    
+    protected int compressionThreshold = -1;
+    
     public GrpcConnection(RpcClient.ServerInfo serverInfo, Executor executor) {
         super(serverInfo);
         this.executor = executor;
@@ -69,7 +85,7 @@ public class GrpcConnection extends Connection {
     
     @Override
     public Response request(Request request, long timeouts) throws NacosException {
-        Payload grpcRequest = GrpcUtils.convert(request);
+        Payload grpcRequest = toPayload(request);
         ListenableFuture<Payload> requestFuture = grpcFutureServiceStub.request(grpcRequest);
         Payload grpcResponse;
         try {
@@ -87,7 +103,7 @@ public class GrpcConnection extends Connection {
     
     @Override
     public RequestFuture requestFuture(Request request) throws NacosException {
-        Payload grpcRequest = GrpcUtils.convert(request);
+        Payload grpcRequest = toPayload(request);
         
         final ListenableFuture<Payload> requestFuture = grpcFutureServiceStub.request(grpcRequest);
         return new RequestFuture() {
@@ -120,18 +136,18 @@ public class GrpcConnection extends Connection {
     }
     
     public void sendResponse(Response response) {
-        Payload convert = GrpcUtils.convert(response);
+        Payload convert = toPayload(response);
         payloadStreamObserver.onNext(convert);
     }
     
     public void sendRequest(Request request) {
-        Payload convert = GrpcUtils.convert(request);
+        Payload convert = toPayload(request);
         payloadStreamObserver.onNext(convert);
     }
     
     @Override
     public void asyncRequest(Request request, final RequestCallBack requestCallBack) throws NacosException {
-        Payload grpcRequest = GrpcUtils.convert(request);
+        Payload grpcRequest = toPayload(request);
         ListenableFuture<Payload> requestFuture = grpcFutureServiceStub.request(grpcRequest);
         
         //set callback .
@@ -237,4 +253,41 @@ public class GrpcConnection extends Connection {
     public void setPayloadStreamObserver(StreamObserver<Payload> payloadStreamObserver) {
         this.payloadStreamObserver = payloadStreamObserver;
     }
+    
+    public PayloadCodec getPayloadCodec() {
+        return payloadCodec;
+    }
+    
+    public void setPayloadCodec(PayloadCodec payloadCodec) {
+        this.payloadCodec = payloadCodec;
+    }
+    
+    public PayloadCompressor getPayloadCompressor() {
+        return payloadCompressor;
+    }
+    
+    /**
+     * Set the negotiated compressor and the min body size to compress.
+     *
+     * @param payloadCompressor    negotiated compressor, null means no compression
+     * @param compressionThreshold min body size to compress, negative means never compress
+     */
+    public void setPayloadCompressor(PayloadCompressor payloadCompressor, int compressionThreshold) {
+        this.payloadCompressor = payloadCompressor;
+        this.compressionThreshold = compressionThreshold;
+    }
+    
+    private Payload toPayload(Request request) {
+        Payload payload = GrpcUtils.convert(request, payloadCodec);
+        // server only knows the negotiated compressor after setup request, so never compress setup request.
+        if (request instanceof ConnectionSetupRequest) {
+            return payload;
+        }
+        return GrpcUtils.compressIfNecessary(payload, payloadCompressor, compressionThreshold);
+    }
+    
+    private Payload toPayload(Response response) {
+        return GrpcUtils.compressIfNecessary(GrpcUtils.convert(response, payloadCodec), payloadCompressor,
+                compressionThreshold);
+    }
 }
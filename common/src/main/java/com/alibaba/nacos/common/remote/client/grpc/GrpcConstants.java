@@ -81,6 +81,15 @@ public class GrpcConstants {
 
     @GRpcConfigLabel
     public static final String GRPC_CHANNEL_CAPABILITY_NEGOTIATION_TIMEOUT = NACOS_CLIENT_GRPC + ".channel.capability.negotiation.timeout";
+    
+    @GRpcConfigLabel
+    public static final String GRPC_PAYLOAD_CODEC = NACOS_CLIENT_GRPC + ".payload.codec";
+    
+    @GRpcConfigLabel
+    public static final String GRPC_PAYLOAD_COMPRESSOR = NACOS_CLIENT_GRPC + ".payload.compressor";
+    
+    @GRpcConfigLabel
+    public static final String GRPC_PAYLOAD_COMPRESSION_THRESHOLD = NACOS_CLIENT_GRPC + ".payload.compression.threshold";
 
     private static final Set<String> CONFIG_NAMES = new HashSet<>();
     
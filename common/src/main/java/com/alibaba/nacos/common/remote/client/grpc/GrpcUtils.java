@@ -24,11 +24,12 @@ import com.alibaba.nacos.api.remote.request.RequestMeta;
 import com.alibaba.nacos.api.remote.response.Response;
 import com.alibaba.nacos.api.utils.NetUtils;
 import com.alibaba.nacos.common.remote.PayloadRegistry;
+import com.alibaba.nacos.common.remote.codec.PayloadCodec;
+import com.alibaba.nacos.common.remote.codec.PayloadCodecManager;
+import com.alibaba.nacos.common.remote.codec.PayloadCompressor;
 import com.alibaba.nacos.common.remote.exception.RemoteException;
-import com.alibaba.nacos.common.utils.JacksonUtils;
-import com.fasterxml.jackson.databind.util.ByteBufferBackedInputStream;
+import com.alibaba.nacos.common.utils.StringUtils;
 import com.google.protobuf.Any;
-import com.google.protobuf.ByteString;
 import com.google.protobuf.UnsafeByteOperations;
 
 import java.nio.ByteBuffer;
@@ -43,6 +44,22 @@ import java.util.Map;
  */
 public class GrpcUtils {
     
+    /**
+     * Default max size of decompressed payload body, same as the default max inbound message size of gRPC.
+     */
+    public static final int DEFAULT_MAX_DECOMPRESSED_SIZE = 10 * 1024 * 1024;
+    
+    /**
+     * Metadata header carrying the request id of a payload whose shared body is compressed, the request id can't be
+     * filled into the compressed body.
+     */
+    public static final String PAYLOAD_REQUEST_ID_HEADER = "payloadRequestId";
+    
+    /**
+     * Separator between the codec name and the compressor name in the type url of payload body.
+     */
+    private static final String COMPRESSOR_SEPARATOR = "+";
+    
     /**
      * convert request to payload.
      *
@@ -61,7 +78,7 @@ public class GrpcUtils {
         payloadBuilder.setMetadata(metaBuilder.build());
         
         // request body .
-        byte[] jsonBytes = convertRequestToByte(request);
+        byte[] jsonBytes = convertRequestToByte(request, PayloadCodecManager.getDefaultCodec());
         return payloadBuilder.setBody(Any.newBuilder().setValue(UnsafeByteOperations.unsafeWrap(jsonBytes))).build();
         
     }
@@ -73,19 +90,82 @@ public class GrpcUtils {
      * @return payload.
      */
     public static Payload convert(Request request) {
+        return convert(request, PayloadCodecManager.getDefaultCodec());
+    }
+    
+    /**
+     * convert request to payload with the codec.
+     *
+     * @param request request.
+     * @param codec   payload codec.
+     * @return payload.
+     */
+    public static Payload convert(Request request, PayloadCodec codec) {
         
         Metadata newMeta = Metadata.newBuilder().setType(request.getClass().getSimpleName())
                 .setClientIp(NetUtils.localIP()).putAllHeaders(request.getHeaders()).build();
         
-        byte[] jsonBytes = convertRequestToByte(request);
+        byte[] bodyBytes = convertRequestToByte(request, codec);
         
         Payload.Builder builder = Payload.newBuilder();
         
-        return builder.setBody(Any.newBuilder().setValue(UnsafeByteOperations.unsafeWrap(jsonBytes)))
-                .setMetadata(newMeta).build();
+        return builder.setBody(buildBody(bodyBytes, codec)).setMetadata(newMeta).build();
         
     }
     
+    /**
+     * convert request to payload with a body serialized by {@link #convertRequestToSharedBody(Request)}, only the
+     * request id is filled for each payload.
+     *
+     * @param request    request which carries the headers and request id of this payload.
+     * @param type       type of the request which the shared body is serialized from.
+     * @param sharedBody shared body.
+     * @return payload.
+     */
+    public static Payload convert(Request request, String type, byte[] sharedBody) {
+        return convert(request, type, sharedBody, PayloadCodecManager.getDefaultCodec());
+    }
+    
+    /**
+     * convert request to payload with a body serialized by {@link #convertRequestToSharedBody(Request, PayloadCodec)}
+     * with the same codec, only the request id is filled for each payload.
+     *
+     * @param request    request which carries the headers and request id of this payload.
+     * @param type       type of the request which the shared body is serialized from.
+     * @param sharedBody shared body.
+     * @param codec      payload codec of the shared body.
+     * @return payload.
+     */
+    public static Payload convert(Request request, String type, byte[] sharedBody, PayloadCodec codec) {
+        Metadata newMeta = Metadata.newBuilder().setType(type).setClientIp(NetUtils.localIP())
+                .putAllHeaders(request.getHeaders()).build();
+        byte[] bodyBytes = codec.fillRequestId(sharedBody, request.getRequestId());
+        return Payload.newBuilder().setBody(buildBody(bodyBytes, codec)).setMetadata(newMeta).build();
+    }
+    
+    /**
+     * convert request to payload with a shared body serialized by the codec and then compressed by the compressor, so
+     * the body is compressed once for all payloads. The request id is carried by {@link #PAYLOAD_REQUEST_ID_HEADER}.
+     *
+     * @param request              request which carries the headers and request id of this payload.
+     * @param type                 type of the request which the shared body is serialized from.
+     * @param compressedSharedBody shared body compressed by the compressor.
+     * @param codec                payload codec of the shared body.
+     * @param compressor           payload compressor of the shared body.
+     * @return payload.
+     */
+    public static Payload convert(Request request, String type, byte[] compressedSharedBody, PayloadCodec codec,
+            PayloadCompressor compressor) {
+        Metadata.Builder metaBuilder = Metadata.newBuilder().setType(type).setClientIp(NetUtils.localIP())
+                .putAllHeaders(request.getHeaders());
+        if (null != request.getRequestId()) {
+            metaBuilder.putHeaders(PAYLOAD_REQUEST_ID_HEADER, request.getRequestId());
+        }
+        Any body = Any.newBuilder().setTypeUrl(codec.getName() + COMPRESSOR_SEPARATOR + compressor.getName())
+                .setValue(UnsafeByteOperations.unsafeWrap(compressedSharedBody)).build();
+        return Payload.newBuilder().setBody(body).setMetadata(metaBuilder.build()).build();
+    }
+    
     /**
      * convert response to payload.
      *
@@ -93,35 +173,174 @@ public class GrpcUtils {
      * @return payload.
      */
     public static Payload convert(Response response) {
-        byte[] jsonBytes = JacksonUtils.toJsonBytes(response);
+        return convert(response, PayloadCodecManager.getDefaultCodec());
+    }
+    
+    /**
+     * convert response to payload with the codec.
+     *
+     * @param response response.
+     * @param codec    payload codec.
+     * @return payload.
+     */
+    public static Payload convert(Response response, PayloadCodec codec) {
+        byte[] bodyBytes = codec.encode(response);
         
         Metadata.Builder metaBuilder = Metadata.newBuilder().setType(response.getClass().getSimpleName());
-        return Payload.newBuilder().setBody(Any.newBuilder().setValue(UnsafeByteOperations.unsafeWrap(jsonBytes)))
-                .setMetadata(metaBuilder.build()).build();
+        return Payload.newBuilder().setBody(buildBody(bodyBytes, codec)).setMetadata(metaBuilder.build()).build();
+    }
+    
+    /**
+     * Serialize the request body without headers and request id, so the body can be shared by the requests sent to
+     * different connections.
+     *
+     * @param request request.
+     * @return shared body.
+     */
+    public static byte[] convertRequestToSharedBody(Request request) {
+        return convertRequestToSharedBody(request, PayloadCodecManager.getDefaultCodec());
+    }
+    
+    /**
+     * Serialize the request body without headers and request id by the codec.
+     *
+     * @param request request.
+     * @param codec   payload codec.
+     * @return shared body.
+     */
+    public static byte[] convertRequestToSharedBody(Request request, PayloadCodec codec) {
+        String requestId = request.getRequestId();
+        request.setRequestId(null);
+        try {
+            return convertRequestToByte(request, codec);
+        } finally {
+            request.setRequestId(requestId);
+        }
     }
     
-    private static byte[] convertRequestToByte(Request request) {
+    private static byte[] convertRequestToByte(Request request, PayloadCodec codec) {
         Map<String, String> requestHeaders = new HashMap<>(request.getHeaders());
         request.clearHeaders();
-        byte[] jsonBytes = JacksonUtils.toJsonBytes(request);
+        byte[] bodyBytes = codec.encode(request);
         request.putAllHeader(requestHeaders);
-        return jsonBytes;
+        return bodyBytes;
+    }
+    
+    private static Any buildBody(byte[] bodyBytes, PayloadCodec codec) {
+        Any.Builder builder = Any.newBuilder().setValue(UnsafeByteOperations.unsafeWrap(bodyBytes));
+        // keep the type url empty for json, so the payload is the same as before and old versions can parse it.
+        if (PayloadCodecManager.getDefaultCodec() != codec) {
+            builder.setTypeUrl(codec.getName());
+        }
+        return builder.build();
+    }
+    
+    /**
+     * Compress the payload body by the compressor, the compressor name is appended to the type url of body.
+     *
+     * @param payload    payload with uncompressed body.
+     * @param compressor payload compressor.
+     * @return payload with compressed body.
+     */
+    public static Payload compress(Payload payload, PayloadCompressor compressor) {
+        Any body = payload.getBody();
+        String codecName = StringUtils.isBlank(body.getTypeUrl()) ? PayloadCodecManager.getDefaultCodec().getName()
+                : body.getTypeUrl();
+        byte[] compressed = compressor.compress(body.getValue().toByteArray());
+        Any compressedBody = Any.newBuilder().setTypeUrl(codecName + COMPRESSOR_SEPARATOR + compressor.getName())
+                .setValue(UnsafeByteOperations.unsafeWrap(compressed)).build();
+        return payload.toBuilder().setBody(compressedBody).build();
+    }
+    
+    /**
+     * Compress the payload body if the compressor is negotiated and the body is not smaller than the threshold.
+     *
+     * @param payload    payload with uncompressed body.
+     * @param compressor payload compressor, {@code null} if compression is not negotiated.
+     * @param threshold  min body size to compress, negative means never compress.
+     * @return payload with compressed body, or the payload itself if not compressed.
+     */
+    public static Payload compressIfNecessary(Payload payload, PayloadCompressor compressor, int threshold) {
+        if (null == compressor || threshold < 0 || payload.getBody().getValue().size() < threshold) {
+            return payload;
+        }
+        return compress(payload, compressor);
     }
     
     /**
-     * parse payload to request/response model.
+     * Get the codec of payload.
+     *
+     * @param payload payload.
+     * @return payload codec, {@code null} if not supported by current side.
+     */
+    public static PayloadCodec getPayloadCodec(Payload payload) {
+        String typeUrl = payload.getBody().getTypeUrl();
+        int index = typeUrl.indexOf(COMPRESSOR_SEPARATOR);
+        return PayloadCodecManager.getCodec(index < 0 ? typeUrl : typeUrl.substring(0, index));
+    }
+    
+    private static ByteBuffer decompressIfNecessary(Payload payload, PayloadCompressor negotiatedCompressor,
+            boolean negotiationRequired, int maxDecompressedSize) {
+        ByteBuffer byteBuffer = payload.getBody().getValue().asReadOnlyByteBuffer();
+        String typeUrl = payload.getBody().getTypeUrl();
+        int index = typeUrl.indexOf(COMPRESSOR_SEPARATOR);
+        if (index < 0) {
+            return byteBuffer;
+        }
+        String compressorName = typeUrl.substring(index + 1);
+        PayloadCompressor compressor;
+        if (negotiationRequired) {
+            if (null == negotiatedCompressor || !negotiatedCompressor.getName().equals(compressorName)) {
+                throw new RemoteException(NacosException.SERVER_ERROR,
+                        "Payload compressor is not negotiated:" + typeUrl);
+            }
+            compressor = negotiatedCompressor;
+        } else {
+            compressor = PayloadCodecManager.getCompressor(compressorName);
+            if (null == compressor) {
+                throw new RemoteException(NacosException.SERVER_ERROR, "Unknown payload compressor:" + typeUrl);
+            }
+        }
+        return ByteBuffer.wrap(compressor.decompress(byteBuffer, maxDecompressedSize));
+    }
+    
+    /**
+     * parse payload to request/response model, the compressed body is decompressed by the compressor in type url.
      *
      * @param payload payload to be parsed.
      * @return payload
      */
     public static Object parse(Payload payload) {
+        return parse(payload, null, false, DEFAULT_MAX_DECOMPRESSED_SIZE);
+    }
+    
+    /**
+     * parse payload to request/response model, the compressed body is only accepted if it is compressed by the
+     * negotiated compressor, and the decompressed body should not be larger than {@code maxDecompressedSize}.
+     *
+     * @param payload              payload to be parsed.
+     * @param negotiatedCompressor compressor negotiated with the other side, {@code null} if not negotiated.
+     * @param maxDecompressedSize  max size of decompressed body.
+     * @return payload
+     */
+    public static Object parse(Payload payload, PayloadCompressor negotiatedCompressor, int maxDecompressedSize) {
+        return parse(payload, negotiatedCompressor, true, maxDecompressedSize);
+    }
+    
+    private static Object parse(Payload payload, PayloadCompressor negotiatedCompressor, boolean negotiationRequired,
+            int maxDecompressedSize) {
         Class classType = PayloadRegistry.getClassByType(payload.getMetadata().getType());
         if (classType != null) {
-            ByteString byteString = payload.getBody().getValue();
-            ByteBuffer byteBuffer = byteString.asReadOnlyByteBuffer();
-            Object obj = JacksonUtils.toObj(new ByteBufferBackedInputStream(byteBuffer), classType);
+            PayloadCodec codec = getPayloadCodec(payload);
+            if (null == codec) {
+                throw new RemoteException(NacosException.SERVER_ERROR,
+                        "Unknown payload codec:" + payload.getBody().getTypeUrl());
+            }
+            ByteBuffer body = decompressIfNecessary(payload, negotiatedCompressor, negotiationRequired,
+                    maxDecompressedSize);
+            Object obj = codec.decode(body, classType);
             if (obj instanceof Request) {
-                ((Request) obj).putAllHeader(payload.getMetadata().getHeadersMap());
+                fillHeaders((Request) obj, payload.getMetadata().getHeadersMap());
             }
             return obj;
         } else {
@@ -129,4 +348,16 @@ public class GrpcUtils {
                     "Unknown payload type:" + payload.getMetadata().getType());
         }
     }
+    
+    private static void fillHeaders(Request request, Map<String, String> headers) {
+        String requestId = headers.get(PAYLOAD_REQUEST_ID_HEADER);
+        if (null == requestId) {
+            request.putAllHeader(headers);
+            return;
+        }
+        Map<String, String> requestHeaders = new HashMap<>(headers);
+        requestHeaders.remove(PAYLOAD_REQUEST_ID_HEADER);
+        request.putAllHeader(requestHeaders);
+        request.setRequestId(requestId);
+    }
 }
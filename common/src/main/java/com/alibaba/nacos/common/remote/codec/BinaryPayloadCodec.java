@@ -0,0 +1,124 @@
+/*
+ * Copyright 1999-2025 Alibaba Group Holding Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.alibaba.nacos.common.remote.codec;
+
+import com.alibaba.nacos.api.exception.runtime.NacosDeserializationException;
+import com.alibaba.nacos.common.utils.JacksonUtils;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * Compact binary payload codec.
+ *
+ * <p>It reuses the json mapping of requests and responses, but the mapper writes to {@link BinaryPayloadGenerator} and
+ * reads from {@link BinaryPayloadParser}, which encode the tokens in binary instead of json text: numbers are varint or
+ * fixed bytes, byte arrays are raw bytes instead of base64, and repeated field names and short strings are written as
+ * references to their first occurrence.
+ *
+ * @author Nacos
+ */
+public class BinaryPayloadCodec implements PayloadCodec {
+    
+    public static final String NAME = "binary";
+    
+    static final byte START_OBJECT = 1;
+    
+    static final byte END_OBJECT = 2;
+    
+    static final byte START_ARRAY = 3;
+    
+    static final byte END_ARRAY = 4;
+    
+    static final byte NAME_VALUE = 5;
+    
+    static final byte SHARED_NAME = 6;
+    
+    static final byte SHARED_NAME_REF = 7;
+    
+    static final byte STRING = 8;
+    
+    static final byte SHARED_STRING = 9;
+    
+    static final byte SHARED_STRING_REF = 10;
+    
+    static final byte LONG = 11;
+    
+    static final byte BIG_INTEGER = 12;
+    
+    static final byte DOUBLE = 13;
+    
+    static final byte BIG_DECIMAL = 14;
+    
+    static final byte TRUE = 15;
+    
+    static final byte FALSE = 16;
+    
+    static final byte NULL = 17;
+    
+    static final byte BINARY = 18;
+    
+    static final int MAX_SHARED_COUNT = 1024;
+    
+    static final int MAX_SHARED_STRING_LENGTH = 64;
+    
+    private static final byte[] REQUEST_ID_NAME = "requestId".getBytes(StandardCharsets.UTF_8);
+    
+    @Override
+    public String getName() {
+        return NAME;
+    }
+    
+    @Override
+    public byte[] encode(Object obj) {
+        BinaryPayloadGenerator generator = new BinaryPayloadGenerator();
+        JacksonUtils.writeValue(generator, obj);
+        return generator.toByteArray();
+    }
+    
+    @Override
+    public <T> T decode(ByteBuffer body, Class<T> cls) {
+        BinaryPayloadParser parser = new BinaryPayloadParser(body);
+        T result = JacksonUtils.toObj(parser, cls);
+        try {
+            parser.checkFullyConsumed();
+        } catch (IOException e) {
+            throw new NacosDeserializationException(cls, e);
+        }
+        return result;
+    }
+    
+    @Override
+    public byte[] fillRequestId(byte[] body, String requestId) {
+        if (null == requestId) {
+            return body;
+        }
+        if (0 == body.length || END_OBJECT != body[body.length - 1]) {
+            throw new IllegalArgumentException("Body to fill request id should be an encoded object.");
+        }
+        // append request id before the end of root object, which will not change the shared references.
+        BinaryPayloadGenerator generator = new BinaryPayloadGenerator();
+        generator.writeBytes(body, 0, body.length - 1);
+        generator.writeType(NAME_VALUE);
+        generator.writeLengthAndBytes(REQUEST_ID_NAME);
+        generator.writeType(STRING);
+        generator.writeLengthAndBytes(requestId.getBytes(StandardCharsets.UTF_8));
+        generator.writeType(END_OBJECT);
+        return generator.toByteArray();
+    }
+}
@@ -0,0 +1,307 @@
+/*
+ * Copyright 1999-2025 Alibaba Group Holding Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.alibaba.nacos.common.remote.codec;
+
+import com.fasterxml.jackson.core.Base64Variant;
+import com.fasterxml.jackson.core.base.GeneratorBase;
+import com.fasterxml.jackson.core.json.JsonWriteContext;
+
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
+
+import static com.alibaba.nacos.common.remote.codec.BinaryPayloadCodec.BIG_DECIMAL;
+import static com.alibaba.nacos.common.remote.codec.BinaryPayloadCodec.BIG_INTEGER;
+import static com.alibaba.nacos.common.remote.codec.BinaryPayloadCodec.BINARY;
+import static com.alibaba.nacos.common.remote.codec.BinaryPayloadCodec.DOUBLE;
+import static com.alibaba.nacos.common.remote.codec.BinaryPayloadCodec.END_ARRAY;
+import static com.alibaba.nacos.common.remote.codec.BinaryPayloadCodec.END_OBJECT;
+import static com.alibaba.nacos.common.remote.codec.BinaryPayloadCodec.FALSE;
+import static com.alibaba.nacos.common.remote.codec.BinaryPayloadCodec.LONG;
+import static com.alibaba.nacos.common.remote.codec.BinaryPayloadCodec.MAX_SHARED_COUNT;
+import static com.alibaba.nacos.common.remote.codec.BinaryPayloadCodec.MAX_SHARED_STRING_LENGTH;
+import static com.alibaba.nacos.common.remote.codec.BinaryPayloadCodec.NAME_VALUE;
+import static com.alibaba.nacos.common.remote.codec.BinaryPayloadCodec.NULL;
+import static com.alibaba.nacos.common.remote.codec.BinaryPayloadCodec.SHARED_NAME;
+import static com.alibaba.nacos.common.remote.codec.BinaryPayloadCodec.SHARED_NAME_REF;
+import static com.alibaba.nacos.common.remote.codec.BinaryPayloadCodec.SHARED_STRING;
+import static com.alibaba.nacos.common.remote.codec.BinaryPayloadCodec.SHARED_STRING_REF;
+import static com.alibaba.nacos.common.remote.codec.BinaryPayloadCodec.START_ARRAY;
+import static com.alibaba.nacos.common.remote.codec.BinaryPayloadCodec.START_OBJECT;
+import static com.alibaba.nacos.common.remote.codec.BinaryPayloadCodec.STRING;
+import static com.alibaba.nacos.common.remote.codec.BinaryPayloadCodec.TRUE;
+
+/**
+ * Jackson generator which writes the binary payload format of {@link BinaryPayloadCodec} directly into a byte array.
+ *
+ * @author Nacos
+ */
+class BinaryPayloadGenerator extends GeneratorBase {
+    
+    private final Map<String, Integer> sharedNames = new HashMap<>();
+    
+    private final Map<String, Integer> sharedStrings = new HashMap<>();
+    
+    private byte[] buffer = new byte[256];
+    
+    private int size;
+    
+    BinaryPayloadGenerator() {
+        super(0, null);
+    }
+    
+    @Override
+    public void writeStartArray() throws IOException {
+        _verifyValueWrite("start an array");
+        _writeContext = _writeContext.createChildArrayContext(null);
+        writeType(START_ARRAY);
+    }
+    
+    @Override
+    public void writeEndArray() throws IOException {
+        if (!_writeContext.inArray()) {
+            _reportError("Current context not Array but " + _writeContext.typeDesc());
+        }
+        _writeContext = _writeContext.clearAndGetParent();
+        writeType(END_ARRAY);
+    }
+    
+    @Override
+    public void writeStartObject() throws IOException {
+        _verifyValueWrite("start an object");
+        _writeContext = _writeContext.createChildObjectContext(null);
+        writeType(START_OBJECT);
+    }
+    
+    @Override
+    public void writeEndObject() throws IOException {
+        if (!_writeContext.inObject()) {
+            _reportError("Current context not Object but " + _writeContext.typeDesc());
+        }
+        _writeContext = _writeContext.clearAndGetParent();
+        writeType(END_OBJECT);
+    }
+    
+    @Override
+    public void writeFieldName(String name) throws IOException {
+        if (JsonWriteContext.STATUS_EXPECT_VALUE == _writeContext.writeFieldName(name)) {
+            _reportError("Can not write a field name, expecting a value");
+        }
+        writeShared(name, sharedNames, NAME_VALUE, SHARED_NAME, SHARED_NAME_REF);
+    }
+    
+    @Override
+    public void writeString(String text) throws IOException {
+        if (null == text) {
+            writeNull();
+            return;
+        }
+        _verifyValueWrite("write a string");
+        if (text.length() > MAX_SHARED_STRING_LENGTH) {
+            writeType(STRING);
+            writeLengthAndBytes(text.getBytes(StandardCharsets.UTF_8));
+        } else {
+            writeShared(text, sharedStrings, STRING, SHARED_STRING, SHARED_STRING_REF);
+        }
+    }
+    
+    @Override
+    public void writeString(char[] buffer, int offset, int length) throws IOException {
+        writeString(new String(buffer, offset, length));
+    }
+    
+    @Override
+    public void writeRawUTF8String(byte[] buffer, int offset, int length) throws IOException {
+        writeString(new String(buffer, offset, length, StandardCharsets.UTF_8));
+    }
+    
+    @Override
+    public void writeUTF8String(byte[] buffer, int offset, int length) throws IOException {
+        writeString(new String(buffer, offset, length, StandardCharsets.UTF_8));
+    }
+    
+    @Override
+    public void writeRaw(String text) throws IOException {
+        _reportUnsupportedOperation();
+    }
+    
+    @Override
+    public void writeRaw(String text, int offset, int len) throws IOException {
+        _reportUnsupportedOperation();
+    }
+    
+    @Override
+    public void writeRaw(char[] text, int offset, int len) throws IOException {
+        _reportUnsupportedOperation();
+    }
+    
+    @Override
+    public void writeRaw(char c) throws IOException {
+        _reportUnsupportedOperation();
+    }
+    
+    @Override
+    public void writeBinary(Base64Variant variant, byte[] data, int offset, int len) throws IOException {
+        if (null == data) {
+            writeNull();
+            return;
+        }
+        _verifyValueWrite("write a binary value");
+        writeType(BINARY);
+        writeVarInt(len);
+        writeBytes(data, offset, len);
+    }
+    
+    @Override
+    public void writeNumber(int value) throws IOException {
+        writeNumber((long) value);
+    }
+    
+    @Override
+    public void writeNumber(long value) throws IOException {
+        _verifyValueWrite("write a number");
+        writeType(LONG);
+        writeVarLong((value << 1) ^ (value >> 63));
+    }
+    
+    @Override
+    public void writeNumber(BigInteger value) throws IOException {
+        if (null == value) {
+            writeNull();
+            return;
+        }
+        _verifyValueWrite("write a number");
+        writeType(BIG_INTEGER);
+        writeLengthAndBytes(value.toByteArray());
+    }
+    
+    @Override
+    public void writeNumber(double value) throws IOException {
+        _verifyValueWrite("write a number");
+        writeType(DOUBLE);
+        long bits = Double.doubleToRawLongBits(value);
+        for (int i = 56; i >= 0; i -= 8) {
+            writeType((byte) (bits >>> i));
+        }
+    }
+    
+    @Override
+    public void writeNumber(float value) throws IOException {
+        writeNumber((double) value);
+    }
+    
+    @Override
+    public void writeNumber(BigDecimal value) throws IOException {
+        writeNumber(null == value ? null : value.toString());
+    }
+    
+    @Override
+    public void writeNumber(String encodedValue) throws IOException {
+        if (null == encodedValue) {
+            writeNull();
+            return;
+        }
+        _verifyValueWrite("write a number");
+        writeType(BIG_DECIMAL);
+        writeLengthAndBytes(encodedValue.getBytes(StandardCharsets.UTF_8));
+    }
+    
+    @Override
+    public void writeBoolean(boolean state) throws IOException {
+        _verifyValueWrite("write a boolean value");
+        writeType(state ? TRUE : FALSE);
+    }
+    
+    @Override
+    public void writeNull() throws IOException {
+        _verifyValueWrite("write a null");
+        writeType(NULL);
+    }
+    
+    @Override
+    public void flush() {
+    }
+    
+    @Override
+    protected void _releaseBuffers() {
+    }
+    
+    @Override
+    protected void _verifyValueWrite(String typeMsg) throws IOException {
+        if (JsonWriteContext.STATUS_EXPECT_NAME == _writeContext.writeValue()) {
+            _reportError("Can not " + typeMsg + ", expecting field name");
+        }
+    }
+    
+    private void writeShared(String value, Map<String, Integer> shared, byte plainType, byte sharedType,
+            byte refType) {
+        Integer index = shared.get(value);
+        if (null != index) {
+            writeType(refType);
+            writeVarInt(index);
+        } else if (shared.size() < MAX_SHARED_COUNT) {
+            shared.put(value, shared.size());
+            writeType(sharedType);
+            writeLengthAndBytes(value.getBytes(StandardCharsets.UTF_8));
+        } else {
+            writeType(plainType);
+            writeLengthAndBytes(value.getBytes(StandardCharsets.UTF_8));
+        }
+    }
+    
+    void writeType(byte value) {
+        ensureCapacity(1);
+        buffer[size++] = value;
+    }
+    
+    void writeLengthAndBytes(byte[] bytes) {
+        writeVarInt(bytes.length);
+        writeBytes(bytes, 0, bytes.length);
+    }
+    
+    void writeBytes(byte[] bytes, int offset, int length) {
+        ensureCapacity(length);
+        System.arraycopy(bytes, offset, buffer, size, length);
+        size += length;
+    }
+    
+    private void writeVarInt(int value) {
+        writeVarLong(value & 0xFFFFFFFFL);
+    }
+    
+    private void writeVarLong(long value) {
+        while ((value & ~0x7FL) != 0) {
+            writeType((byte) ((value & 0x7F) | 0x80));
+            value >>>= 7;
+        }
+        writeType((byte) value);
+    }
+    
+    private void ensureCapacity(int length) {
+        if (size + length > buffer.length) {
+            buffer = Arrays.copyOf(buffer, Math.max(buffer.length << 1, size + length));
+        }
+    }
+    
+    byte[] toByteArray() {
+        return Arrays.copyOf(buffer, size);
+    }
+}
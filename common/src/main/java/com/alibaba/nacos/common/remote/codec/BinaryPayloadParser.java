@@ -0,0 +1,422 @@
+/*
+ * Copyright 1999-2025 Alibaba Group Holding Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.alibaba.nacos.common.remote.codec;
+
+import com.fasterxml.jackson.core.Base64Variant;
+import com.fasterxml.jackson.core.JsonLocation;
+import com.fasterxml.jackson.core.JsonParseException;
+import com.fasterxml.jackson.core.JsonStreamContext;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.core.ObjectCodec;
+import com.fasterxml.jackson.core.Version;
+import com.fasterxml.jackson.core.base.ParserMinimalBase;
+import com.fasterxml.jackson.core.json.JsonReadContext;
+
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+
+import static com.alibaba.nacos.common.remote.codec.BinaryPayloadCodec.BIG_DECIMAL;
+import static com.alibaba.nacos.common.remote.codec.BinaryPayloadCodec.BIG_INTEGER;
+import static com.alibaba.nacos.common.remote.codec.BinaryPayloadCodec.BINARY;
+import static com.alibaba.nacos.common.remote.codec.BinaryPayloadCodec.DOUBLE;
+import static com.alibaba.nacos.common.remote.codec.BinaryPayloadCodec.END_ARRAY;
+import static com.alibaba.nacos.common.remote.codec.BinaryPayloadCodec.END_OBJECT;
+import static com.alibaba.nacos.common.remote.codec.BinaryPayloadCodec.FALSE;
+import static com.alibaba.nacos.common.remote.codec.BinaryPayloadCodec.LONG;
+import static com.alibaba.nacos.common.remote.codec.BinaryPayloadCodec.NAME_VALUE;
+import static com.alibaba.nacos.common.remote.codec.BinaryPayloadCodec.NULL;
+import static com.alibaba.nacos.common.remote.codec.BinaryPayloadCodec.SHARED_NAME;
+import static com.alibaba.nacos.common.remote.codec.BinaryPayloadCodec.SHARED_NAME_REF;
+import static com.alibaba.nacos.common.remote.codec.BinaryPayloadCodec.SHARED_STRING;
+import static com.alibaba.nacos.common.remote.codec.BinaryPayloadCodec.SHARED_STRING_REF;
+import static com.alibaba.nacos.common.remote.codec.BinaryPayloadCodec.START_ARRAY;
+import static com.alibaba.nacos.common.remote.codec.BinaryPayloadCodec.START_OBJECT;
+import static com.alibaba.nacos.common.remote.codec.BinaryPayloadCodec.STRING;
+import static com.alibaba.nacos.common.remote.codec.BinaryPayloadCodec.TRUE;
+
+/**
+ * Jackson parser which reads the binary payload format of {@link BinaryPayloadCodec} directly from the body.
+ *
+ * <p>Every length and shared reference is checked with the body before use, so a malformed or truncated body fails
+ * the parsing instead of making parser allocate more than the body itself.
+ *
+ * @author Nacos
+ */
+class BinaryPayloadParser extends ParserMinimalBase {
+    
+    private final List<String> sharedNames = new ArrayList<>();
+    
+    private final List<String> sharedStrings = new ArrayList<>();
+    
+    private final ByteBuffer body;
+    
+    private ObjectCodec codec;
+    
+    private JsonReadContext context = JsonReadContext.createRootContext(null);
+    
+    private String text;
+    
+    private Number number;
+    
+    private NumberType numberType;
+    
+    private byte[] binary;
+    
+    private boolean closed;
+    
+    BinaryPayloadParser(ByteBuffer body) {
+        this.body = body;
+    }
+    
+    @Override
+    public JsonToken nextToken() throws IOException {
+        if (!body.hasRemaining()) {
+            _handleEOF();
+            _currToken = null;
+            return null;
+        }
+        byte type = body.get();
+        switch (type) {
+            case START_OBJECT:
+                context = context.createChildObjectContext(-1, -1);
+                return _currToken = JsonToken.START_OBJECT;
+            case END_OBJECT:
+                if (!context.inObject()) {
+                    throw _constructError("Unexpected end of object in binary payload");
+                }
+                context = context.clearAndGetParent();
+                return _currToken = JsonToken.END_OBJECT;
+            case START_ARRAY:
+                context = context.createChildArrayContext(-1, -1);
+                return _currToken = JsonToken.START_ARRAY;
+            case END_ARRAY:
+                if (!context.inArray()) {
+                    throw _constructError("Unexpected end of array in binary payload");
+                }
+                context = context.clearAndGetParent();
+                return _currToken = JsonToken.END_ARRAY;
+            case NAME_VALUE:
+                return fieldName(readString());
+            case SHARED_NAME:
+                return fieldName(readShared(sharedNames));
+            case SHARED_NAME_REF:
+                return fieldName(readSharedRef(sharedNames));
+            case STRING:
+                return string(readString());
+            case SHARED_STRING:
+                return string(readShared(sharedStrings));
+            case SHARED_STRING_REF:
+                return string(readSharedRef(sharedStrings));
+            case LONG:
+                long value = readVarLong();
+                value = (value >>> 1) ^ -(value & 1);
+                if (value == (int) value) {
+                    return number((int) value, NumberType.INT);
+                }
+                return number(value, NumberType.LONG);
+            case BIG_INTEGER:
+                return number(new BigInteger(readBytes()), NumberType.BIG_INTEGER);
+            case DOUBLE:
+                return number(Double.longBitsToDouble(body.getLong()), NumberType.DOUBLE);
+            case BIG_DECIMAL:
+                return number(new BigDecimal(readString()), NumberType.BIG_DECIMAL);
+            case TRUE:
+                return _currToken = JsonToken.VALUE_TRUE;
+            case FALSE:
+                return _currToken = JsonToken.VALUE_FALSE;
+            case NULL:
+                return _currToken = JsonToken.VALUE_NULL;
+            case BINARY:
+                binary = readBytes();
+                return _currToken = JsonToken.VALUE_EMBEDDED_OBJECT;
+            default:
+                throw _constructError("Unknown binary payload token " + type);
+        }
+    }
+    
+    /**
+     * Check that the whole body has been consumed after the root value is read.
+     *
+     * @throws IOException if there are bytes after the root value
+     */
+    void checkFullyConsumed() throws IOException {
+        if (body.hasRemaining()) {
+            throw _constructError(body.remaining() + " trailing bytes after the root value of binary payload");
+        }
+    }
+    
+    private JsonToken fieldName(String name) throws IOException {
+        if (!context.inObject()) {
+            throw _constructError("Unexpected field name outside of object in binary payload");
+        }
+        context.setCurrentName(name);
+        return _currToken = JsonToken.FIELD_NAME;
+    }
+    
+    private JsonToken string(String value) {
+        text = value;
+        return _currToken = JsonToken.VALUE_STRING;
+    }
+    
+    private JsonToken number(Number value, NumberType type) {
+        number = value;
+        numberType = type;
+        return _currToken = NumberType.DOUBLE == type || NumberType.BIG_DECIMAL == type ? JsonToken.VALUE_NUMBER_FLOAT
+                : JsonToken.VALUE_NUMBER_INT;
+    }
+    
+    private String readShared(List<String> shared) throws IOException {
+        String result = readString();
+        shared.add(result);
+        return result;
+    }
+    
+    private String readSharedRef(List<String> shared) throws IOException {
+        long index = readVarLong();
+        if (index < 0 || index >= shared.size()) {
+            throw _constructError("Illegal shared reference " + index + ", shared count is " + shared.size());
+        }
+        return shared.get((int) index);
+    }
+    
+    private String readString() throws IOException {
+        return new String(readBytes(), StandardCharsets.UTF_8);
+    }
+    
+    private byte[] readBytes() throws IOException {
+        long length = readVarLong();
+        if (length < 0 || length > body.remaining()) {
+            throw _constructError("Illegal bytes length " + length + ", remaining is " + body.remaining());
+        }
+        byte[] result = new byte[(int) length];
+        body.get(result);
+        return result;
+    }
+    
+    private long readVarLong() throws IOException {
+        long result = 0;
+        for (int shift = 0; shift < 64; shift += 7) {
+            byte b = body.get();
+            result |= (long) (b & 0x7F) << shift;
+            if ((b & 0x80) == 0) {
+                return result;
+            }
+        }
+        throw _constructError("Malformed varint in binary payload");
+    }
+    
+    @Override
+    protected void _handleEOF() throws JsonParseException {
+        if (!context.inRoot()) {
+            _reportInvalidEOF(": " + context.typeDesc() + " is not ended", null);
+        }
+    }
+    
+    @Override
+    public String getCurrentName() {
+        if (JsonToken.START_OBJECT == _currToken || JsonToken.START_ARRAY == _currToken) {
+            return context.getParent().getCurrentName();
+        }
+        return context.getCurrentName();
+    }
+    
+    @Override
+    public void overrideCurrentName(String name) {
+        JsonReadContext target = context;
+        if (JsonToken.START_OBJECT == _currToken || JsonToken.START_ARRAY == _currToken) {
+            target = target.getParent();
+        }
+        try {
+            target.setCurrentName(name);
+        } catch (IOException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+    
+    @Override
+    public String getText() {
+        if (null == _currToken) {
+            return null;
+        }
+        switch (_currToken) {
+            case FIELD_NAME:
+                return context.getCurrentName();
+            case VALUE_STRING:
+                return text;
+            case VALUE_NUMBER_INT:
+            case VALUE_NUMBER_FLOAT:
+                return number.toString();
+            default:
+                return _currToken.asString();
+        }
+    }
+    
+    @Override
+    public char[] getTextCharacters() {
+        String result = getText();
+        return null == result ? null : result.toCharArray();
+    }
+    
+    @Override
+    public boolean hasTextCharacters() {
+        return false;
+    }
+    
+    @Override
+    public int getTextLength() {
+        String result = getText();
+        return null == result ? 0 : result.length();
+    }
+    
+    @Override
+    public int getTextOffset() {
+        return 0;
+    }
+    
+    @Override
+    public byte[] getBinaryValue(Base64Variant variant) throws IOException {
+        if (JsonToken.VALUE_EMBEDDED_OBJECT == _currToken) {
+            return binary;
+        }
+        if (JsonToken.VALUE_STRING == _currToken) {
+            return variant.decode(text);
+        }
+        throw _constructError("Current token (" + _currToken + ") is not binary");
+    }
+    
+    @Override
+    public Object getEmbeddedObject() {
+        return JsonToken.VALUE_EMBEDDED_OBJECT == _currToken ? binary : null;
+    }
+    
+    @Override
+    public Number getNumberValue() throws IOException {
+        if (null == _currToken || !_currToken.isNumeric()) {
+            throw _constructError("Current token (" + _currToken + ") is not numeric");
+        }
+        return number;
+    }
+    
+    @Override
+    public NumberType getNumberType() throws IOException {
+        return null == _currToken || !_currToken.isNumeric() ? null : numberType;
+    }
+    
+    @Override
+    public int getIntValue() throws IOException {
+        Number value = getNumberValue();
+        if (NumberType.INT == numberType) {
+            return value.intValue();
+        }
+        long result = getLongValue();
+        if (result != (int) result) {
+            reportOverflowInt();
+        }
+        return (int) result;
+    }
+    
+    @Override
+    public long getLongValue() throws IOException {
+        Number value = getNumberValue();
+        if (NumberType.BIG_INTEGER == numberType && ((BigInteger) value).bitLength() >= Long.SIZE) {
+            reportOverflowLong();
+        }
+        return value.longValue();
+    }
+    
+    @Override
+    public BigInteger getBigIntegerValue() throws IOException {
+        Number value = getNumberValue();
+        if (value instanceof BigInteger) {
+            return (BigInteger) value;
+        }
+        if (JsonToken.VALUE_NUMBER_FLOAT == _currToken) {
+            return getDecimalValue().toBigInteger();
+        }
+        return BigInteger.valueOf(value.longValue());
+    }
+    
+    @Override
+    public float getFloatValue() throws IOException {
+        return getNumberValue().floatValue();
+    }
+    
+    @Override
+    public double getDoubleValue() throws IOException {
+        return getNumberValue().doubleValue();
+    }
+    
+    @Override
+    public BigDecimal getDecimalValue() throws IOException {
+        Number value = getNumberValue();
+        if (value instanceof BigDecimal) {
+            return (BigDecimal) value;
+        }
+        if (value instanceof BigInteger) {
+            return new BigDecimal((BigInteger) value);
+        }
+        if (value instanceof Double) {
+            return BigDecimal.valueOf(value.doubleValue());
+        }
+        return BigDecimal.valueOf(value.longValue());
+    }
+    
+    @Override
+    public ObjectCodec getCodec() {
+        return codec;
+    }
+    
+    @Override
+    public void setCodec(ObjectCodec codec) {
+        this.codec = codec;
+    }
+    
+    @Override
+    public Version version() {
+        return Version.unknownVersion();
+    }
+    
+    @Override
+    public JsonStreamContext getParsingContext() {
+        return context;
+    }
+    
+    @Override
+    public JsonLocation getCurrentLocation() {
+        return JsonLocation.NA;
+    }
+    
+    @Override
+    public JsonLocation getTokenLocation() {
+        return JsonLocation.NA;
+    }
+    
+    @Override
+    public void close() {
+        closed = true;
+    }
+    
+    @Override
+    public boolean isClosed() {
+        return closed;
+    }
+}
@@ -0,0 +1,77 @@
+/*
+ * Copyright 1999-2025 Alibaba Group Holding Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.alibaba.nacos.common.remote.codec;
+
+import com.alibaba.nacos.api.exception.NacosException;
+import com.alibaba.nacos.api.exception.runtime.NacosRuntimeException;
+import com.fasterxml.jackson.databind.util.ByteBufferBackedInputStream;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * Gzip payload compressor.
+ *
+ * @author Nacos
+ */
+public class GzipPayloadCompressor implements PayloadCompressor {
+    
+    public static final String NAME = "gzip";
+    
+    private static final int BUFFER_SIZE = 4096;
+    
+    @Override
+    public String getName() {
+        return NAME;
+    }
+    
+    @Override
+    public byte[] compress(byte[] body) {
+        ByteArrayOutputStream out = new ByteArrayOutputStream(Math.max(64, body.length / 4));
+        try (GZIPOutputStream gzip = new GZIPOutputStream(out)) {
+            gzip.write(body);
+        } catch (IOException e) {
+            throw new NacosRuntimeException(NacosException.SERVER_ERROR, e);
+        }
+        return out.toByteArray();
+    }
+    
+    @Override
+    public byte[] decompress(ByteBuffer body, int maxSize) {
+        ByteArrayOutputStream out = new ByteArrayOutputStream(
+                (int) Math.min(maxSize, Math.max(64L, body.remaining() * 4L)));
+        try (GZIPInputStream gzip = new GZIPInputStream(new ByteBufferBackedInputStream(body))) {
+            byte[] buffer = new byte[BUFFER_SIZE];
+            int size = 0;
+            int read;
+            while ((read = gzip.read(buffer)) >= 0) {
+                size += read;
+                if (size > maxSize || size < 0) {
+                    throw new NacosRuntimeException(NacosException.SERVER_ERROR,
+                            "Decompressed payload is larger than max size " + maxSize);
+                }
+                out.write(buffer, 0, read);
+            }
+        } catch (IOException e) {
+            throw new NacosRuntimeException(NacosException.SERVER_ERROR, e);
+        }
+        return out.toByteArray();
+    }
+}
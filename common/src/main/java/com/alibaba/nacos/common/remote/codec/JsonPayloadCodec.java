@@ -0,0 +1,61 @@
+/*
+ * Copyright 1999-2025 Alibaba Group Holding Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.alibaba.nacos.common.remote.codec;
+
+import com.alibaba.nacos.common.utils.JacksonUtils;
+import com.fasterxml.jackson.databind.util.ByteBufferBackedInputStream;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * Json payload codec, the default codec which is supported by all versions.
+ *
+ * @author Nacos
+ */
+public class JsonPayloadCodec implements PayloadCodec {
+    
+    public static final String NAME = "json";
+    
+    @Override
+    public String getName() {
+        return NAME;
+    }
+    
+    @Override
+    public byte[] encode(Object obj) {
+        return JacksonUtils.toJsonBytes(obj);
+    }
+    
+    @Override
+    public <T> T decode(ByteBuffer body, Class<T> cls) {
+        return JacksonUtils.toObj(new ByteBufferBackedInputStream(body), cls);
+    }
+    
+    @Override
+    public byte[] fillRequestId(byte[] body, String requestId) {
+        if (null == requestId) {
+            return body;
+        }
+        byte[] requestIdField = ("{\"requestId\":" + JacksonUtils.toJson(requestId)
+                + (body.length > 2 ? "," : "")).getBytes(StandardCharsets.UTF_8);
+        byte[] result = new byte[requestIdField.length + body.length - 1];
+        System.arraycopy(requestIdField, 0, result, 0, requestIdField.length);
+        System.arraycopy(body, 1, result, requestIdField.length, body.length - 1);
+        return result;
+    }
+}
@@ -0,0 +1,64 @@
+/*
+ * Copyright 1999-2025 Alibaba Group Holding Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.alibaba.nacos.common.remote.codec;
+
+import java.nio.ByteBuffer;
+
+/**
+ * Codec of the gRPC payload body, which can be extended by SPI.
+ *
+ * <p>The codec of a payload is carried by the type url of payload body, so the receiver can decode each payload
+ * by its own codec. Codecs except json can only be used after both sides negotiated.
+ *
+ * @author Nacos
+ */
+public interface PayloadCodec {
+    
+    /**
+     * Get the unique name of codec.
+     *
+     * @return codec name
+     */
+    String getName();
+    
+    /**
+     * Encode request or response to payload body.
+     *
+     * @param obj request or response
+     * @return payload body
+     */
+    byte[] encode(Object obj);
+    
+    /**
+     * Decode payload body to request or response.
+     *
+     * @param body payload body
+     * @param cls  class of request or response
+     * @param <T>  type of request or response
+     * @return request or response
+     */
+    <T> T decode(ByteBuffer body, Class<T> cls);
+    
+    /**
+     * Fill request id into the body encoded from a request without request id.
+     *
+     * @param body      body encoded without request id
+     * @param requestId request id
+     * @return new body with request id
+     */
+    byte[] fillRequestId(byte[] body, String requestId);
+}
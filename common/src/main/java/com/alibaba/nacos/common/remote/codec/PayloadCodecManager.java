@@ -0,0 +1,132 @@
+/*
+ * Copyright 1999-2025 Alibaba Group Holding Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.alibaba.nacos.common.remote.codec;
+
+import com.alibaba.nacos.common.spi.NacosServiceLoader;
+import com.alibaba.nacos.common.utils.StringUtils;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Manager of payload codecs and compressors, the built-in ones and the ones loaded by SPI.
+ *
+ * @author Nacos
+ */
+public class PayloadCodecManager {
+    
+    private static final PayloadCodec DEFAULT_CODEC = new JsonPayloadCodec();
+    
+    private static final Map<String, PayloadCodec> CODECS = new LinkedHashMap<>();
+    
+    private static final List<String> SUPPORTED_CODECS;
+    
+    private static final Map<String, PayloadCompressor> COMPRESSORS = new LinkedHashMap<>();
+    
+    private static final List<String> SUPPORTED_COMPRESSORS;
+    
+    static {
+        register(DEFAULT_CODEC);
+        register(new BinaryPayloadCodec());
+        for (PayloadCodec each : NacosServiceLoader.load(PayloadCodec.class)) {
+            register(each);
+        }
+        SUPPORTED_CODECS = Collections.unmodifiableList(new ArrayList<>(CODECS.keySet()));
+        register(new GzipPayloadCompressor());
+        for (PayloadCompressor each : NacosServiceLoader.load(PayloadCompressor.class)) {
+            register(each);
+        }
+        SUPPORTED_COMPRESSORS = Collections.unmodifiableList(new ArrayList<>(COMPRESSORS.keySet()));
+    }
+    
+    private PayloadCodecManager() {
+    }
+    
+    private static void register(PayloadCodec codec) {
+        CODECS.putIfAbsent(codec.getName(), codec);
+    }
+    
+    private static void register(PayloadCompressor compressor) {
+        COMPRESSORS.putIfAbsent(compressor.getName(), compressor);
+    }
+    
+    public static PayloadCodec getDefaultCodec() {
+        return DEFAULT_CODEC;
+    }
+    
+    /**
+     * Get codec by name, blank name means the default json codec.
+     *
+     * @param name codec name
+     * @return codec, {@code null} if not supported
+     */
+    public static PayloadCodec getCodec(String name) {
+        return StringUtils.isBlank(name) ? DEFAULT_CODEC : CODECS.get(name);
+    }
+    
+    public static List<String> getSupportedCodecs() {
+        return SUPPORTED_CODECS;
+    }
+    
+    /**
+     * Negotiate the codec with remote, use the preferred codec only if both sides support it.
+     *
+     * @param preferred       preferred codec name of current side
+     * @param remoteSupported supported codec names of remote, {@code null} if remote is old version
+     * @return negotiated codec, default json codec if not negotiated
+     */
+    public static PayloadCodec negotiate(String preferred, Collection<String> remoteSupported) {
+        PayloadCodec result = getCodec(preferred);
+        if (null == result || null == remoteSupported || !remoteSupported.contains(result.getName())) {
+            return DEFAULT_CODEC;
+        }
+        return result;
+    }
+    
+    /**
+     * Get compressor by name.
+     *
+     * @param name compressor name
+     * @return compressor, {@code null} if name is blank or not supported
+     */
+    public static PayloadCompressor getCompressor(String name) {
+        return StringUtils.isBlank(name) ? null : COMPRESSORS.get(name);
+    }
+    
+    public static List<String> getSupportedCompressors() {
+        return SUPPORTED_COMPRESSORS;
+    }
+    
+    /**
+     * Negotiate the compressor with remote, use the preferred compressor only if both sides support it.
+     *
+     * @param preferred       preferred compressor name of current side, blank means no compression
+     * @param remoteSupported supported compressor names of remote, {@code null} if remote is old version
+     * @return negotiated compressor, {@code null} if not negotiated
+     */
+    public static PayloadCompressor negotiateCompressor(String preferred, Collection<String> remoteSupported) {
+        PayloadCompressor result = getCompressor(preferred);
+        if (null == result || null == remoteSupported || !remoteSupported.contains(result.getName())) {
+            return null;
+        }
+        return result;
+    }
+}
@@ -0,0 +1,56 @@
+/*
+ * Copyright 1999-2025 Alibaba Group Holding Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.alibaba.nacos.common.remote.codec;
+
+import java.nio.ByteBuffer;
+
+/**
+ * Compressor of the gRPC payload body, which can be extended by SPI.
+ *
+ * <p>The compressor of a payload is carried by the type url of payload body after the codec name, and it can only be
+ * used after both sides negotiated.
+ *
+ * @author Nacos
+ */
+public interface PayloadCompressor {
+    
+    /**
+     * Get the unique name of compressor.
+     *
+     * @return compressor name
+     */
+    String getName();
+    
+    /**
+     * Compress the encoded payload body.
+     *
+     * @param body encoded payload body
+     * @return compressed body
+     */
+    byte[] compress(byte[] body);
+    
+    /**
+     * Decompress the payload body, the decompressed body should not be larger than {@code maxSize}.
+     *
+     * @param body    compressed body
+     * @param maxSize max size of decompressed body
+     * @return encoded payload body
+     * @throws com.alibaba.nacos.api.exception.runtime.NacosRuntimeException if body is illegal or decompressed body
+     *                                                                        is larger than {@code maxSize}
+     */
+    byte[] decompress(ByteBuffer body, int maxSize);
+}
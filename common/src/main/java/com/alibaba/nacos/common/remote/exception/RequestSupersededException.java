@@ -0,0 +1,31 @@
+/*
+ * Copyright 1999-2025 Alibaba Group Holding Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.alibaba.nacos.common.remote.exception;
+
+/**
+ * Request is superseded by a newer request with the same key before it is sent, so it is not required to retry.
+ *
+ * @author Nacos
+ */
+public class RequestSupersededException extends RemoteException {
+    
+    private static final int REQUEST_SUPERSEDED = 602;
+    
+    public RequestSupersededException(String msg) {
+        super(REQUEST_SUPERSEDED, msg);
+    }
+}
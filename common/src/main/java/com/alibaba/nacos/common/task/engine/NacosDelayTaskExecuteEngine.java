@@ -39,6 +39,8 @@ public class NacosDelayTaskExecuteEngine extends AbstractNacosTaskExecuteEngine<
     
     private final ScheduledExecutorService processingExecutor;
     
+    private final long processInterval;
+    
     protected final ConcurrentHashMap<Object, AbstractDelayTask> tasks;
     
     protected final ReentrantLock lock = new ReentrantLock();
@@ -52,9 +54,28 @@ public class NacosDelayTaskExecuteEngine extends AbstractNacosTaskExecuteEngine<
     }
     
     public NacosDelayTaskExecuteEngine(String name, int initCapacity, Logger logger, long processInterval) {
+        this(name, initCapacity, logger, processInterval, true);
+    }
+    
+    /**
+     * Create engine, subclass which needs more state for {@link #processTasks()} can pass {@code false} as
+     * {@code startProcessing} and call {@link #startProcessing()} after its own state initialized.
+     */
+    protected NacosDelayTaskExecuteEngine(String name, int initCapacity, Logger logger, long processInterval,
+            boolean startProcessing) {
         super(logger);
         tasks = new ConcurrentHashMap<>(initCapacity);
         processingExecutor = ExecutorFactory.newSingleScheduledExecutorService(new NameThreadFactory(name));
+        this.processInterval = processInterval;
+        if (startProcessing) {
+            startProcessing();
+        }
+    }
+    
+    /**
+     * Start to process tasks with fixed delay, should be only called once.
+     */
+    protected final void startProcessing() {
         processingExecutor
                 .scheduleWithFixedDelay(new ProcessRunnable(), processInterval, processInterval, TimeUnit.MILLISECONDS);
     }
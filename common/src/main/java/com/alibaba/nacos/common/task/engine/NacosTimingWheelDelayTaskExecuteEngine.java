@@ -0,0 +1,239 @@
+/*
+ * Copyright 1999-2025 Alibaba Group Holding Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.alibaba.nacos.common.task.engine;
+
+import com.alibaba.nacos.api.exception.NacosException;
+import com.alibaba.nacos.common.task.AbstractDelayTask;
+import com.alibaba.nacos.common.task.NacosTaskProcessor;
+import org.slf4j.Logger;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Nacos delay task execute engine backed by a hashed timing wheel.
+ *
+ * <p>{@link NacosDelayTaskExecuteEngine} checks every pending task in each round. This engine keeps the same add,
+ * merge and retry semantics, but puts each task key into the wheel bucket of its due tick. Each round only touches
+ * the buckets which become due, so the cost depends on the number of due tasks rather than all pending tasks.
+ *
+ * @author Nacos
+ */
+public class NacosTimingWheelDelayTaskExecuteEngine extends NacosDelayTaskExecuteEngine {
+    
+    private static final int DEFAULT_WHEEL_SIZE = 512;
+    
+    private final long tickDuration;
+    
+    private final long startTime;
+    
+    private final Set<Object>[] wheel;
+    
+    /**
+     * Task key -> the tick the key is scheduled in wheel, guarded by {@link #lock}.
+     */
+    private final Map<Object, Long> scheduledTicks;
+    
+    private long currentTick;
+    
+    public NacosTimingWheelDelayTaskExecuteEngine(String name) {
+        this(name, null);
+    }
+    
+    public NacosTimingWheelDelayTaskExecuteEngine(String name, Logger logger) {
+        this(name, 32, logger, 100L);
+    }
+    
+    public NacosTimingWheelDelayTaskExecuteEngine(String name, int initCapacity, Logger logger, long processInterval) {
+        this(name, initCapacity, logger, processInterval, DEFAULT_WHEEL_SIZE);
+    }
+    
+    @SuppressWarnings("unchecked")
+    public NacosTimingWheelDelayTaskExecuteEngine(String name, int initCapacity, Logger logger, long processInterval,
+            int wheelSize) {
+        super(name, initCapacity, logger, processInterval, false);
+        this.tickDuration = Math.max(1L, processInterval);
+        this.startTime = System.currentTimeMillis();
+        this.wheel = new Set[Math.max(1, wheelSize)];
+        for (int i = 0; i < wheel.length; i++) {
+            wheel[i] = new LinkedHashSet<>();
+        }
+        this.scheduledTicks = new HashMap<>(initCapacity);
+        // Wheel must be ready before the first round of processTasks.
+        startProcessing();
+    }
+    
+    @Override
+    public void addTask(Object key, AbstractDelayTask newTask) {
+        lock.lock();
+        try {
+            AbstractDelayTask existTask = tasks.get(key);
+            if (null != existTask) {
+                newTask.merge(existTask);
+            }
+            tasks.put(key, newTask);
+            schedule(key, newTask);
+        } finally {
+            lock.unlock();
+        }
+    }
+    
+    @Override
+    public AbstractDelayTask removeTask(Object key) {
+        lock.lock();
+        try {
+            AbstractDelayTask task = super.removeTask(key);
+            if (null != task) {
+                unschedule(key);
+            }
+            return task;
+        } finally {
+            lock.unlock();
+        }
+    }
+    
+    /**
+     * Get the count of task keys scheduled in timing wheel.
+     *
+     * @return scheduled task key count
+     */
+    public int scheduledSize() {
+        lock.lock();
+        try {
+            return scheduledTicks.size();
+        } finally {
+            lock.unlock();
+        }
+    }
+    
+    @Override
+    public void shutdown() throws NacosException {
+        lock.lock();
+        try {
+            for (Set<Object> each : wheel) {
+                each.clear();
+            }
+            scheduledTicks.clear();
+        } finally {
+            lock.unlock();
+        }
+        super.shutdown();
+    }
+    
+    /**
+     * Process the tasks which are due, only the buckets from last processed tick to current tick are touched.
+     */
+    @Override
+    protected void processTasks() {
+        for (Object taskKey : pollDueKeys()) {
+            AbstractDelayTask task = removeTask(taskKey);
+            if (null == task) {
+                rescheduleIfExist(taskKey);
+                continue;
+            }
+            NacosTaskProcessor processor = getProcessor(taskKey);
+            try {
+                // ReAdd task if process failed
+                if (!processor.process(task)) {
+                    retryFailedTask(taskKey, task);
+                }
+            } catch (Throwable e) {
+                getEngineLog().error("Nacos task execute error ", e);
+                retryFailedTask(taskKey, task);
+            }
+        }
+    }
+    
+    private List<Object> pollDueKeys() {
+        List<Object> result = new ArrayList<>();
+        lock.lock();
+        try {
+            long targetTick = Math.max(currentTick + 1, (System.currentTimeMillis() - startTime) / tickDuration);
+            long fromTick = Math.max(currentTick + 1, targetTick - wheel.length + 1);
+            for (long tick = fromTick; tick <= targetTick; tick++) {
+                Iterator<Object> iterator = wheel[bucketIndex(tick)].iterator();
+                while (iterator.hasNext()) {
+                    Object each = iterator.next();
+                    if (scheduledTicks.get(each) <= targetTick) {
+                        iterator.remove();
+                        scheduledTicks.remove(each);
+                        result.add(each);
+                    }
+                }
+            }
+            currentTick = targetTick;
+        } finally {
+            lock.unlock();
+        }
+        return result;
+    }
+    
+    /**
+     * The task might not be due when the bucket expired, such as it was merged with a later process time, or changed
+     * after added. Put it back to the wheel by its actual due time.
+     */
+    private void rescheduleIfExist(Object key) {
+        lock.lock();
+        try {
+            AbstractDelayTask task = tasks.get(key);
+            if (null != task) {
+                schedule(key, task);
+            }
+        } finally {
+            lock.unlock();
+        }
+    }
+    
+    private void retryFailedTask(Object key, AbstractDelayTask task) {
+        task.setLastProcessTime(System.currentTimeMillis());
+        addTask(key, task);
+    }
+    
+    /**
+     * Schedule the key to the tick of task due time, must be called with {@link #lock} held. If the key is already
+     * scheduled at an earlier tick, keep it and check again when that tick expired.
+     */
+    private void schedule(Object key, AbstractDelayTask task) {
+        long dueTime = task.getLastProcessTime() + task.getTaskInterval() - startTime;
+        long dueTick = Math.max(currentTick + 1, (dueTime + tickDuration - 1) / tickDuration);
+        Long scheduledTick = scheduledTicks.get(key);
+        if (null != scheduledTick) {
+            if (scheduledTick <= dueTick) {
+                return;
+            }
+            wheel[bucketIndex(scheduledTick)].remove(key);
+        }
+        scheduledTicks.put(key, dueTick);
+        wheel[bucketIndex(dueTick)].add(key);
+    }
+    
+    private void unschedule(Object key) {
+        Long scheduledTick = scheduledTicks.remove(key);
+        if (null != scheduledTick) {
+            wheel[bucketIndex(scheduledTick)].remove(key);
+        }
+    }
+    
+    private int bucketIndex(long tick) {
+        return (int) (tick % wheel.length);
+    }
+}
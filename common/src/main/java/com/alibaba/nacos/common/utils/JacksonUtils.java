@@ -19,6 +19,8 @@ package com.alibaba.nacos.common.utils;
 import com.alibaba.nacos.api.exception.runtime.NacosDeserializationException;
 import com.alibaba.nacos.api.exception.runtime.NacosSerializationException;
 import com.fasterxml.jackson.annotation.JsonInclude.Include;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParser;
 import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.core.type.TypeReference;
 import com.fasterxml.jackson.databind.DeserializationFeature;
@@ -80,6 +82,38 @@ public final class JacksonUtils {
         }
     }
     
+    /**
+     * Object write to the generator, which can write the tokens in a format other than json text.
+     *
+     * @param generator generator
+     * @param obj       obj
+     * @throws NacosSerializationException if transfer failed
+     */
+    public static void writeValue(JsonGenerator generator, Object obj) {
+        try {
+            mapper.writeValue(generator, obj);
+        } catch (IOException e) {
+            throw new NacosSerializationException(obj.getClass(), e);
+        }
+    }
+    
+    /**
+     * Tokens read from the parser deserialize to Object.
+     *
+     * @param parser parser
+     * @param cls    class of object
+     * @param <T>    General type
+     * @return object
+     * @throws NacosDeserializationException if deserialize failed
+     */
+    public static <T> T toObj(JsonParser parser, Class<T> cls) {
+        try {
+            return mapper.readValue(parser, cls);
+        } catch (Exception e) {
+            throw new NacosDeserializationException(cls, e);
+        }
+    }
+    
     /**
      * Json string deserialize to Object.
      *
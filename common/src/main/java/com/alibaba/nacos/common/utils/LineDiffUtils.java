@@ -0,0 +1,313 @@
+/*
+ * Copyright 1999-2025 Alibaba Group Holding Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.alibaba.nacos.common.utils;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Line based diff and patch of text content.
+ *
+ * <p>The diff is computed by Myers' algorithm over lines, lines keep their line terminators so that patching
+ * rebuilds the target text exactly. A patch is a sequence of operations:
+ * <ul>
+ *     <li>{@code =<n>\n} copy the next n lines of source.</li>
+ *     <li>{@code -<n>\n} skip the next n lines of source.</li>
+ *     <li>{@code +<len>\n<text>} insert the following len chars.</li>
+ * </ul>
+ *
+ * @author Nacos
+ */
+public final class LineDiffUtils {
+    
+    private static final char OP_COPY = '=';
+    
+    private static final char OP_DELETE = '-';
+    
+    private static final char OP_INSERT = '+';
+    
+    private static final char LINE_SEPARATOR = '\n';
+    
+    private LineDiffUtils() {
+    }
+    
+    /**
+     * Compute the patch from source to target.
+     *
+     * @param source   source text
+     * @param target   target text
+     * @param maxEdits max inserted and deleted lines allowed
+     * @return patch, or null if more than {@code maxEdits} lines changed
+     */
+    public static String diff(String source, String target, int maxEdits) {
+        List<String> sourceLines = splitLines(source);
+        List<String> targetLines = splitLines(target);
+        int sourceSize = sourceLines.size();
+        int targetSize = targetLines.size();
+        int prefix = 0;
+        while (prefix < sourceSize && prefix < targetSize && sourceLines.get(prefix)
+                .equals(targetLines.get(prefix))) {
+            prefix++;
+        }
+        int suffix = 0;
+        while (suffix < sourceSize - prefix && suffix < targetSize - prefix && sourceLines
+                .get(sourceSize - 1 - suffix).equals(targetLines.get(targetSize - 1 - suffix))) {
+            suffix++;
+        }
+        int[] a = new int[sourceSize - prefix - suffix];
+        int[] b = new int[targetSize - prefix - suffix];
+        Map<String, Integer> lineIds = new HashMap<>(16);
+        for (int i = 0; i < a.length; i++) {
+            a[i] = lineId(lineIds, sourceLines.get(prefix + i));
+        }
+        for (int i = 0; i < b.length; i++) {
+            b[i] = lineId(lineIds, targetLines.get(prefix + i));
+        }
+        List<int[]> trace = shortestEdit(a, b, maxEdits);
+        if (trace == null) {
+            return null;
+        }
+        PatchBuilder builder = new PatchBuilder(targetLines, prefix);
+        builder.copy(prefix);
+        backtrack(trace, a.length, b.length, builder);
+        builder.copy(suffix);
+        return builder.build();
+    }
+    
+    /**
+     * Apply the patch to source.
+     *
+     * @param source source text
+     * @param patch  patch created by {@link #diff(String, String, int)}
+     * @return target text
+     * @throws IllegalArgumentException if the patch is malformed or does not match the source
+     */
+    public static String patch(String source, String patch) {
+        List<String> lines = splitLines(source);
+        StringBuilder result = new StringBuilder(source == null ? 16 : source.length());
+        int position = 0;
+        int index = 0;
+        while (index < patch.length()) {
+            final char op = patch.charAt(index);
+            int end = patch.indexOf(LINE_SEPARATOR, index);
+            if (end < 0) {
+                throw new IllegalArgumentException("Malformed patch at " + index);
+            }
+            int count = Integer.parseInt(patch.substring(index + 1, end));
+            if (count < 0) {
+                throw new IllegalArgumentException("Malformed patch at " + index);
+            }
+            index = end + 1;
+            switch (op) {
+                case OP_COPY:
+                    checkRange(position + count, lines.size());
+                    for (int i = 0; i < count; i++) {
+                        result.append(lines.get(position++));
+                    }
+                    break;
+                case OP_DELETE:
+                    checkRange(position + count, lines.size());
+                    position += count;
+                    break;
+                case OP_INSERT:
+                    checkRange(index + count, patch.length());
+                    result.append(patch, index, index + count);
+                    index += count;
+                    break;
+                default:
+                    throw new IllegalArgumentException("Unknown patch operation " + op);
+            }
+        }
+        if (position != lines.size()) {
+            throw new IllegalArgumentException("Patch does not cover the whole source");
+        }
+        return result.toString();
+    }
+    
+    private static void checkRange(int end, int size) {
+        if (end > size) {
+            throw new IllegalArgumentException("Patch does not match the source");
+        }
+    }
+    
+    private static int lineId(Map<String, Integer> lineIds, String line) {
+        Integer id = lineIds.get(line);
+        if (id == null) {
+            id = lineIds.size();
+            lineIds.put(line, id);
+        }
+        return id;
+    }
+    
+    static List<String> splitLines(String text) {
+        List<String> lines = new ArrayList<>();
+        if (text == null) {
+            return lines;
+        }
+        int start = 0;
+        for (int i = 0; i < text.length(); i++) {
+            if (text.charAt(i) == LINE_SEPARATOR) {
+                lines.add(text.substring(start, i + 1));
+                start = i + 1;
+            }
+        }
+        if (start < text.length()) {
+            lines.add(text.substring(start));
+        }
+        return lines;
+    }
+    
+    /**
+     * Forward pass of Myers' algorithm, returns the furthest reaching x of every diagonal for each edit distance,
+     * the snapshot of distance d holds diagonals from -d to d.
+     */
+    private static List<int[]> shortestEdit(int[] a, int[] b, int maxEdits) {
+        int limit = Math.min(a.length + b.length, maxEdits);
+        int offset = limit + 1;
+        int[] v = new int[2 * limit + 3];
+        List<int[]> trace = new ArrayList<>();
+        for (int d = 0; d <= limit; d++) {
+            for (int k = -d; k <= d; k += 2) {
+                int x;
+                if (k == -d || (k != d && v[offset + k - 1] < v[offset + k + 1])) {
+                    x = v[offset + k + 1];
+                } else {
+                    x = v[offset + k - 1] + 1;
+                }
+                int y = x - k;
+                while (x < a.length && y < b.length && a[x] == b[y]) {
+                    x++;
+                    y++;
+                }
+                v[offset + k] = x;
+                if (x >= a.length && y >= b.length) {
+                    trace.add(Arrays.copyOfRange(v, offset - d, offset + d + 1));
+                    return trace;
+                }
+            }
+            trace.add(Arrays.copyOfRange(v, offset - d, offset + d + 1));
+        }
+        return null;
+    }
+    
+    private static void backtrack(List<int[]> trace, int sourceSize, int targetSize, PatchBuilder builder) {
+        List<int[]> reversedOps = new ArrayList<>();
+        int x = sourceSize;
+        int y = targetSize;
+        for (int d = trace.size() - 1; d > 0; d--) {
+            int[] previous = trace.get(d - 1);
+            int k = x - y;
+            boolean down = k == -d || (k != d && previous[k - 1 + d - 1] < previous[k + 1 + d - 1]);
+            int previousK = down ? k + 1 : k - 1;
+            int previousX = previous[previousK + d - 1];
+            int previousY = previousX - previousK;
+            int snake = x - (down ? previousX : previousX + 1);
+            if (snake > 0) {
+                reversedOps.add(new int[] {OP_COPY, snake, 0});
+            }
+            if (down) {
+                reversedOps.add(new int[] {OP_INSERT, 1, previousY});
+            } else {
+                reversedOps.add(new int[] {OP_DELETE, 1, 0});
+            }
+            x = previousX;
+            y = previousY;
+        }
+        if (x > 0) {
+            reversedOps.add(new int[] {OP_COPY, x, 0});
+        }
+        for (int i = reversedOps.size() - 1; i >= 0; i--) {
+            int[] op = reversedOps.get(i);
+            switch (op[0]) {
+                case OP_COPY:
+                    builder.copy(op[1]);
+                    break;
+                case OP_DELETE:
+                    builder.delete(op[1]);
+                    break;
+                default:
+                    builder.insert(op[2]);
+                    break;
+            }
+        }
+    }
+    
+    private static class PatchBuilder {
+        
+        private final StringBuilder patch = new StringBuilder();
+        
+        private final StringBuilder inserted = new StringBuilder();
+        
+        private final List<String> targetLines;
+        
+        private final int targetOffset;
+        
+        private char lastOp;
+        
+        private int lastCount;
+        
+        PatchBuilder(List<String> targetLines, int targetOffset) {
+            this.targetLines = targetLines;
+            this.targetOffset = targetOffset;
+        }
+        
+        void copy(int count) {
+            append(OP_COPY, count);
+        }
+        
+        void delete(int count) {
+            append(OP_DELETE, count);
+        }
+        
+        void insert(int targetIndex) {
+            append(OP_INSERT, 1);
+            inserted.append(targetLines.get(targetOffset + targetIndex));
+        }
+        
+        private void append(char op, int count) {
+            if (count <= 0) {
+                return;
+            }
+            if (op != lastOp) {
+                flush();
+                lastOp = op;
+            }
+            lastCount += count;
+        }
+        
+        private void flush() {
+            if (lastCount <= 0) {
+                return;
+            }
+            if (lastOp == OP_INSERT) {
+                patch.append(OP_INSERT).append(inserted.length()).append(LINE_SEPARATOR).append(inserted);
+                inserted.setLength(0);
+            } else {
+                patch.append(lastOp).append(lastCount).append(LINE_SEPARATOR);
+            }
+            lastCount = 0;
+        }
+        
+        String build() {
+            flush();
+            return patch.toString();
+        }
+    }
+}
@@ -0,0 +1,58 @@
+/*
+ * Copyright 1999-2025 Alibaba Group Holding Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.alibaba.nacos.common.executor;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class VirtualThreadSupportTest {
+    
+    @Test
+    void testIsSupported() {
+        boolean hasBuilder;
+        try {
+            Thread.class.getMethod("ofVirtual");
+            hasBuilder = true;
+        } catch (NoSuchMethodException e) {
+            hasBuilder = false;
+        }
+        assertEquals(hasBuilder, VirtualThreadSupport.isSupported());
+    }
+    
+    @Test
+    void testNewThreadPerTaskExecutor() throws Exception {
+        if (!VirtualThreadSupport.isSupported()) {
+            assertThrows(UnsupportedOperationException.class,
+                    () -> VirtualThreadSupport.newThreadPerTaskExecutor("test-virtual-"));
+            return;
+        }
+        ExecutorService executor = VirtualThreadSupport.newThreadPerTaskExecutor("test-virtual-");
+        try {
+            Thread thread = executor.submit(Thread::currentThread).get(3L, TimeUnit.SECONDS);
+            assertEquals("test-virtual-0", thread.getName());
+            assertTrue((Boolean) Thread.class.getMethod("isVirtual").invoke(thread));
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+}
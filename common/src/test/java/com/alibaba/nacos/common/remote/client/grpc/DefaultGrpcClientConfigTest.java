@@ -17,6 +17,7 @@
 package com.alibaba.nacos.common.remote.client.grpc;
 
 import com.alibaba.nacos.common.remote.client.RpcClientTlsConfig;
+import com.alibaba.nacos.common.remote.codec.GzipPayloadCompressor;
 import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -60,6 +61,8 @@ class DefaultGrpcClientConfigTest {
         assertEquals(3, config.healthCheckRetryTimes());
         assertEquals(3000L, config.healthCheckTimeOut());
         assertEquals(5000L, config.capabilityNegotiationTimeout());
+        assertEquals(GzipPayloadCompressor.NAME, config.payloadCompressor());
+        assertEquals(64 * 1024, config.payloadCompressionThreshold());
         assertEquals(1, config.labels().size());
         assertNotNull(config.tlsConfig());
     }
@@ -82,6 +85,8 @@ class DefaultGrpcClientConfigTest {
         properties.setProperty(GrpcConstants.GRPC_HEALTHCHECK_RETRY_TIMES, "3");
         properties.setProperty(GrpcConstants.GRPC_HEALTHCHECK_TIMEOUT, "3000");
         properties.setProperty(GrpcConstants.GRPC_CHANNEL_CAPABILITY_NEGOTIATION_TIMEOUT, "5000");
+        properties.setProperty(GrpcConstants.GRPC_PAYLOAD_COMPRESSOR, "");
+        properties.setProperty(GrpcConstants.GRPC_PAYLOAD_COMPRESSION_THRESHOLD, "1024");
         
         DefaultGrpcClientConfig config = (DefaultGrpcClientConfig) DefaultGrpcClientConfig.newBuilder()
                 .fromProperties(properties, null).build();
@@ -101,6 +106,8 @@ class DefaultGrpcClientConfigTest {
         assertEquals(3, config.healthCheckRetryTimes());
         assertEquals(3000, config.healthCheckTimeOut());
         assertEquals(5000, config.capabilityNegotiationTimeout());
+        assertEquals("", config.payloadCompressor());
+        assertEquals(1024, config.payloadCompressionThreshold());
         assertEquals(1, config.labels().size());
         assertNotNull(config.tlsConfig());
     }
@@ -222,6 +229,15 @@ class DefaultGrpcClientConfigTest {
         assertEquals(capabilityNegotiationTimeout, config.capabilityNegotiationTimeout());
     }
     
+    @Test
+    void testSetPayloadCompression() {
+        DefaultGrpcClientConfig.Builder builder = DefaultGrpcClientConfig.newBuilder();
+        builder.setPayloadCompressor("test").setPayloadCompressionThreshold(-1);
+        DefaultGrpcClientConfig config = (DefaultGrpcClientConfig) builder.build();
+        assertEquals("test", config.payloadCompressor());
+        assertEquals(-1, config.payloadCompressionThreshold());
+    }
+    
     @Test
     void testSetHealthCheckRetryTimes() {
         int healthCheckRetryTimes = 3;
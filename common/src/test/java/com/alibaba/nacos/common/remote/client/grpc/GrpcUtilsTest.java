@@ -19,18 +19,29 @@
 package com.alibaba.nacos.common.remote.client.grpc;
 
 import com.alibaba.nacos.api.config.remote.response.ClientConfigMetricResponse;
+import com.alibaba.nacos.api.exception.runtime.NacosRuntimeException;
 import com.alibaba.nacos.api.grpc.auto.Metadata;
 import com.alibaba.nacos.api.grpc.auto.Payload;
 import com.alibaba.nacos.api.naming.remote.request.ServiceQueryRequest;
 import com.alibaba.nacos.api.remote.request.RequestMeta;
 import com.alibaba.nacos.common.remote.PayloadRegistry;
+import com.alibaba.nacos.common.remote.codec.BinaryPayloadCodec;
+import com.alibaba.nacos.common.remote.codec.GzipPayloadCompressor;
+import com.alibaba.nacos.common.remote.codec.PayloadCodec;
+import com.alibaba.nacos.common.remote.codec.PayloadCodecManager;
+import com.alibaba.nacos.common.remote.codec.PayloadCompressor;
 import com.alibaba.nacos.common.remote.exception.RemoteException;
+import com.google.protobuf.Any;
+import com.google.protobuf.ByteString;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 
+import java.nio.charset.StandardCharsets;
 import java.util.HashMap;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.when;
@@ -114,6 +125,138 @@ class GrpcUtilsTest {
         
     }
     
+    @Test
+    void testConvertWithSharedBody() {
+        request.setRequestId("1");
+        byte[] sharedBody = GrpcUtils.convertRequestToSharedBody(request);
+        assertEquals("1", request.getRequestId());
+        assertFalse(new String(sharedBody, StandardCharsets.UTF_8).contains("requestId"));
+        
+        ServiceQueryRequest another = new ServiceQueryRequest();
+        another.setRequestId("2");
+        another.putHeader("h4", "v4");
+        Payload payload = GrpcUtils.convert(another, ServiceQueryRequest.class.getSimpleName(), sharedBody);
+        ServiceQueryRequest actual = (ServiceQueryRequest) GrpcUtils.parse(payload);
+        assertEquals("2", actual.getRequestId());
+        assertEquals(another.getHeaders(), actual.getHeaders());
+        assertEquals(request.getCluster(), actual.getCluster());
+        assertEquals(request.getNamespace(), actual.getNamespace());
+        assertEquals(request.isHealthyOnly(), actual.isHealthyOnly());
+    }
+    
+    @Test
+    void testConvertAndParseWithBinaryCodec() {
+        PayloadCodec codec = PayloadCodecManager.getCodec(BinaryPayloadCodec.NAME);
+        Payload requestPayload = GrpcUtils.convert(request, codec);
+        assertEquals(BinaryPayloadCodec.NAME, requestPayload.getBody().getTypeUrl());
+        assertSame(codec, GrpcUtils.getPayloadCodec(requestPayload));
+        ServiceQueryRequest actualRequest = (ServiceQueryRequest) GrpcUtils.parse(requestPayload);
+        assertEquals(request.getHeaders(), actualRequest.getHeaders());
+        assertEquals(request.getCluster(), actualRequest.getCluster());
+        assertEquals(request.isHealthyOnly(), actualRequest.isHealthyOnly());
+        
+        Payload responsePayload = GrpcUtils.convert(response, codec);
+        assertEquals(BinaryPayloadCodec.NAME, responsePayload.getBody().getTypeUrl());
+        ClientConfigMetricResponse actualResponse = (ClientConfigMetricResponse) GrpcUtils.parse(responsePayload);
+        assertEquals(response.getMetrics(), actualResponse.getMetrics());
+    }
+    
+    @Test
+    void testConvertWithDefaultCodecKeepTypeUrlEmpty() {
+        Payload payload = GrpcUtils.convert(request);
+        assertEquals("", payload.getBody().getTypeUrl());
+        assertSame(PayloadCodecManager.getDefaultCodec(), GrpcUtils.getPayloadCodec(payload));
+    }
+    
+    @Test
+    void testConvertWithSharedBodyAndBinaryCodec() {
+        PayloadCodec codec = PayloadCodecManager.getCodec(BinaryPayloadCodec.NAME);
+        request.setRequestId("1");
+        final byte[] sharedBody = GrpcUtils.convertRequestToSharedBody(request, codec);
+        assertEquals("1", request.getRequestId());
+        
+        ServiceQueryRequest another = new ServiceQueryRequest();
+        another.setRequestId("2");
+        another.putHeader("h4", "v4");
+        Payload payload = GrpcUtils.convert(another, ServiceQueryRequest.class.getSimpleName(), sharedBody, codec);
+        ServiceQueryRequest actual = (ServiceQueryRequest) GrpcUtils.parse(payload);
+        assertEquals("2", actual.getRequestId());
+        assertEquals(another.getHeaders(), actual.getHeaders());
+        assertEquals(request.getCluster(), actual.getCluster());
+        assertEquals(request.getNamespace(), actual.getNamespace());
+    }
+    
+    @Test
+    void testParseUnknownCodec() {
+        Payload payload = GrpcUtils.convert(request).toBuilder()
+                .setBody(Any.newBuilder().setTypeUrl("unknown").setValue(ByteString.EMPTY)).build();
+        assertThrows(RemoteException.class, () -> GrpcUtils.parse(payload));
+    }
+    
+    @Test
+    void testCompressAndParse() {
+        PayloadCompressor compressor = PayloadCodecManager.getCompressor(GzipPayloadCompressor.NAME);
+        Payload jsonPayload = GrpcUtils.compress(GrpcUtils.convert(request), compressor);
+        assertEquals("json+gzip", jsonPayload.getBody().getTypeUrl());
+        assertSame(PayloadCodecManager.getDefaultCodec(), GrpcUtils.getPayloadCodec(jsonPayload));
+        ServiceQueryRequest actualRequest = (ServiceQueryRequest) GrpcUtils.parse(jsonPayload);
+        assertEquals(request.getHeaders(), actualRequest.getHeaders());
+        assertEquals(request.getCluster(), actualRequest.getCluster());
+        
+        PayloadCodec codec = PayloadCodecManager.getCodec(BinaryPayloadCodec.NAME);
+        Payload binaryPayload = GrpcUtils.compress(GrpcUtils.convert(response, codec), compressor);
+        assertEquals("binary+gzip", binaryPayload.getBody().getTypeUrl());
+        assertSame(codec, GrpcUtils.getPayloadCodec(binaryPayload));
+        ClientConfigMetricResponse actualResponse = (ClientConfigMetricResponse) GrpcUtils.parse(binaryPayload);
+        assertEquals(response.getMetrics(), actualResponse.getMetrics());
+    }
+    
+    @Test
+    void testCompressIfNecessary() {
+        PayloadCompressor compressor = PayloadCodecManager.getCompressor(GzipPayloadCompressor.NAME);
+        Payload payload = GrpcUtils.convert(request);
+        int size = payload.getBody().getValue().size();
+        assertSame(payload, GrpcUtils.compressIfNecessary(payload, null, 0));
+        assertSame(payload, GrpcUtils.compressIfNecessary(payload, compressor, -1));
+        assertSame(payload, GrpcUtils.compressIfNecessary(payload, compressor, size + 1));
+        assertEquals("json+gzip", GrpcUtils.compressIfNecessary(payload, compressor, size).getBody().getTypeUrl());
+    }
+    
+    @Test
+    void testParseUnknownCompressor() {
+        Payload payload = GrpcUtils.convert(request).toBuilder()
+                .setBody(Any.newBuilder().setTypeUrl("json+unknown").setValue(ByteString.EMPTY)).build();
+        assertThrows(RemoteException.class, () -> GrpcUtils.parse(payload));
+    }
+    
+    @Test
+    void testParseWithNegotiatedCompressor() {
+        PayloadCompressor compressor = PayloadCodecManager.getCompressor(GzipPayloadCompressor.NAME);
+        Payload payload = GrpcUtils.compress(GrpcUtils.convert(request), compressor);
+        ServiceQueryRequest actualRequest = (ServiceQueryRequest) GrpcUtils.parse(payload, compressor,
+                GrpcUtils.DEFAULT_MAX_DECOMPRESSED_SIZE);
+        assertEquals(request.getCluster(), actualRequest.getCluster());
+        Payload uncompressed = GrpcUtils.convert(request);
+        assertEquals(request.getCluster(),
+                ((ServiceQueryRequest) GrpcUtils.parse(uncompressed, null, 0)).getCluster());
+    }
+    
+    @Test
+    void testParseWithoutNegotiatedCompressor() {
+        PayloadCompressor compressor = PayloadCodecManager.getCompressor(GzipPayloadCompressor.NAME);
+        Payload payload = GrpcUtils.compress(GrpcUtils.convert(request), compressor);
+        assertThrows(RemoteException.class,
+                () -> GrpcUtils.parse(payload, null, GrpcUtils.DEFAULT_MAX_DECOMPRESSED_SIZE));
+    }
+    
+    @Test
+    void testParseLargerThanMaxDecompressedSize() {
+        PayloadCompressor compressor = PayloadCodecManager.getCompressor(GzipPayloadCompressor.NAME);
+        Payload payload = GrpcUtils.compress(GrpcUtils.convert(request), compressor);
+        int size = GrpcUtils.convert(request).getBody().getValue().size();
+        assertThrows(NacosRuntimeException.class, () -> GrpcUtils.parse(payload, compressor, size - 1));
+    }
+    
     @Test
     void testParseNullType() {
         assertThrows(RemoteException.class, () -> {
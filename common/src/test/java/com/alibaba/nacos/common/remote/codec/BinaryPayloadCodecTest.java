@@ -0,0 +1,225 @@
+/*
+ * Copyright 1999-2025 Alibaba Group Holding Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.alibaba.nacos.common.remote.codec;
+
+import com.alibaba.nacos.api.exception.runtime.NacosDeserializationException;
+import com.alibaba.nacos.api.naming.pojo.Instance;
+import com.alibaba.nacos.api.naming.pojo.ServiceInfo;
+import com.alibaba.nacos.api.naming.remote.request.NotifySubscriberRequest;
+import com.alibaba.nacos.api.remote.response.ServerCheckResponse;
+import org.junit.jupiter.api.Test;
+
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class BinaryPayloadCodecTest {
+    
+    private final BinaryPayloadCodec codec = new BinaryPayloadCodec();
+    
+    private final JsonPayloadCodec jsonCodec = new JsonPayloadCodec();
+    
+    @Test
+    void testEncodeAndDecode() {
+        NotifySubscriberRequest request = NotifySubscriberRequest.buildNotifySubscriberRequest(buildServiceInfo(3));
+        request.setRequestId("1");
+        byte[] body = codec.encode(request);
+        NotifySubscriberRequest actual = codec.decode(ByteBuffer.wrap(body), NotifySubscriberRequest.class);
+        assertEquals("1", actual.getRequestId());
+        ServiceInfo expected = request.getServiceInfo();
+        assertEquals(expected.getKey(), actual.getServiceInfo().getKey());
+        assertEquals(expected.getLastRefTime(), actual.getServiceInfo().getLastRefTime());
+        assertEquals(expected.getHosts().size(), actual.getServiceInfo().getHosts().size());
+        for (int i = 0; i < expected.getHosts().size(); i++) {
+            Instance expectedHost = expected.getHosts().get(i);
+            Instance actualHost = actual.getServiceInfo().getHosts().get(i);
+            assertEquals(expectedHost.getIp(), actualHost.getIp());
+            assertEquals(expectedHost.getPort(), actualHost.getPort());
+            assertEquals(expectedHost.getWeight(), actualHost.getWeight());
+            assertEquals(expectedHost.isHealthy(), actualHost.isHealthy());
+            assertEquals(expectedHost.getMetadata(), actualHost.getMetadata());
+        }
+    }
+    
+    @Test
+    void testEncodeAndDecodeList() {
+        ServerCheckResponse response = new ServerCheckResponse("connectionId", true);
+        response.setPayloadCodecs(Arrays.asList(JsonPayloadCodec.NAME, BinaryPayloadCodec.NAME));
+        ServerCheckResponse actual = codec.decode(ByteBuffer.wrap(codec.encode(response)),
+                ServerCheckResponse.class);
+        assertEquals("connectionId", actual.getConnectionId());
+        assertTrue(actual.isSupportAbilityNegotiation());
+        assertEquals(response.getPayloadCodecs(), actual.getPayloadCodecs());
+        assertEquals(response.getResultCode(), actual.getResultCode());
+    }
+    
+    @Test
+    void testEncodeAndDecodeBinaryAndNumbers() {
+        Sample sample = new Sample();
+        sample.setData(new byte[] {0, 1, 2, -1, 127});
+        sample.setNegative(-123456789012L);
+        sample.setRatio(0.125D);
+        Sample actual = codec.decode(ByteBuffer.wrap(codec.encode(sample)), Sample.class);
+        assertArrayEquals(sample.getData(), actual.getData());
+        assertEquals(sample.getNegative(), actual.getNegative());
+        assertEquals(sample.getRatio(), actual.getRatio());
+        assertNull(actual.getName());
+    }
+    
+    @Test
+    void testEncodedSmallerThanJson() {
+        NotifySubscriberRequest request = NotifySubscriberRequest.buildNotifySubscriberRequest(buildServiceInfo(100));
+        assertTrue(codec.encode(request).length < jsonCodec.encode(request).length);
+    }
+    
+    @Test
+    void testFillRequestId() {
+        NotifySubscriberRequest request = NotifySubscriberRequest.buildNotifySubscriberRequest(buildServiceInfo(2));
+        byte[] body = codec.encode(request);
+        assertSame(body, codec.fillRequestId(body, null));
+        NotifySubscriberRequest actual = codec.decode(ByteBuffer.wrap(codec.fillRequestId(body, "100")),
+                NotifySubscriberRequest.class);
+        assertEquals("100", actual.getRequestId());
+        assertEquals(2, actual.getServiceInfo().getHosts().size());
+    }
+    
+    @Test
+    void testFillRequestIdForIllegalBody() {
+        assertThrows(IllegalArgumentException.class, () -> codec.fillRequestId(new byte[0], "1"));
+    }
+    
+    @Test
+    void testDecodeIllegalBody() {
+        assertThrows(NacosDeserializationException.class,
+                () -> codec.decode(ByteBuffer.wrap(new byte[] {(byte) 0x7f}), Sample.class));
+    }
+    
+    @Test
+    void testDecodeTruncatedBody() {
+        NotifySubscriberRequest request = NotifySubscriberRequest.buildNotifySubscriberRequest(buildServiceInfo(2));
+        byte[] body = codec.encode(request);
+        for (int length = 1; length < body.length; length++) {
+            ByteBuffer truncated = ByteBuffer.wrap(body, 0, length);
+            assertThrows(NacosDeserializationException.class,
+                    () -> codec.decode(truncated, NotifySubscriberRequest.class));
+        }
+    }
+    
+    @Test
+    void testDecodeIllegalBytesLength() {
+        byte[] hugeLength = new byte[] {BinaryPayloadCodec.START_OBJECT, BinaryPayloadCodec.NAME_VALUE, (byte) 0xff,
+                (byte) 0xff, (byte) 0xff, (byte) 0xff, 0x07, 'a', BinaryPayloadCodec.NULL,
+                BinaryPayloadCodec.END_OBJECT};
+        assertThrows(NacosDeserializationException.class,
+                () -> codec.decode(ByteBuffer.wrap(hugeLength), Sample.class));
+        byte[] negativeLength = new byte[] {BinaryPayloadCodec.START_OBJECT, BinaryPayloadCodec.NAME_VALUE, (byte) 0xff,
+                (byte) 0xff, (byte) 0xff, (byte) 0xff, (byte) 0xff, (byte) 0xff, (byte) 0xff, (byte) 0xff, (byte) 0xff,
+                0x01, BinaryPayloadCodec.END_OBJECT};
+        assertThrows(NacosDeserializationException.class,
+                () -> codec.decode(ByteBuffer.wrap(negativeLength), Sample.class));
+    }
+    
+    @Test
+    void testDecodeIllegalSharedReference() {
+        byte[] illegalNameRef = new byte[] {BinaryPayloadCodec.START_OBJECT, BinaryPayloadCodec.SHARED_NAME_REF, 0x00,
+                BinaryPayloadCodec.NULL, BinaryPayloadCodec.END_OBJECT};
+        assertThrows(NacosDeserializationException.class,
+                () -> codec.decode(ByteBuffer.wrap(illegalNameRef), Sample.class));
+        byte[] illegalStringRef = new byte[] {BinaryPayloadCodec.START_OBJECT, BinaryPayloadCodec.SHARED_NAME, 0x04,
+                'n', 'a', 'm', 'e', BinaryPayloadCodec.SHARED_STRING_REF, 0x05, BinaryPayloadCodec.END_OBJECT};
+        assertThrows(NacosDeserializationException.class,
+                () -> codec.decode(ByteBuffer.wrap(illegalStringRef), Sample.class));
+    }
+    
+    @Test
+    void testDecodeUnbalancedBody() {
+        byte[] unbalanced = new byte[] {BinaryPayloadCodec.START_OBJECT, BinaryPayloadCodec.END_OBJECT,
+                BinaryPayloadCodec.END_OBJECT};
+        assertThrows(NacosDeserializationException.class,
+                () -> codec.decode(ByteBuffer.wrap(unbalanced), Sample.class));
+    }
+    
+    private ServiceInfo buildServiceInfo(int hostCount) {
+        ServiceInfo serviceInfo = new ServiceInfo("G@@S");
+        List<Instance> hosts = new ArrayList<>(hostCount);
+        for (int i = 0; i < hostCount; i++) {
+            Instance instance = new Instance();
+            instance.setIp("192.168.0." + i);
+            instance.setPort(8080 + i);
+            instance.setWeight(i + 0.5D);
+            instance.setClusterName("DEFAULT");
+            instance.setServiceName("G@@S");
+            instance.addMetadata("version", "1.0." + i);
+            instance.addMetadata("zone", "zone-a");
+            hosts.add(instance);
+        }
+        serviceInfo.setHosts(hosts);
+        serviceInfo.setLastRefTime(System.currentTimeMillis());
+        return serviceInfo;
+    }
+    
+    static class Sample {
+        
+        private String name;
+        
+        private byte[] data;
+        
+        private long negative;
+        
+        private double ratio;
+        
+        public String getName() {
+            return name;
+        }
+        
+        public void setName(String name) {
+            this.name = name;
+        }
+        
+        public byte[] getData() {
+            return data;
+        }
+        
+        public void setData(byte[] data) {
+            this.data = data;
+        }
+        
+        public long getNegative() {
+            return negative;
+        }
+        
+        public void setNegative(long negative) {
+            this.negative = negative;
+        }
+        
+        public double getRatio() {
+            return ratio;
+        }
+        
+        public void setRatio(double ratio) {
+            this.ratio = ratio;
+        }
+    }
+}
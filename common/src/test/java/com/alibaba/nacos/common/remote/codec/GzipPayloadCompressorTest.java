@@ -0,0 +1,63 @@
+/*
+ * Copyright 1999-2025 Alibaba Group Holding Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.alibaba.nacos.common.remote.codec;
+
+import com.alibaba.nacos.api.exception.runtime.NacosRuntimeException;
+import org.junit.jupiter.api.Test;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class GzipPayloadCompressorTest {
+    
+    private final GzipPayloadCompressor compressor = new GzipPayloadCompressor();
+    
+    @Test
+    void testCompressAndDecompress() {
+        StringBuilder builder = new StringBuilder();
+        for (int i = 0; i < 1000; i++) {
+            builder.append("{\"ip\":\"192.168.0.").append(i % 255).append("\",\"port\":8080}");
+        }
+        byte[] body = builder.toString().getBytes(StandardCharsets.UTF_8);
+        byte[] compressed = compressor.compress(body);
+        assertTrue(compressed.length < body.length);
+        assertArrayEquals(body, compressor.decompress(ByteBuffer.wrap(compressed), body.length));
+    }
+    
+    @Test
+    void testCompressEmpty() {
+        assertArrayEquals(new byte[0], compressor.decompress(ByteBuffer.wrap(compressor.compress(new byte[0])), 0));
+    }
+    
+    @Test
+    void testDecompressIllegalBody() {
+        assertThrows(NacosRuntimeException.class,
+                () -> compressor.decompress(ByteBuffer.wrap(new byte[] {1, 2, 3}), 1024));
+    }
+    
+    @Test
+    void testDecompressLargerThanMaxSize() {
+        byte[] body = new byte[1024 * 1024];
+        byte[] compressed = compressor.compress(body);
+        assertThrows(NacosRuntimeException.class,
+                () -> compressor.decompress(ByteBuffer.wrap(compressed), body.length - 1));
+    }
+}
@@ -0,0 +1,124 @@
+/*
+ * Copyright 1999-2025 Alibaba Group Holding Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.alibaba.nacos.common.remote.codec;
+
+import com.alibaba.nacos.api.config.remote.request.ConfigChangeNotifyRequest;
+import com.alibaba.nacos.api.config.remote.request.ConfigPublishRequest;
+import com.alibaba.nacos.api.naming.pojo.Instance;
+import com.alibaba.nacos.api.naming.pojo.ServiceInfo;
+import com.alibaba.nacos.api.naming.remote.NamingRemoteConstants;
+import com.alibaba.nacos.api.naming.remote.request.InstanceRequest;
+import com.alibaba.nacos.api.naming.remote.request.NotifySubscriberRequest;
+
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Encode and decode benchmark of payload codecs for the common request types.
+ *
+ * <p>It is a plain harness instead of a unit test, run it with {@code main} and compare the average cost and body size
+ * of each codec, for example {@code PayloadCodecBenchmark 20000 200000}.
+ *
+ * @author Nacos
+ */
+public class PayloadCodecBenchmark {
+    
+    private static final PayloadCodec[] CODECS = new PayloadCodec[] {new JsonPayloadCodec(), new BinaryPayloadCodec()};
+    
+    /**
+     * Run the benchmark.
+     *
+     * @param args optional warmup iterations and measure iterations.
+     */
+    public static void main(String[] args) {
+        int warmup = args.length > 0 ? Integer.parseInt(args[0]) : 20000;
+        int iterations = args.length > 1 ? Integer.parseInt(args[1]) : 100000;
+        System.out.printf("%-28s %-8s %10s %14s %14s%n", "request", "codec", "bytes", "encode ns/op", "decode ns/op");
+        for (Map.Entry<String, Object> entry : buildSamples().entrySet()) {
+            for (PayloadCodec codec : CODECS) {
+                run(entry.getKey(), entry.getValue(), codec, warmup);
+                long[] result = run(entry.getKey(), entry.getValue(), codec, iterations);
+                System.out.printf("%-28s %-8s %10d %14d %14d%n", entry.getKey(), codec.getName(), result[0],
+                        result[1] / iterations, result[2] / iterations);
+            }
+        }
+    }
+    
+    private static long[] run(String name, Object sample, PayloadCodec codec, int iterations) {
+        byte[] body = codec.encode(sample);
+        long start = System.nanoTime();
+        for (int i = 0; i < iterations; i++) {
+            body = codec.encode(sample);
+        }
+        final long encodeCost = System.nanoTime() - start;
+        Object decoded = null;
+        start = System.nanoTime();
+        for (int i = 0; i < iterations; i++) {
+            decoded = codec.decode(ByteBuffer.wrap(body), sample.getClass());
+        }
+        long decodeCost = System.nanoTime() - start;
+        if (null == decoded) {
+            throw new IllegalStateException("Decode " + name + " failed.");
+        }
+        return new long[] {body.length, encodeCost, decodeCost};
+    }
+    
+    private static Map<String, Object> buildSamples() {
+        Map<String, Object> result = new LinkedHashMap<>();
+        result.put("NotifySubscriberRequest-10",
+                NotifySubscriberRequest.buildNotifySubscriberRequest(buildServiceInfo(10)));
+        result.put("NotifySubscriberRequest-200",
+                NotifySubscriberRequest.buildNotifySubscriberRequest(buildServiceInfo(200)));
+        result.put("InstanceRequest", new InstanceRequest("public", "service", "DEFAULT_GROUP",
+                NamingRemoteConstants.REGISTER_INSTANCE, buildInstance(1)));
+        result.put("ConfigChangeNotifyRequest", ConfigChangeNotifyRequest.build("dataId", "DEFAULT_GROUP", "public"));
+        StringBuilder content = new StringBuilder();
+        for (int i = 0; i < 100; i++) {
+            content.append("key").append(i).append('=').append("value").append(i).append('\n');
+        }
+        result.put("ConfigPublishRequest",
+                new ConfigPublishRequest("dataId", "DEFAULT_GROUP", "public", content.toString()));
+        return result;
+    }
+    
+    private static ServiceInfo buildServiceInfo(int hostCount) {
+        ServiceInfo serviceInfo = new ServiceInfo("DEFAULT_GROUP@@service");
+        List<Instance> hosts = new ArrayList<>(hostCount);
+        for (int i = 0; i < hostCount; i++) {
+            hosts.add(buildInstance(i));
+        }
+        serviceInfo.setHosts(hosts);
+        serviceInfo.setLastRefTime(System.currentTimeMillis());
+        return serviceInfo;
+    }
+    
+    private static Instance buildInstance(int index) {
+        Instance instance = new Instance();
+        instance.setInstanceId("10.0." + index / 256 + "." + index % 256 + "#8080#DEFAULT#DEFAULT_GROUP@@service");
+        instance.setIp("10.0." + index / 256 + "." + index % 256);
+        instance.setPort(8080);
+        instance.setWeight(1.0D);
+        instance.setClusterName("DEFAULT");
+        instance.setServiceName("DEFAULT_GROUP@@service");
+        instance.addMetadata("version", "1.0." + index % 3);
+        instance.addMetadata("zone", "zone-" + index % 2);
+        return instance;
+    }
+}
@@ -0,0 +1,75 @@
+/*
+ * Copyright 1999-2025 Alibaba Group Holding Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.alibaba.nacos.common.remote.codec;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.Collections;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class PayloadCodecManagerTest {
+    
+    @Test
+    void testGetCodec() {
+        assertSame(PayloadCodecManager.getDefaultCodec(), PayloadCodecManager.getCodec(null));
+        assertSame(PayloadCodecManager.getDefaultCodec(), PayloadCodecManager.getCodec(""));
+        assertEquals(JsonPayloadCodec.NAME, PayloadCodecManager.getCodec(JsonPayloadCodec.NAME).getName());
+        assertEquals(BinaryPayloadCodec.NAME, PayloadCodecManager.getCodec(BinaryPayloadCodec.NAME).getName());
+        assertNull(PayloadCodecManager.getCodec("unknown"));
+    }
+    
+    @Test
+    void testGetSupportedCodecs() {
+        assertEquals(JsonPayloadCodec.NAME, PayloadCodecManager.getSupportedCodecs().get(0));
+        assertTrue(PayloadCodecManager.getSupportedCodecs().contains(BinaryPayloadCodec.NAME));
+    }
+    
+    @Test
+    void testNegotiate() {
+        PayloadCodec defaultCodec = PayloadCodecManager.getDefaultCodec();
+        assertEquals(BinaryPayloadCodec.NAME, PayloadCodecManager.negotiate(BinaryPayloadCodec.NAME,
+                Arrays.asList(JsonPayloadCodec.NAME, BinaryPayloadCodec.NAME)).getName());
+        assertSame(defaultCodec, PayloadCodecManager.negotiate(BinaryPayloadCodec.NAME, null));
+        assertSame(defaultCodec, PayloadCodecManager.negotiate(BinaryPayloadCodec.NAME,
+                Collections.singletonList(JsonPayloadCodec.NAME)));
+        assertSame(defaultCodec, PayloadCodecManager.negotiate("unknown", Collections.singletonList("unknown")));
+        assertSame(defaultCodec, PayloadCodecManager.negotiate(null, PayloadCodecManager.getSupportedCodecs()));
+    }
+    
+    @Test
+    void testGetCompressor() {
+        PayloadCompressor compressor = PayloadCodecManager.getCompressor(GzipPayloadCompressor.NAME);
+        assertEquals(GzipPayloadCompressor.NAME, compressor.getName());
+        assertNull(PayloadCodecManager.getCompressor(null));
+        assertNull(PayloadCodecManager.getCompressor("unknown"));
+        assertTrue(PayloadCodecManager.getSupportedCompressors().contains(GzipPayloadCompressor.NAME));
+    }
+    
+    @Test
+    void testNegotiateCompressor() {
+        assertEquals(GzipPayloadCompressor.NAME, PayloadCodecManager.negotiateCompressor(GzipPayloadCompressor.NAME,
+                Collections.singletonList(GzipPayloadCompressor.NAME)).getName());
+        assertNull(PayloadCodecManager.negotiateCompressor(GzipPayloadCompressor.NAME, null));
+        assertNull(PayloadCodecManager.negotiateCompressor(GzipPayloadCompressor.NAME, Collections.emptyList()));
+        assertNull(PayloadCodecManager.negotiateCompressor("", PayloadCodecManager.getSupportedCompressors()));
+    }
+}
@@ -0,0 +1,162 @@
+/*
+ * Copyright 1999-2025 Alibaba Group Holding Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.alibaba.nacos.common.task.engine;
+
+import com.alibaba.nacos.common.task.AbstractDelayTask;
+import com.alibaba.nacos.common.task.NacosTaskProcessor;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.internal.verification.Times;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class NacosTimingWheelDelayTaskExecuteEngineTest {
+    
+    private NacosTimingWheelDelayTaskExecuteEngine executeEngine;
+    
+    @Mock
+    private NacosTaskProcessor taskProcessor;
+    
+    private AbstractDelayTask abstractTask;
+    
+    @BeforeEach
+    void setUp() throws Exception {
+        executeEngine = new NacosTimingWheelDelayTaskExecuteEngine(
+                NacosTimingWheelDelayTaskExecuteEngineTest.class.getName(), 32, null, 50L, 8);
+        executeEngine.setDefaultTaskProcessor(taskProcessor);
+        abstractTask = new AbstractDelayTask() {
+            @Override
+            public void merge(AbstractDelayTask task) {
+            }
+        };
+    }
+    
+    @AfterEach
+    void tearDown() throws Exception {
+        executeEngine.shutdown();
+    }
+    
+    @Test
+    void testSize() {
+        assertEquals(0, executeEngine.size());
+        executeEngine.addTask("test", abstractTask);
+        assertEquals(1, executeEngine.size());
+        assertEquals(1, executeEngine.scheduledSize());
+        executeEngine.removeTask("test");
+        assertTrue(executeEngine.isEmpty());
+        assertEquals(0, executeEngine.scheduledSize());
+    }
+    
+    @Test
+    void testProcessTask() throws InterruptedException {
+        when(taskProcessor.process(abstractTask)).thenReturn(true);
+        executeEngine.addTask("test", abstractTask);
+        TimeUnit.MILLISECONDS.sleep(200);
+        verify(taskProcessor).process(abstractTask);
+        assertTrue(executeEngine.isEmpty());
+        assertEquals(0, executeEngine.scheduledSize());
+    }
+    
+    @Test
+    void testRetryTaskAfterFail() throws InterruptedException {
+        when(taskProcessor.process(abstractTask)).thenReturn(false, true);
+        executeEngine.addTask("test", abstractTask);
+        TimeUnit.MILLISECONDS.sleep(300);
+        verify(taskProcessor, new Times(2)).process(abstractTask);
+    }
+    
+    @Test
+    void testProcessorWithException() throws InterruptedException {
+        when(taskProcessor.process(abstractTask)).thenThrow(new RuntimeException("test"));
+        executeEngine.addTask("test", abstractTask);
+        TimeUnit.MILLISECONDS.sleep(200);
+        assertEquals(1, executeEngine.size());
+        assertEquals(1, executeEngine.scheduledSize());
+    }
+    
+    @Test
+    void testTaskChangedAfterAdded() throws InterruptedException {
+        executeEngine.addTask("test", abstractTask);
+        abstractTask.setTaskInterval(10000L);
+        abstractTask.setLastProcessTime(System.currentTimeMillis());
+        TimeUnit.MILLISECONDS.sleep(200);
+        verify(taskProcessor, never()).process(any());
+        assertNull(executeEngine.removeTask("test"));
+        assertFalse(executeEngine.isEmpty());
+        assertEquals(1, executeEngine.scheduledSize());
+    }
+    
+    @Test
+    void testMergeKeepsEarlierSchedule() throws InterruptedException {
+        when(taskProcessor.process(any())).thenReturn(true);
+        AbstractDelayTask laterTask = new AbstractDelayTask() {
+            @Override
+            public void merge(AbstractDelayTask task) {
+                setLastProcessTime(Math.min(getLastProcessTime(), task.getLastProcessTime()));
+            }
+        };
+        laterTask.setTaskInterval(0L);
+        laterTask.setLastProcessTime(System.currentTimeMillis() + 10000L);
+        executeEngine.addTask("test", abstractTask);
+        executeEngine.addTask("test", laterTask);
+        assertEquals(1, executeEngine.size());
+        assertEquals(1, executeEngine.scheduledSize());
+        TimeUnit.MILLISECONDS.sleep(200);
+        verify(taskProcessor).process(laterTask);
+    }
+    
+    @Test
+    void testOnlyDueTasksTouched() throws InterruptedException {
+        AtomicInteger checkCount = new AtomicInteger();
+        long now = System.currentTimeMillis();
+        for (int i = 0; i < 1000; i++) {
+            AbstractDelayTask task = new AbstractDelayTask() {
+                @Override
+                public void merge(AbstractDelayTask task) {
+                }
+                
+                @Override
+                public boolean shouldProcess() {
+                    checkCount.incrementAndGet();
+                    return super.shouldProcess();
+                }
+            };
+            task.setTaskInterval(10000L);
+            task.setLastProcessTime(now);
+            executeEngine.addTask("test" + i, task);
+        }
+        TimeUnit.MILLISECONDS.sleep(200);
+        assertEquals(0, checkCount.get());
+        assertEquals(1000, executeEngine.size());
+        assertEquals(1000, executeEngine.scheduledSize());
+    }
+}
@@ -0,0 +1,100 @@
+/*
+ * Copyright 1999-2025 Alibaba Group Holding Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.alibaba.nacos.common.utils;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * LineDiffUtils Test.
+ *
+ * @author Nacos
+ */
+class LineDiffUtilsTest {
+    
+    @Test
+    void testDiffAndPatch() {
+        String source = "a: 1\nb: 2\nc: 3\nd: 4\n";
+        String target = "a: 1\nb: 20\nc: 3\nd: 4\ne: 5";
+        String patch = LineDiffUtils.diff(source, target, 100);
+        assertEquals("=1\n-1\n+6\nb: 20\n=2\n+4\ne: 5", patch);
+        assertEquals(target, LineDiffUtils.patch(source, patch));
+    }
+    
+    @Test
+    void testDiffEmpty() {
+        assertEquals("", LineDiffUtils.diff("", "", 100));
+        assertEquals("a\n", LineDiffUtils.patch("", LineDiffUtils.diff("", "a\n", 100)));
+        assertEquals("", LineDiffUtils.patch("a\n", LineDiffUtils.diff("a\n", "", 100)));
+    }
+    
+    @Test
+    void testDiffRandomContent() {
+        Random random = new Random(0);
+        for (int i = 0; i < 500; i++) {
+            String source = randomContent(random);
+            String target = randomContent(random);
+            String patch = LineDiffUtils.diff(source, target, 1000);
+            assertEquals(target, LineDiffUtils.patch(source, patch));
+        }
+    }
+    
+    @Test
+    void testDiffLargeContentWithFewChanges() {
+        StringBuilder builder = new StringBuilder();
+        for (int i = 0; i < 10000; i++) {
+            builder.append("key").append(i).append(": value\n");
+        }
+        String source = builder.toString();
+        String target = source.replace("key10: value", "key10: changed").replace("key9000: value", "key9000: new");
+        String patch = LineDiffUtils.diff(source, target, 100);
+        assertTrue(patch.length() < 100);
+        assertEquals(target, LineDiffUtils.patch(source, patch));
+    }
+    
+    @Test
+    void testDiffTooManyEdits() {
+        assertNull(LineDiffUtils.diff("a\nb\nc\n", "d\ne\nf\n", 2));
+    }
+    
+    @Test
+    void testPatchNotMatchSource() {
+        String patch = LineDiffUtils.diff("a\nb\n", "a\nc\n", 100);
+        assertThrows(IllegalArgumentException.class, () -> LineDiffUtils.patch("a\n", patch));
+        assertThrows(IllegalArgumentException.class, () -> LineDiffUtils.patch("a\nb\nc\n", patch));
+        assertThrows(IllegalArgumentException.class, () -> LineDiffUtils.patch("a\nb\n", "?1\n"));
+        assertThrows(IllegalArgumentException.class, () -> LineDiffUtils.patch("a\nb\n", "=1"));
+    }
+    
+    private String randomContent(Random random) {
+        StringBuilder builder = new StringBuilder();
+        int lines = random.nextInt(20);
+        for (int i = 0; i < lines; i++) {
+            builder.append("line").append(random.nextInt(5));
+            if (random.nextInt(4) != 0) {
+                builder.append('\n');
+            }
+        }
+        return builder.toString();
+    }
+}
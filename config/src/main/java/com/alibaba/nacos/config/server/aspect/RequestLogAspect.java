@@ -58,7 +58,8 @@ public class RequestLogAspect {
     
     private static final String CONFIG_CHANGE_LISTEN_RPC =
             "execution(* com.alibaba.nacos.core.remote.RequestHandler.handleRequest(..)) "
-                    + " && target(com.alibaba.nacos.config.server.remote.ConfigChangeBatchListenRequestHandler) && args(request,meta)";
+                    + " && target(com.alibaba.nacos.config.server.remote.ConfigChangeBatchListenRequestHandler)"
+                    + " && args(request,meta,..)";
     
     /**
      * Intercepts configuration publishing operations, records metrics, and logs client requests.
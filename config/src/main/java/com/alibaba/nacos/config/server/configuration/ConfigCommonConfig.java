@@ -35,6 +35,26 @@ public class ConfigCommonConfig extends AbstractDynamicConfig {
     
     private boolean derbyOpsEnabled = false;
     
+    private long pushBatchWindowMs = 50L;
+    
+    private int pushBatchMaxSize = 500;
+    
+    private boolean contentCacheEnabled = true;
+    
+    private long contentCacheMaxBytes = 64L * 1024 * 1024;
+    
+    private int contentCacheMaxEntryBytes = 4 * 1024 * 1024;
+    
+    private boolean deltaEnabled = true;
+    
+    private int deltaMinSize = 64 * 1024;
+    
+    private long deltaHistoryMaxBytes = 64L * 1024 * 1024;
+    
+    private boolean compressEnabled = true;
+    
+    private int compressThreshold = 32 * 1024;
+    
     private ConfigCommonConfig() {
         super(CONFIG_COMMON);
         resetConfig();
@@ -60,10 +80,103 @@ public class ConfigCommonConfig extends AbstractDynamicConfig {
         this.derbyOpsEnabled = derbyOpsEnabled;
     }
     
+    public long getPushBatchWindowMs() {
+        return pushBatchWindowMs;
+    }
+    
+    public void setPushBatchWindowMs(long pushBatchWindowMs) {
+        this.pushBatchWindowMs = pushBatchWindowMs;
+    }
+    
+    public int getPushBatchMaxSize() {
+        return pushBatchMaxSize;
+    }
+    
+    public void setPushBatchMaxSize(int pushBatchMaxSize) {
+        this.pushBatchMaxSize = pushBatchMaxSize;
+    }
+    
+    public boolean isContentCacheEnabled() {
+        return contentCacheEnabled;
+    }
+    
+    public void setContentCacheEnabled(boolean contentCacheEnabled) {
+        this.contentCacheEnabled = contentCacheEnabled;
+    }
+    
+    public long getContentCacheMaxBytes() {
+        return contentCacheMaxBytes;
+    }
+    
+    public void setContentCacheMaxBytes(long contentCacheMaxBytes) {
+        this.contentCacheMaxBytes = contentCacheMaxBytes;
+    }
+    
+    public int getContentCacheMaxEntryBytes() {
+        return contentCacheMaxEntryBytes;
+    }
+    
+    public void setContentCacheMaxEntryBytes(int contentCacheMaxEntryBytes) {
+        this.contentCacheMaxEntryBytes = contentCacheMaxEntryBytes;
+    }
+    
+    public boolean isDeltaEnabled() {
+        return deltaEnabled;
+    }
+    
+    public void setDeltaEnabled(boolean deltaEnabled) {
+        this.deltaEnabled = deltaEnabled;
+    }
+    
+    public int getDeltaMinSize() {
+        return deltaMinSize;
+    }
+    
+    public void setDeltaMinSize(int deltaMinSize) {
+        this.deltaMinSize = deltaMinSize;
+    }
+    
+    public long getDeltaHistoryMaxBytes() {
+        return deltaHistoryMaxBytes;
+    }
+    
+    public void setDeltaHistoryMaxBytes(long deltaHistoryMaxBytes) {
+        this.deltaHistoryMaxBytes = deltaHistoryMaxBytes;
+    }
+    
+    public boolean isCompressEnabled() {
+        return compressEnabled;
+    }
+    
+    public void setCompressEnabled(boolean compressEnabled) {
+        this.compressEnabled = compressEnabled;
+    }
+    
+    public int getCompressThreshold() {
+        return compressThreshold;
+    }
+    
+    public void setCompressThreshold(int compressThreshold) {
+        this.compressThreshold = compressThreshold;
+    }
+    
     @Override
     protected void getConfigFromEnv() {
         maxPushRetryTimes = EnvUtil.getProperty("nacos.config.push.maxRetryTime", Integer.class, 50);
         derbyOpsEnabled = EnvUtil.getProperty("nacos.config.derby.ops.enabled", Boolean.class, false);
+        pushBatchWindowMs = EnvUtil.getProperty("nacos.config.push.batch.window", Long.class, 50L);
+        pushBatchMaxSize = EnvUtil.getProperty("nacos.config.push.batch.maxSize", Integer.class, 500);
+        contentCacheEnabled = EnvUtil.getProperty("nacos.config.cache.content.enabled", Boolean.class, true);
+        contentCacheMaxBytes = EnvUtil.getProperty("nacos.config.cache.content.maxBytes", Long.class,
+                64L * 1024 * 1024);
+        contentCacheMaxEntryBytes = EnvUtil.getProperty("nacos.config.cache.content.maxEntryBytes", Integer.class,
+                4 * 1024 * 1024);
+        deltaEnabled = EnvUtil.getProperty("nacos.config.delta.enabled", Boolean.class, true);
+        deltaMinSize = EnvUtil.getProperty("nacos.config.delta.minSize", Integer.class, 64 * 1024);
+        deltaHistoryMaxBytes = EnvUtil.getProperty("nacos.config.delta.history.maxBytes", Long.class,
+                64L * 1024 * 1024);
+        compressEnabled = EnvUtil.getProperty("nacos.config.compress.enabled", Boolean.class, true);
+        compressThreshold = EnvUtil.getProperty("nacos.config.compress.threshold", Integer.class, 32 * 1024);
     }
     
     @Override
@@ -74,6 +187,10 @@ public class ConfigCommonConfig extends AbstractDynamicConfig {
     @Override
     public String toString() {
         return "ConfigCommonConfig{" + "maxPushRetryTimes=" + maxPushRetryTimes + ", derbyOpsEnabled=" + derbyOpsEnabled
-                + '}';
+                + ", pushBatchWindowMs=" + pushBatchWindowMs + ", pushBatchMaxSize=" + pushBatchMaxSize
+                + ", contentCacheEnabled=" + contentCacheEnabled + ", contentCacheMaxBytes=" + contentCacheMaxBytes
+                + ", contentCacheMaxEntryBytes=" + contentCacheMaxEntryBytes + ", deltaEnabled=" + deltaEnabled
+                + ", deltaMinSize=" + deltaMinSize + ", deltaHistoryMaxBytes=" + deltaHistoryMaxBytes
+                + ", compressEnabled=" + compressEnabled + ", compressThreshold=" + compressThreshold + '}';
     }
 }
@@ -67,4 +67,12 @@ public class PropertiesConstant {
     
     public static final String GRAY_CAPATIBEL_MODEL = "nacos.config.gray.compatible.model";
     
+    public static final String CACHE_SNAPSHOT_ENABLED = "nacos.config.cache.snapshot.enabled";
+    
+    public static final String CACHE_SNAPSHOT_INTERVAL = "nacos.config.cache.snapshot.interval";
+    
+    public static final String CACHE_SNAPSHOT_MAX_AGE = "nacos.config.cache.snapshot.maxAge";
+    
+    public static final String ALL_DUMP_PARALLELISM = "nacos.config.dump.all.parallelism";
+    
 }
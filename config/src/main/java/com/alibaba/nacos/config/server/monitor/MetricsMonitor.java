@@ -27,6 +27,7 @@ import java.util.ArrayList;
 import java.util.List;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
 
 /**
  * Metrics Monitor.
@@ -75,6 +76,16 @@ public class MetricsMonitor {
      */
     private static StringTopNCounter configChangeCount = new StringTopNCounter();
     
+    /**
+     * approximate bytes of config content cached in memory.
+     */
+    private static AtomicLong configContentCacheBytes = new AtomicLong();
+    
+    /**
+     * dump all type + "." + progress name -> progress value.
+     */
+    private static ConcurrentHashMap<String, AtomicLong> dumpAllProgress = new ConcurrentHashMap<>();
+    
     static {
         ImmutableTag immutableTag = new ImmutableTag("module", "config");
         
@@ -118,6 +129,11 @@ public class MetricsMonitor {
         tags.add(new ImmutableTag("name", "fuzzySearch"));
         NacosMeterRegistryCenter.gauge(METER_REGISTRY, "nacos_monitor", tags, fuzzySearch);
         
+        tags = new ArrayList<>();
+        tags.add(immutableTag);
+        tags.add(new ImmutableTag("name", "contentCacheBytes"));
+        NacosMeterRegistryCenter.gauge(METER_REGISTRY, "nacos_monitor", tags, configContentCacheBytes);
+        
         configSubscriber.put("v1", new AtomicInteger(0));
         configSubscriber.put("v2", new AtomicInteger(0));
         
@@ -170,6 +186,71 @@ public class MetricsMonitor {
         return configChangeCount;
     }
     
+    public static AtomicLong getConfigContentCacheBytes() {
+        return configContentCacheBytes;
+    }
+    
+    /**
+     * Get the gauge of dump all progress, such as the processed rows, rows per second and the remaining.
+     *
+     * @param type dump all type, config or gray
+     * @param name progress name
+     * @return gauge value
+     */
+    public static AtomicLong getDumpAllProgressMonitor(String type, String name) {
+        return dumpAllProgress.computeIfAbsent(type + "." + name, key -> {
+            List<Tag> tags = new ArrayList<>();
+            tags.add(new ImmutableTag("module", "config"));
+            tags.add(new ImmutableTag("type", type));
+            tags.add(new ImmutableTag("name", name));
+            AtomicLong progress = new AtomicLong();
+            NacosMeterRegistryCenter.gauge(METER_REGISTRY, "nacos_config_dump_all", tags, progress);
+            return progress;
+        });
+    }
+    
+    public static Counter getConfigContentCacheHitCounter() {
+        return NacosMeterRegistryCenter
+                .counter(METER_REGISTRY, "nacos_config_content_cache", "module", "config", "name", "hit");
+    }
+    
+    public static Counter getConfigContentCacheMissCounter() {
+        return NacosMeterRegistryCenter
+                .counter(METER_REGISTRY, "nacos_config_content_cache", "module", "config", "name", "miss");
+    }
+    
+    public static Counter getConfigContentCacheEvictionCounter() {
+        return NacosMeterRegistryCenter
+                .counter(METER_REGISTRY, "nacos_config_content_cache", "module", "config", "name", "eviction");
+    }
+    
+    public static Counter getConfigDeltaHitCounter() {
+        return NacosMeterRegistryCenter
+                .counter(METER_REGISTRY, "nacos_config_delta", "module", "config", "name", "hit");
+    }
+    
+    public static Counter getConfigDeltaMissCounter() {
+        return NacosMeterRegistryCenter
+                .counter(METER_REGISTRY, "nacos_config_delta", "module", "config", "name", "miss");
+    }
+    
+    public static Counter getConfigDeltaSavedBytesCounter() {
+        return NacosMeterRegistryCenter
+                .counter(METER_REGISTRY, "nacos_config_delta", "module", "config", "name", "savedBytes");
+    }
+    
+    /**
+     * Get the counter of bytes saved by compressing config content.
+     *
+     * @param type where the content is compressed, disk or grpc
+     * @return counter
+     */
+    public static Counter getConfigCompressSavedBytesCounter(String type) {
+        return NacosMeterRegistryCenter
+                .counter(METER_REGISTRY, "nacos_config_compress", "module", "config", "name", "savedBytes", "type",
+                        type);
+    }
+    
     public static Timer getReadConfigRtTimer() {
         return NacosMeterRegistryCenter
                 .timer(METER_REGISTRY, "nacos_timer", "module", "config", "name", "readConfigRt");
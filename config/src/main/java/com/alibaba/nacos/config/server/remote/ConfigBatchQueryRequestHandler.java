@@ -0,0 +1,84 @@
+/*
+ * Copyright 1999-2025 Alibaba Group Holding Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.alibaba.nacos.config.server.remote;
+
+import com.alibaba.nacos.api.config.remote.request.ConfigBatchQueryRequest;
+import com.alibaba.nacos.api.config.remote.request.ConfigQueryRequest;
+import com.alibaba.nacos.api.config.remote.response.ConfigBatchQueryResponse;
+import com.alibaba.nacos.api.exception.NacosException;
+import com.alibaba.nacos.api.remote.request.RequestMeta;
+import com.alibaba.nacos.auth.annotation.Secured;
+import com.alibaba.nacos.common.utils.NamespaceUtil;
+import com.alibaba.nacos.common.utils.StringUtils;
+import com.alibaba.nacos.core.control.TpsControl;
+import com.alibaba.nacos.core.paramcheck.ExtractorManager;
+import com.alibaba.nacos.core.paramcheck.impl.ConfigBatchQueryRequestParamExtractor;
+import com.alibaba.nacos.core.remote.RequestHandler;
+import com.alibaba.nacos.plugin.auth.constant.ActionTypes;
+import com.alibaba.nacos.plugin.auth.constant.SignType;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+
+/**
+ * Query a batch of configs in one request, each config is resolved the same way as {@link ConfigQueryRequestHandler}.
+ *
+ * <p>The permission is checked on the namespace of the batch, so all configs of one batch should be in the same
+ * namespace.
+ *
+ * @author Nacos
+ */
+@Component
+public class ConfigBatchQueryRequestHandler extends RequestHandler<ConfigBatchQueryRequest, ConfigBatchQueryResponse> {
+    
+    static final int MAX_BATCH_QUERY_SIZE = 500;
+    
+    private final ConfigQueryRequestHandler configQueryRequestHandler;
+    
+    public ConfigBatchQueryRequestHandler(ConfigQueryRequestHandler configQueryRequestHandler) {
+        this.configQueryRequestHandler = configQueryRequestHandler;
+    }
+    
+    @Override
+    @TpsControl(pointName = "ConfigQuery")
+    @Secured(action = ActionTypes.READ, signType = SignType.CONFIG)
+    @ExtractorManager.Extractor(rpcExtractor = ConfigBatchQueryRequestParamExtractor.class)
+    public ConfigBatchQueryResponse handle(ConfigBatchQueryRequest request, RequestMeta meta) throws NacosException {
+        List<ConfigBatchQueryRequest.ConfigQueryContext> configQueryContexts = request.getConfigQueryContexts();
+        if (configQueryContexts.size() > MAX_BATCH_QUERY_SIZE) {
+            return ConfigBatchQueryResponse.buildFailResponse(NacosException.INVALID_PARAM,
+                    "too many configs in one batch query, max size is " + MAX_BATCH_QUERY_SIZE);
+        }
+        ConfigBatchQueryResponse response = new ConfigBatchQueryResponse();
+        String namespace = null;
+        for (ConfigBatchQueryRequest.ConfigQueryContext configQueryContext : configQueryContexts) {
+            String tenant = NamespaceUtil.processNamespaceParameter(configQueryContext.getTenant());
+            if (namespace == null) {
+                namespace = tenant;
+            } else if (!StringUtils.equals(namespace, tenant)) {
+                return ConfigBatchQueryResponse.buildFailResponse(NacosException.INVALID_PARAM,
+                        "all configs in one batch query should be in the same namespace");
+            }
+            ConfigQueryRequest queryRequest = ConfigQueryRequest.build(configQueryContext.getDataId(),
+                    configQueryContext.getGroup(), tenant);
+            queryRequest.setTag(configQueryContext.getTag());
+            queryRequest.putAllHeader(request.getHeaders());
+            response.addConfigQueryResponse(configQueryRequestHandler.handle(queryRequest, meta));
+        }
+        return response;
+    }
+}
@@ -16,6 +16,8 @@
 
 package com.alibaba.nacos.config.server.remote;
 
+import com.alibaba.nacos.api.ability.constant.AbilityKey;
+import com.alibaba.nacos.api.ability.constant.AbilityStatus;
 import com.alibaba.nacos.api.config.remote.request.ConfigQueryRequest;
 import com.alibaba.nacos.api.config.remote.response.ConfigQueryResponse;
 import com.alibaba.nacos.api.exception.NacosException;
@@ -26,6 +28,8 @@ import com.alibaba.nacos.common.utils.NamespaceUtil;
 import com.alibaba.nacos.config.server.model.ConfigCacheGray;
 import com.alibaba.nacos.config.server.model.gray.BetaGrayRule;
 import com.alibaba.nacos.config.server.model.gray.TagGrayRule;
+import com.alibaba.nacos.config.server.service.dump.disk.ConfigContentCompressor;
+import com.alibaba.nacos.config.server.service.dump.disk.ConfigDeltaCache;
 import com.alibaba.nacos.config.server.service.query.ConfigChainRequestExtractorService;
 import com.alibaba.nacos.config.server.service.query.ConfigQueryChainService;
 import com.alibaba.nacos.config.server.service.query.model.ConfigQueryChainRequest;
@@ -125,6 +129,10 @@ public class ConfigQueryRequestHandler extends RequestHandler<ConfigQueryRequest
                 response.setErrorInfo(ConfigQueryResponse.CONFIG_NOT_FOUND, "config data not exist");
             } else {
                 response.setResultCode(ResponseCode.SUCCESS.getCode());
+                if (chainResponse.getStatus() == ConfigQueryChainResponse.ConfigQueryStatus.CONFIG_FOUND_FORMAL) {
+                    applyDelta(request, response, groupKey);
+                }
+                compressContent(meta, response);
             }
             
             String pullEvent = resolvePullEventType(chainResponse, request.getTag());
@@ -142,6 +150,38 @@ public class ConfigQueryRequestHandler extends RequestHandler<ConfigQueryRequest
         
     }
     
+    /**
+     * Replace the content with a delta against the content held by client if possible.
+     */
+    private void applyDelta(ConfigQueryRequest request, ConfigQueryResponse response, String groupKey) {
+        if (request.getDeltaBaseMd5() == null) {
+            return;
+        }
+        String delta = ConfigDeltaCache.getDelta(groupKey, request.getDeltaBaseMd5(), response.getMd5(),
+                response.getContent());
+        if (delta != null) {
+            response.setDelta(delta);
+            response.setContent(null);
+        }
+    }
+    
+    /**
+     * Replace the content with the compressed content for clients supporting it.
+     */
+    private void compressContent(RequestMeta meta, ConfigQueryResponse response) {
+        if (response.getContent() == null
+                || meta.getConnectionAbility(AbilityKey.SDK_CLIENT_SUPPORT_CONFIG_COMPRESSION)
+                != AbilityStatus.SUPPORTED) {
+            return;
+        }
+        byte[] compressedContent = ConfigContentCompressor.compressForTransfer(response.getMd5(),
+                response.getContent());
+        if (compressedContent != null) {
+            response.setCompressedContent(compressedContent);
+            response.setContent(null);
+        }
+    }
+    
     private ConfigQueryResponse handlerConfigConflict(String clientIp, String groupKey) {
         ConfigQueryResponse response = new ConfigQueryResponse();
         
@@ -16,8 +16,12 @@
 
 package com.alibaba.nacos.config.server.remote;
 
+import com.alibaba.nacos.api.ability.constant.AbilityKey;
+import com.alibaba.nacos.api.ability.constant.AbilityStatus;
+import com.alibaba.nacos.api.config.remote.request.ConfigChangeBatchNotifyRequest;
 import com.alibaba.nacos.api.config.remote.request.ConfigChangeNotifyRequest;
 import com.alibaba.nacos.api.remote.AbstractPushCallBack;
+import com.alibaba.nacos.api.remote.request.ServerRequest;
 import com.alibaba.nacos.common.notify.Event;
 import com.alibaba.nacos.common.notify.NotifyCenter;
 import com.alibaba.nacos.common.notify.listener.Subscriber;
@@ -38,7 +42,9 @@ import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Component;
 
 import javax.annotation.PostConstruct;
+import java.util.LinkedHashSet;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.TimeUnit;
 
 /**
@@ -79,6 +85,11 @@ public class RpcConfigChangeNotifier extends Subscriber<LocalDataChangeEvent> {
     @Autowired
     private ConnectionManager connectionManager;
     
+    /**
+     * connectionId -> changed group keys waiting to be pushed in one batch.
+     */
+    private final ConcurrentHashMap<String, Set<String>> pendingBatchNotify = new ConcurrentHashMap<>();
+    
     /**
      * adaptor to config module ,when server side config change ,invoke this method.
      *
@@ -97,6 +108,12 @@ public class RpcConfigChangeNotifier extends Subscriber<LocalDataChangeEvent> {
                 continue;
             }
             
+            if (isBatchNotifySupported(connection)) {
+                addBatchNotify(client, groupKey);
+                notifyClientCount++;
+                continue;
+            }
+            
             ConnectionMeta metaInfo = connection.getMetaInfo();
             String clientIp = metaInfo.getClientIp();
             
@@ -110,6 +127,74 @@ public class RpcConfigChangeNotifier extends Subscriber<LocalDataChangeEvent> {
         Loggers.REMOTE_PUSH.info("push [{}] clients, groupKey=[{}]", notifyClientCount, groupKey);
     }
     
+    private boolean isBatchNotifySupported(Connection connection) {
+        return ConfigCommonConfig.getInstance().getPushBatchWindowMs() > 0
+                && AbilityStatus.SUPPORTED == connection.getConnectionAbility(
+                AbilityKey.SDK_CLIENT_SUPPORT_BATCH_CONFIG_CHANGE_NOTIFY);
+    }
+    
+    /**
+     * Merge the changed group key into the pending batch of the connection, the first change of one batch schedules
+     * the flush after the batch window.
+     *
+     * @param connectionId connection id
+     * @param groupKey     changed group key
+     */
+    void addBatchNotify(String connectionId, String groupKey) {
+        boolean[] newBatch = new boolean[1];
+        pendingBatchNotify.compute(connectionId, (id, groupKeys) -> {
+            if (null == groupKeys) {
+                groupKeys = new LinkedHashSet<>();
+                newBatch[0] = true;
+            }
+            groupKeys.add(groupKey);
+            return groupKeys;
+        });
+        if (newBatch[0]) {
+            ConfigExecutor.scheduleClientConfigNotifier(() -> flushBatchNotify(connectionId),
+                    ConfigCommonConfig.getInstance().getPushBatchWindowMs(), TimeUnit.MILLISECONDS);
+        }
+    }
+    
+    /**
+     * Push all pending changed group keys of the connection, split by the max batch size.
+     *
+     * @param connectionId connection id
+     */
+    void flushBatchNotify(String connectionId) {
+        Set<String> groupKeys = pendingBatchNotify.remove(connectionId);
+        if (CollectionUtils.isEmpty(groupKeys)) {
+            return;
+        }
+        Connection connection = connectionManager.getConnection(connectionId);
+        if (connection == null) {
+            return;
+        }
+        ConnectionMeta metaInfo = connection.getMetaInfo();
+        int maxBatchSize = Math.max(1, ConfigCommonConfig.getInstance().getPushBatchMaxSize());
+        ConfigChangeBatchNotifyRequest notifyRequest = new ConfigChangeBatchNotifyRequest();
+        for (String groupKey : groupKeys) {
+            String[] strings = GroupKey.parseKey(groupKey);
+            notifyRequest.addConfigContext(strings[0], strings[1], strings.length > 2 ? strings[2] : "");
+            if (notifyRequest.getConfigContexts().size() >= maxBatchSize) {
+                pushBatch(notifyRequest, connectionId, metaInfo);
+                notifyRequest = new ConfigChangeBatchNotifyRequest();
+            }
+        }
+        if (!notifyRequest.getConfigContexts().isEmpty()) {
+            pushBatch(notifyRequest, connectionId, metaInfo);
+        }
+        Loggers.REMOTE_PUSH.info("batch push [{}] configs to client [{}]", groupKeys.size(), connectionId);
+    }
+    
+    private void pushBatch(ConfigChangeBatchNotifyRequest notifyRequest, String connectionId,
+            ConnectionMeta metaInfo) {
+        RpcPushTask rpcPushRetryTask = new RpcPushTask(notifyRequest,
+                ConfigCommonConfig.getInstance().getMaxPushRetryTimes(), connectionId, metaInfo.getClientIp(),
+                metaInfo.getAppName());
+        push(rpcPushRetryTask, connectionManager);
+    }
+    
     @Override
     public void onEvent(LocalDataChangeEvent event) {
         String groupKey = event.groupKey;
@@ -130,7 +215,7 @@ public class RpcConfigChangeNotifier extends Subscriber<LocalDataChangeEvent> {
     
     class RpcPushTask implements Runnable {
         
-        ConfigChangeNotifyRequest notifyRequest;
+        ServerRequest notifyRequest;
         
         int maxRetryTimes = -1;
         
@@ -142,7 +227,7 @@ public class RpcConfigChangeNotifier extends Subscriber<LocalDataChangeEvent> {
         
         String appName;
         
-        public RpcPushTask(ConfigChangeNotifyRequest notifyRequest, int maxRetryTimes, String connectionId,
+        public RpcPushTask(ServerRequest notifyRequest, int maxRetryTimes, String connectionId,
                 String clientIp, String appName) {
             this.notifyRequest = notifyRequest;
             this.maxRetryTimes = maxRetryTimes;
@@ -159,7 +244,7 @@ public class RpcConfigChangeNotifier extends Subscriber<LocalDataChangeEvent> {
             return tryTimes;
         }
         
-        public ConfigChangeNotifyRequest getNotifyRequest() {
+        public ServerRequest getNotifyRequest() {
             return notifyRequest;
         }
         
@@ -223,20 +308,16 @@ public class RpcConfigChangeNotifier extends Subscriber<LocalDataChangeEvent> {
             TpsCheckRequest tpsCheckRequest = new TpsCheckRequest();
             tpsCheckRequest.setPointName(POINT_CONFIG_PUSH_FAIL);
             tpsControlManager.check(tpsCheckRequest);
-            Loggers.REMOTE_PUSH.warn("Push fail, dataId={}, group={}, tenant={}, clientId={}",
-                    rpcPushTask.getNotifyRequest().getDataId(), rpcPushTask.getNotifyRequest().getGroup(),
-                    rpcPushTask.getNotifyRequest().getTenant(), rpcPushTask.getConnectionId(), e);
+            Loggers.REMOTE_PUSH.warn("Push fail, {}, clientId={}", describe(rpcPushTask.getNotifyRequest()),
+                    rpcPushTask.getConnectionId(), e);
             push(rpcPushTask, connectionManager);
         }
     }
     
     private static void push(RpcPushTask retryTask, ConnectionManager connectionManager) {
-        ConfigChangeNotifyRequest notifyRequest = retryTask.getNotifyRequest();
         if (retryTask.isOverTimes()) {
-            Loggers.REMOTE_PUSH.warn(
-                    "push callback retry fail over times. dataId={},group={},tenant={},clientId={}, will unregister client.",
-                    notifyRequest.getDataId(), notifyRequest.getGroup(), notifyRequest.getTenant(),
-                    retryTask.getConnectionId());
+            Loggers.REMOTE_PUSH.warn("push callback retry fail over times. {},clientId={}, will unregister client.",
+                    describe(retryTask.getNotifyRequest()), retryTask.getConnectionId());
             connectionManager.unregister(retryTask.getConnectionId());
         } else if (connectionManager.getConnection(retryTask.getConnectionId()) != null) {
             // first time:delay 0s; second time:delay 2s; third time:delay 4s
@@ -246,5 +327,15 @@ public class RpcConfigChangeNotifier extends Subscriber<LocalDataChangeEvent> {
         }
     }
     
+    private static String describe(ServerRequest notifyRequest) {
+        if (notifyRequest instanceof ConfigChangeNotifyRequest) {
+            ConfigChangeNotifyRequest request = (ConfigChangeNotifyRequest) notifyRequest;
+            return "dataId=" + request.getDataId() + ",group=" + request.getGroup() + ",tenant=" + request.getTenant();
+        }
+        if (notifyRequest instanceof ConfigChangeBatchNotifyRequest) {
+            return "batchSize=" + ((ConfigChangeBatchNotifyRequest) notifyRequest).getConfigContexts().size();
+        }
+        return String.valueOf(notifyRequest);
+    }
+    
 }
-
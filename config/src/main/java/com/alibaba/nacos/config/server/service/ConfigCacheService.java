@@ -26,12 +26,16 @@ import com.alibaba.nacos.config.server.model.ConfigCachePostProcessorDelegate;
 import com.alibaba.nacos.config.server.model.event.LocalDataChangeEvent;
 import com.alibaba.nacos.config.server.model.gray.GrayRule;
 import com.alibaba.nacos.config.server.model.gray.GrayRuleManager;
+import com.alibaba.nacos.config.server.service.dump.disk.ConfigContentCache;
+import com.alibaba.nacos.config.server.service.dump.disk.ConfigDeltaCache;
 import com.alibaba.nacos.config.server.service.dump.disk.ConfigDiskServiceFactory;
 import com.alibaba.nacos.config.server.utils.GroupKey2;
 import com.alibaba.nacos.config.server.utils.LogUtil;
 import com.alibaba.nacos.sys.env.EnvUtil;
 
 import java.io.IOException;
+import java.util.Collection;
+import java.util.Collections;
 import java.util.HashMap;
 import java.util.Map;
 import java.util.concurrent.ConcurrentHashMap;
@@ -69,6 +73,56 @@ public class ConfigCacheService {
         return CACHE.size();
     }
     
+    public static Collection<CacheItem> getCacheItems() {
+        return Collections.unmodifiableCollection(CACHE.values());
+    }
+    
+    /**
+     * Restore md5 and timestamp of formal config from snapshot, the content must be consistent with disk cache.
+     *
+     * @param groupKey         groupKey.
+     * @param type             file type.
+     * @param md5              md5 of content.
+     * @param content          content on disk cache.
+     * @param lastModifiedTs   lastModifiedTs.
+     * @param encryptedDataKey encryptedDataKey.
+     */
+    public static void restore(String groupKey, String type, String md5, String content, long lastModifiedTs,
+            String encryptedDataKey) {
+        CacheItem cache = makeSure(groupKey, encryptedDataKey);
+        cache.setType(type);
+        ConfigCache configCache = cache.getConfigCache();
+        configCache.setMd5(md5);
+        configCache.setLastModifiedTs(lastModifiedTs);
+        configCache.setEncryptedDataKey(encryptedDataKey);
+        ConfigCachePostProcessorDelegate.getInstance().postProcess(configCache, content);
+    }
+    
+    /**
+     * Restore md5, timestamp and gray rule of gray config from snapshot, the content must be consistent with disk
+     * cache.
+     *
+     * @param groupKey         groupKey.
+     * @param grayName         grayName.
+     * @param grayRule         raw gray rule.
+     * @param md5              md5 of content.
+     * @param content          content on disk cache.
+     * @param lastModifiedTs   lastModifiedTs.
+     * @param encryptedDataKey encryptedDataKey.
+     */
+    public static void restoreGray(String groupKey, String grayName, String grayRule, String md5, String content,
+            long lastModifiedTs, String encryptedDataKey) {
+        CacheItem cache = makeSure(groupKey, null);
+        cache.initConfigGrayIfEmpty(grayName);
+        ConfigCacheGray configCache = cache.getConfigCacheGray().get(grayName);
+        configCache.setMd5(md5);
+        configCache.setLastModifiedTs(lastModifiedTs);
+        configCache.setEncryptedDataKey(encryptedDataKey);
+        configCache.resetGrayRule(grayRule);
+        cache.sortConfigGray();
+        ConfigCachePostProcessorDelegate.getInstance().postProcess(configCache, content);
+    }
+    
     /**
      * Save config file and update md5 value in cache.
      *
@@ -114,7 +168,9 @@ public class ConfigCacheService {
             if (md5Changed) {
                 DUMP_LOG.info("[dump] md5 changed, save to disk cache ,groupKey={}, newMd5={},oldMd5={}", groupKey, md5,
                         localContentMd5);
+                recordDeltaHistory(dataId, group, tenant, groupKey, localContentMd5, content);
                 ConfigDiskServiceFactory.getInstance().saveToDisk(dataId, group, tenant, content);
+                ConfigContentCache.invalidate(groupKey);
             } else {
                 DUMP_LOG.warn("[dump-ignore] ignore to save to disk cache. md5 consistent,groupKey={}, md5={}",
                         groupKey, md5);
@@ -232,6 +288,7 @@ public class ConfigCacheService {
                         grayName, md5, localContentGrayMd5, grayRule, localGrayRule, lastModifiedTs);
                 updateGrayMd5(groupKey, grayName, grayRule, md5, content, lastModifiedTs, encryptedDataKey);
                 ConfigDiskServiceFactory.getInstance().saveGrayToDisk(dataId, group, tenant, grayName, content);
+                ConfigContentCache.invalidateGray(groupKey, grayName);
                 
             } else if (grayRuleChanged) {
                 DUMP_LOG.info("[dump-gray] gray rule changed, update local jvm cache, groupKey={},grayName={}, "
@@ -287,6 +344,7 @@ public class ConfigCacheService {
             DUMP_LOG.info("[remove-gray-ok] remove gray in local disk cache,grayName={},groupKey={} ", grayName,
                     groupKey);
             ConfigDiskServiceFactory.getInstance().removeConfigInfo4Gray(dataId, group, tenant, grayName);
+            ConfigContentCache.invalidateGray(groupKey, grayName);
             
             CacheItem ci = CACHE.get(groupKey);
             if (ci.getConfigCacheGray() != null) {
@@ -335,6 +393,7 @@ public class ConfigCacheService {
         try {
             DUMP_LOG.info("[dump] remove  local disk cache,groupKey={} ", groupKey);
             ConfigDiskServiceFactory.getInstance().removeConfigInfo(dataId, group, tenant);
+            ConfigContentCache.invalidate(groupKey);
             
             CACHE.remove(groupKey);
             DUMP_LOG.info("[dump] remove  local jvm cache,groupKey={} ", groupKey);
@@ -593,6 +652,25 @@ public class ConfigCacheService {
         cache.getConfigCache().setLastModifiedTs(lastModifiedTs);
     }
     
+    /**
+     * Keep the content going to be replaced, so that clients holding it can be answered with a delta.
+     *
+     * <p>The eligibility is checked by the new content first, so that configs which can't be answered with a delta
+     * never pay for reading the previous content.
+     */
+    private static void recordDeltaHistory(String dataId, String group, String tenant, String groupKey,
+            String localContentMd5, String content) {
+        if (StringUtils.isBlank(localContentMd5) || !ConfigDeltaCache.isHistoryEligible(content)) {
+            return;
+        }
+        try {
+            ConfigDeltaCache.recordHistory(groupKey, localContentMd5,
+                    ConfigContentCache.getContent(dataId, group, tenant, localContentMd5));
+        } catch (IOException e) {
+            DUMP_LOG.warn("[dump] read previous content for delta failed, groupKey={}", groupKey, e);
+        }
+    }
+    
     private static final int TRY_GET_LOCK_TIMES = 9;
     
     /**
@@ -21,8 +21,6 @@ package com.alibaba.nacos.config.server.service;
 import com.alibaba.nacos.plugin.control.connection.ConnectionMetricsCollector;
 import com.alibaba.nacos.sys.utils.ApplicationUtils;
 
-import java.util.stream.Collectors;
-
 /**
  * long polling connection metrics.
  *
@@ -42,7 +40,6 @@ public class LongPollingConnectionMetricsCollector implements ConnectionMetricsC
     
     @Override
     public int getCountForIp(String ip) {
-        return ApplicationUtils.getBean(LongPollingService.class).allSubs.stream()
-                .filter(a -> a.ip.equalsIgnoreCase(ip)).collect(Collectors.toList()).size();
+        return ApplicationUtils.getBean(LongPollingService.class).getSubscriberCountByIp(ip);
     }
 }
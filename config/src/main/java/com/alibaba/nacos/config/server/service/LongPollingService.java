@@ -40,13 +40,11 @@ import javax.servlet.http.HttpServletResponse;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.HashMap;
-import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
-import java.util.Queue;
 import java.util.Random;
+import java.util.Set;
 import java.util.concurrent.ConcurrentHashMap;
-import java.util.concurrent.ConcurrentLinkedQueue;
 import java.util.concurrent.Future;
 import java.util.concurrent.TimeUnit;
 
@@ -74,9 +72,10 @@ public class LongPollingService {
         SampleResult sampleResult = new SampleResult();
         Map<String, String> lisentersGroupkeyStatus = new HashMap<>(50);
         
-        for (ClientLongPolling clientLongPolling : allSubs) {
-            if (clientLongPolling.clientMd5Map.containsKey(groupKey)) {
-                lisentersGroupkeyStatus.put(clientLongPolling.ip, clientLongPolling.clientMd5Map.get(groupKey));
+        for (ClientLongPolling clientLongPolling : getSubscribers(groupKeySubs, groupKey)) {
+            String md5 = clientLongPolling.clientMd5Map.get(groupKey);
+            if (md5 != null) {
+                lisentersGroupkeyStatus.put(clientLongPolling.ip, md5);
             }
         }
         sampleResult.setLisentersGroupkeyStatus(lisentersGroupkeyStatus);
@@ -87,12 +86,10 @@ public class LongPollingService {
         SampleResult sampleResult = new SampleResult();
         Map<String, String> lisentersGroupkeyStatus = new HashMap<>(50);
         
-        for (ClientLongPolling clientLongPolling : allSubs) {
-            if (clientLongPolling.ip.equals(clientIp)) {
-                // One ip can have multiple listener.
-                if (!lisentersGroupkeyStatus.equals(clientLongPolling.clientMd5Map)) {
-                    lisentersGroupkeyStatus.putAll(clientLongPolling.clientMd5Map);
-                }
+        for (ClientLongPolling clientLongPolling : getSubscribers(ipSubs, clientIp)) {
+            // One ip can have multiple listener.
+            if (!lisentersGroupkeyStatus.equals(clientLongPolling.clientMd5Map)) {
+                lisentersGroupkeyStatus.putAll(clientLongPolling.clientMd5Map);
             }
         }
         sampleResult.setLisentersGroupkeyStatus(lisentersGroupkeyStatus);
@@ -228,7 +225,9 @@ public class LongPollingService {
     
     @SuppressWarnings("PMD.ThreadPoolCreationRule")
     public LongPollingService() {
-        allSubs = new ConcurrentLinkedQueue<>();
+        allSubs = ConcurrentHashMap.newKeySet();
+        groupKeySubs = new ConcurrentHashMap<>();
+        ipSubs = new ConcurrentHashMap<>();
         
         ConfigExecutor.scheduleLongPolling(new StatTask(), 0L, 10L, TimeUnit.SECONDS);
         
@@ -262,25 +261,92 @@ public class LongPollingService {
     /**
      * ClientLongPolling subscibers.
      */
-    final Queue<ClientLongPolling> allSubs;
+    final Set<ClientLongPolling> allSubs;
+    
+    /**
+     * Index of groupKey to the subscribers which are listening it.
+     */
+    final Map<String, Set<ClientLongPolling>> groupKeySubs;
+    
+    /**
+     * Index of client ip to the subscribers from this ip.
+     */
+    final Map<String, Set<ClientLongPolling>> ipSubs;
+    
+    /**
+     * Register the subscriber into {@link #allSubs} and the groupKey and ip indexes.
+     *
+     * <p>The indexes are written before {@link #allSubs}, so a subscriber is always removable from the indexes once
+     * it can be claimed by a data change or time out task.
+     *
+     * @param clientSub subscriber
+     */
+    void addSubscriber(ClientLongPolling clientSub) {
+        for (String groupKey : clientSub.clientMd5Map.keySet()) {
+            addToIndex(groupKeySubs, groupKey, clientSub);
+        }
+        addToIndex(ipSubs, clientSub.ip, clientSub);
+        allSubs.add(clientSub);
+    }
+    
+    /**
+     * Remove the subscriber from {@link #allSubs} and the indexes.
+     *
+     * @param clientSub subscriber
+     * @return {@code true} if current caller claimed the subscriber, {@code false} if it was removed by others.
+     */
+    boolean removeSubscriber(ClientLongPolling clientSub) {
+        if (!allSubs.remove(clientSub)) {
+            return false;
+        }
+        for (String groupKey : clientSub.clientMd5Map.keySet()) {
+            removeFromIndex(groupKeySubs, groupKey, clientSub);
+        }
+        removeFromIndex(ipSubs, clientSub.ip, clientSub);
+        return true;
+    }
+    
+    private static void addToIndex(Map<String, Set<ClientLongPolling>> index, String key,
+            ClientLongPolling clientSub) {
+        index.compute(key, (k, subs) -> {
+            Set<ClientLongPolling> result = null == subs ? ConcurrentHashMap.newKeySet() : subs;
+            result.add(clientSub);
+            return result;
+        });
+    }
+    
+    private static void removeFromIndex(Map<String, Set<ClientLongPolling>> index, String key,
+            ClientLongPolling clientSub) {
+        index.computeIfPresent(key, (k, subs) -> {
+            subs.remove(clientSub);
+            return subs.isEmpty() ? null : subs;
+        });
+    }
+    
+    private static Set<ClientLongPolling> getSubscribers(Map<String, Set<ClientLongPolling>> index, String key) {
+        if (null == key) {
+            return Collections.emptySet();
+        }
+        Set<ClientLongPolling> subs = index.get(key);
+        return null == subs ? Collections.emptySet() : subs;
+    }
     
     class DataChangeTask implements Runnable {
         
         @Override
         public void run() {
             try {
-                for (Iterator<ClientLongPolling> iter = allSubs.iterator(); iter.hasNext(); ) {
-                    ClientLongPolling clientSub = iter.next();
-                    if (clientSub.clientMd5Map.containsKey(groupKey)) {
-                        
-                        getRetainIps().put(clientSub.ip, System.currentTimeMillis());
-                        iter.remove(); // Delete subscribers' relationships.
-                        LogUtil.CLIENT_LOG.info("{}|{}|{}|{}|{}|{}|{}", (System.currentTimeMillis() - changeTime),
-                                "in-advance",
-                                RequestUtil.getRemoteIp((HttpServletRequest) clientSub.asyncContext.getRequest()),
-                                "polling", clientSub.clientMd5Map.size(), clientSub.probeRequestSize, groupKey);
-                        clientSub.sendResponse(Collections.singletonList(groupKey));
+                for (ClientLongPolling clientSub : getSubscribers(groupKeySubs, groupKey)) {
+                    // Delete subscribers' relationships, skip if it has been responded by others.
+                    if (!removeSubscriber(clientSub)) {
+                        continue;
                     }
+                    getRetainIps().put(clientSub.ip, System.currentTimeMillis());
+                    LogUtil.CLIENT_LOG.info("{}|{}|{}|{}|{}|{}|{}", (System.currentTimeMillis() - changeTime),
+                            "in-advance",
+                            RequestUtil.getRemoteIp((HttpServletRequest) clientSub.asyncContext.getRequest()),
+                            "polling", clientSub.clientMd5Map.size(), clientSub.probeRequestSize, groupKey);
+                    clientSub.sendResponse(Collections.singletonList(groupKey));
                 }
                 
             } catch (Throwable t) {
@@ -316,7 +382,7 @@ public class LongPollingService {
                     getRetainIps().put(ClientLongPolling.this.ip, System.currentTimeMillis());
                     
                     // Delete subscriber's relations.
-                    boolean removeFlag = allSubs.remove(ClientLongPolling.this);
+                    boolean removeFlag = removeSubscriber(ClientLongPolling.this);
                     
                     if (removeFlag) {
                         
@@ -334,7 +400,7 @@ public class LongPollingService {
                 
             }, timeoutTime, TimeUnit.MILLISECONDS);
             
-            allSubs.add(this);
+            addSubscriber(this);
         }
         
         void sendResponse(List<String> changedGroups) {
@@ -451,4 +517,8 @@ public class LongPollingService {
     public int getSubscriberCount() {
         return allSubs.size();
     }
+    
+    public int getSubscriberCountByIp(String ip) {
+        return getSubscribers(ipSubs, ip).size();
+    }
 }
@@ -0,0 +1,429 @@
+/*
+ * Copyright 1999-2025 Alibaba Group Holding Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.alibaba.nacos.config.server.service.dump;
+
+import com.alibaba.nacos.common.utils.MD5Utils;
+import com.alibaba.nacos.common.utils.StringUtils;
+import com.alibaba.nacos.config.server.model.CacheItem;
+import com.alibaba.nacos.config.server.model.ConfigCache;
+import com.alibaba.nacos.config.server.model.ConfigCacheGray;
+import com.alibaba.nacos.config.server.model.ConfigInfoGrayWrapper;
+import com.alibaba.nacos.config.server.model.ConfigInfoWrapper;
+import com.alibaba.nacos.config.server.model.gray.GrayRuleManager;
+import com.alibaba.nacos.config.server.service.ClientIpWhiteList;
+import com.alibaba.nacos.config.server.service.ConfigCacheService;
+import com.alibaba.nacos.config.server.service.SwitchService;
+import com.alibaba.nacos.config.server.service.dump.disk.ConfigDiskServiceFactory;
+import com.alibaba.nacos.config.server.service.repository.ConfigInfoGrayPersistService;
+import com.alibaba.nacos.config.server.service.repository.ConfigInfoPersistService;
+import com.alibaba.nacos.config.server.utils.GroupKey2;
+import com.alibaba.nacos.config.server.utils.LogUtil;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.StandardCopyOption;
+import java.sql.Timestamp;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.zip.CRC32;
+import java.util.zip.CheckedInputStream;
+import java.util.zip.CheckedOutputStream;
+
+import static com.alibaba.nacos.config.server.constant.Constants.ENCODE_UTF8;
+import static com.alibaba.nacos.config.server.constant.Constants.PERSIST_ENCODE;
+
+/**
+ * Snapshot of the {@link CacheItem} index in {@link ConfigCacheService}, used to restart without dumping all configs.
+ *
+ * <p>The snapshot only holds md5, timestamp, type, encryptedDataKey and gray rules, the contents are read back from the
+ * disk cache on restore. An entry whose disk content does not match the md5 is reloaded from db, and the configs
+ * changed after the snapshot are expected to be replayed by {@link DumpChangeConfigWorker} and
+ * {@link DumpChangeGrayConfigWorker} from the returned time.
+ *
+ * @author Nacos
+ */
+public class ConfigCacheSnapshot {
+    
+    private static final int MAGIC = 0x4E434353;
+    
+    private static final int VERSION = 1;
+    
+    /**
+     * Replay changes from a bit earlier than the snapshot, to cover the dump task delay and the clock skew of members.
+     */
+    static final long REPLAY_MARGIN_MS = 5 * 60 * 1000L;
+    
+    /**
+     * Give up the snapshot if more than 1/10 entries are inconsistent with disk cache, dumping all is cheaper then.
+     */
+    private static final int MAX_MISMATCH_DIVISOR = 10;
+    
+    private static final int MIN_MISMATCH_TOLERANCE = 100;
+    
+    private final File file;
+    
+    private final ConfigInfoPersistService configInfoPersistService;
+    
+    private final ConfigInfoGrayPersistService configInfoGrayPersistService;
+    
+    public ConfigCacheSnapshot(File file, ConfigInfoPersistService configInfoPersistService,
+            ConfigInfoGrayPersistService configInfoGrayPersistService) {
+        this.file = file;
+        this.configInfoPersistService = configInfoPersistService;
+        this.configInfoGrayPersistService = configInfoGrayPersistService;
+    }
+    
+    /**
+     * Write all cache items to snapshot file, the previous snapshot is kept if failed.
+     *
+     * @return count of cache items written.
+     * @throws IOException io exception.
+     */
+    public synchronized int save() throws IOException {
+        long start = System.currentTimeMillis();
+        File parent = file.getParentFile();
+        if (parent != null && !parent.exists() && !parent.mkdirs()) {
+            throw new IOException("Create snapshot dir failed, dir=" + parent);
+        }
+        File tmpFile = new File(file.getPath() + ".tmp");
+        int count = 0;
+        CRC32 crc32 = new CRC32();
+        try (FileOutputStream fileOutputStream = new FileOutputStream(tmpFile)) {
+            DataOutputStream out = new DataOutputStream(
+                    new CheckedOutputStream(new BufferedOutputStream(fileOutputStream), crc32));
+            out.writeInt(MAGIC);
+            out.writeInt(VERSION);
+            out.writeLong(start);
+            for (CacheItem item : ConfigCacheService.getCacheItems()) {
+                Entry entry = capture(item);
+                if (entry != null) {
+                    out.writeBoolean(true);
+                    entry.writeTo(out);
+                    count++;
+                }
+            }
+            out.writeBoolean(false);
+            out.writeLong(crc32.getValue());
+            out.flush();
+            fileOutputStream.getFD().sync();
+        }
+        Files.move(tmpFile.toPath(), file.toPath(), StandardCopyOption.REPLACE_EXISTING,
+                StandardCopyOption.ATOMIC_MOVE);
+        LogUtil.DEFAULT_LOG.info("[cache-snapshot] save {} cache items to {}, cost {} ms.", count, file,
+                System.currentTimeMillis() - start);
+        return count;
+    }
+    
+    private Entry capture(CacheItem item) throws IOException {
+        String groupKey = item.getGroupKey();
+        int lockResult = ConfigCacheService.tryConfigReadLock(groupKey);
+        if (lockResult == 0) {
+            return null;
+        }
+        if (lockResult < 0) {
+            throw new IOException("Read lock failed when capture snapshot, groupKey=" + groupKey);
+        }
+        try {
+            ConfigCache configCache = item.getConfigCache();
+            Entry entry = new Entry(groupKey, item.getType(), configCache.getMd5(), configCache.getLastModifiedTs(),
+                    configCache.getEncryptedDataKey());
+            Map<String, ConfigCacheGray> grays = item.getConfigCacheGray();
+            if (grays != null) {
+                for (ConfigCacheGray gray : grays.values()) {
+                    if (gray.getGrayRule() == null) {
+                        continue;
+                    }
+                    String grayRule = GrayRuleManager.serializeConfigGrayPersistInfo(
+                            GrayRuleManager.constructConfigGrayPersistInfo(gray.getGrayRule()));
+                    entry.grays.add(new GrayEntry(gray.getGrayName(), grayRule, gray.getMd5(),
+                            gray.getLastModifiedTs(), gray.getEncryptedDataKey()));
+                }
+            }
+            return entry;
+        } finally {
+            ConfigCacheService.releaseReadLock(groupKey);
+        }
+    }
+    
+    /**
+     * Restore cache items from snapshot file.
+     *
+     * @param maxAge the snapshot older than max age is ignored, in milliseconds.
+     * @return the time to replay changes from, null if snapshot is not restored and all configs should be dumped.
+     */
+    public Timestamp restore(long maxAge) {
+        if (!file.exists()) {
+            LogUtil.DEFAULT_LOG.info("[cache-snapshot] snapshot {} not exist.", file);
+            return null;
+        }
+        long start = System.currentTimeMillis();
+        Snapshot snapshot;
+        try {
+            snapshot = read();
+        } catch (IOException e) {
+            LogUtil.DEFAULT_LOG.warn("[cache-snapshot] read snapshot {} failed.", file, e);
+            return null;
+        }
+        if (start - snapshot.snapshotTime > maxAge) {
+            LogUtil.DEFAULT_LOG.info("[cache-snapshot] snapshot {} is expired, snapshot time={}.", file,
+                    new Timestamp(snapshot.snapshotTime));
+            return null;
+        }
+        
+        int total = 0;
+        int mismatch = 0;
+        for (Entry entry : snapshot.entries) {
+            if (StringUtils.isNotBlank(entry.md5)) {
+                total++;
+                entry.verifiedContent = readConsistentContent(entry);
+                mismatch += entry.verifiedContent == null ? 1 : 0;
+            }
+            for (GrayEntry grayEntry : entry.grays) {
+                total++;
+                grayEntry.verifiedContent = readConsistentGrayContent(entry, grayEntry);
+                mismatch += grayEntry.verifiedContent == null ? 1 : 0;
+            }
+        }
+        if (mismatch > Math.max(MIN_MISMATCH_TOLERANCE, total / MAX_MISMATCH_DIVISOR)) {
+            LogUtil.DEFAULT_LOG.warn("[cache-snapshot] {} / {} entries inconsistent with disk cache, ignore snapshot.",
+                    mismatch, total);
+            return null;
+        }
+        
+        for (Entry entry : snapshot.entries) {
+            String[] keys = GroupKey2.parseKey(entry.groupKey);
+            if (StringUtils.isNotBlank(entry.md5)) {
+                restoreFormal(entry, keys[0], keys[1], keys[2]);
+            }
+            for (GrayEntry grayEntry : entry.grays) {
+                restoreGray(entry, grayEntry, keys[0], keys[1], keys[2]);
+            }
+        }
+        LogUtil.DEFAULT_LOG.info("[cache-snapshot] restore {} entries from {}, reload {} from db, snapshot time={}, "
+                        + "cost {} ms.", total, file, mismatch, new Timestamp(snapshot.snapshotTime),
+                System.currentTimeMillis() - start);
+        return new Timestamp(snapshot.snapshotTime - REPLAY_MARGIN_MS);
+    }
+    
+    private void restoreFormal(Entry entry, String dataId, String group, String tenant) {
+        String content = entry.verifiedContent;
+        entry.verifiedContent = null;
+        if (content != null) {
+            ConfigCacheService.restore(entry.groupKey, entry.type, entry.md5, content, entry.lastModifiedTs,
+                    entry.encryptedDataKey);
+        } else {
+            ConfigInfoWrapper cf = configInfoPersistService.findConfigInfo(dataId, group, tenant);
+            if (cf == null) {
+                return;
+            }
+            content = cf.getContent();
+            ConfigCacheService.dump(dataId, group, tenant, content, cf.getLastModified(), cf.getType(),
+                    cf.getEncryptedDataKey());
+        }
+        if (ClientIpWhiteList.CLIENT_IP_WHITELIST_METADATA.equals(dataId)) {
+            ClientIpWhiteList.load(content);
+        }
+        if (SwitchService.SWITCH_META_DATA_ID.equals(dataId)) {
+            SwitchService.load(content);
+        }
+    }
+    
+    private void restoreGray(Entry entry, GrayEntry grayEntry, String dataId, String group, String tenant) {
+        String content = grayEntry.verifiedContent;
+        grayEntry.verifiedContent = null;
+        if (content != null) {
+            ConfigCacheService.restoreGray(entry.groupKey, grayEntry.grayName, grayEntry.grayRule, grayEntry.md5,
+                    content, grayEntry.lastModifiedTs, grayEntry.encryptedDataKey);
+            return;
+        }
+        ConfigInfoGrayWrapper cf = configInfoGrayPersistService.findConfigInfo4Gray(dataId, group, tenant,
+                grayEntry.grayName);
+        if (cf != null) {
+            ConfigCacheService.dumpGray(dataId, group, tenant, grayEntry.grayName, cf.getGrayRule(), cf.getContent(),
+                    cf.getLastModified(), cf.getEncryptedDataKey());
+        }
+    }
+    
+    private String readConsistentContent(Entry entry) {
+        String[] keys = GroupKey2.parseKey(entry.groupKey);
+        try {
+            String content = ConfigDiskServiceFactory.getInstance().getContent(keys[0], keys[1], keys[2]);
+            if (content != null && (entry.md5.equals(MD5Utils.md5Hex(content, ENCODE_UTF8)) || entry.md5.equals(
+                    MD5Utils.md5Hex(content, PERSIST_ENCODE)))) {
+                return content;
+            }
+        } catch (IOException e) {
+            LogUtil.DEFAULT_LOG.warn("[cache-snapshot] read disk cache failed, groupKey={}", entry.groupKey, e);
+        }
+        return null;
+    }
+    
+    private String readConsistentGrayContent(Entry entry, GrayEntry grayEntry) {
+        String[] keys = GroupKey2.parseKey(entry.groupKey);
+        try {
+            String content = ConfigDiskServiceFactory.getInstance()
+                    .getGrayContent(keys[0], keys[1], keys[2], grayEntry.grayName);
+            if (content != null && grayEntry.md5.equals(MD5Utils.md5Hex(content, ENCODE_UTF8))) {
+                return content;
+            }
+        } catch (IOException e) {
+            LogUtil.DEFAULT_LOG.warn("[cache-snapshot] read gray disk cache failed, groupKey={}, grayName={}",
+                    entry.groupKey, grayEntry.grayName, e);
+        }
+        return null;
+    }
+    
+    private Snapshot read() throws IOException {
+        CRC32 crc32 = new CRC32();
+        try (DataInputStream in = new DataInputStream(
+                new CheckedInputStream(new BufferedInputStream(new FileInputStream(file)), crc32))) {
+            if (in.readInt() != MAGIC) {
+                throw new IOException("Invalid snapshot magic");
+            }
+            int version = in.readInt();
+            if (version != VERSION) {
+                throw new IOException("Unsupported snapshot version " + version);
+            }
+            Snapshot snapshot = new Snapshot(in.readLong());
+            while (in.readBoolean()) {
+                snapshot.entries.add(Entry.readFrom(in));
+            }
+            long expectCrc = crc32.getValue();
+            if (in.readLong() != expectCrc) {
+                throw new IOException("Snapshot crc mismatch");
+            }
+            return snapshot;
+        }
+    }
+    
+    private static void writeString(DataOutputStream out, String value) throws IOException {
+        if (value == null) {
+            out.writeInt(-1);
+            return;
+        }
+        byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+        out.writeInt(bytes.length);
+        out.write(bytes);
+    }
+    
+    private static String readString(DataInputStream in) throws IOException {
+        int length = in.readInt();
+        if (length < 0) {
+            return null;
+        }
+        byte[] bytes = new byte[length];
+        in.readFully(bytes);
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+    
+    private static class Snapshot {
+        
+        private final long snapshotTime;
+        
+        private final List<Entry> entries = new ArrayList<>();
+        
+        Snapshot(long snapshotTime) {
+            this.snapshotTime = snapshotTime;
+        }
+    }
+    
+    private static class Entry {
+        
+        private final String groupKey;
+        
+        private final String type;
+        
+        private final String md5;
+        
+        private final long lastModifiedTs;
+        
+        private final String encryptedDataKey;
+        
+        private final List<GrayEntry> grays = new ArrayList<>(0);
+        
+        /**
+         * Disk content verified against md5 while checking the snapshot, released once restored.
+         */
+        private String verifiedContent;
+        
+        Entry(String groupKey, String type, String md5, long lastModifiedTs, String encryptedDataKey) {
+            this.groupKey = groupKey;
+            this.type = type;
+            this.md5 = md5;
+            this.lastModifiedTs = lastModifiedTs;
+            this.encryptedDataKey = encryptedDataKey;
+        }
+        
+        void writeTo(DataOutputStream out) throws IOException {
+            writeString(out, groupKey);
+            writeString(out, type);
+            writeString(out, md5);
+            out.writeLong(lastModifiedTs);
+            writeString(out, encryptedDataKey);
+            out.writeInt(grays.size());
+            for (GrayEntry gray : grays) {
+                writeString(out, gray.grayName);
+                writeString(out, gray.grayRule);
+                writeString(out, gray.md5);
+                out.writeLong(gray.lastModifiedTs);
+                writeString(out, gray.encryptedDataKey);
+            }
+        }
+        
+        static Entry readFrom(DataInputStream in) throws IOException {
+            Entry entry = new Entry(readString(in), readString(in), readString(in), in.readLong(), readString(in));
+            int grayCount = in.readInt();
+            for (int i = 0; i < grayCount; i++) {
+                entry.grays.add(new GrayEntry(readString(in), readString(in), readString(in), in.readLong(),
+                        readString(in)));
+            }
+            return entry;
+        }
+    }
+    
+    private static class GrayEntry {
+        
+        private final String grayName;
+        
+        private final String grayRule;
+        
+        private final String md5;
+        
+        private final long lastModifiedTs;
+        
+        private final String encryptedDataKey;
+        
+        private String verifiedContent;
+        
+        GrayEntry(String grayName, String grayRule, String md5, long lastModifiedTs, String encryptedDataKey) {
+            this.grayName = grayName;
+            this.grayRule = grayRule;
+            this.md5 = md5;
+            this.lastModifiedTs = lastModifiedTs;
+            this.encryptedDataKey = encryptedDataKey;
+        }
+    }
+}
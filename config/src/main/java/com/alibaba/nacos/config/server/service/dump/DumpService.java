@@ -22,8 +22,10 @@ import com.alibaba.nacos.common.notify.Event;
 import com.alibaba.nacos.common.notify.NotifyCenter;
 import com.alibaba.nacos.common.notify.listener.Subscriber;
 import com.alibaba.nacos.common.utils.StringUtils;
+import com.alibaba.nacos.common.utils.ThreadUtils;
 import com.alibaba.nacos.config.server.manager.TaskManager;
 import com.alibaba.nacos.config.server.model.event.ConfigDataChangeEvent;
+import com.alibaba.nacos.config.server.service.dump.disk.ConfigContentCache;
 import com.alibaba.nacos.config.server.service.dump.disk.ConfigDiskServiceFactory;
 import com.alibaba.nacos.config.server.service.dump.processor.DumpAllGrayProcessor;
 import com.alibaba.nacos.config.server.service.dump.processor.DumpAllProcessor;
@@ -46,6 +48,7 @@ import com.alibaba.nacos.sys.utils.TimerContext;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import java.io.File;
 import java.sql.Timestamp;
 import java.util.Random;
 import java.util.concurrent.TimeUnit;
@@ -78,6 +81,8 @@ public abstract class DumpService {
     
     protected final ServerMemberManager memberManager;
     
+    protected ConfigCacheSnapshot cacheSnapshot;
+    
     /**
      * full dump interval.
      */
@@ -94,6 +99,8 @@ public abstract class DumpService {
     
     static final int INIT_THREAD_COUNT = 10;
     
+    static final String CACHE_SNAPSHOT_FILE = "data" + File.separator + "config-cache.snapshot";
+    
     int total = 0;
     
     /**
@@ -114,6 +121,8 @@ public abstract class DumpService {
         this.processor = new DumpProcessor(this.configInfoPersistService, this.configInfoGrayPersistService);
         this.dumpAllProcessor = new DumpAllProcessor(this.configInfoPersistService);
         this.dumpAllGrayProcessor = new DumpAllGrayProcessor(this.configInfoGrayPersistService);
+        this.cacheSnapshot = new ConfigCacheSnapshot(new File(EnvUtil.getNacosHome(), CACHE_SNAPSHOT_FILE),
+                this.configInfoPersistService, this.configInfoGrayPersistService);
         this.dumpTaskMgr = new TaskManager("com.alibaba.nacos.server.DumpTaskManager");
         this.dumpTaskMgr.setDefaultTaskProcessor(processor);
         
@@ -213,10 +222,22 @@ public abstract class DumpService {
             LogUtil.DEFAULT_LOG.warn("DumpService start");
             
             Timestamp currentTime = new Timestamp(System.currentTimeMillis());
+            DumpChangeConfigWorker dumpChangeConfigWorker = null;
+            DumpChangeGrayConfigWorker dumpChangeGrayConfigWorker = null;
             
             try {
-                dumpAllConfigInfoOnStartup(dumpAllProcessor);
-                dumpAllGrayConfigInfoOnStartup(dumpAllGrayProcessor);
+                Timestamp snapshotReplayTime = restoreCacheSnapshotOnStartup();
+                if (snapshotReplayTime != null) {
+                    dumpChangeConfigWorker = new DumpChangeConfigWorker(this.configInfoPersistService,
+                            this.historyConfigInfoPersistService, snapshotReplayTime);
+                    dumpChangeConfigWorker.dumpChange();
+                    dumpChangeGrayConfigWorker = new DumpChangeGrayConfigWorker(this.configInfoGrayPersistService,
+                            snapshotReplayTime, this.historyConfigInfoPersistService);
+                    dumpChangeGrayConfigWorker.dumpChange();
+                } else {
+                    dumpAllConfigInfoOnStartup(dumpAllProcessor);
+                    dumpAllGrayConfigInfoOnStartup(dumpAllGrayProcessor);
+                }
             } catch (Exception e) {
                 LogUtil.FATAL_LOG.error(
                         "Nacos Server did not start because dumpservice bean construction failure :\n" + e);
@@ -235,16 +256,25 @@ public abstract class DumpService {
                 ConfigExecutor.scheduleConfigTask(new DumpAllGrayProcessorRunner(), initialDelay,
                         DUMP_ALL_INTERVAL_IN_MINUTE, TimeUnit.MINUTES);
                 
-                ConfigExecutor.scheduleConfigChangeTask(
-                        new DumpChangeConfigWorker(this.configInfoPersistService, this.historyConfigInfoPersistService,
-                                currentTime), random.nextInt((int) PropertyUtil.getDumpChangeWorkerInterval()),
-                        TimeUnit.MILLISECONDS);
-                ConfigExecutor.scheduleConfigChangeTask(
-                        new DumpChangeGrayConfigWorker(this.configInfoGrayPersistService, currentTime,
-                                this.historyConfigInfoPersistService),
+                if (dumpChangeConfigWorker == null) {
+                    dumpChangeConfigWorker = new DumpChangeConfigWorker(this.configInfoPersistService,
+                            this.historyConfigInfoPersistService, currentTime);
+                    dumpChangeGrayConfigWorker = new DumpChangeGrayConfigWorker(this.configInfoGrayPersistService,
+                            currentTime, this.historyConfigInfoPersistService);
+                }
+                ConfigExecutor.scheduleConfigChangeTask(dumpChangeConfigWorker,
+                        random.nextInt((int) PropertyUtil.getDumpChangeWorkerInterval()), TimeUnit.MILLISECONDS);
+                ConfigExecutor.scheduleConfigChangeTask(dumpChangeGrayConfigWorker,
                         random.nextInt((int) PropertyUtil.getDumpChangeWorkerInterval()), TimeUnit.MILLISECONDS);
             }
             
+            if (PropertyUtil.isCacheSnapshotEnabled()) {
+                // only save snapshot after the cache is fully loaded, otherwise a partial snapshot may be restored.
+                ConfigExecutor.scheduleConfigTask(this::saveCacheSnapshot, PropertyUtil.getCacheSnapshotInterval(),
+                        PropertyUtil.getCacheSnapshotInterval(), TimeUnit.MILLISECONDS);
+                ThreadUtils.addShutdownHook(this::saveCacheSnapshot);
+            }
+            
             HistoryConfigCleaner cleaner = HistoryConfigCleanerManager.getHistoryConfigCleaner(
                     HistoryConfigCleanerConfig.getInstance().getActiveHistoryConfigCleaner());
             ConfigExecutor.scheduleConfigTask(new ConfigHistoryClear(cleaner), 10, 10, TimeUnit.MINUTES);
@@ -255,11 +285,33 @@ public abstract class DumpService {
         
     }
     
+    /**
+     * Restore config cache from snapshot on startup.
+     *
+     * @return the time to replay changes from, null if snapshot is not restored.
+     */
+    private Timestamp restoreCacheSnapshotOnStartup() {
+        if (!PropertyUtil.isCacheSnapshotEnabled()) {
+            return null;
+        }
+        LogUtil.DEFAULT_LOG.info("start restore config cache from snapshot.");
+        return cacheSnapshot.restore(PropertyUtil.getCacheSnapshotMaxAge());
+    }
+    
+    void saveCacheSnapshot() {
+        try {
+            cacheSnapshot.save();
+        } catch (Throwable e) {
+            LogUtil.DEFAULT_LOG.error("save config cache snapshot failed.", e);
+        }
+    }
+    
     private void dumpAllConfigInfoOnStartup(DumpAllProcessor dumpAllProcessor) {
         
         try {
             LogUtil.DEFAULT_LOG.info("start clear all config-info.");
             ConfigDiskServiceFactory.getInstance().clearAll();
+            ConfigContentCache.invalidateAll();
             dumpAllProcessor.process(new DumpAllTask(true));
         } catch (Exception e) {
             LogUtil.FATAL_LOG.error("dump config fail" + e.getMessage());
@@ -271,6 +323,7 @@ public abstract class DumpService {
         try {
             LogUtil.DEFAULT_LOG.info("start to clear all gray-config-info on startup.");
             ConfigDiskServiceFactory.getInstance().clearAllGray();
+            ConfigContentCache.invalidateAll();
             dumpAllGrayProcessor.process(new DumpAllGrayTask());
         } catch (Exception e) {
             LogUtil.FATAL_LOG.error("failed to dump all gray-config-info on startup." + e.getMessage());
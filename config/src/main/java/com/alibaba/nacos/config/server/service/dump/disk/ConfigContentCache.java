@@ -0,0 +1,227 @@
+/*
+ * Copyright 1999-2025 Alibaba Group Holding Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.alibaba.nacos.config.server.service.dump.disk;
+
+import com.alibaba.nacos.common.utils.MD5Utils;
+import com.alibaba.nacos.config.server.configuration.ConfigCommonConfig;
+import com.alibaba.nacos.config.server.monitor.MetricsMonitor;
+import com.alibaba.nacos.config.server.utils.GroupKey2;
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import com.google.common.cache.RemovalCause;
+
+import java.io.IOException;
+import java.util.Objects;
+
+import static com.alibaba.nacos.config.server.constant.Constants.ENCODE_UTF8;
+import static com.alibaba.nacos.config.server.constant.Constants.PERSIST_ENCODE;
+
+/**
+ * In-memory config content cache in front of {@link ConfigDiskService}.
+ *
+ * <p>Entries are keyed by group key and gray name and are bounded by the approximate bytes of content. An entry is
+ * only returned when its md5 equals the md5 in {@code CacheItem}, and it is only stored when the md5 of the content
+ * read from disk equals the expected md5, so a concurrent dump can never make a stale content visible.
+ *
+ * @author Nacos
+ */
+public class ConfigContentCache {
+    
+    /**
+     * Approximate object overhead of one entry in bytes.
+     */
+    private static final int ENTRY_OVERHEAD = 64;
+    
+    private static volatile Cache<ContentKey, CachedContent> cache;
+    
+    /**
+     * Get formal content of config, read from disk if cache missed.
+     *
+     * @param dataId dataId.
+     * @param group  group.
+     * @param tenant tenant.
+     * @param md5    md5 of formal content in {@code CacheItem}.
+     * @return content null if not exist.
+     * @throws IOException io exception.
+     */
+    public static String getContent(String dataId, String group, String tenant, String md5) throws IOException {
+        ContentKey key = new ContentKey(GroupKey2.getKey(dataId, group, tenant), null);
+        return getOrLoad(key, md5, () -> ConfigDiskServiceFactory.getInstance().getContent(dataId, group, tenant));
+    }
+    
+    /**
+     * Get gray content of config, read from disk if cache missed.
+     *
+     * @param dataId   dataId.
+     * @param group    group.
+     * @param tenant   tenant.
+     * @param grayName grayName.
+     * @param md5      md5 of gray content in {@code CacheItem}.
+     * @return gray content, null if not exist.
+     * @throws IOException io exception.
+     */
+    public static String getGrayContent(String dataId, String group, String tenant, String grayName, String md5)
+            throws IOException {
+        ContentKey key = new ContentKey(GroupKey2.getKey(dataId, group, tenant), grayName);
+        return getOrLoad(key, md5,
+                () -> ConfigDiskServiceFactory.getInstance().getGrayContent(dataId, group, tenant, grayName));
+    }
+    
+    private static String getOrLoad(ContentKey key, String md5, ContentLoader loader) throws IOException {
+        Cache<ContentKey, CachedContent> current = getCache();
+        if (current == null || md5 == null) {
+            return loader.load();
+        }
+        CachedContent cachedContent = current.getIfPresent(key);
+        if (cachedContent != null && md5.equals(cachedContent.md5)) {
+            MetricsMonitor.getConfigContentCacheHitCounter().increment();
+            return cachedContent.content;
+        }
+        MetricsMonitor.getConfigContentCacheMissCounter().increment();
+        String content = loader.load();
+        if (content != null && weigh(content) <= ConfigCommonConfig.getInstance().getContentCacheMaxEntryBytes()
+                && isConsistent(md5, content)) {
+            current.put(key, new CachedContent(md5, content));
+            MetricsMonitor.getConfigContentCacheBytes().addAndGet(weigh(content));
+        }
+        return content;
+    }
+    
+    /**
+     * The md5 in {@code CacheItem} is computed by {@code ENCODE_UTF8} or {@code PERSIST_ENCODE} depending on the dump
+     * path, so accept content matching either of them.
+     */
+    private static boolean isConsistent(String md5, String content) {
+        if (md5.equals(MD5Utils.md5Hex(content, ENCODE_UTF8))) {
+            return true;
+        }
+        return !ENCODE_UTF8.equals(PERSIST_ENCODE) && md5.equals(MD5Utils.md5Hex(content, PERSIST_ENCODE));
+    }
+    
+    /**
+     * Invalidate the formal content of config.
+     *
+     * @param groupKey groupKey.
+     */
+    public static void invalidate(String groupKey) {
+        Cache<ContentKey, CachedContent> current = cache;
+        if (current != null) {
+            current.invalidate(new ContentKey(groupKey, null));
+        }
+    }
+    
+    /**
+     * Invalidate the gray content of config.
+     *
+     * @param groupKey groupKey.
+     * @param grayName grayName.
+     */
+    public static void invalidateGray(String groupKey, String grayName) {
+        Cache<ContentKey, CachedContent> current = cache;
+        if (current != null) {
+            current.invalidate(new ContentKey(groupKey, grayName));
+        }
+    }
+    
+    /**
+     * Invalidate all cached contents.
+     */
+    public static void invalidateAll() {
+        Cache<ContentKey, CachedContent> current = cache;
+        if (current != null) {
+            current.invalidateAll();
+        }
+    }
+    
+    public static long size() {
+        Cache<ContentKey, CachedContent> current = cache;
+        return current == null ? 0 : current.size();
+    }
+    
+    private static Cache<ContentKey, CachedContent> getCache() {
+        if (!ConfigCommonConfig.getInstance().isContentCacheEnabled()) {
+            return null;
+        }
+        if (cache == null) {
+            synchronized (ConfigContentCache.class) {
+                if (cache == null) {
+                    cache = CacheBuilder.newBuilder()
+                            .maximumWeight(ConfigCommonConfig.getInstance().getContentCacheMaxBytes())
+                            .weigher((ContentKey key, CachedContent value) -> weigh(value.content))
+                            .<ContentKey, CachedContent>removalListener(notification -> {
+                                MetricsMonitor.getConfigContentCacheBytes()
+                                        .addAndGet(-weigh(notification.getValue().content));
+                                if (notification.getCause() == RemovalCause.SIZE) {
+                                    MetricsMonitor.getConfigContentCacheEvictionCounter().increment();
+                                }
+                            }).build();
+                }
+            }
+        }
+        return cache;
+    }
+    
+    private static int weigh(String content) {
+        return content.length() * 2 + ENTRY_OVERHEAD;
+    }
+    
+    private interface ContentLoader {
+        
+        String load() throws IOException;
+    }
+    
+    private static class ContentKey {
+        
+        private final String groupKey;
+        
+        private final String grayName;
+        
+        ContentKey(String groupKey, String grayName) {
+            this.groupKey = groupKey;
+            this.grayName = grayName;
+        }
+        
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) {
+                return true;
+            }
+            if (o == null || getClass() != o.getClass()) {
+                return false;
+            }
+            ContentKey that = (ContentKey) o;
+            return groupKey.equals(that.groupKey) && Objects.equals(grayName, that.grayName);
+        }
+        
+        @Override
+        public int hashCode() {
+            return Objects.hash(groupKey, grayName);
+        }
+    }
+    
+    private static class CachedContent {
+        
+        private final String md5;
+        
+        private final String content;
+        
+        CachedContent(String md5, String content) {
+            this.md5 = md5;
+            this.content = content;
+        }
+    }
+}
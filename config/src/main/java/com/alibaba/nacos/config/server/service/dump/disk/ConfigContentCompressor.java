@@ -0,0 +1,144 @@
+/*
+ * Copyright 1999-2025 Alibaba Group Holding Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.alibaba.nacos.config.server.service.dump.disk;
+
+import com.alibaba.nacos.common.utils.IoUtils;
+import com.alibaba.nacos.config.server.configuration.ConfigCommonConfig;
+import com.alibaba.nacos.config.server.monitor.MetricsMonitor;
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * Threshold based GZIP compression of config content.
+ *
+ * <p>Content stored on disk is compressed when it is not smaller than {@code nacos.config.compress.threshold}. Since
+ * UTF-8 text never starts with the GZIP magic, compressed and plain content can be told apart when reading, so
+ * switching the feature on or off does not require clearing the disk cache.
+ *
+ * <p>Content compressed for grpc transfer is cached by md5, so repeated queries of a large config only pay for one
+ * compression until its content changes.
+ *
+ * @author Nacos
+ */
+public class ConfigContentCompressor {
+    
+    public static final String TYPE_DISK = "disk";
+    
+    public static final String TYPE_GRPC = "grpc";
+    
+    private static final int ENTRY_OVERHEAD = 64;
+    
+    private static volatile Cache<String, byte[]> transferCache;
+    
+    /**
+     * Encode content to bytes for storing on disk.
+     *
+     * @param content content.
+     * @return compressed bytes if the content is large enough, otherwise the UTF-8 bytes of content.
+     */
+    public static byte[] encode(String content) {
+        byte[] raw = content.getBytes(StandardCharsets.UTF_8);
+        byte[] compressed = compress(content, raw.length, TYPE_DISK);
+        return compressed == null ? raw : compressed;
+    }
+    
+    /**
+     * Decode the bytes stored on disk to content.
+     *
+     * @param bytes bytes stored on disk, nullable.
+     * @return content, null if bytes is null.
+     * @throws IOException if the compressed bytes is broken.
+     */
+    public static String decode(byte[] bytes) throws IOException {
+        if (bytes == null) {
+            return null;
+        }
+        if (IoUtils.isGzipStream(bytes)) {
+            return new String(IoUtils.tryDecompress(new ByteArrayInputStream(bytes)), StandardCharsets.UTF_8);
+        }
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+    
+    /**
+     * Compress content to be sent by grpc, the bytes are transferred as base64 in the json payload.
+     *
+     * @param md5     md5 of content, the compressed bytes are not cached if null.
+     * @param content content.
+     * @return compressed bytes, null if the content is too small or compression does not pay off.
+     */
+    public static byte[] compressForTransfer(String md5, String content) {
+        if (content == null || !isCompressible(content.length())) {
+            return null;
+        }
+        Cache<String, byte[]> cache = md5 == null ? null : getTransferCache();
+        byte[] compressed = cache == null ? null : cache.getIfPresent(md5);
+        int rawLength = content.getBytes(StandardCharsets.UTF_8).length;
+        if (compressed == null) {
+            compressed = IoUtils.tryCompress(content, StandardCharsets.UTF_8.name());
+            if (compressed.length == 0 || base64Length(compressed.length) >= rawLength) {
+                return null;
+            }
+            if (cache != null) {
+                cache.put(md5, compressed);
+            }
+        }
+        MetricsMonitor.getConfigCompressSavedBytesCounter(TYPE_GRPC)
+                .increment(rawLength - base64Length(compressed.length));
+        return compressed;
+    }
+    
+    private static byte[] compress(String content, int rawLength, String type) {
+        if (!isCompressible(rawLength)) {
+            return null;
+        }
+        byte[] compressed = IoUtils.tryCompress(content, StandardCharsets.UTF_8.name());
+        if (compressed.length == 0 || compressed.length >= rawLength) {
+            return null;
+        }
+        MetricsMonitor.getConfigCompressSavedBytesCounter(type).increment(rawLength - compressed.length);
+        return compressed;
+    }
+    
+    private static boolean isCompressible(int length) {
+        ConfigCommonConfig config = ConfigCommonConfig.getInstance();
+        return config.isCompressEnabled() && length >= config.getCompressThreshold();
+    }
+    
+    private static Cache<String, byte[]> getTransferCache() {
+        if (!ConfigCommonConfig.getInstance().isContentCacheEnabled()) {
+            return null;
+        }
+        if (transferCache == null) {
+            synchronized (ConfigContentCompressor.class) {
+                if (transferCache == null) {
+                    long maxBytes = ConfigCommonConfig.getInstance().getContentCacheMaxBytes();
+                    transferCache = CacheBuilder.newBuilder().maximumWeight(Math.max(1L, maxBytes / 4))
+                            .weigher((String key, byte[] value) -> value.length + ENTRY_OVERHEAD).build();
+                }
+            }
+        }
+        return transferCache;
+    }
+    
+    private static int base64Length(int length) {
+        return (length + 2) / 3 * 4;
+    }
+}
@@ -0,0 +1,229 @@
+/*
+ * Copyright 1999-2025 Alibaba Group Holding Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.alibaba.nacos.config.server.service.dump.disk;
+
+import com.alibaba.nacos.common.utils.LineDiffUtils;
+import com.alibaba.nacos.config.server.configuration.ConfigCommonConfig;
+import com.alibaba.nacos.config.server.monitor.MetricsMonitor;
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+
+import java.util.Objects;
+import java.util.concurrent.ExecutionException;
+
+import static com.alibaba.nacos.config.server.utils.LogUtil.DEFAULT_LOG;
+
+/**
+ * In-memory ring of previous formal contents of large configs, used to answer a query with a delta against the
+ * content the client already holds instead of the full content.
+ *
+ * <p>Previous contents are keyed by group key and md5 and bounded by approximate bytes, so the most recently replaced
+ * versions are kept. Computed patches are cached by base md5 and target md5, so a fleet of clients holding the same
+ * version only pays for one diff. History is lost on restart, clients then simply fetch the full content.
+ *
+ * @author Nacos
+ */
+public class ConfigDeltaCache {
+    
+    /**
+     * Max inserted and deleted lines of one delta, more changes are delivered as full content.
+     */
+    static final int MAX_DELTA_EDITS = 1000;
+    
+    /**
+     * Marks that no usable delta exists between two versions.
+     */
+    private static final String NO_DELTA = "";
+    
+    private static final int ENTRY_OVERHEAD = 64;
+    
+    private static volatile Cache<VersionKey, String> history;
+    
+    private static volatile Cache<DeltaKey, String> deltas;
+    
+    /**
+     * Record the content which is going to be replaced by a new version.
+     *
+     * @param groupKey groupKey.
+     * @param md5      md5 of the replaced content.
+     * @param content  the replaced content.
+     */
+    public static void recordHistory(String groupKey, String md5, String content) {
+        if (md5 == null || content == null || !isDeltaContent(content)) {
+            return;
+        }
+        ensureCaches();
+        history.put(new VersionKey(groupKey, md5), content);
+    }
+    
+    /**
+     * Whether the content replaced by the new content is worth to be recorded as history.
+     *
+     * <p>A delta is only served when the new content is large enough, and the replaced content is usually about the
+     * same size, so an entry heavier than the whole history cache would be evicted at once.
+     *
+     * @param newContent the new content.
+     * @return {@code true} if the replaced content should be recorded.
+     */
+    public static boolean isHistoryEligible(String newContent) {
+        return newContent != null && isDeltaContent(newContent)
+                && weigh(newContent) <= ConfigCommonConfig.getInstance().getDeltaHistoryMaxBytes();
+    }
+    
+    /**
+     * Get the delta from base version to target version.
+     *
+     * @param groupKey      groupKey.
+     * @param baseMd5       md5 of the content held by client.
+     * @param targetMd5     md5 of the current content.
+     * @param targetContent current content.
+     * @return delta, null if base version is unknown or the delta is not small enough.
+     */
+    public static String getDelta(String groupKey, String baseMd5, String targetMd5, String targetContent) {
+        if (baseMd5 == null || targetMd5 == null || targetContent == null || baseMd5.equals(targetMd5)
+                || !isDeltaContent(targetContent)) {
+            return null;
+        }
+        ensureCaches();
+        String baseContent = history.getIfPresent(new VersionKey(groupKey, baseMd5));
+        if (baseContent == null) {
+            MetricsMonitor.getConfigDeltaMissCounter().increment();
+            return null;
+        }
+        String delta;
+        try {
+            delta = deltas.get(new DeltaKey(groupKey, baseMd5, targetMd5),
+                    () -> computeDelta(baseContent, targetContent));
+        } catch (ExecutionException e) {
+            DEFAULT_LOG.warn("[delta] compute delta failed, groupKey={}", groupKey, e);
+            return null;
+        }
+        if (NO_DELTA.equals(delta)) {
+            MetricsMonitor.getConfigDeltaMissCounter().increment();
+            return null;
+        }
+        MetricsMonitor.getConfigDeltaHitCounter().increment();
+        MetricsMonitor.getConfigDeltaSavedBytesCounter().increment(targetContent.length() - delta.length());
+        return delta;
+    }
+    
+    /**
+     * Invalidate all history contents and deltas.
+     */
+    public static void invalidateAll() {
+        if (history != null) {
+            history.invalidateAll();
+        }
+        if (deltas != null) {
+            deltas.invalidateAll();
+        }
+    }
+    
+    private static String computeDelta(String baseContent, String targetContent) {
+        String delta = LineDiffUtils.diff(baseContent, targetContent, MAX_DELTA_EDITS);
+        // only worth it when the delta is at most half of the full content.
+        if (delta == null || delta.isEmpty() || delta.length() > targetContent.length() / 2) {
+            return NO_DELTA;
+        }
+        return delta;
+    }
+    
+    private static boolean isDeltaContent(String content) {
+        ConfigCommonConfig config = ConfigCommonConfig.getInstance();
+        return config.isDeltaEnabled() && content.length() >= config.getDeltaMinSize();
+    }
+    
+    private static void ensureCaches() {
+        if (history == null) {
+            synchronized (ConfigDeltaCache.class) {
+                if (history == null) {
+                    long maxBytes = ConfigCommonConfig.getInstance().getDeltaHistoryMaxBytes();
+                    deltas = CacheBuilder.newBuilder().maximumWeight(Math.max(1L, maxBytes / 4))
+                            .weigher((DeltaKey key, String value) -> weigh(value)).build();
+                    history = CacheBuilder.newBuilder().maximumWeight(maxBytes)
+                            .weigher((VersionKey key, String value) -> weigh(value)).build();
+                }
+            }
+        }
+    }
+    
+    private static int weigh(String content) {
+        return content.length() * 2 + ENTRY_OVERHEAD;
+    }
+    
+    private static class VersionKey {
+        
+        private final String groupKey;
+        
+        private final String md5;
+        
+        VersionKey(String groupKey, String md5) {
+            this.groupKey = groupKey;
+            this.md5 = md5;
+        }
+        
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) {
+                return true;
+            }
+            if (o == null || getClass() != o.getClass()) {
+                return false;
+            }
+            VersionKey that = (VersionKey) o;
+            return groupKey.equals(that.groupKey) && md5.equals(that.md5);
+        }
+        
+        @Override
+        public int hashCode() {
+            return Objects.hash(groupKey, md5);
+        }
+    }
+    
+    private static class DeltaKey {
+        
+        private final String groupKey;
+        
+        private final String baseMd5;
+        
+        private final String targetMd5;
+        
+        DeltaKey(String groupKey, String baseMd5, String targetMd5) {
+            this.groupKey = groupKey;
+            this.baseMd5 = baseMd5;
+            this.targetMd5 = targetMd5;
+        }
+        
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) {
+                return true;
+            }
+            if (o == null || getClass() != o.getClass()) {
+                return false;
+            }
+            DeltaKey that = (DeltaKey) o;
+            return groupKey.equals(that.groupKey) && baseMd5.equals(that.baseMd5) && targetMd5.equals(
+                    that.targetMd5);
+        }
+        
+        @Override
+        public int hashCode() {
+            return Objects.hash(groupKey, baseMd5, targetMd5);
+        }
+    }
+}
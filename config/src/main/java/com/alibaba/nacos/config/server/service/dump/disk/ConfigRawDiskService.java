@@ -20,19 +20,15 @@ import com.alibaba.nacos.api.exception.NacosException;
 import com.alibaba.nacos.api.exception.runtime.NacosRuntimeException;
 import com.alibaba.nacos.api.utils.StringUtils;
 import com.alibaba.nacos.common.pathencoder.PathEncoderManager;
-import com.alibaba.nacos.common.utils.IoUtils;
 import com.alibaba.nacos.config.server.utils.LogUtil;
 import com.alibaba.nacos.config.server.utils.ParamUtils;
 import com.alibaba.nacos.sys.env.EnvUtil;
 import org.apache.commons.io.FileUtils;
 
 import java.io.File;
-import java.io.FileInputStream;
 import java.io.FileNotFoundException;
 import java.io.IOException;
 
-import static com.alibaba.nacos.config.server.constant.Constants.ENCODE_UTF8;
-
 /**
  * config raw disk service.
  *
@@ -54,7 +50,7 @@ public class ConfigRawDiskService implements ConfigDiskService {
      */
     public void saveToDisk(String dataId, String group, String tenant, String content) throws IOException {
         File targetFile = targetFile(dataId, group, tenant);
-        FileUtils.writeStringToFile(targetFile, content, ENCODE_UTF8);
+        FileUtils.writeByteArrayToFile(targetFile, ConfigContentCompressor.encode(content));
     }
     
     /**
@@ -123,7 +119,7 @@ public class ConfigRawDiskService implements ConfigDiskService {
     public void saveGrayToDisk(String dataId, String group, String tenant, String grayName, String content)
             throws IOException {
         File targetGrayContentFile = targetGrayContentFile(dataId, group, tenant, grayName);
-        FileUtils.writeStringToFile(targetGrayContentFile, content, ENCODE_UTF8);
+        FileUtils.writeByteArrayToFile(targetGrayContentFile, ConfigContentCompressor.encode(content));
     }
     
     /**
@@ -144,7 +140,7 @@ public class ConfigRawDiskService implements ConfigDiskService {
         if (!file.exists()) {
             return null;
         }
-        return FileUtils.readFileToString(file, ENCODE_UTF8);
+        return ConfigContentCompressor.decode(FileUtils.readFileToByteArray(file));
     }
     
     /**
@@ -157,14 +153,10 @@ public class ConfigRawDiskService implements ConfigDiskService {
     public String getContent(String dataId, String group, String tenant) throws IOException {
         File file = targetFile(dataId, group, tenant);
         if (file.exists()) {
-            FileInputStream fis = null;
             try {
-                fis = new FileInputStream(file);
-                return IoUtils.toString(fis, ENCODE_UTF8);
+                return ConfigContentCompressor.decode(FileUtils.readFileToByteArray(file));
             } catch (FileNotFoundException e) {
                 return null;
-            } finally {
-                IoUtils.closeQuietly(fis);
             }
         } else {
             return null;
@@ -123,7 +123,7 @@ public class ConfigRocksDbDiskService implements ConfigDiskService {
     public void saveToDiskInner(String type, String dataId, String group, String tenant, String tag, String content)
             throws IOException {
         try {
-            initAndGetDB(type).put(getKeyByte(dataId, group, tenant, tag), content.getBytes(ENCODE_UTF8));
+            initAndGetDB(type).put(getKeyByte(dataId, group, tenant, tag), ConfigContentCompressor.encode(content));
         } catch (RocksDBException e) {
             throw new IOException(e);
         }
@@ -143,7 +143,8 @@ public class ConfigRocksDbDiskService implements ConfigDiskService {
     public void saveGrayToDiskInner(String type, String dataId, String group, String tenant, String grayName,
             String content) throws IOException {
         try {
-            initAndGetDB(type).put(getKeyByte(dataId, group, tenant, grayName), content.getBytes(ENCODE_UTF8));
+            initAndGetDB(type)
+                    .put(getKeyByte(dataId, group, tenant, grayName), ConfigContentCompressor.encode(content));
         } catch (RocksDBException e) {
             throw new IOException(e);
         }
@@ -180,13 +181,6 @@ public class ConfigRocksDbDiskService implements ConfigDiskService {
         
     }
     
-    private String byte2String(byte[] bytes) throws IOException {
-        if (bytes == null) {
-            return null;
-        }
-        return new String(bytes, ENCODE_UTF8);
-    }
-    
     RocksDB initAndGetDB(String dir) throws IOException, RocksDBException {
         if (rocksDbMap.containsKey(dir)) {
             return rocksDbMap.get(dir);
@@ -214,7 +208,7 @@ public class ConfigRocksDbDiskService implements ConfigDiskService {
         byte[] bytes = null;
         try {
             bytes = initAndGetDB(type).get(getKeyByte(dataId, group, tenant, null));
-            String string = byte2String(bytes);
+            String string = ConfigContentCompressor.decode(bytes);
             return string;
         } catch (RocksDBException e) {
             throw new IOException(e);
@@ -226,7 +220,7 @@ public class ConfigRocksDbDiskService implements ConfigDiskService {
         byte[] bytes = null;
         try {
             bytes = initAndGetDB(type).get(getKeyByte(dataId, group, tenant, grayName));
-            return byte2String(bytes);
+            return ConfigContentCompressor.decode(bytes);
         } catch (RocksDBException e) {
             throw new IOException(e);
         }
@@ -0,0 +1,225 @@
+/*
+ * Copyright 1999-2025 Alibaba Group Holding Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.alibaba.nacos.config.server.service.dump.disk;
+
+import com.alibaba.nacos.common.utils.StringUtils;
+import com.alibaba.nacos.config.server.utils.ConfigExecutor;
+import com.alibaba.nacos.config.server.utils.LogUtil;
+import com.alibaba.nacos.sys.env.EnvUtil;
+
+import java.io.File;
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * config append-only segment disk service.
+ *
+ * <p>All configs are appended to a few large segment files instead of one file per config, which avoids the inode
+ * pressure and the small file writes of {@link ConfigRawDiskService} when dumping a large amount of configs.
+ *
+ * @author Nacos
+ */
+@SuppressWarnings("PMD.ServiceOrDaoClassShouldEndWithImplRule")
+public class ConfigSegmentDiskService implements ConfigDiskService {
+    
+    private static final String SEGMENT_DATA = "segmentdata";
+    
+    private static final String BASE_DIR = "config-data";
+    
+    private static final String GRAY_DIR = "gray-data";
+    
+    private static final String MAX_SEGMENT_BYTES = "nacos.config.disk.segment.maxBytes";
+    
+    private static final String COMPACT_GARBAGE_RATIO = "nacos.config.disk.segment.compactRatio";
+    
+    private static final String COMPACT_INTERVAL_SECONDS = "nacos.config.disk.segment.compactIntervalSeconds";
+    
+    private static final long DEFAULT_MAX_SEGMENT_BYTES = 64L * 1024 * 1024;
+    
+    private static final double DEFAULT_COMPACT_GARBAGE_RATIO = 0.5D;
+    
+    private static final long DEFAULT_COMPACT_INTERVAL_SECONDS = 300L;
+    
+    private final File rootDir;
+    
+    private final long maxSegmentBytes;
+    
+    private final double compactGarbageRatio;
+    
+    private volatile SegmentLogStore formalStore;
+    
+    private volatile SegmentLogStore grayStore;
+    
+    public ConfigSegmentDiskService() {
+        this(new File(EnvUtil.getNacosHome(), SEGMENT_DATA),
+                EnvUtil.getProperty(MAX_SEGMENT_BYTES, Long.class, DEFAULT_MAX_SEGMENT_BYTES),
+                EnvUtil.getProperty(COMPACT_GARBAGE_RATIO, Double.class, DEFAULT_COMPACT_GARBAGE_RATIO));
+        long interval = EnvUtil.getProperty(COMPACT_INTERVAL_SECONDS, Long.class, DEFAULT_COMPACT_INTERVAL_SECONDS);
+        ConfigExecutor.scheduleSegmentCompactionTask(this::compact, interval, interval, TimeUnit.SECONDS);
+    }
+    
+    ConfigSegmentDiskService(File rootDir, long maxSegmentBytes, double compactGarbageRatio) {
+        this.rootDir = rootDir;
+        this.maxSegmentBytes = maxSegmentBytes;
+        this.compactGarbageRatio = compactGarbageRatio;
+    }
+    
+    private String getKey(String dataId, String group, String tenant, String grayName) {
+        StringBuilder stringBuilder = new StringBuilder();
+        for (String key : new String[] {dataId, group, tenant, grayName}) {
+            if (StringUtils.isBlank(key)) {
+                key = "";
+            }
+            urlEncode(key, stringBuilder);
+            stringBuilder.append("+");
+        }
+        return stringBuilder.toString();
+    }
+    
+    /**
+     * + -> %2B % -> %25.
+     */
+    private static void urlEncode(String str, StringBuilder sb) {
+        for (int idx = 0; idx < str.length(); ++idx) {
+            char c = str.charAt(idx);
+            if ('+' == c) {
+                sb.append("%2B");
+            } else if ('%' == c) {
+                sb.append("%25");
+            } else {
+                sb.append(c);
+            }
+        }
+    }
+    
+    SegmentLogStore getFormalStore() throws IOException {
+        if (formalStore == null) {
+            synchronized (this) {
+                if (formalStore == null) {
+                    formalStore = new SegmentLogStore(new File(rootDir, BASE_DIR), maxSegmentBytes,
+                            compactGarbageRatio);
+                }
+            }
+        }
+        return formalStore;
+    }
+    
+    SegmentLogStore getGrayStore() throws IOException {
+        if (grayStore == null) {
+            synchronized (this) {
+                if (grayStore == null) {
+                    grayStore = new SegmentLogStore(new File(rootDir, GRAY_DIR), maxSegmentBytes,
+                            compactGarbageRatio);
+                }
+            }
+        }
+        return grayStore;
+    }
+    
+    /**
+     * Save configuration information to disk.
+     */
+    @Override
+    public void saveToDisk(String dataId, String group, String tenant, String content) throws IOException {
+        getFormalStore().put(getKey(dataId, group, tenant, null), ConfigContentCompressor.encode(content));
+    }
+    
+    /**
+     * Save gray information to disk.
+     */
+    @Override
+    public void saveGrayToDisk(String dataId, String group, String tenant, String grayName, String content)
+            throws IOException {
+        getGrayStore().put(getKey(dataId, group, tenant, grayName), ConfigContentCompressor.encode(content));
+    }
+    
+    /**
+     * Deletes configuration on disk.
+     */
+    @Override
+    public void removeConfigInfo(String dataId, String group, String tenant) {
+        try {
+            getFormalStore().delete(getKey(dataId, group, tenant, null));
+        } catch (IOException e) {
+            LogUtil.DEFAULT_LOG.warn("Remove config fail,dataId={},group={},tenant={},error={}", dataId, group, tenant,
+                    e.getMessage());
+        }
+    }
+    
+    /**
+     * Deletes gray configuration on disk.
+     */
+    @Override
+    public void removeConfigInfo4Gray(String dataId, String group, String tenant, String grayName) {
+        try {
+            getGrayStore().delete(getKey(dataId, group, tenant, grayName));
+        } catch (IOException e) {
+            LogUtil.DEFAULT_LOG.warn("Remove gray config fail,dataId={},group={},tenant={},grayName={},error={}",
+                    dataId, group, tenant, grayName, e.getMessage());
+        }
+    }
+    
+    @Override
+    public String getGrayContent(String dataId, String group, String tenant, String grayName) throws IOException {
+        return ConfigContentCompressor.decode(getGrayStore().get(getKey(dataId, group, tenant, grayName)));
+    }
+    
+    @Override
+    public String getContent(String dataId, String group, String tenant) throws IOException {
+        return ConfigContentCompressor.decode(getFormalStore().get(getKey(dataId, group, tenant, null)));
+    }
+    
+    /**
+     * Compact the segments of formal and gray configs.
+     */
+    public void compact() {
+        SegmentLogStore formal = formalStore;
+        if (formal != null) {
+            formal.compact();
+        }
+        SegmentLogStore gray = grayStore;
+        if (gray != null) {
+            gray.compact();
+        }
+    }
+    
+    /**
+     * Clear all config file.
+     */
+    @Override
+    public void clearAll() {
+        try {
+            getFormalStore().clear();
+            LogUtil.DEFAULT_LOG.info("clear all config-info success.");
+        } catch (IOException e) {
+            LogUtil.DEFAULT_LOG.warn("clear all config-info failed.", e);
+        }
+    }
+    
+    /**
+     * Clear all gray config file.
+     */
+    @Override
+    public void clearAllGray() {
+        try {
+            getGrayStore().clear();
+            LogUtil.DEFAULT_LOG.info("clear all config-info-gray success.");
+        } catch (IOException e) {
+            LogUtil.DEFAULT_LOG.warn("clear all config-info-gray failed.", e);
+        }
+    }
+}
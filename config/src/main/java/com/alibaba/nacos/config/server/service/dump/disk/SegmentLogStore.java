@@ -0,0 +1,450 @@
+/*
+ * Copyright 1999-2025 Alibaba Group Holding Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.alibaba.nacos.config.server.service.dump.disk;
+
+import com.alibaba.nacos.config.server.utils.LogUtil;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.RandomAccessFile;
+import java.nio.Buffer;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.zip.CRC32;
+
+/**
+ * Append-only log-structured key value store used by {@link ConfigSegmentDiskService}.
+ *
+ * <p>Records are appended to the active segment file and the latest location of every key is kept in an in-memory
+ * index. A segment is sealed and memory mapped once it reaches the max segment size, and sealed segments whose
+ * garbage ratio exceeds the threshold are rewritten by {@link #compact()}. The index is rebuilt by replaying all
+ * segments in order when the store is opened, and a broken tail left by a crash is truncated.
+ *
+ * <p>Record layout: {@code crc32(int) | op(byte) | keyLength(int) | valueLength(int) | key | value}, where the crc
+ * covers everything after itself.
+ *
+ * @author Nacos
+ */
+class SegmentLogStore {
+    
+    private static final int HEADER_LENGTH = 13;
+    
+    private static final int CRC_LENGTH = 4;
+    
+    private static final byte OP_PUT = 1;
+    
+    private static final byte OP_DELETE = 2;
+    
+    private static final String SEGMENT_SUFFIX = ".segment";
+    
+    private final File dir;
+    
+    private final long maxSegmentBytes;
+    
+    private final double compactGarbageRatio;
+    
+    private final ConcurrentSkipListMap<Long, Segment> segments = new ConcurrentSkipListMap<>();
+    
+    private final Map<String, Location> index = new ConcurrentHashMap<>();
+    
+    private volatile Segment activeSegment;
+    
+    private long nextSegmentId;
+    
+    SegmentLogStore(File dir, long maxSegmentBytes, double compactGarbageRatio) throws IOException {
+        this.dir = dir;
+        this.maxSegmentBytes = maxSegmentBytes;
+        this.compactGarbageRatio = compactGarbageRatio;
+        recover();
+    }
+    
+    /**
+     * Get value of key.
+     *
+     * @param key key
+     * @return value, null if not exist.
+     * @throws IOException io exception.
+     */
+    byte[] get(String key) throws IOException {
+        while (true) {
+            Location location = index.get(key);
+            if (location == null) {
+                return null;
+            }
+            try {
+                return location.segment.read(location.valueOffset, location.valueLength);
+            } catch (IOException e) {
+                // the segment is compacted or cleared concurrently, retry with the latest location.
+                if (index.get(key) == location) {
+                    throw e;
+                }
+            }
+        }
+    }
+    
+    /**
+     * Put value of key.
+     *
+     * @param key   key
+     * @param value value
+     * @throws IOException io exception.
+     */
+    synchronized void put(String key, byte[] value) throws IOException {
+        append(OP_PUT, key, key.getBytes(StandardCharsets.UTF_8), value);
+    }
+    
+    /**
+     * Delete key, a tombstone is appended so that the key is not revived by replaying older segments.
+     *
+     * @param key key
+     * @throws IOException io exception.
+     */
+    synchronized void delete(String key) throws IOException {
+        if (!index.containsKey(key)) {
+            return;
+        }
+        append(OP_DELETE, key, key.getBytes(StandardCharsets.UTF_8), new byte[0]);
+    }
+    
+    int size() {
+        return index.size();
+    }
+    
+    int segmentCount() {
+        return segments.size();
+    }
+    
+    /**
+     * Delete all segments and data.
+     */
+    synchronized void clear() {
+        index.clear();
+        for (Segment segment : segments.values()) {
+            segment.delete();
+        }
+        segments.clear();
+        activeSegment = null;
+    }
+    
+    /**
+     * Force the active segment to disk and close all segments.
+     */
+    synchronized void close() {
+        Segment active = activeSegment;
+        if (active != null) {
+            try {
+                active.file.getChannel().force(false);
+            } catch (IOException e) {
+                LogUtil.DEFAULT_LOG.warn("Force segment {} failed.", active.path, e);
+            }
+        }
+        for (Segment segment : segments.values()) {
+            segment.close();
+        }
+    }
+    
+    /**
+     * Rewrite the live records of sealed segments whose garbage ratio exceeds the threshold, then delete them.
+     *
+     * <p>Tombstones are only garbage in the oldest segment, because there is no older record that they can hide.
+     */
+    void compact() {
+        for (Segment segment : segments.values()) {
+            if (segment == activeSegment || segment.mapped == null || segment.size == 0) {
+                continue;
+            }
+            long garbage = segment.garbageBytes.get();
+            Map.Entry<Long, Segment> first = segments.firstEntry();
+            boolean oldest = first != null && first.getValue() == segment;
+            if (oldest) {
+                garbage += segment.tombstoneBytes.get();
+            }
+            if (garbage < segment.size * compactGarbageRatio) {
+                continue;
+            }
+            try {
+                compactSegment(segment, oldest);
+            } catch (IOException e) {
+                LogUtil.DEFAULT_LOG.warn("Compact segment {} failed.", segment.path, e);
+            }
+        }
+    }
+    
+    private void compactSegment(Segment segment, boolean oldest) throws IOException {
+        long start = System.currentTimeMillis();
+        ByteBuffer buffer = segment.mapped.duplicate();
+        int position = 0;
+        int rewrite = 0;
+        while (position < segment.size) {
+            byte op = buffer.get(position + CRC_LENGTH);
+            int keyLength = buffer.getInt(position + CRC_LENGTH + 1);
+            int valueLength = buffer.getInt(position + CRC_LENGTH + 5);
+            byte[] keyBytes = copy(buffer, position + HEADER_LENGTH, keyLength);
+            int valueOffset = position + HEADER_LENGTH + keyLength;
+            String key = new String(keyBytes, StandardCharsets.UTF_8);
+            if (op == OP_PUT) {
+                Location location = index.get(key);
+                if (location != null && location.segment == segment && location.valueOffset == valueOffset) {
+                    byte[] value = copy(buffer, valueOffset, valueLength);
+                    synchronized (this) {
+                        if (index.get(key) == location) {
+                            append(OP_PUT, key, keyBytes, value);
+                            rewrite++;
+                        }
+                    }
+                }
+            } else if (!oldest) {
+                synchronized (this) {
+                    if (!index.containsKey(key) && segments.containsKey(segment.id)) {
+                        append(OP_DELETE, key, keyBytes, new byte[0]);
+                        rewrite++;
+                    }
+                }
+            }
+            position = valueOffset + valueLength;
+        }
+        synchronized (this) {
+            if (segments.remove(segment.id, segment)) {
+                segment.delete();
+            }
+        }
+        LogUtil.DEFAULT_LOG.info("Compact segment {} finished, rewrite {} records, cost {} ms.", segment.path, rewrite,
+                System.currentTimeMillis() - start);
+    }
+    
+    private void append(byte op, String key, byte[] keyBytes, byte[] value) throws IOException {
+        int recordLength = HEADER_LENGTH + keyBytes.length + value.length;
+        ByteBuffer record = ByteBuffer.allocate(recordLength);
+        record.putInt(0);
+        record.put(op);
+        record.putInt(keyBytes.length);
+        record.putInt(value.length);
+        record.put(keyBytes);
+        record.put(value);
+        CRC32 crc32 = new CRC32();
+        crc32.update(record.array(), CRC_LENGTH, recordLength - CRC_LENGTH);
+        record.putInt(0, (int) crc32.getValue());
+        ((Buffer) record).flip();
+        
+        Segment segment = rollIfNecessary(recordLength);
+        long recordOffset = segment.append(record);
+        applyRecord(segment, op, key, recordOffset, keyBytes.length, value.length);
+    }
+    
+    private void applyRecord(Segment segment, byte op, String key, long recordOffset, int keyLength,
+            int valueLength) {
+        int recordLength = HEADER_LENGTH + keyLength + valueLength;
+        Location old;
+        if (op == OP_PUT) {
+            old = index.put(key, new Location(segment, recordOffset + HEADER_LENGTH + keyLength, valueLength,
+                    recordLength));
+        } else {
+            old = index.remove(key);
+            segment.tombstoneBytes.addAndGet(recordLength);
+        }
+        if (old != null) {
+            old.segment.garbageBytes.addAndGet(old.recordLength);
+        }
+    }
+    
+    private Segment rollIfNecessary(int recordLength) throws IOException {
+        Segment active = activeSegment;
+        if (active != null && (active.size == 0 || active.size + recordLength <= maxSegmentBytes)) {
+            return active;
+        }
+        if (active != null) {
+            active.seal();
+        }
+        active = Segment.open(new File(dir, segmentFileName(nextSegmentId++)));
+        segments.put(active.id, active);
+        activeSegment = active;
+        return active;
+    }
+    
+    private void recover() throws IOException {
+        if (!dir.exists() && !dir.mkdirs()) {
+            throw new IOException("Create segment dir failed, dir=" + dir);
+        }
+        File[] files = dir.listFiles((d, name) -> name.endsWith(SEGMENT_SUFFIX));
+        List<Segment> recovered = new ArrayList<>();
+        if (files != null) {
+            for (File file : files) {
+                recovered.add(Segment.open(file));
+            }
+        }
+        recovered.sort((o1, o2) -> Long.compare(o1.id, o2.id));
+        for (Segment segment : recovered) {
+            recoverSegment(segment);
+            if (segment.size == 0) {
+                segment.delete();
+                continue;
+            }
+            segment.seal();
+            segments.put(segment.id, segment);
+            nextSegmentId = segment.id + 1;
+        }
+        LogUtil.DEFAULT_LOG.info("Recover segment store {} finished, segments={}, keys={}.", dir, segments.size(),
+                index.size());
+    }
+    
+    private void recoverSegment(Segment segment) throws IOException {
+        long fileLength = segment.file.length();
+        ByteBuffer buffer = segment.file.getChannel().map(FileChannel.MapMode.READ_ONLY, 0, fileLength);
+        int position = 0;
+        while (fileLength - position >= HEADER_LENGTH) {
+            int crc = buffer.getInt(position);
+            byte op = buffer.get(position + CRC_LENGTH);
+            int keyLength = buffer.getInt(position + CRC_LENGTH + 1);
+            int valueLength = buffer.getInt(position + CRC_LENGTH + 5);
+            if (op != OP_PUT && op != OP_DELETE || keyLength < 0 || valueLength < 0
+                    || (long) HEADER_LENGTH + keyLength + valueLength > fileLength - position) {
+                break;
+            }
+            int recordLength = HEADER_LENGTH + keyLength + valueLength;
+            byte[] body = copy(buffer, position + CRC_LENGTH, recordLength - CRC_LENGTH);
+            CRC32 crc32 = new CRC32();
+            crc32.update(body, 0, body.length);
+            if (crc != (int) crc32.getValue()) {
+                break;
+            }
+            String key = new String(body, HEADER_LENGTH - CRC_LENGTH, keyLength, StandardCharsets.UTF_8);
+            applyRecord(segment, op, key, position, keyLength, valueLength);
+            position += recordLength;
+        }
+        if (position < fileLength) {
+            LogUtil.DEFAULT_LOG.warn("Segment {} has broken tail, truncate from {} to {}.", segment.path, fileLength,
+                    position);
+            segment.file.setLength(position);
+        }
+        segment.size = position;
+    }
+    
+    private static byte[] copy(ByteBuffer buffer, int offset, int length) {
+        byte[] bytes = new byte[length];
+        ByteBuffer duplicate = buffer.duplicate();
+        ((Buffer) duplicate).position(offset);
+        duplicate.get(bytes);
+        return bytes;
+    }
+    
+    private static String segmentFileName(long id) {
+        return String.format("%020d", id) + SEGMENT_SUFFIX;
+    }
+    
+    private static class Location {
+        
+        private final Segment segment;
+        
+        private final long valueOffset;
+        
+        private final int valueLength;
+        
+        private final int recordLength;
+        
+        Location(Segment segment, long valueOffset, int valueLength, int recordLength) {
+            this.segment = segment;
+            this.valueOffset = valueOffset;
+            this.valueLength = valueLength;
+            this.recordLength = recordLength;
+        }
+    }
+    
+    /**
+     * Segment file. Reads and writes go through {@link RandomAccessFile} instead of {@link FileChannel} positional
+     * io, so that an interrupted caller can not close the file for everyone else.
+     */
+    private static class Segment {
+        
+        private final long id;
+        
+        private final File path;
+        
+        private final RandomAccessFile file;
+        
+        private final AtomicLong garbageBytes = new AtomicLong();
+        
+        private final AtomicLong tombstoneBytes = new AtomicLong();
+        
+        private volatile long size;
+        
+        private volatile MappedByteBuffer mapped;
+        
+        private Segment(long id, File path, RandomAccessFile file) {
+            this.id = id;
+            this.path = path;
+            this.file = file;
+        }
+        
+        static Segment open(File path) throws IOException {
+            String name = path.getName();
+            long id = Long.parseLong(name.substring(0, name.length() - SEGMENT_SUFFIX.length()));
+            return new Segment(id, path, new RandomAccessFile(path, "rw"));
+        }
+        
+        long append(ByteBuffer record) throws IOException {
+            long offset = size;
+            synchronized (file) {
+                file.seek(offset);
+                file.write(record.array(), record.position(), record.remaining());
+            }
+            size = offset + record.remaining();
+            return offset;
+        }
+        
+        byte[] read(long offset, int length) throws IOException {
+            MappedByteBuffer buffer = mapped;
+            if (buffer != null) {
+                return copy(buffer, (int) offset, length);
+            }
+            byte[] bytes = new byte[length];
+            synchronized (file) {
+                file.seek(offset);
+                file.readFully(bytes);
+            }
+            return bytes;
+        }
+        
+        void seal() throws IOException {
+            FileChannel channel = file.getChannel();
+            channel.force(false);
+            mapped = channel.map(FileChannel.MapMode.READ_ONLY, 0, size);
+        }
+        
+        void close() {
+            try {
+                file.close();
+            } catch (IOException e) {
+                LogUtil.DEFAULT_LOG.warn("Close segment {} failed.", path, e);
+            }
+        }
+        
+        void delete() {
+            close();
+            if (!path.delete()) {
+                LogUtil.DEFAULT_LOG.warn("Delete segment {} failed.", path);
+            }
+        }
+    }
+}
@@ -26,8 +26,11 @@ import com.alibaba.nacos.config.server.utils.GroupKey2;
 import com.alibaba.nacos.config.server.utils.LogUtil;
 import com.alibaba.nacos.persistence.model.Page;
 
+import java.util.concurrent.atomic.AtomicInteger;
+
 import static com.alibaba.nacos.config.server.utils.LogUtil.DEFAULT_LOG;
 import static com.alibaba.nacos.config.server.utils.PropertyUtil.getAllDumpPageSize;
+import static com.alibaba.nacos.config.server.utils.PropertyUtil.getAllDumpParallelism;
 
 /**
  * Dump all gray processor.
@@ -49,29 +52,43 @@ public class DumpAllGrayProcessor implements NacosTaskProcessor {
                     task.getClass().getSimpleName());
             return false;
         }
-        int rowCount = configInfoGrayPersistService.configInfoGrayCount();
-        int pageCount = (int) Math.ceil(rowCount * 1.0 / PAGE_SIZE);
+        final int rowCount = configInfoGrayPersistService.configInfoGrayCount();
+        final int pageCount = (int) Math.ceil(rowCount * 1.0 / PAGE_SIZE);
+        final int parallelism = Math.max(1, Math.min(getAllDumpParallelism(), pageCount));
         
-        int actualRowCount = 0;
-        for (int pageNo = 1; pageNo <= pageCount; pageNo++) {
-            Page<ConfigInfoGrayWrapper> page = configInfoGrayPersistService.findAllConfigInfoGrayForDumpAll(pageNo, PAGE_SIZE);
-            if (page != null) {
-                for (ConfigInfoGrayWrapper cf : page.getPageItems()) {
-                    boolean result = ConfigCacheService
-                            .dumpGray(cf.getDataId(), cf.getGroup(), cf.getTenant(), cf.getGrayName(), cf.getGrayRule(), cf.getContent(),
-                                    cf.getLastModified(), cf.getEncryptedDataKey());
-                    LogUtil.DUMP_LOG.info("[dump-all-gray-ok] result={}, {}, {}, length={}, md5={}, grayName={}", result,
-                            GroupKey2.getKey(cf.getDataId(), cf.getGroup()), cf.getLastModified(),
-                            cf.getContent().length(), cf.getMd5(), cf.getGrayName());
-                }
-                
-                actualRowCount += page.getPageItems().size();
-                DEFAULT_LOG.info("[all-dump-gray] {} / {}", actualRowCount, rowCount);
+        final DumpAllProgress progress = new DumpAllProgress(PROGRESS_TYPE, rowCount);
+        final AtomicInteger nextPageNo = new AtomicInteger(1);
+        DumpAllWorkers.run("com.alibaba.nacos.config.dump.all.gray", parallelism, () -> {
+            int pageNo;
+            while (!Thread.currentThread().isInterrupted() && (pageNo = nextPageNo.getAndIncrement()) <= pageCount) {
+                dumpPage(pageNo, rowCount, progress);
             }
-        }
+        });
+        progress.finish();
         return true;
     }
     
+    private void dumpPage(int pageNo, int rowCount, DumpAllProgress progress) {
+        Page<ConfigInfoGrayWrapper> page = configInfoGrayPersistService.findAllConfigInfoGrayForDumpAll(pageNo,
+                PAGE_SIZE);
+        if (page != null) {
+            for (ConfigInfoGrayWrapper cf : page.getPageItems()) {
+                boolean result = ConfigCacheService
+                        .dumpGray(cf.getDataId(), cf.getGroup(), cf.getTenant(), cf.getGrayName(), cf.getGrayRule(),
+                                cf.getContent(), cf.getLastModified(), cf.getEncryptedDataKey());
+                LogUtil.DUMP_LOG.info("[dump-all-gray-ok] result={}, {}, {}, length={}, md5={}, grayName={}", result,
+                        GroupKey2.getKey(cf.getDataId(), cf.getGroup()), cf.getLastModified(),
+                        cf.getContent().length(), cf.getMd5(), cf.getGrayName());
+            }
+            
+            int rows = page.getPageItems().size();
+            progress.update(rows, rows);
+            DEFAULT_LOG.info("[all-dump-gray] {} / {}", progress.getProcessedRows(), rowCount);
+        }
+    }
+    
+    static final String PROGRESS_TYPE = "gray";
+    
     static final int PAGE_SIZE = getAllDumpPageSize();
     
     final ConfigInfoGrayPersistService configInfoGrayPersistService;
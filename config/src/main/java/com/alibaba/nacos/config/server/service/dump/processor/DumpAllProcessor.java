@@ -34,6 +34,7 @@ import java.util.concurrent.LinkedBlockingQueue;
 import java.util.concurrent.SynchronousQueue;
 import java.util.concurrent.ThreadPoolExecutor;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
 
 import static com.alibaba.nacos.config.server.constant.Constants.ENCODE_UTF8;
 import static com.alibaba.nacos.config.server.utils.LogUtil.DEFAULT_LOG;
@@ -59,106 +60,159 @@ public class DumpAllProcessor implements NacosTaskProcessor {
             return false;
         }
         DumpAllTask dumpAllTask = (DumpAllTask) task;
-        
-        long currentMaxId = configInfoPersistService.findConfigMaxId();
-        long lastMaxId = 0;
-        ThreadPoolExecutor executorService = null;
-        if (dumpAllTask.isStartUp()) {
+        final boolean startUp = dumpAllTask.isStartUp();
+        final long currentMaxId = configInfoPersistService.findConfigMaxId();
+        final int pageSize = PropertyUtil.getAllDumpPageSize();
+        final long rangeSize = (long) pageSize * RANGE_PAGE_COUNT;
+        final int parallelism = startUp ? Math.max(1, PropertyUtil.getAllDumpParallelism()) : 1;
+        final ThreadPoolExecutor executorService;
+        if (startUp) {
             executorService = new ThreadPoolExecutor(Runtime.getRuntime().availableProcessors(),
                     Runtime.getRuntime().availableProcessors(), 60L, TimeUnit.SECONDS,
-                    new LinkedBlockingQueue<>(PropertyUtil.getAllDumpPageSize() * 2),
-                    r -> new Thread(r, "dump all executor"), new ThreadPoolExecutor.CallerRunsPolicy());
+                    new LinkedBlockingQueue<>(pageSize * 2), r -> new Thread(r, "dump all executor"),
+                    new ThreadPoolExecutor.CallerRunsPolicy());
         } else {
             executorService = new ThreadPoolExecutor(1, 1, 60L, TimeUnit.SECONDS, new SynchronousQueue<>(),
                     r -> new Thread(r, "dump all executor"), new ThreadPoolExecutor.CallerRunsPolicy());
         }
         
-        DEFAULT_LOG.info("start dump all config-info...");
+        DEFAULT_LOG.info("start dump all config-info, maxId={}, parallelism={}...", currentMaxId, parallelism);
         
-        while (lastMaxId < currentMaxId) {
+        // ranges are pulled by the workers, and the disk work queue of executorService is bounded with
+        // CallerRunsPolicy, so fetching never runs far ahead of dumping.
+        final DumpAllProgress progress = new DumpAllProgress(PROGRESS_TYPE, currentMaxId);
+        final AtomicLong nextRangeStart = new AtomicLong(0);
+        try {
+            DumpAllWorkers.run("com.alibaba.nacos.config.dump.all.range", parallelism, () -> {
+                long rangeStart;
+                while (!Thread.currentThread().isInterrupted()
+                        && (rangeStart = nextRangeStart.getAndAdd(rangeSize)) < currentMaxId) {
+                    dumpRange(rangeStart, Math.min(rangeStart + rangeSize, currentMaxId), pageSize, startUp,
+                            executorService, progress);
+                }
+            });
+        } catch (RuntimeException | Error e) {
+            executorService.shutdownNow();
+            throw e;
+        }
+        
+        //wait all task are finished and then shutdown executor.
+        try {
+            int unfinishedTaskCount = 0;
+            while ((unfinishedTaskCount = executorService.getQueue().size() + executorService.getActiveCount()) > 0) {
+                DEFAULT_LOG.info("[all-dump] wait {} dump tasks to be finished", unfinishedTaskCount);
+                Thread.sleep(1000L);
+            }
+            executorService.shutdown();
+            
+        } catch (Exception e) {
+            DEFAULT_LOG.error("[all-dump] wait  dump tasks to be finished error", e);
+        }
+        progress.finish();
+        DEFAULT_LOG.info("success to  dump all config-info。");
+        return true;
+    }
+    
+    /**
+     * Dump the configs with id in (rangeStart, rangeEnd].
+     */
+    private void dumpRange(long rangeStart, long rangeEnd, int pageSize, boolean startUp,
+            ThreadPoolExecutor executorService, DumpAllProgress progress) {
+        long lastMaxId = rangeStart;
+        while (lastMaxId < rangeEnd) {
             
             long start = System.currentTimeMillis();
             
-            Page<ConfigInfoWrapper> page = configInfoPersistService.findAllConfigInfoFragment(lastMaxId,
-                    PropertyUtil.getAllDumpPageSize(), dumpAllTask.isStartUp());
+            // ids are unique, so there are at most (rangeEnd - lastMaxId) rows left in this range.
+            int limit = (int) Math.min(pageSize, rangeEnd - lastMaxId);
+            Page<ConfigInfoWrapper> page = configInfoPersistService.findAllConfigInfoFragment(lastMaxId, limit,
+                    startUp);
             long dbTimeStamp = System.currentTimeMillis();
             if (page == null || page.getPageItems() == null || page.getPageItems().isEmpty()) {
+                progress.update(0, rangeEnd - lastMaxId);
                 break;
             }
             
+            int rows = 0;
+            long pageMaxId = lastMaxId;
             for (ConfigInfoWrapper cf : page.getPageItems()) {
-                lastMaxId = Math.max(cf.getId(), lastMaxId);
-                //if not start up, page query will not return content, check md5 and lastModified first ,if changed ,get single content info to dump.
-                if (!dumpAllTask.isStartUp()) {
-                    final String groupKey = GroupKey2.getKey(cf.getDataId(), cf.getGroup(), cf.getTenant());
-                    boolean newLastModified = cf.getLastModified() > ConfigCacheService.getLastModifiedTs(groupKey);
-                    //check md5 & update local disk cache.
-                    String localContentMd5 = ConfigCacheService.getContentMd5(groupKey);
-                    boolean md5Update = !localContentMd5.equals(cf.getMd5());
-                    if (newLastModified || md5Update) {
-                        LogUtil.DUMP_LOG.info("[dump-all] find change config {}, {}, md5={}", groupKey,
-                                cf.getLastModified(), cf.getMd5());
-                        cf = configInfoPersistService.findConfigInfo(cf.getDataId(), cf.getGroup(), cf.getTenant());
-                    } else {
-                        continue;
-                    }
-                }
-                
-                if (cf == null) {
-                    continue;
+                if (cf.getId() > rangeEnd) {
+                    break;
                 }
-                
-                if (cf.getDataId().equals(ClientIpWhiteList.CLIENT_IP_WHITELIST_METADATA)) {
-                    ClientIpWhiteList.load(cf.getContent());
-                }
-                
-                if (cf.getDataId().equals(SwitchService.SWITCH_META_DATA_ID)) {
-                    SwitchService.load(cf.getContent());
-                }
-                
-                final String content = cf.getContent();
-                final String dataId = cf.getDataId();
-                final String group = cf.getGroup();
-                final String tenant = cf.getTenant();
-                final long lastModified = cf.getLastModified();
-                final String type = cf.getType();
-                final String encryptedDataKey = cf.getEncryptedDataKey();
-                
-                executorService.execute(() -> {
-                    final String md5Utf8 = MD5Utils.md5Hex(content, ENCODE_UTF8);
-                    boolean result = ConfigCacheService.dumpWithMd5(dataId, group, tenant, content, md5Utf8,
-                            lastModified, type, encryptedDataKey);
-                    if (result) {
-                        LogUtil.DUMP_LOG.info("[dump-all-ok] {}, {}, length={},md5UTF8={}",
-                                GroupKey2.getKey(dataId, group), lastModified, content.length(), md5Utf8);
-                    } else {
-                        LogUtil.DUMP_LOG.info("[dump-all-error] {}", GroupKey2.getKey(dataId, group));
-                    }
-                    
-                });
-                
+                pageMaxId = Math.max(cf.getId(), pageMaxId);
+                rows++;
+                dumpConfig(cf, startUp, executorService);
             }
             
             long diskStamp = System.currentTimeMillis();
-            DEFAULT_LOG.info("[all-dump] submit all task for {} / {}, dbTime={},diskTime={}", lastMaxId, currentMaxId,
+            DEFAULT_LOG.info("[all-dump] submit all task for {} / {}, dbTime={},diskTime={}", pageMaxId, rangeEnd,
                     (dbTimeStamp - start), (diskStamp - dbTimeStamp));
+            if (rows < limit || pageMaxId >= rangeEnd) {
+                progress.update(rows, rangeEnd - lastMaxId);
+                break;
+            }
+            progress.update(rows, pageMaxId - lastMaxId);
+            lastMaxId = pageMaxId;
+        }
+    }
+    
+    private void dumpConfig(ConfigInfoWrapper cf, boolean startUp, ThreadPoolExecutor executorService) {
+        //if not start up, page query will not return content, check md5 and lastModified first ,if changed ,get single content info to dump.
+        if (!startUp) {
+            final String groupKey = GroupKey2.getKey(cf.getDataId(), cf.getGroup(), cf.getTenant());
+            boolean newLastModified = cf.getLastModified() > ConfigCacheService.getLastModifiedTs(groupKey);
+            //check md5 & update local disk cache.
+            String localContentMd5 = ConfigCacheService.getContentMd5(groupKey);
+            boolean md5Update = !localContentMd5.equals(cf.getMd5());
+            if (newLastModified || md5Update) {
+                LogUtil.DUMP_LOG.info("[dump-all] find change config {}, {}, md5={}", groupKey, cf.getLastModified(),
+                        cf.getMd5());
+                cf = configInfoPersistService.findConfigInfo(cf.getDataId(), cf.getGroup(), cf.getTenant());
+            } else {
+                return;
+            }
         }
         
-        //wait all task are finished and then shutdown executor.
-        try {
-            int unfinishedTaskCount = 0;
-            while ((unfinishedTaskCount = executorService.getQueue().size() + executorService.getActiveCount()) > 0) {
-                DEFAULT_LOG.info("[all-dump] wait {} dump tasks to be finished", unfinishedTaskCount);
-                Thread.sleep(1000L);
+        if (cf == null) {
+            return;
+        }
+        
+        if (cf.getDataId().equals(ClientIpWhiteList.CLIENT_IP_WHITELIST_METADATA)) {
+            ClientIpWhiteList.load(cf.getContent());
+        }
+        
+        if (cf.getDataId().equals(SwitchService.SWITCH_META_DATA_ID)) {
+            SwitchService.load(cf.getContent());
+        }
+        
+        final String content = cf.getContent();
+        final String dataId = cf.getDataId();
+        final String group = cf.getGroup();
+        final String tenant = cf.getTenant();
+        final long lastModified = cf.getLastModified();
+        final String type = cf.getType();
+        final String encryptedDataKey = cf.getEncryptedDataKey();
+        
+        executorService.execute(() -> {
+            final String md5Utf8 = MD5Utils.md5Hex(content, ENCODE_UTF8);
+            boolean result = ConfigCacheService.dumpWithMd5(dataId, group, tenant, content, md5Utf8, lastModified,
+                    type, encryptedDataKey);
+            if (result) {
+                LogUtil.DUMP_LOG.info("[dump-all-ok] {}, {}, length={},md5UTF8={}", GroupKey2.getKey(dataId, group),
+                        lastModified, content.length(), md5Utf8);
+            } else {
+                LogUtil.DUMP_LOG.info("[dump-all-error] {}", GroupKey2.getKey(dataId, group));
             }
-            executorService.shutdown();
             
-        } catch (Exception e) {
-            DEFAULT_LOG.error("[all-dump] wait  dump tasks to be finished error", e);
-        }
-        DEFAULT_LOG.info("success to  dump all config-info。");
-        return true;
+        });
     }
     
+    /**
+     * Pages of one id range, the ranges are fetched and dumped concurrently on startup.
+     */
+    static final int RANGE_PAGE_COUNT = 16;
+    
+    static final String PROGRESS_TYPE = "config";
+    
     final ConfigInfoPersistService configInfoPersistService;
 }
@@ -0,0 +1,96 @@
+/*
+ * Copyright 1999-2025 Alibaba Group Holding Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.alibaba.nacos.config.server.service.dump.processor;
+
+import com.alibaba.nacos.config.server.monitor.MetricsMonitor;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+import static com.alibaba.nacos.config.server.utils.LogUtil.DEFAULT_LOG;
+
+/**
+ * Progress of one dump all round, exported as metrics so the remaining time of a full resync can be estimated.
+ *
+ * <p>The progress is counted in the unit the dump is partitioned by, which is the id space for config-info and the
+ * rows for gray config-info, while the rate is always counted in rows.
+ *
+ * @author Nacos
+ */
+final class DumpAllProgress {
+    
+    static final String PROCESSED_ROWS = "processedRows";
+    
+    static final String ROWS_PER_SECOND = "rowsPerSecond";
+    
+    static final String REMAINING = "remaining";
+    
+    static final String REMAINING_SECONDS = "remainingSeconds";
+    
+    private final String type;
+    
+    private final long total;
+    
+    private final long startTime;
+    
+    private final AtomicLong processedRows = new AtomicLong();
+    
+    private final AtomicLong finished = new AtomicLong();
+    
+    DumpAllProgress(String type, long total) {
+        this.type = type;
+        this.total = total;
+        this.startTime = System.currentTimeMillis();
+        MetricsMonitor.getDumpAllProgressMonitor(type, PROCESSED_ROWS).set(0);
+        MetricsMonitor.getDumpAllProgressMonitor(type, ROWS_PER_SECOND).set(0);
+        MetricsMonitor.getDumpAllProgressMonitor(type, REMAINING).set(total);
+        MetricsMonitor.getDumpAllProgressMonitor(type, REMAINING_SECONDS).set(0);
+    }
+    
+    /**
+     * Record the progress of a fetched page.
+     *
+     * @param rows     rows fetched
+     * @param progress progress made, in the unit of total
+     */
+    void update(int rows, long progress) {
+        long rowCount = processedRows.addAndGet(rows);
+        long done = finished.addAndGet(progress);
+        long elapsed = Math.max(1L, System.currentTimeMillis() - startTime);
+        long remaining = Math.max(0L, total - done);
+        MetricsMonitor.getDumpAllProgressMonitor(type, PROCESSED_ROWS).set(rowCount);
+        MetricsMonitor.getDumpAllProgressMonitor(type, ROWS_PER_SECOND).set(rowCount * 1000L / elapsed);
+        MetricsMonitor.getDumpAllProgressMonitor(type, REMAINING).set(remaining);
+        MetricsMonitor.getDumpAllProgressMonitor(type, REMAINING_SECONDS)
+                .set(done <= 0 ? 0L : remaining * elapsed / done / 1000L);
+    }
+    
+    /**
+     * Mark this round finished.
+     */
+    void finish() {
+        long elapsed = Math.max(1L, System.currentTimeMillis() - startTime);
+        long rowCount = processedRows.get();
+        MetricsMonitor.getDumpAllProgressMonitor(type, REMAINING).set(0);
+        MetricsMonitor.getDumpAllProgressMonitor(type, REMAINING_SECONDS).set(0);
+        DEFAULT_LOG.info("[all-dump-{}] finished, rows={}, cost={} ms, rows/s={}", type, rowCount, elapsed,
+                rowCount * 1000L / elapsed);
+    }
+    
+    long getProcessedRows() {
+        return processedRows.get();
+    }
+}
@@ -0,0 +1,80 @@
+/*
+ * Copyright 1999-2025 Alibaba Group Holding Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.alibaba.nacos.config.server.service.dump.processor;
+
+import com.alibaba.nacos.common.executor.ExecutorFactory;
+import com.alibaba.nacos.common.executor.NameThreadFactory;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+
+/**
+ * Run the workers of dump all with bounded parallelism.
+ *
+ * <p>Workers pull the next range to dump by themselves, so there is no task queue growing ahead of the database, and
+ * they should stop pulling once the current thread is interrupted.
+ *
+ * @author Nacos
+ */
+final class DumpAllWorkers {
+    
+    private DumpAllWorkers() {
+    }
+    
+    /**
+     * Run the worker in parallel and wait for all of them. The first failure is rethrown after the other workers are
+     * interrupted.
+     *
+     * @param threadName  prefix of worker thread names
+     * @param parallelism worker count
+     * @param worker      worker
+     */
+    static void run(String threadName, int parallelism, Runnable worker) {
+        if (parallelism <= 1) {
+            worker.run();
+            return;
+        }
+        ExecutorService executorService = ExecutorFactory.newFixedExecutorService(parallelism,
+                new NameThreadFactory(threadName));
+        try {
+            List<Future<?>> futures = new ArrayList<>(parallelism);
+            for (int i = 0; i < parallelism; i++) {
+                futures.add(executorService.submit(worker));
+            }
+            for (Future<?> future : futures) {
+                future.get();
+            }
+        } catch (ExecutionException e) {
+            Throwable cause = e.getCause();
+            if (cause instanceof RuntimeException) {
+                throw (RuntimeException) cause;
+            }
+            if (cause instanceof Error) {
+                throw (Error) cause;
+            }
+            throw new IllegalStateException(cause);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("interrupted while waiting dump all workers", e);
+        } finally {
+            executorService.shutdownNow();
+        }
+    }
+}
@@ -73,6 +73,10 @@ public final class ConfigExecutor {
         CAPACITY_MANAGEMENT_EXECUTOR.scheduleWithFixedDelay(runnable, initialDelay, delay, unit);
     }
     
+    public static void scheduleSegmentCompactionTask(Runnable runnable, long initialDelay, long delay, TimeUnit unit) {
+        SegmentCompactionExecutorHolder.EXECUTOR.scheduleWithFixedDelay(runnable, initialDelay, delay, unit);
+    }
+    
     public static void executeAsyncNotify(Runnable runnable) {
         ASYNC_NOTIFY_EXECUTOR.execute(runnable);
     }
@@ -116,4 +120,14 @@ public final class ConfigExecutor {
     public static void executeLongPolling(Runnable runnable) {
         LONG_POLLING_EXECUTOR.execute(runnable);
     }
+    
+    /**
+     * Segment compaction is only used by segment disk service, so create the executor when first scheduled.
+     */
+    private static class SegmentCompactionExecutorHolder {
+        
+        private static final ScheduledExecutorService EXECUTOR = ExecutorFactory.Managed
+                .newSingleScheduledExecutorService(ClassUtils.getCanonicalName(Config.class),
+                new NameThreadFactory("com.alibaba.nacos.config.SegmentCompaction"));
+    }
 }
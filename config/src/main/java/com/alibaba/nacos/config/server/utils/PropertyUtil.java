@@ -120,6 +120,58 @@ public class PropertyUtil implements ApplicationContextInitializer<ConfigurableA
      */
     private static long dumpChangeWorkerInterval = 30 * 1000L;
     
+    /**
+     * Whether to restore config cache from the local snapshot on startup instead of dumping all configs.
+     */
+    private static boolean cacheSnapshotEnabled = false;
+    
+    /**
+     * cacheSnapshotInterval, default 10 minutes.
+     */
+    private static long cacheSnapshotInterval = 10 * 60 * 1000L;
+    
+    /**
+     * The snapshot older than cacheSnapshotMaxAge is ignored on startup, default 1 day.
+     */
+    private static long cacheSnapshotMaxAge = 24 * 60 * 60 * 1000L;
+    
+    /**
+     * The number of id ranges fetched and dumped concurrently by the startup dump all, default min(4, cpu cores).
+     */
+    private static int allDumpParallelism = Math.min(4, Runtime.getRuntime().availableProcessors());
+    
+    public static int getAllDumpParallelism() {
+        return allDumpParallelism;
+    }
+    
+    public static void setAllDumpParallelism(int allDumpParallelism) {
+        PropertyUtil.allDumpParallelism = allDumpParallelism;
+    }
+    
+    public static boolean isCacheSnapshotEnabled() {
+        return cacheSnapshotEnabled;
+    }
+    
+    public static void setCacheSnapshotEnabled(boolean cacheSnapshotEnabled) {
+        PropertyUtil.cacheSnapshotEnabled = cacheSnapshotEnabled;
+    }
+    
+    public static long getCacheSnapshotInterval() {
+        return cacheSnapshotInterval;
+    }
+    
+    public static void setCacheSnapshotInterval(long cacheSnapshotInterval) {
+        PropertyUtil.cacheSnapshotInterval = cacheSnapshotInterval;
+    }
+    
+    public static long getCacheSnapshotMaxAge() {
+        return cacheSnapshotMaxAge;
+    }
+    
+    public static void setCacheSnapshotMaxAge(long cacheSnapshotMaxAge) {
+        PropertyUtil.cacheSnapshotMaxAge = cacheSnapshotMaxAge;
+    }
+    
     public static boolean isDumpChangeOn() {
         return dumpChangeOn;
     }
@@ -326,6 +378,10 @@ public class PropertyUtil implements ApplicationContextInitializer<ConfigurableA
             setDumpChangeWorkerInterval(
                     getLong(PropertiesConstant.DUMP_CHANGE_WORKER_INTERVAL, dumpChangeWorkerInterval));
             setGrayCompatibleModel(getBoolean(PropertiesConstant.GRAY_CAPATIBEL_MODEL, grayCompatibleModel));
+            setCacheSnapshotEnabled(getBoolean(PropertiesConstant.CACHE_SNAPSHOT_ENABLED, cacheSnapshotEnabled));
+            setCacheSnapshotInterval(getLong(PropertiesConstant.CACHE_SNAPSHOT_INTERVAL, cacheSnapshotInterval));
+            setCacheSnapshotMaxAge(getLong(PropertiesConstant.CACHE_SNAPSHOT_MAX_AGE, cacheSnapshotMaxAge));
+            setAllDumpParallelism(getInt(PropertiesConstant.ALL_DUMP_PARALLELISM, allDumpParallelism));
             
         } catch (Exception e) {
             LOGGER.error("read application.properties failed", e);
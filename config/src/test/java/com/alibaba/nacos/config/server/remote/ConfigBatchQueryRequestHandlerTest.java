@@ -0,0 +1,113 @@
+/*
+ * Copyright 1999-2025 Alibaba Group Holding Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.alibaba.nacos.config.server.remote;
+
+import com.alibaba.nacos.api.config.remote.request.ConfigBatchQueryRequest;
+import com.alibaba.nacos.api.config.remote.request.ConfigQueryRequest;
+import com.alibaba.nacos.api.config.remote.response.ConfigBatchQueryResponse;
+import com.alibaba.nacos.api.config.remote.response.ConfigQueryResponse;
+import com.alibaba.nacos.api.exception.NacosException;
+import com.alibaba.nacos.api.remote.request.RequestMeta;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class ConfigBatchQueryRequestHandlerTest {
+    
+    @Mock
+    ConfigQueryRequestHandler configQueryRequestHandler;
+    
+    ConfigBatchQueryRequestHandler configBatchQueryRequestHandler;
+    
+    RequestMeta requestMeta;
+    
+    @BeforeEach
+    void setUp() {
+        configBatchQueryRequestHandler = new ConfigBatchQueryRequestHandler(configQueryRequestHandler);
+        requestMeta = new RequestMeta();
+        requestMeta.setClientIp("127.0.0.1");
+    }
+    
+    @Test
+    void testHandle() throws NacosException {
+        ConfigBatchQueryRequest request = new ConfigBatchQueryRequest();
+        request.addConfigQueryContext("dataId1", "group", "");
+        request.addConfigQueryContext("dataId2", "group", "public");
+        request.getConfigQueryContexts().get(1).setTag("tag");
+        request.putHeader("notify", "false");
+        ConfigQueryResponse found = ConfigQueryResponse.buildSuccessResponse("content1");
+        ConfigQueryResponse notFound = ConfigQueryResponse.buildFailResponse(ConfigQueryResponse.CONFIG_NOT_FOUND,
+                "config data not exist");
+        when(configQueryRequestHandler.handle(any(ConfigQueryRequest.class), eq(requestMeta))).thenReturn(found,
+                notFound);
+        
+        ConfigBatchQueryResponse response = configBatchQueryRequestHandler.handle(request, requestMeta);
+        assertTrue(response.isSuccess());
+        assertEquals(2, response.getConfigQueryResponses().size());
+        assertEquals(found, response.getConfigQueryResponses().get(0));
+        assertEquals(notFound, response.getConfigQueryResponses().get(1));
+        
+        ArgumentCaptor<ConfigQueryRequest> captor = ArgumentCaptor.forClass(ConfigQueryRequest.class);
+        verify(configQueryRequestHandler, times(2)).handle(captor.capture(), eq(requestMeta));
+        List<ConfigQueryRequest> queryRequests = captor.getAllValues();
+        assertEquals("dataId1", queryRequests.get(0).getDataId());
+        assertEquals("group", queryRequests.get(0).getGroup());
+        assertEquals("dataId2", queryRequests.get(1).getDataId());
+        assertEquals("tag", queryRequests.get(1).getTag());
+        assertEquals("false", queryRequests.get(1).getHeader("notify"));
+    }
+    
+    @Test
+    void testHandleDifferentNamespace() throws NacosException {
+        ConfigBatchQueryRequest request = new ConfigBatchQueryRequest();
+        request.addConfigQueryContext("dataId1", "group", "ns1");
+        request.addConfigQueryContext("dataId2", "group", "ns2");
+        when(configQueryRequestHandler.handle(any(ConfigQueryRequest.class), eq(requestMeta))).thenReturn(
+                ConfigQueryResponse.buildSuccessResponse("content1"));
+        
+        ConfigBatchQueryResponse response = configBatchQueryRequestHandler.handle(request, requestMeta);
+        assertFalse(response.isSuccess());
+        assertEquals(NacosException.INVALID_PARAM, response.getErrorCode());
+    }
+    
+    @Test
+    void testHandleTooManyConfigs() throws NacosException {
+        ConfigBatchQueryRequest request = new ConfigBatchQueryRequest();
+        for (int i = 0; i <= ConfigBatchQueryRequestHandler.MAX_BATCH_QUERY_SIZE; i++) {
+            request.addConfigQueryContext("dataId" + i, "group", "");
+        }
+        ConfigBatchQueryResponse response = configBatchQueryRequestHandler.handle(request, requestMeta);
+        assertFalse(response.isSuccess());
+        verify(configQueryRequestHandler, never()).handle(any(ConfigQueryRequest.class), any(RequestMeta.class));
+    }
+}
@@ -23,10 +23,16 @@ import org.mockito.junit.jupiter.MockitoExtension;
 
 import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
 import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 
 @ExtendWith(MockitoExtension.class)
 class ConfigChangeListenContextTest {
@@ -84,4 +90,52 @@ class ConfigChangeListenContextTest {
         assertEquals("md5", listenKeyMd5);
     }
     
-}
\ No newline at end of file
+    @Test
+    void testGetListenersReadOnly() {
+        configChangeListenContext.addListen("groupKey", "md5", "connectionId");
+        Set<String> listeners = configChangeListenContext.getListeners("groupKey");
+        assertThrows(UnsupportedOperationException.class, () -> listeners.add("otherConnectionId"));
+    }
+    
+    @Test
+    void testClearContextKeepOtherConnections() {
+        configChangeListenContext.addListen("groupKey", "md5", "connectionId");
+        configChangeListenContext.addListen("groupKey", "md5", "connectionId2");
+        configChangeListenContext.clearContextForConnectionId("connectionId");
+        Set<String> listeners = configChangeListenContext.getListeners("groupKey");
+        assertEquals(1, listeners.size());
+        assertTrue(listeners.contains("connectionId2"));
+        assertEquals(1, configChangeListenContext.getConnectionCount());
+    }
+    
+    @Test
+    void testConcurrentListenAndClear() throws InterruptedException {
+        int threadCount = 8;
+        int keyCount = 200;
+        ExecutorService executorService = Executors.newFixedThreadPool(threadCount);
+        CountDownLatch latch = new CountDownLatch(threadCount);
+        for (int i = 0; i < threadCount; i++) {
+            final String connectionId = "connectionId" + i;
+            executorService.execute(() -> {
+                try {
+                    for (int j = 0; j < keyCount; j++) {
+                        configChangeListenContext.addListen("groupKey" + j, "md5", connectionId);
+                    }
+                    for (int j = 0; j < keyCount; j += 2) {
+                        configChangeListenContext.removeListen("groupKey" + j, connectionId);
+                    }
+                    configChangeListenContext.clearContextForConnectionId(connectionId);
+                } finally {
+                    latch.countDown();
+                }
+            });
+        }
+        assertTrue(latch.await(10, TimeUnit.SECONDS));
+        executorService.shutdownNow();
+        for (int j = 0; j < keyCount; j++) {
+            assertNull(configChangeListenContext.getListeners("groupKey" + j));
+        }
+        assertEquals(0, configChangeListenContext.getConnectionCount());
+    }
+    
+}
@@ -16,9 +16,12 @@
 
 package com.alibaba.nacos.config.server.remote;
 
+import com.alibaba.nacos.api.ability.constant.AbilityKey;
 import com.alibaba.nacos.api.config.remote.request.ConfigQueryRequest;
 import com.alibaba.nacos.api.config.remote.response.ConfigQueryResponse;
 import com.alibaba.nacos.api.remote.request.RequestMeta;
+import com.alibaba.nacos.common.utils.IoUtils;
+import com.alibaba.nacos.common.utils.LineDiffUtils;
 import com.alibaba.nacos.common.utils.MD5Utils;
 import com.alibaba.nacos.config.server.model.CacheItem;
 import com.alibaba.nacos.config.server.model.ConfigCacheGray;
@@ -27,6 +30,7 @@ import com.alibaba.nacos.config.server.model.gray.ConfigGrayPersistInfo;
 import com.alibaba.nacos.config.server.model.gray.GrayRuleManager;
 import com.alibaba.nacos.config.server.model.gray.TagGrayRule;
 import com.alibaba.nacos.config.server.service.ConfigCacheService;
+import com.alibaba.nacos.config.server.service.dump.disk.ConfigDeltaCache;
 import com.alibaba.nacos.config.server.service.dump.disk.ConfigDiskServiceFactory;
 import com.alibaba.nacos.config.server.service.dump.disk.ConfigRocksDbDiskService;
 import com.alibaba.nacos.config.server.service.query.ConfigQueryChainService;
@@ -43,6 +47,8 @@ import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.core.env.StandardEnvironment;
 
 import java.io.IOException;
+import java.util.HashMap;
+import java.util.Map;
 
 import static com.alibaba.nacos.api.common.Constants.VIPSERVER_TAG;
 import static com.alibaba.nacos.api.config.remote.response.ConfigQueryResponse.CONFIG_NOT_FOUND;
@@ -130,6 +136,89 @@ class ConfigQueryRequestHandlerTest {
     }
     
     
+    /**
+     * get normal config as delta against the content held by client.
+     *
+     * @throws Exception Exception.
+     */
+    @Test
+    void testGetNormalWithDelta() throws Exception {
+        final String groupKey = GroupKey2.getKey(dataId, group, "");
+        StringBuilder builder = new StringBuilder();
+        for (int i = 0; i < 10000; i++) {
+            builder.append("key").append(i).append(": value\n");
+        }
+        String baseContent = builder.toString();
+        String content = baseContent.replace("key100: value", "key100: changed");
+        String baseMd5 = MD5Utils.md5Hex(baseContent, "UTF-8");
+        ConfigDeltaCache.recordHistory(groupKey, baseMd5, baseContent);
+        ConfigRocksDbDiskService configRocksDbDiskService = Mockito.mock(ConfigRocksDbDiskService.class);
+        when(ConfigDiskServiceFactory.getInstance()).thenReturn(configRocksDbDiskService);
+        
+        CacheItem cacheItem = new CacheItem(groupKey);
+        cacheItem.getConfigCache().setMd5(MD5Utils.md5Hex(content, "UTF-8"));
+        when(ConfigCacheService.getContentCache(eq(groupKey))).thenReturn(cacheItem);
+        when(configRocksDbDiskService.getContent(eq(dataId), eq(group), eq(""))).thenReturn(content);
+        
+        ConfigQueryRequest configQueryRequest = new ConfigQueryRequest();
+        configQueryRequest.setDataId(dataId);
+        configQueryRequest.setGroup(group);
+        configQueryRequest.setDeltaBaseMd5(baseMd5);
+        RequestMeta requestMeta = new RequestMeta();
+        requestMeta.setClientIp("127.0.0.1");
+        ConfigQueryResponse response = configQueryRequestHandler.handle(configQueryRequest, requestMeta);
+        assertTrue(response.isSuccess());
+        assertNull(response.getContent());
+        assertEquals(MD5Utils.md5Hex(content, "UTF-8"), response.getMd5());
+        assertEquals(content, LineDiffUtils.patch(baseContent, response.getDelta()));
+        
+        // unknown base version, expect full content.
+        configQueryRequest.setDeltaBaseMd5("unknownMd5");
+        response = configQueryRequestHandler.handle(configQueryRequest, requestMeta);
+        assertEquals(content, response.getContent());
+        assertNull(response.getDelta());
+    }
+    
+    /**
+     * get normal config compressed for the client supporting it.
+     *
+     * @throws Exception Exception.
+     */
+    @Test
+    void testGetNormalCompressed() throws Exception {
+        final String groupKey = GroupKey2.getKey(dataId, group, "");
+        StringBuilder builder = new StringBuilder();
+        for (int i = 0; i < 5000; i++) {
+            builder.append("route").append(i).append(": upstream\n");
+        }
+        String content = builder.toString();
+        ConfigRocksDbDiskService configRocksDbDiskService = Mockito.mock(ConfigRocksDbDiskService.class);
+        when(ConfigDiskServiceFactory.getInstance()).thenReturn(configRocksDbDiskService);
+        CacheItem cacheItem = new CacheItem(groupKey);
+        cacheItem.getConfigCache().setMd5(MD5Utils.md5Hex(content, "UTF-8"));
+        when(ConfigCacheService.getContentCache(eq(groupKey))).thenReturn(cacheItem);
+        when(configRocksDbDiskService.getContent(eq(dataId), eq(group), eq(""))).thenReturn(content);
+        
+        ConfigQueryRequest configQueryRequest = new ConfigQueryRequest();
+        configQueryRequest.setDataId(dataId);
+        configQueryRequest.setGroup(group);
+        RequestMeta requestMeta = new RequestMeta();
+        requestMeta.setClientIp("127.0.0.1");
+        Map<String, Boolean> abilityTable = new HashMap<>();
+        abilityTable.put(AbilityKey.SDK_CLIENT_SUPPORT_CONFIG_COMPRESSION.getName(), true);
+        requestMeta.setAbilityTable(abilityTable);
+        ConfigQueryResponse response = configQueryRequestHandler.handle(configQueryRequest, requestMeta);
+        assertTrue(response.isSuccess());
+        assertNull(response.getContent());
+        assertEquals(content, new String(IoUtils.tryDecompress(response.getCompressedContent()), "UTF-8"));
+        
+        // client not supporting compression, expect raw content.
+        requestMeta.setAbilityTable(null);
+        response = configQueryRequestHandler.handle(configQueryRequest, requestMeta);
+        assertEquals(content, response.getContent());
+        assertNull(response.getCompressedContent());
+    }
+    
     /**
      * get beta config from local disk.
      *
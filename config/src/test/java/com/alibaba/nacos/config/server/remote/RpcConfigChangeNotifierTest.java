@@ -16,6 +16,9 @@
 
 package com.alibaba.nacos.config.server.remote;
 
+import com.alibaba.nacos.api.ability.constant.AbilityKey;
+import com.alibaba.nacos.api.ability.constant.AbilityStatus;
+import com.alibaba.nacos.api.config.remote.request.ConfigChangeBatchNotifyRequest;
 import com.alibaba.nacos.api.config.remote.request.ConfigChangeNotifyRequest;
 import com.alibaba.nacos.config.server.model.event.LocalDataChangeEvent;
 import com.alibaba.nacos.config.server.utils.ConfigExecutor;
@@ -33,6 +36,7 @@ import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
 import org.mockito.Mock;
 import org.mockito.MockedStatic;
 import org.mockito.Mockito;
@@ -47,6 +51,7 @@ import java.util.Set;
 import java.util.concurrent.Executor;
 import java.util.concurrent.TimeUnit;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyInt;
 import static org.mockito.ArgumentMatchers.eq;
@@ -144,6 +149,38 @@ class RpcConfigChangeNotifierTest {
         
     }
     
+    @Test
+    void testOnDataEventBatchNotify() throws InterruptedException {
+        
+        final String groupKey1 = GroupKey2.getKey("dataId1", "group", "tenant");
+        final String groupKey2 = GroupKey2.getKey("dataId2", "group", "tenant");
+        Set<String> mockConnectionIds = new HashSet<>();
+        mockConnectionIds.add("con1");
+        GrpcConnection mockConn1 = Mockito.mock(GrpcConnection.class);
+        Mockito.when(connectionManager.getConnection(eq("con1"))).thenReturn(mockConn1);
+        Mockito.when(mockConn1.getMetaInfo())
+                .thenReturn(new ConnectionMeta("con1", "192.168.0.1", "192.168.0.2", 34567, 9848, "GRPC", "2.2.0", null, new HashMap<>()));
+        Mockito.when(mockConn1.getConnectionAbility(AbilityKey.SDK_CLIENT_SUPPORT_BATCH_CONFIG_CHANGE_NOTIFY))
+                .thenReturn(AbilityStatus.SUPPORTED);
+        Mockito.when(configChangeListenContext.getListeners(eq(groupKey1))).thenReturn(mockConnectionIds);
+        Mockito.when(configChangeListenContext.getListeners(eq(groupKey2))).thenReturn(mockConnectionIds);
+        Mockito.when(tpsControlManager.check(any(TpsCheckRequest.class))).thenReturn(new TpsCheckResponse(true, 200, "success"));
+        
+        rpcConfigChangeNotifier.onEvent(new LocalDataChangeEvent(groupKey1));
+        rpcConfigChangeNotifier.onEvent(new LocalDataChangeEvent(groupKey2));
+        //wait batch window passed and rpc push executed.
+        Thread.sleep(300L);
+        ArgumentCaptor<ConfigChangeBatchNotifyRequest> captor = ArgumentCaptor.forClass(ConfigChangeBatchNotifyRequest.class);
+        //expect only one batch push contains both changed configs.
+        Mockito.verify(rpcPushService, times(1))
+                .pushWithCallback(eq("con1"), captor.capture(), any(RpcConfigChangeNotifier.RpcPushCallback.class),
+                        any(Executor.class));
+        assertEquals(2, captor.getValue().getConfigContexts().size());
+        Mockito.verify(rpcPushService, times(0))
+                .pushWithCallback(eq("con1"), any(ConfigChangeNotifyRequest.class), any(RpcConfigChangeNotifier.RpcPushCallback.class),
+                        any(Executor.class));
+    }
+    
     @Test
     void testRpcCallBack() {
         MockedStatic<ConfigExecutor> configExecutorMockedStatic = Mockito.mockStatic(ConfigExecutor.class);
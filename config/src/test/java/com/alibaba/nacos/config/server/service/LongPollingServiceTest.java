@@ -48,6 +48,7 @@ import java.util.Map;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyInt;
 import static org.mockito.ArgumentMatchers.anyString;
@@ -253,6 +254,10 @@ class LongPollingServiceTest {
         //expect print not equals group
         Mockito.verify(printWriter, times(1)).println(eq(responseString));
         Mockito.verify(asyncContext, times(1)).complete();
+        //expect subscriber removed from indexes
+        assertEquals(0, longPollingService.getSubscriberCount());
+        assertTrue(longPollingService.groupKeySubs.isEmpty());
+        assertEquals(0, longPollingService.getSubscriberCountByIp(clientIp));
         
     }
     
@@ -291,6 +296,8 @@ class LongPollingServiceTest {
         Thread.sleep(1200L);
         //expect print not equals group
         Mockito.verify(asyncContext, times(1)).complete();
+        assertTrue(longPollingService.groupKeySubs.isEmpty());
+        assertTrue(longPollingService.ipSubs.isEmpty());
         
     }
 }
@@ -0,0 +1,182 @@
+/*
+ * Copyright 1999-2025 Alibaba Group Holding Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.alibaba.nacos.config.server.service.dump;
+
+import com.alibaba.nacos.common.utils.MD5Utils;
+import com.alibaba.nacos.config.server.model.CacheItem;
+import com.alibaba.nacos.config.server.model.ConfigInfoWrapper;
+import com.alibaba.nacos.config.server.model.gray.GrayRuleManager;
+import com.alibaba.nacos.config.server.service.ConfigCacheService;
+import com.alibaba.nacos.config.server.service.dump.disk.ConfigDiskService;
+import com.alibaba.nacos.config.server.service.dump.disk.ConfigDiskServiceFactory;
+import com.alibaba.nacos.config.server.service.repository.ConfigInfoGrayPersistService;
+import com.alibaba.nacos.config.server.service.repository.ConfigInfoPersistService;
+import com.alibaba.nacos.config.server.utils.GroupKey2;
+import com.alibaba.nacos.sys.env.EnvUtil;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.api.io.TempDir;
+import org.mockito.Mock;
+import org.mockito.MockedStatic;
+import org.mockito.Mockito;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.mockito.junit.jupiter.MockitoSettings;
+import org.mockito.quality.Strictness;
+
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.sql.Timestamp;
+
+import static com.alibaba.nacos.config.server.constant.Constants.ENCODE_UTF8;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+@MockitoSettings(strictness = Strictness.LENIENT)
+class ConfigCacheSnapshotTest {
+    
+    private static final String GRAY_RULE = "{\"type\":\"tag\",\"version\":\"1.0.0\",\"expr\":\"tag1\",\"priority\":1}";
+    
+    @TempDir
+    File tempDir;
+    
+    @Mock
+    ConfigDiskService configDiskService;
+    
+    @Mock
+    ConfigInfoPersistService configInfoPersistService;
+    
+    @Mock
+    ConfigInfoGrayPersistService configInfoGrayPersistService;
+    
+    MockedStatic<EnvUtil> envUtilMockedStatic;
+    
+    MockedStatic<ConfigDiskServiceFactory> configDiskServiceFactoryMockedStatic;
+    
+    ConfigCacheSnapshot cacheSnapshot;
+    
+    @BeforeEach
+    void before() {
+        envUtilMockedStatic = Mockito.mockStatic(EnvUtil.class);
+        configDiskServiceFactoryMockedStatic = Mockito.mockStatic(ConfigDiskServiceFactory.class);
+        configDiskServiceFactoryMockedStatic.when(ConfigDiskServiceFactory::getInstance).thenReturn(configDiskService);
+        cacheSnapshot = new ConfigCacheSnapshot(new File(tempDir, "config-cache.snapshot"), configInfoPersistService,
+                configInfoGrayPersistService);
+    }
+    
+    @AfterEach
+    void after() {
+        envUtilMockedStatic.close();
+        configDiskServiceFactoryMockedStatic.close();
+    }
+    
+    @Test
+    void testSaveAndRestore() throws IOException {
+        String dataId = "snapshotDataId1";
+        String group = "group";
+        String tenant = "tenant";
+        final String groupKey = GroupKey2.getKey(dataId, group, tenant);
+        ConfigCacheService.dump(dataId, group, tenant, "content", 1000L, "yaml", "encryptedKey");
+        ConfigCacheService.dumpGray(dataId, group, tenant, "tag1", GRAY_RULE, "grayContent", 2000L, null);
+        assertTrue(cacheSnapshot.save() >= 1);
+        
+        ConfigCacheService.remove(dataId, group, tenant);
+        assertNull(ConfigCacheService.getContentCache(groupKey));
+        
+        when(configDiskService.getContent(dataId, group, tenant)).thenReturn("content");
+        when(configDiskService.getGrayContent(dataId, group, tenant, "tag1")).thenReturn("grayContent");
+        long before = System.currentTimeMillis();
+        Timestamp replayTime = cacheSnapshot.restore(60000L);
+        assertNotNull(replayTime);
+        assertTrue(replayTime.getTime() <= before - ConfigCacheSnapshot.REPLAY_MARGIN_MS);
+        
+        CacheItem cacheItem = ConfigCacheService.getContentCache(groupKey);
+        assertEquals(MD5Utils.md5Hex("content", ENCODE_UTF8), cacheItem.getConfigCache().getMd5());
+        assertEquals(1000L, cacheItem.getConfigCache().getLastModifiedTs());
+        assertEquals("encryptedKey", cacheItem.getConfigCache().getEncryptedDataKey());
+        assertEquals("yaml", cacheItem.getType());
+        assertEquals(MD5Utils.md5Hex("grayContent", ENCODE_UTF8),
+                ConfigCacheService.getContentGrayMd5(groupKey, "tag1"));
+        assertEquals(2000L, ConfigCacheService.getGrayLastModifiedTs(groupKey, "tag1"));
+        assertEquals(GrayRuleManager.constructGrayRule(GrayRuleManager.deserializeConfigGrayPersistInfo(GRAY_RULE)),
+                ConfigCacheService.getGrayRule(groupKey, "tag1"));
+        assertEquals(1, cacheItem.getSortConfigGrays().size());
+        ConfigCacheService.remove(dataId, group, tenant);
+    }
+    
+    @Test
+    void testRestoreReloadInconsistentFromDb() throws IOException {
+        String dataId = "snapshotDataId2";
+        String group = "group";
+        String tenant = "tenant";
+        final String groupKey = GroupKey2.getKey(dataId, group, tenant);
+        ConfigCacheService.dump(dataId, group, tenant, "content", 1000L, "text", null);
+        cacheSnapshot.save();
+        ConfigCacheService.remove(dataId, group, tenant);
+        
+        when(configDiskService.getContent(dataId, group, tenant)).thenReturn("staleContent");
+        ConfigInfoWrapper configInfoWrapper = new ConfigInfoWrapper();
+        configInfoWrapper.setDataId(dataId);
+        configInfoWrapper.setGroup(group);
+        configInfoWrapper.setTenant(tenant);
+        configInfoWrapper.setContent("newContent");
+        configInfoWrapper.setLastModified(3000L);
+        when(configInfoPersistService.findConfigInfo(dataId, group, tenant)).thenReturn(configInfoWrapper);
+        assertNotNull(cacheSnapshot.restore(60000L));
+        
+        CacheItem cacheItem = ConfigCacheService.getContentCache(groupKey);
+        assertEquals(MD5Utils.md5Hex("newContent", ENCODE_UTF8), cacheItem.getConfigCache().getMd5());
+        assertEquals(3000L, cacheItem.getConfigCache().getLastModifiedTs());
+        Mockito.verify(configDiskService).saveToDisk(dataId, group, tenant, "newContent");
+        ConfigCacheService.remove(dataId, group, tenant);
+    }
+    
+    @Test
+    void testRestoreExpired() throws IOException {
+        cacheSnapshot.save();
+        assertNull(cacheSnapshot.restore(-1L));
+    }
+    
+    @Test
+    void testRestoreNotExistOrBroken() throws IOException {
+        assertNull(cacheSnapshot.restore(60000L));
+        try (FileOutputStream outputStream = new FileOutputStream(new File(tempDir, "config-cache.snapshot"))) {
+            outputStream.write(new byte[] {1, 2, 3, 4, 5, 6, 7, 8});
+        }
+        assertNull(cacheSnapshot.restore(60000L));
+    }
+    
+    @Test
+    void testRestoreCrcMismatch() throws IOException {
+        ConfigCacheService.dump("snapshotDataId3", "group", "tenant", "content", 1000L, "text", null);
+        cacheSnapshot.save();
+        ConfigCacheService.remove("snapshotDataId3", "group", "tenant");
+        File file = new File(tempDir, "config-cache.snapshot");
+        byte[] bytes = Files.readAllBytes(file.toPath());
+        bytes[bytes.length - 1] ^= 1;
+        Files.write(file.toPath(), bytes);
+        assertNull(cacheSnapshot.restore(60000L));
+        assertNull(ConfigCacheService.getContentCache(GroupKey2.getKey("snapshotDataId3", "group", "tenant")));
+    }
+}
@@ -0,0 +1,120 @@
+/*
+ * Copyright 1999-2025 Alibaba Group Holding Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.alibaba.nacos.config.server.service.dump.disk;
+
+import com.alibaba.nacos.common.utils.MD5Utils;
+import com.alibaba.nacos.config.server.constant.Constants;
+import com.alibaba.nacos.config.server.utils.GroupKey2;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.MockedStatic;
+import org.mockito.Mockito;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.io.IOException;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class ConfigContentCacheTest {
+    
+    private static final String CONTENT = "content";
+    
+    private static final String MD5 = MD5Utils.md5Hex(CONTENT, "UTF-8");
+    
+    private MockedStatic<ConfigDiskServiceFactory> configDiskServiceFactoryMockedStatic;
+    
+    @Mock
+    private ConfigDiskService configDiskService;
+    
+    @BeforeEach
+    void setUp() {
+        ConfigContentCache.invalidateAll();
+        configDiskServiceFactoryMockedStatic = Mockito.mockStatic(ConfigDiskServiceFactory.class);
+        configDiskServiceFactoryMockedStatic.when(ConfigDiskServiceFactory::getInstance).thenReturn(configDiskService);
+    }
+    
+    @AfterEach
+    void tearDown() {
+        configDiskServiceFactoryMockedStatic.close();
+        ConfigContentCache.invalidateAll();
+    }
+    
+    @Test
+    void testGetContentHitCache() throws IOException {
+        when(configDiskService.getContent("dataId", "group", "tenant")).thenReturn(CONTENT);
+        assertEquals(CONTENT, ConfigContentCache.getContent("dataId", "group", "tenant", MD5));
+        assertEquals(CONTENT, ConfigContentCache.getContent("dataId", "group", "tenant", MD5));
+        Mockito.verify(configDiskService, times(1)).getContent("dataId", "group", "tenant");
+    }
+    
+    @Test
+    void testGetContentMd5Changed() throws IOException {
+        String newContent = "newContent";
+        when(configDiskService.getContent("dataId", "group", "tenant")).thenReturn(CONTENT, newContent);
+        assertEquals(CONTENT, ConfigContentCache.getContent("dataId", "group", "tenant", MD5));
+        // md5 in cache item changed, expect read from disk again.
+        assertEquals(newContent, ConfigContentCache.getContent("dataId", "group", "tenant",
+                MD5Utils.md5Hex(newContent, "UTF-8")));
+        Mockito.verify(configDiskService, times(2)).getContent("dataId", "group", "tenant");
+    }
+    
+    @Test
+    void testGetContentHitCacheWithPersistEncodeMd5() throws IOException {
+        String content = "\u914d\u7f6e"; // non ascii content, its md5 depends on the encoding
+        String md5 = MD5Utils.md5Hex(content, Constants.PERSIST_ENCODE);
+        when(configDiskService.getContent("dataId", "group", "tenant")).thenReturn(content);
+        assertEquals(content, ConfigContentCache.getContent("dataId", "group", "tenant", md5));
+        assertEquals(content, ConfigContentCache.getContent("dataId", "group", "tenant", md5));
+        Mockito.verify(configDiskService, times(1)).getContent("dataId", "group", "tenant");
+    }
+    
+    @Test
+    void testNotCacheInconsistentContent() throws IOException {
+        when(configDiskService.getContent("dataId", "group", "tenant")).thenReturn(CONTENT);
+        ConfigContentCache.getContent("dataId", "group", "tenant", "otherMd5");
+        ConfigContentCache.getContent("dataId", "group", "tenant", "otherMd5");
+        Mockito.verify(configDiskService, times(2)).getContent("dataId", "group", "tenant");
+        assertEquals(0, ConfigContentCache.size());
+    }
+    
+    @Test
+    void testInvalidate() throws IOException {
+        when(configDiskService.getContent("dataId", "group", "tenant")).thenReturn(CONTENT);
+        ConfigContentCache.getContent("dataId", "group", "tenant", MD5);
+        ConfigContentCache.invalidate(GroupKey2.getKey("dataId", "group", "tenant"));
+        ConfigContentCache.getContent("dataId", "group", "tenant", MD5);
+        Mockito.verify(configDiskService, times(2)).getContent("dataId", "group", "tenant");
+    }
+    
+    @Test
+    void testGetGrayContent() throws IOException {
+        when(configDiskService.getGrayContent("dataId", "group", "tenant", "gray")).thenReturn(CONTENT);
+        assertEquals(CONTENT, ConfigContentCache.getGrayContent("dataId", "group", "tenant", "gray", MD5));
+        assertEquals(CONTENT, ConfigContentCache.getGrayContent("dataId", "group", "tenant", "gray", MD5));
+        Mockito.verify(configDiskService, times(1)).getGrayContent("dataId", "group", "tenant", "gray");
+        
+        ConfigContentCache.invalidateGray(GroupKey2.getKey("dataId", "group", "tenant"), "gray");
+        ConfigContentCache.getGrayContent("dataId", "group", "tenant", "gray", MD5);
+        Mockito.verify(configDiskService, times(2)).getGrayContent("dataId", "group", "tenant", "gray");
+    }
+}
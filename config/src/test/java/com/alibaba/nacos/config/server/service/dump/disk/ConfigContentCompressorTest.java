@@ -0,0 +1,98 @@
+/*
+ * Copyright 1999-2025 Alibaba Group Holding Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.alibaba.nacos.config.server.service.dump.disk;
+
+import com.alibaba.nacos.common.utils.IoUtils;
+import com.alibaba.nacos.common.utils.MD5Utils;
+import com.alibaba.nacos.config.server.configuration.ConfigCommonConfig;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class ConfigContentCompressorTest {
+    
+    private String largeContent;
+    
+    @BeforeEach
+    void setUp() {
+        ConfigCommonConfig.getInstance().setCompressEnabled(true);
+        ConfigCommonConfig.getInstance().setCompressThreshold(32 * 1024);
+        StringBuilder builder = new StringBuilder();
+        for (int i = 0; i < 5000; i++) {
+            builder.append("route").append(i).append(": upstream-").append(i % 10).append('\n');
+        }
+        largeContent = builder.toString();
+    }
+    
+    @Test
+    void testEncodeSmallContent() throws IOException {
+        byte[] bytes = ConfigContentCompressor.encode("content");
+        assertArrayEquals("content".getBytes(StandardCharsets.UTF_8), bytes);
+        assertEquals("content", ConfigContentCompressor.decode(bytes));
+    }
+    
+    @Test
+    void testEncodeLargeContent() throws IOException {
+        byte[] bytes = ConfigContentCompressor.encode(largeContent);
+        assertTrue(IoUtils.isGzipStream(bytes));
+        assertTrue(bytes.length < largeContent.length());
+        assertEquals(largeContent, ConfigContentCompressor.decode(bytes));
+    }
+    
+    @Test
+    void testEncodeWhenDisabled() throws IOException {
+        byte[] compressed = ConfigContentCompressor.encode(largeContent);
+        ConfigCommonConfig.getInstance().setCompressEnabled(false);
+        byte[] bytes = ConfigContentCompressor.encode(largeContent);
+        assertFalse(IoUtils.isGzipStream(bytes));
+        // content compressed before is still readable.
+        assertEquals(largeContent, ConfigContentCompressor.decode(compressed));
+        assertNull(ConfigContentCompressor.compressForTransfer(null, largeContent));
+    }
+    
+    @Test
+    void testDecodeNull() throws IOException {
+        assertNull(ConfigContentCompressor.decode(null));
+    }
+    
+    @Test
+    void testCompressForTransfer() throws Exception {
+        assertNull(ConfigContentCompressor.compressForTransfer(null, "content"));
+        byte[] compressed = ConfigContentCompressor.compressForTransfer(null, largeContent);
+        assertNotNull(compressed);
+        assertEquals(largeContent, new String(IoUtils.tryDecompress(compressed), StandardCharsets.UTF_8));
+    }
+    
+    @Test
+    void testCompressForTransferCachedByMd5() throws Exception {
+        String md5 = MD5Utils.md5Hex(largeContent, StandardCharsets.UTF_8.name());
+        byte[] compressed = ConfigContentCompressor.compressForTransfer(md5, largeContent);
+        assertNotNull(compressed);
+        assertSame(compressed, ConfigContentCompressor.compressForTransfer(md5, largeContent));
+        assertEquals(largeContent, new String(IoUtils.tryDecompress(compressed), StandardCharsets.UTF_8));
+    }
+}
@@ -0,0 +1,83 @@
+/*
+ * Copyright 1999-2025 Alibaba Group Holding Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.alibaba.nacos.config.server.service.dump.disk;
+
+import com.alibaba.nacos.common.utils.LineDiffUtils;
+import com.alibaba.nacos.sys.env.EnvUtil;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.core.env.StandardEnvironment;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+class ConfigDeltaCacheTest {
+    
+    private static final String GROUP_KEY = "dataId+group+tenant";
+    
+    private String baseContent;
+    
+    @BeforeEach
+    void setUp() {
+        EnvUtil.setEnvironment(new StandardEnvironment());
+        ConfigDeltaCache.invalidateAll();
+        StringBuilder builder = new StringBuilder();
+        for (int i = 0; i < 10000; i++) {
+            builder.append("key").append(i).append(": value\n");
+        }
+        baseContent = builder.toString();
+    }
+    
+    @AfterEach
+    void tearDown() {
+        ConfigDeltaCache.invalidateAll();
+        EnvUtil.setEnvironment(null);
+    }
+    
+    @Test
+    void testGetDelta() {
+        String content = baseContent.replace("key9: value", "key9: changed");
+        ConfigDeltaCache.recordHistory(GROUP_KEY, "baseMd5", baseContent);
+        String delta = ConfigDeltaCache.getDelta(GROUP_KEY, "baseMd5", "md5", content);
+        assertNotNull(delta);
+        assertEquals(content, LineDiffUtils.patch(baseContent, delta));
+        // computed delta is shared by the clients holding the same version.
+        assertSame(delta, ConfigDeltaCache.getDelta(GROUP_KEY, "baseMd5", "md5", content));
+    }
+    
+    @Test
+    void testGetDeltaWithUnknownBase() {
+        ConfigDeltaCache.recordHistory(GROUP_KEY, "baseMd5", baseContent);
+        assertNull(ConfigDeltaCache.getDelta(GROUP_KEY, "otherMd5", "md5", baseContent + "a: b\n"));
+        assertNull(ConfigDeltaCache.getDelta("otherGroupKey", "baseMd5", "md5", baseContent + "a: b\n"));
+    }
+    
+    @Test
+    void testSmallContentNotRecorded() {
+        ConfigDeltaCache.recordHistory(GROUP_KEY, "baseMd5", "a: 1\n");
+        assertNull(ConfigDeltaCache.getDelta(GROUP_KEY, "baseMd5", "md5", "a: 2\n"));
+    }
+    
+    @Test
+    void testDeltaTooLarge() {
+        ConfigDeltaCache.recordHistory(GROUP_KEY, "baseMd5", baseContent);
+        assertNull(ConfigDeltaCache.getDelta(GROUP_KEY, "baseMd5", "md5", baseContent.replace("value", "other")));
+    }
+}
@@ -16,11 +16,13 @@
 
 package com.alibaba.nacos.config.server.service.dump.disk;
 
+import com.alibaba.nacos.sys.env.EnvUtil;
 import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.mock.env.MockEnvironment;
 
 import java.lang.reflect.Field;
 
@@ -53,6 +55,14 @@ class ConfigDiskServiceFactoryTest {
         assertTrue(instance instanceof ConfigRocksDbDiskService);
     }
     
+    @Test
+    void getSegmentDiskInstance() {
+        EnvUtil.setEnvironment(new MockEnvironment());
+        System.setProperty("config_disk_type", "segment");
+        ConfigDiskService instance = ConfigDiskServiceFactory.getInstance();
+        assertTrue(instance instanceof ConfigSegmentDiskService);
+    }
+    
     @Test
     void getDefaultRawDiskInstance() {
         System.setProperty("config_disk_type", "123");
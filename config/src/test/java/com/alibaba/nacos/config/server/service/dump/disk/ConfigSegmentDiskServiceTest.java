@@ -0,0 +1,255 @@
+/*
+ * Copyright 1999-2025 Alibaba Group Holding Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.alibaba.nacos.config.server.service.dump.disk;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class ConfigSegmentDiskServiceTest {
+    
+    private static final long MAX_SEGMENT_BYTES = 1024;
+    
+    @TempDir
+    File rootDir;
+    
+    private ConfigSegmentDiskService diskService;
+    
+    @BeforeEach
+    void setUp() {
+        diskService = newDiskService();
+    }
+    
+    @AfterEach
+    void tearDown() throws IOException {
+        diskService.getFormalStore().close();
+        diskService.getGrayStore().close();
+    }
+    
+    private ConfigSegmentDiskService newDiskService() {
+        return new ConfigSegmentDiskService(rootDir, MAX_SEGMENT_BYTES, 0.5D);
+    }
+    
+    private ConfigSegmentDiskService reopen() throws IOException {
+        diskService.getFormalStore().close();
+        diskService.getGrayStore().close();
+        diskService = newDiskService();
+        return diskService;
+    }
+    
+    @Test
+    void testSaveAndGet() throws IOException {
+        diskService.saveToDisk("dataId", "group", "tenant", "content");
+        diskService.saveGrayToDisk("dataId", "group", "tenant", "gray", "grayContent");
+        assertEquals("content", diskService.getContent("dataId", "group", "tenant"));
+        assertEquals("grayContent", diskService.getGrayContent("dataId", "group", "tenant", "gray"));
+        assertNull(diskService.getContent("dataId", "group", "otherTenant"));
+        assertNull(diskService.getGrayContent("dataId", "group", "tenant", "otherGray"));
+        
+        diskService.saveToDisk("dataId", "group", "tenant", "content2");
+        assertEquals("content2", diskService.getContent("dataId", "group", "tenant"));
+    }
+    
+    @Test
+    void testSaveAndGetCompressedContent() throws IOException {
+        StringBuilder builder = new StringBuilder();
+        for (int i = 0; i < 5000; i++) {
+            builder.append("key").append(i).append(": value\n");
+        }
+        String content = builder.toString();
+        diskService.saveToDisk("dataId", "group", "tenant", content);
+        diskService.saveGrayToDisk("dataId", "group", "tenant", "gray", content);
+        reopen();
+        assertEquals(content, diskService.getContent("dataId", "group", "tenant"));
+        assertEquals(content, diskService.getGrayContent("dataId", "group", "tenant", "gray"));
+    }
+    
+    @Test
+    void testKeyEscape() throws IOException {
+        diskService.saveToDisk("a+b", "c", "", "content1");
+        diskService.saveToDisk("a", "b+c", "", "content2");
+        diskService.saveToDisk("a%2B", "b", "", "content3");
+        assertEquals("content1", diskService.getContent("a+b", "c", ""));
+        assertEquals("content2", diskService.getContent("a", "b+c", ""));
+        assertEquals("content3", diskService.getContent("a%2B", "b", ""));
+    }
+    
+    @Test
+    void testRemove() throws IOException {
+        diskService.saveToDisk("dataId", "group", "tenant", "content");
+        diskService.saveGrayToDisk("dataId", "group", "tenant", "gray", "grayContent");
+        diskService.removeConfigInfo("dataId", "group", "tenant");
+        assertNull(diskService.getContent("dataId", "group", "tenant"));
+        assertEquals("grayContent", diskService.getGrayContent("dataId", "group", "tenant", "gray"));
+        diskService.removeConfigInfo4Gray("dataId", "group", "tenant", "gray");
+        assertNull(diskService.getGrayContent("dataId", "group", "tenant", "gray"));
+        
+        reopen();
+        assertNull(diskService.getContent("dataId", "group", "tenant"));
+        assertNull(diskService.getGrayContent("dataId", "group", "tenant", "gray"));
+    }
+    
+    @Test
+    void testRecoverAfterReopen() throws IOException {
+        for (int i = 0; i < 100; i++) {
+            diskService.saveToDisk("dataId" + i, "group", "", "content" + i);
+        }
+        for (int i = 0; i < 100; i += 2) {
+            diskService.saveToDisk("dataId" + i, "group", "", "newContent" + i);
+        }
+        diskService.removeConfigInfo("dataId1", "group", "");
+        assertTrue(diskService.getFormalStore().segmentCount() > 1);
+        
+        reopen();
+        assertEquals(99, diskService.getFormalStore().size());
+        assertNull(diskService.getContent("dataId1", "group", ""));
+        for (int i = 2; i < 100; i++) {
+            String expect = (i % 2 == 0 ? "newContent" : "content") + i;
+            assertEquals(expect, diskService.getContent("dataId" + i, "group", ""));
+        }
+    }
+    
+    @Test
+    void testTruncateBrokenTail() throws IOException {
+        diskService.saveToDisk("dataId", "group", "", "content");
+        diskService.getFormalStore().close();
+        File[] segments = new File(rootDir, "config-data").listFiles();
+        assertEquals(1, segments.length);
+        final long length = segments[0].length();
+        try (FileOutputStream outputStream = new FileOutputStream(segments[0], true)) {
+            outputStream.write(new byte[] {1, 2, 3, 4, 1, 0, 0, 0, 3, 0, 0, 0, 1, 'a'});
+        }
+        
+        diskService = newDiskService();
+        assertEquals("content", diskService.getContent("dataId", "group", ""));
+        assertEquals(length, segments[0].length());
+        diskService.saveToDisk("dataId2", "group", "", "content2");
+        
+        reopen();
+        assertEquals("content", diskService.getContent("dataId", "group", ""));
+        assertEquals("content2", diskService.getContent("dataId2", "group", ""));
+    }
+    
+    @Test
+    void testCompact() throws IOException {
+        for (int round = 0; round < 10; round++) {
+            for (int i = 0; i < 20; i++) {
+                diskService.saveToDisk("dataId" + i, "group", "", "content" + round + "-" + i);
+            }
+        }
+        diskService.saveToDisk("deleted", "group", "", "deleted");
+        diskService.removeConfigInfo("deleted", "group", "");
+        int before = diskService.getFormalStore().segmentCount();
+        
+        diskService.compact();
+        int after = diskService.getFormalStore().segmentCount();
+        assertTrue(after < before, "segments before compact " + before + ", after compact " + after);
+        for (int i = 0; i < 20; i++) {
+            assertEquals("content9-" + i, diskService.getContent("dataId" + i, "group", ""));
+        }
+        assertNull(diskService.getContent("deleted", "group", ""));
+        
+        reopen();
+        assertEquals(20, diskService.getFormalStore().size());
+        for (int i = 0; i < 20; i++) {
+            assertEquals("content9-" + i, diskService.getContent("dataId" + i, "group", ""));
+        }
+        assertNull(diskService.getContent("deleted", "group", ""));
+    }
+    
+    @Test
+    void testClearAll() throws IOException {
+        diskService.saveToDisk("dataId", "group", "", "content");
+        diskService.saveGrayToDisk("dataId", "group", "", "gray", "grayContent");
+        diskService.clearAll();
+        assertNull(diskService.getContent("dataId", "group", ""));
+        assertEquals("grayContent", diskService.getGrayContent("dataId", "group", "", "gray"));
+        diskService.clearAllGray();
+        assertNull(diskService.getGrayContent("dataId", "group", "", "gray"));
+        
+        diskService.saveToDisk("dataId", "group", "", "content2");
+        reopen();
+        assertEquals("content2", diskService.getContent("dataId", "group", ""));
+        assertNull(diskService.getGrayContent("dataId", "group", "", "gray"));
+    }
+    
+    @Test
+    void testConcurrentReadDuringWriteAndCompact() throws Exception {
+        for (int i = 0; i < 20; i++) {
+            diskService.saveToDisk("dataId" + i, "group", "", "content-" + i);
+        }
+        ExecutorService executorService = Executors.newFixedThreadPool(4);
+        CountDownLatch latch = new CountDownLatch(3);
+        AtomicReference<Throwable> error = new AtomicReference<>();
+        List<Runnable> tasks = new ArrayList<>();
+        tasks.add(() -> {
+            for (int round = 0; round < 50; round++) {
+                for (int i = 0; i < 20; i++) {
+                    try {
+                        diskService.saveToDisk("dataId" + i, "group", "", "content-" + i);
+                    } catch (Throwable e) {
+                        error.compareAndSet(null, e);
+                    }
+                }
+            }
+        });
+        tasks.add(() -> {
+            for (int round = 0; round < 20; round++) {
+                diskService.compact();
+            }
+        });
+        tasks.add(() -> {
+            for (int round = 0; round < 100; round++) {
+                for (int i = 0; i < 20; i++) {
+                    try {
+                        assertEquals("content-" + i, diskService.getContent("dataId" + i, "group", ""));
+                    } catch (Throwable e) {
+                        error.compareAndSet(null, e);
+                    }
+                }
+            }
+        });
+        for (Runnable task : tasks) {
+            executorService.execute(() -> {
+                try {
+                    task.run();
+                } finally {
+                    latch.countDown();
+                }
+            });
+        }
+        assertTrue(latch.await(30, TimeUnit.SECONDS));
+        executorService.shutdownNow();
+        assertNull(error.get());
+    }
+}
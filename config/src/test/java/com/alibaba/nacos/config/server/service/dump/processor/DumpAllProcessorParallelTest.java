@@ -0,0 +1,169 @@
+/*
+ * Copyright 1999-2025 Alibaba Group Holding Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.alibaba.nacos.config.server.service.dump.processor;
+
+import com.alibaba.nacos.config.server.model.ConfigInfoWrapper;
+import com.alibaba.nacos.config.server.monitor.MetricsMonitor;
+import com.alibaba.nacos.config.server.service.ConfigCacheService;
+import com.alibaba.nacos.config.server.service.dump.disk.ConfigDiskService;
+import com.alibaba.nacos.config.server.service.dump.disk.ConfigDiskServiceFactory;
+import com.alibaba.nacos.config.server.service.dump.task.DumpAllTask;
+import com.alibaba.nacos.config.server.service.repository.ConfigInfoPersistService;
+import com.alibaba.nacos.config.server.utils.GroupKey2;
+import com.alibaba.nacos.config.server.utils.PropertyUtil;
+import com.alibaba.nacos.persistence.model.Page;
+import com.alibaba.nacos.sys.env.EnvUtil;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.MockedStatic;
+import org.mockito.Mockito;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.mockito.junit.jupiter.MockitoSettings;
+import org.mockito.quality.Strictness;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.anyBoolean;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+@MockitoSettings(strictness = Strictness.LENIENT)
+class DumpAllProcessorParallelTest {
+    
+    private static final int PAGE_SIZE = 10;
+    
+    private static final long MAX_ID = 1000;
+    
+    @Mock
+    ConfigInfoPersistService configInfoPersistService;
+    
+    @Mock
+    ConfigDiskService configDiskService;
+    
+    MockedStatic<EnvUtil> envUtilMockedStatic;
+    
+    MockedStatic<PropertyUtil> propertyUtilMockedStatic;
+    
+    MockedStatic<ConfigDiskServiceFactory> configDiskServiceFactoryMockedStatic;
+    
+    DumpAllProcessor dumpAllProcessor;
+    
+    @BeforeEach
+    void setUp() {
+        envUtilMockedStatic = Mockito.mockStatic(EnvUtil.class);
+        propertyUtilMockedStatic = Mockito.mockStatic(PropertyUtil.class);
+        propertyUtilMockedStatic.when(PropertyUtil::getAllDumpPageSize).thenReturn(PAGE_SIZE);
+        propertyUtilMockedStatic.when(PropertyUtil::getAllDumpParallelism).thenReturn(4);
+        configDiskServiceFactoryMockedStatic = Mockito.mockStatic(ConfigDiskServiceFactory.class);
+        configDiskServiceFactoryMockedStatic.when(ConfigDiskServiceFactory::getInstance).thenReturn(configDiskService);
+        dumpAllProcessor = new DumpAllProcessor(configInfoPersistService);
+    }
+    
+    @AfterEach
+    void tearDown() {
+        for (long id = 1; id <= MAX_ID; id++) {
+            ConfigCacheService.remove(dataId(id), "group", "");
+        }
+        envUtilMockedStatic.close();
+        propertyUtilMockedStatic.close();
+        configDiskServiceFactoryMockedStatic.close();
+    }
+    
+    private static String dataId(long id) {
+        return "parallelDumpDataId" + id;
+    }
+    
+    private static boolean exist(long id) {
+        // sparse id space with holes.
+        return id % 7 != 0;
+    }
+    
+    private Page<ConfigInfoWrapper> fragment(long lastMaxId, int limit) {
+        List<ConfigInfoWrapper> items = new ArrayList<>();
+        for (long id = lastMaxId + 1; id <= MAX_ID && items.size() < limit; id++) {
+            if (!exist(id)) {
+                continue;
+            }
+            ConfigInfoWrapper configInfoWrapper = new ConfigInfoWrapper();
+            configInfoWrapper.setId(id);
+            configInfoWrapper.setDataId(dataId(id));
+            configInfoWrapper.setGroup("group");
+            configInfoWrapper.setTenant("");
+            configInfoWrapper.setContent("content" + id);
+            configInfoWrapper.setLastModified(id);
+            items.add(configInfoWrapper);
+        }
+        Page<ConfigInfoWrapper> page = new Page<>();
+        page.setPageItems(items);
+        return page;
+    }
+    
+    @Test
+    void testDumpAllRangesInParallel() throws Exception {
+        AtomicInteger fetchedRows = new AtomicInteger();
+        when(configInfoPersistService.findConfigMaxId()).thenReturn(MAX_ID);
+        when(configInfoPersistService.findAllConfigInfoFragment(anyLong(), anyInt(), eq(true))).thenAnswer(
+                invocation -> {
+                    Page<ConfigInfoWrapper> page = fragment(invocation.getArgument(0), invocation.getArgument(1));
+                    fetchedRows.addAndGet(page.getPageItems().size());
+                    return page;
+                });
+        
+        assertTrue(dumpAllProcessor.process(new DumpAllTask(true)));
+        
+        int expectRows = 0;
+        for (long id = 1; id <= MAX_ID; id++) {
+            if (exist(id)) {
+                expectRows++;
+                assertNotNull(ConfigCacheService.getContentCache(GroupKey2.getKey(dataId(id), "group", "")));
+            }
+        }
+        // no rows beyond the range are fetched.
+        assertEquals(expectRows, fetchedRows.get());
+        verify(configDiskService, times(expectRows)).saveToDisk(anyString(), eq("group"), anyString(),
+                anyString());
+        assertEquals(expectRows,
+                MetricsMonitor.getDumpAllProgressMonitor(DumpAllProcessor.PROGRESS_TYPE, DumpAllProgress.PROCESSED_ROWS)
+                        .get());
+        assertEquals(0L,
+                MetricsMonitor.getDumpAllProgressMonitor(DumpAllProcessor.PROGRESS_TYPE, DumpAllProgress.REMAINING)
+                        .get());
+    }
+    
+    @Test
+    void testDumpAllRangeFailed() {
+        when(configInfoPersistService.findConfigMaxId()).thenReturn(MAX_ID);
+        when(configInfoPersistService.findAllConfigInfoFragment(anyLong(), anyInt(), anyBoolean())).thenThrow(
+                new IllegalStateException("db error"));
+        assertThrows(IllegalStateException.class, () -> dumpAllProcessor.process(new DumpAllTask(true)));
+    }
+}
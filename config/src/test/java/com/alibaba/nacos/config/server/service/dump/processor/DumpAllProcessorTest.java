@@ -141,7 +141,7 @@ class DumpAllProcessorTest {
         page.setPageItems(list);
         
         Mockito.when(configInfoPersistService.findConfigMaxId()).thenReturn(2L);
-        Mockito.when(configInfoPersistService.findAllConfigInfoFragment(0, PropertyUtil.getAllDumpPageSize(), true))
+        Mockito.when(configInfoPersistService.findAllConfigInfoFragment(0, 2, true))
                 .thenReturn(page);
         
         // For config 1, assign a latter time, to make sure that it would be updated.
@@ -209,7 +209,7 @@ class DumpAllProcessorTest {
         page.setPageItems(list);
         
         Mockito.when(configInfoPersistService.findConfigMaxId()).thenReturn(2L);
-        Mockito.when(configInfoPersistService.findAllConfigInfoFragment(0, PropertyUtil.getAllDumpPageSize(), false))
+        Mockito.when(configInfoPersistService.findAllConfigInfoFragment(0, 2, false))
                 .thenReturn(page);
         
         ConfigInfoWrapper configInfoWrapperSingle1 = new ConfigInfoWrapper();
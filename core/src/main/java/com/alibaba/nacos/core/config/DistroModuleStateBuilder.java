@@ -52,6 +52,15 @@ public class DistroModuleStateBuilder implements ModuleStateBuilder {
         moduleState.newState(DistroConstants.DATA_LOAD_TIMEOUT_MILLISECONDS_STATE,
                 EnvUtil.getProperty(DistroConstants.DATA_LOAD_TIMEOUT_MILLISECONDS, Long.class,
                         DistroConstants.DEFAULT_DATA_LOAD_TIMEOUT_MILLISECONDS));
+        moduleState.newState(DistroConstants.DATA_LOAD_CHUNK_COUNT_STATE,
+                EnvUtil.getProperty(DistroConstants.DATA_LOAD_CHUNK_COUNT, Integer.class,
+                        DistroConstants.DEFAULT_DATA_LOAD_CHUNK_COUNT));
+        moduleState.newState(DistroConstants.DATA_SYNC_BATCH_SIZE_STATE,
+                EnvUtil.getProperty(DistroConstants.DATA_SYNC_BATCH_SIZE, Integer.class,
+                        DistroConstants.DEFAULT_DATA_SYNC_BATCH_SIZE));
+        moduleState.newState(DistroConstants.DATA_SYNC_BATCH_WAIT_MILLISECONDS_STATE,
+                EnvUtil.getProperty(DistroConstants.DATA_SYNC_BATCH_WAIT_MILLISECONDS, Long.class,
+                        DistroConstants.DEFAULT_DATA_SYNC_BATCH_WAIT_MILLISECONDS));
         return moduleState;
     }
     
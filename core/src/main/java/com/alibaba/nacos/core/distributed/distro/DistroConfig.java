@@ -44,6 +44,12 @@ public class DistroConfig extends AbstractDynamicConfig {
     
     private long loadDataTimeoutMillis = DistroConstants.DEFAULT_DATA_LOAD_TIMEOUT_MILLISECONDS;
     
+    private int loadDataChunkCount = DistroConstants.DEFAULT_DATA_LOAD_CHUNK_COUNT;
+    
+    private int syncBatchSize = DistroConstants.DEFAULT_DATA_SYNC_BATCH_SIZE;
+    
+    private long syncBatchWaitMillis = DistroConstants.DEFAULT_DATA_SYNC_BATCH_WAIT_MILLISECONDS;
+    
     private DistroConfig() {
         super(DISTRO);
         resetConfig();
@@ -65,6 +71,12 @@ public class DistroConfig extends AbstractDynamicConfig {
                 DistroConstants.DEFAULT_DATA_LOAD_RETRY_DELAY_MILLISECONDS);
         loadDataTimeoutMillis = EnvUtil.getProperty(DistroConstants.DATA_LOAD_TIMEOUT_MILLISECONDS, Long.class,
                 DistroConstants.DEFAULT_DATA_LOAD_TIMEOUT_MILLISECONDS);
+        loadDataChunkCount = EnvUtil.getProperty(DistroConstants.DATA_LOAD_CHUNK_COUNT, Integer.class,
+                DistroConstants.DEFAULT_DATA_LOAD_CHUNK_COUNT);
+        syncBatchSize = EnvUtil.getProperty(DistroConstants.DATA_SYNC_BATCH_SIZE, Integer.class,
+                DistroConstants.DEFAULT_DATA_SYNC_BATCH_SIZE);
+        syncBatchWaitMillis = EnvUtil.getProperty(DistroConstants.DATA_SYNC_BATCH_WAIT_MILLISECONDS, Long.class,
+                DistroConstants.DEFAULT_DATA_SYNC_BATCH_WAIT_MILLISECONDS);
     }
     
     public static DistroConfig getInstance() {
@@ -127,11 +139,37 @@ public class DistroConfig extends AbstractDynamicConfig {
         this.loadDataTimeoutMillis = loadDataTimeoutMillis;
     }
     
+    public int getLoadDataChunkCount() {
+        return loadDataChunkCount;
+    }
+    
+    public void setLoadDataChunkCount(int loadDataChunkCount) {
+        this.loadDataChunkCount = loadDataChunkCount;
+    }
+    
+    public int getSyncBatchSize() {
+        return syncBatchSize;
+    }
+    
+    public void setSyncBatchSize(int syncBatchSize) {
+        this.syncBatchSize = syncBatchSize;
+    }
+    
+    public long getSyncBatchWaitMillis() {
+        return syncBatchWaitMillis;
+    }
+    
+    public void setSyncBatchWaitMillis(long syncBatchWaitMillis) {
+        this.syncBatchWaitMillis = syncBatchWaitMillis;
+    }
+    
     @Override
     protected String printConfig() {
         return "DistroConfig{" + "syncDelayMillis=" + syncDelayMillis + ", syncTimeoutMillis=" + syncTimeoutMillis
                 + ", syncRetryDelayMillis=" + syncRetryDelayMillis + ", verifyIntervalMillis=" + verifyIntervalMillis
                 + ", verifyTimeoutMillis=" + verifyTimeoutMillis + ", loadDataRetryDelayMillis=" + loadDataRetryDelayMillis
-                + ", loadDataTimeoutMillis=" + loadDataTimeoutMillis + '}';
+                + ", loadDataTimeoutMillis=" + loadDataTimeoutMillis + ", loadDataChunkCount=" + loadDataChunkCount
+                + ", syncBatchSize=" + syncBatchSize
+                + ", syncBatchWaitMillis=" + syncBatchWaitMillis + '}';
     }
 }
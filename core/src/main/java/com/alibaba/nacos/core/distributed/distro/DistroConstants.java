@@ -67,4 +67,22 @@ public class DistroConstants {
     
     public static final long DEFAULT_DATA_LOAD_TIMEOUT_MILLISECONDS = 30000L;
     
+    public static final String DATA_LOAD_CHUNK_COUNT = "nacos.core.protocol.distro.data.load.chunkCount";
+    
+    public static final String DATA_LOAD_CHUNK_COUNT_STATE = "data_load_chunkCount";
+    
+    public static final int DEFAULT_DATA_LOAD_CHUNK_COUNT = 16;
+    
+    public static final String DATA_SYNC_BATCH_SIZE = "nacos.core.protocol.distro.data.sync.batchSize";
+    
+    public static final String DATA_SYNC_BATCH_SIZE_STATE = "data_sync_batchSize";
+    
+    public static final int DEFAULT_DATA_SYNC_BATCH_SIZE = 100;
+    
+    public static final String DATA_SYNC_BATCH_WAIT_MILLISECONDS = "nacos.core.protocol.distro.data.sync.batchWaitMs";
+    
+    public static final String DATA_SYNC_BATCH_WAIT_MILLISECONDS_STATE = "data_sync_batchWaitMs";
+    
+    public static final long DEFAULT_DATA_SYNC_BATCH_WAIT_MILLISECONDS = 100L;
+    
 }
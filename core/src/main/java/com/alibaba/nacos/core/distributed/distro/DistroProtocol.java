@@ -35,6 +35,11 @@ import com.alibaba.nacos.core.utils.Loggers;
 import com.alibaba.nacos.sys.env.EnvUtil;
 import org.springframework.stereotype.Component;
 
+import java.util.LinkedHashMap;
+import java.util.LinkedList;
+import java.util.List;
+import java.util.Map;
+
 /**
  * Distro protocol.
  *
@@ -94,6 +99,20 @@ public class DistroProtocol {
         return isInitialized;
     }
     
+    /**
+     * Whether the datum of target type has finished loading from other servers.
+     *
+     * @param type datum type
+     * @return {@code true} if finished loading, otherwise {@code false}
+     */
+    public boolean isInitialized(String type) {
+        if (isInitialized) {
+            return true;
+        }
+        DistroDataStorage distroDataStorage = distroComponentHolder.findDataStorage(type);
+        return null != distroDataStorage && distroDataStorage.isFinishInitial();
+    }
+    
     /**
      * Start to sync by configured delay.
      *
@@ -173,6 +192,31 @@ public class DistroProtocol {
         return dataProcessor.processData(distroData);
     }
     
+    /**
+     * Receive a batch of synced data, group by resource type and find processor to process.
+     *
+     * @param distroDataList received data
+     * @return true if all data handle successfully, otherwise false
+     */
+    public boolean onBatchReceive(List<DistroData> distroDataList) {
+        Loggers.DISTRO.info("[DISTRO] Receive distro batch data, size: {}", distroDataList.size());
+        Map<String, List<DistroData>> groupByType = new LinkedHashMap<>(2);
+        for (DistroData each : distroDataList) {
+            groupByType.computeIfAbsent(each.getDistroKey().getResourceType(), type -> new LinkedList<>()).add(each);
+        }
+        boolean result = true;
+        for (Map.Entry<String, List<DistroData>> entry : groupByType.entrySet()) {
+            DistroDataProcessor dataProcessor = distroComponentHolder.findDataProcessor(entry.getKey());
+            if (null == dataProcessor) {
+                Loggers.DISTRO.warn("[DISTRO] Can't find data process for received data {}", entry.getKey());
+                result = false;
+                continue;
+            }
+            result &= dataProcessor.processBatchData(entry.getValue());
+        }
+        return result;
+    }
+    
     /**
      * Receive verify data, find processor to process.
      *
@@ -194,6 +238,27 @@ public class DistroProtocol {
         return dataProcessor.processVerifyData(distroData, sourceAddress);
     }
     
+    /**
+     * Receive verify digest, find processor to process.
+     *
+     * @param distroData    verify digest
+     * @param sourceAddress source server address
+     * @return local digest to response, {@code null} if can't process the digest
+     */
+    public DistroData onVerifyDigest(DistroData distroData, String sourceAddress) {
+        if (Loggers.DISTRO.isDebugEnabled()) {
+            Loggers.DISTRO.debug("[DISTRO] Receive verify digest type: {}, source: {}",
+                    distroData.getDistroKey().getResourceType(), sourceAddress);
+        }
+        String resourceType = distroData.getDistroKey().getResourceType();
+        DistroDataProcessor dataProcessor = distroComponentHolder.findDataProcessor(resourceType);
+        if (null == dataProcessor) {
+            Loggers.DISTRO.warn("[DISTRO] Can't find verify digest process for received data {}", resourceType);
+            return null;
+        }
+        return dataProcessor.processVerifyDigest(distroData, sourceAddress);
+    }
+    
     /**
      * Query data of input distro key.
      *
@@ -224,4 +289,21 @@ public class DistroProtocol {
         }
         return distroDataStorage.getDatumSnapshot();
     }
+    
+    /**
+     * Query one chunk of datum snapshot.
+     *
+     * @param type       datum type
+     * @param chunkIndex index of chunk
+     * @param chunkCount count of chunks
+     * @return datum snapshot of chunk
+     */
+    public DistroData onSnapshot(String type, int chunkIndex, int chunkCount) {
+        DistroDataStorage distroDataStorage = distroComponentHolder.findDataStorage(type);
+        if (null == distroDataStorage) {
+            Loggers.DISTRO.warn("[DISTRO] Can't find data storage for received key {}", type);
+            return new DistroData(new DistroKey("snapshot", type), new byte[0]);
+        }
+        return distroDataStorage.getDatumSnapshot(chunkIndex, chunkCount);
+    }
 }
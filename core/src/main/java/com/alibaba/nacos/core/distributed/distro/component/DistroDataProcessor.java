@@ -18,6 +18,8 @@ package com.alibaba.nacos.core.distributed.distro.component;
 
 import com.alibaba.nacos.core.distributed.distro.entity.DistroData;
 
+import java.util.List;
+
 /**
  * Distro data processor.
  *
@@ -40,6 +42,20 @@ public interface DistroDataProcessor {
      */
     boolean processData(DistroData distroData);
     
+    /**
+     * Process several received data in one batch.
+     *
+     * @param distroDataList received data list
+     * @return true if process all data successfully, otherwise false
+     */
+    default boolean processBatchData(List<DistroData> distroDataList) {
+        boolean result = true;
+        for (DistroData each : distroDataList) {
+            result &= processData(each);
+        }
+        return result;
+    }
+    
     /**
      * Process received verify data.
      *
@@ -49,6 +65,17 @@ public interface DistroDataProcessor {
      */
     boolean processVerifyData(DistroData distroData, String sourceAddress);
     
+    /**
+     * Process received verify digest. The data matched with digest should be treated as verified.
+     *
+     * @param distroData    verify digest
+     * @param sourceAddress source server address
+     * @return local digest for source server to find not matched data, {@code null} if not support verify by digest
+     */
+    default DistroData processVerifyDigest(DistroData distroData, String sourceAddress) {
+        return null;
+    }
+    
     /**
      * Process snapshot data.
      *
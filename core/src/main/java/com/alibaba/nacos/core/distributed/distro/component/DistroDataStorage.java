@@ -57,10 +57,45 @@ public interface DistroDataStorage {
      */
     DistroData getDatumSnapshot();
     
+    /**
+     * Get one chunk of distro datum snapshot. All datum are split into {@code chunkCount} chunks by stable rule, so
+     * that the chunks from different requests are disjoint and together contain all datum.
+     *
+     * <p>The type of returned chunk should be {@link com.alibaba.nacos.consistency.DataOperation#SNAPSHOT}. If chunk is
+     * not supported, the full snapshot will be returned without this type.
+     *
+     * @param chunkIndex index of chunk, from 0 to {@code chunkCount - 1}
+     * @param chunkCount count of chunks
+     * @return datum snapshot of the chunk
+     */
+    default DistroData getDatumSnapshot(int chunkIndex, int chunkCount) {
+        return getDatumSnapshot();
+    }
+    
     /**
      * Get verify datum.
      *
      * @return verify datum
      */
     List<DistroData> getVerifyData();
+    
+    /**
+     * Get verify datum which are not matched between local digest and remote digest.
+     *
+     * @param localDigest  local verify digest sent to target server
+     * @param remoteDigest verify digest responded by target server
+     * @return verify datum need to be verified one by one
+     */
+    default List<DistroData> getVerifyData(DistroData localDigest, DistroData remoteDigest) {
+        return getVerifyData();
+    }
+    
+    /**
+     * Get verify digest which summarizes all verify datum, the digest is exchanged instead of all verify datum.
+     *
+     * @return verify digest, {@code null} if not support verify by digest
+     */
+    default DistroData getVerifyDigest() {
+        return null;
+    }
 }
@@ -19,6 +19,8 @@ package com.alibaba.nacos.core.distributed.distro.component;
 import com.alibaba.nacos.core.distributed.distro.entity.DistroData;
 import com.alibaba.nacos.core.distributed.distro.entity.DistroKey;
 
+import java.util.List;
+
 /**
  * Distro transport agent.
  *
@@ -53,6 +55,28 @@ public interface DistroTransportAgent {
      */
     void syncData(DistroData data, String targetServer, DistroCallback callback);
     
+    /**
+     * Whether support transport several data to one target server in one request.
+     *
+     * @return true if support, otherwise false
+     */
+    default boolean supportBatchTransport() {
+        return false;
+    }
+    
+    /**
+     * Sync several data to one target server in one request with callback.
+     *
+     * @param data         data list, all data should be the same resource type
+     * @param targetServer target server
+     * @param callback     callback, success only if all data are accepted by target server
+     * @throws UnsupportedOperationException if method supportBatchTransport is false, should throw {@code
+     *                                       UnsupportedOperationException}
+     */
+    default void syncBatchData(List<DistroData> data, String targetServer, DistroCallback callback) {
+        throw new UnsupportedOperationException("Batch transport is not supported by " + getClass().getSimpleName());
+    }
+    
     /**
      * Sync verify data.
      *
@@ -73,6 +97,28 @@ public interface DistroTransportAgent {
      */
     void syncVerifyData(DistroData verifyData, String targetServer, DistroCallback callback);
     
+    /**
+     * Whether support verify data by digest.
+     *
+     * @return true if support, otherwise false
+     */
+    default boolean supportVerifyDigest() {
+        return false;
+    }
+    
+    /**
+     * Sync verify digest with callback.
+     *
+     * @param verifyDigest verify digest
+     * @param targetServer target server
+     * @param callback     callback
+     * @throws UnsupportedOperationException if method supportVerifyDigest is false, should throw {@code
+     *                                       UnsupportedOperationException}
+     */
+    default void syncVerifyDigest(DistroData verifyDigest, String targetServer, DistroVerifyDigestCallback callback) {
+        throw new UnsupportedOperationException("Verify digest is not supported by " + getClass().getSimpleName());
+    }
+    
     /**
      * get Data from target server.
      *
@@ -82,6 +128,15 @@ public interface DistroTransportAgent {
      */
     DistroData getData(DistroKey key, String targetServer);
     
+    /**
+     * Whether support get datum snapshot by chunks.
+     *
+     * @return true if support, otherwise false
+     */
+    default boolean supportChunkedSnapshot() {
+        return false;
+    }
+    
     /**
      * Get all datum snapshot from target server.
      *
@@ -89,4 +144,21 @@ public interface DistroTransportAgent {
      * @return distro data
      */
     DistroData getDatumSnapshot(String targetServer);
+    
+    /**
+     * Get one chunk of datum snapshot from target server.
+     *
+     * <p>If target server doesn't support chunked snapshot, the full snapshot is returned, and the type of returned
+     * data will not be {@link com.alibaba.nacos.consistency.DataOperation#SNAPSHOT}.
+     *
+     * @param targetServer target server
+     * @param chunkIndex   index of chunk, from 0 to {@code chunkCount - 1}
+     * @param chunkCount   count of chunks
+     * @return distro data of the chunk
+     * @throws UnsupportedOperationException if method supportChunkedSnapshot is false, should throw {@code
+     *                                       UnsupportedOperationException}
+     */
+    default DistroData getDatumSnapshot(String targetServer, int chunkIndex, int chunkCount) {
+        throw new UnsupportedOperationException("Chunked snapshot is not supported by " + getClass().getSimpleName());
+    }
 }
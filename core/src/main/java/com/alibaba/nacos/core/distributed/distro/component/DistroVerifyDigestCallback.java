@@ -0,0 +1,41 @@
+/*
+ * Copyright 1999-2025 Alibaba Group Holding Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.alibaba.nacos.core.distributed.distro.component;
+
+import com.alibaba.nacos.core.distributed.distro.entity.DistroData;
+
+/**
+ * Distro verify digest callback.
+ *
+ * @author Nacos
+ */
+public interface DistroVerifyDigestCallback {
+    
+    /**
+     * Callback when target server compared the verify digest successfully.
+     *
+     * @param remoteDigest digest of target server, the data which is not matched should be verified one by one
+     */
+    void onSuccess(DistroData remoteDigest);
+    
+    /**
+     * Callback when verify digest failed, the full verify data should be sent instead.
+     *
+     * @param throwable throwable if execute failed caused by exception
+     */
+    void onFailed(Throwable throwable);
+}
@@ -36,12 +36,29 @@ public class DistroRecord {
     
     private final AtomicInteger failedVerifyCount;
     
+    private final AtomicLong batchSyncCount;
+    
+    private final AtomicLong batchSyncDataCount;
+    
+    private final AtomicInteger maxBatchSize;
+    
+    private final AtomicInteger loadedSnapshotChunkCount;
+    
+    private final AtomicLong loadedSnapshotBytes;
+    
+    private volatile int totalSnapshotChunkCount;
+    
     public DistroRecord(String type) {
         this.type = type;
         this.totalSyncCount = new AtomicLong();
         this.successfulSyncCount = new AtomicLong();
         this.failedSyncCount = new AtomicLong();
         this.failedVerifyCount = new AtomicInteger();
+        this.batchSyncCount = new AtomicLong();
+        this.batchSyncDataCount = new AtomicLong();
+        this.maxBatchSize = new AtomicInteger();
+        this.loadedSnapshotChunkCount = new AtomicInteger();
+        this.loadedSnapshotBytes = new AtomicLong();
     }
     
     public String getType() {
@@ -58,6 +75,38 @@ public class DistroRecord {
         totalSyncCount.incrementAndGet();
     }
     
+    /**
+     * Record one batch sync request sent with {@code batchSize} data.
+     *
+     * @param batchSize size of data in the batch
+     */
+    public void batchSync(int batchSize) {
+        batchSyncCount.incrementAndGet();
+        batchSyncDataCount.addAndGet(batchSize);
+        maxBatchSize.accumulateAndGet(batchSize, Math::max);
+    }
+    
+    /**
+     * Start loading snapshot by {@code totalChunkCount} chunks.
+     *
+     * @param totalChunkCount total chunk count
+     */
+    public void startLoadSnapshot(int totalChunkCount) {
+        totalSnapshotChunkCount = totalChunkCount;
+        loadedSnapshotChunkCount.set(0);
+        loadedSnapshotBytes.set(0);
+    }
+    
+    /**
+     * Record one snapshot chunk loaded.
+     *
+     * @param chunkBytes size of chunk content
+     */
+    public void snapshotChunkLoaded(int chunkBytes) {
+        loadedSnapshotChunkCount.incrementAndGet();
+        loadedSnapshotBytes.addAndGet(chunkBytes);
+    }
+    
     public void verifyFail() {
         failedVerifyCount.incrementAndGet();
     }
@@ -77,4 +126,28 @@ public class DistroRecord {
     public int getFailedVerifyCount() {
         return failedVerifyCount.get();
     }
+    
+    public long getBatchSyncCount() {
+        return batchSyncCount.get();
+    }
+    
+    public long getBatchSyncDataCount() {
+        return batchSyncDataCount.get();
+    }
+    
+    public int getMaxBatchSize() {
+        return maxBatchSize.get();
+    }
+    
+    public int getLoadedSnapshotChunkCount() {
+        return loadedSnapshotChunkCount.get();
+    }
+    
+    public long getLoadedSnapshotBytes() {
+        return loadedSnapshotBytes.get();
+    }
+    
+    public int getTotalSnapshotChunkCount() {
+        return totalSnapshotChunkCount;
+    }
 }
@@ -16,6 +16,9 @@
 
 package com.alibaba.nacos.core.distributed.distro.monitor;
 
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
 import java.util.Optional;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ConcurrentMap;
@@ -33,8 +36,11 @@ public class DistroRecordsHolder {
     
     private final ConcurrentMap<String, DistroRecord> distroRecords;
     
+    private final ConcurrentMap<String, AtomicLong> memberSyncLags;
+    
     private DistroRecordsHolder() {
         distroRecords = new ConcurrentHashMap<>();
+        memberSyncLags = new ConcurrentHashMap<>();
     }
     
     public static DistroRecordsHolder getInstance() {
@@ -72,4 +78,38 @@ public class DistroRecordsHolder {
         distroRecords.forEach((s, distroRecord) -> result.addAndGet(distroRecord.getFailedVerifyCount()));
         return result.get();
     }
+    
+    public long getBatchSyncCount() {
+        final AtomicLong result = new AtomicLong();
+        distroRecords.forEach((s, distroRecord) -> result.addAndGet(distroRecord.getBatchSyncCount()));
+        return result.get();
+    }
+    
+    public long getBatchSyncDataCount() {
+        final AtomicLong result = new AtomicLong();
+        distroRecords.forEach((s, distroRecord) -> result.addAndGet(distroRecord.getBatchSyncDataCount()));
+        return result.get();
+    }
+    
+    /**
+     * Record the latest sync lag to target member, which is the time from the oldest change in the synced batch is
+     * produced to the batch is acknowledged by the target member.
+     *
+     * @param member target member address
+     * @param lag    sync lag in milliseconds
+     */
+    public void recordSyncLag(String member, long lag) {
+        memberSyncLags.computeIfAbsent(member, s -> new AtomicLong()).set(lag);
+    }
+    
+    public long getSyncLag(String member) {
+        AtomicLong result = memberSyncLags.get(member);
+        return null == result ? 0L : result.get();
+    }
+    
+    public Map<String, Long> getSyncLags() {
+        Map<String, Long> result = new HashMap<>(memberSyncLags.size());
+        memberSyncLags.forEach((member, lag) -> result.put(member, lag.get()));
+        return Collections.unmodifiableMap(result);
+    }
 }
@@ -17,10 +17,12 @@
 package com.alibaba.nacos.core.distributed.distro.task;
 
 import com.alibaba.nacos.common.task.NacosTaskProcessor;
+import com.alibaba.nacos.core.distributed.distro.DistroConfig;
 import com.alibaba.nacos.core.distributed.distro.component.DistroComponentHolder;
 import com.alibaba.nacos.core.distributed.distro.task.delay.DistroDelayTaskExecuteEngine;
 import com.alibaba.nacos.core.distributed.distro.task.delay.DistroDelayTaskProcessor;
 import com.alibaba.nacos.core.distributed.distro.task.execute.DistroExecuteTaskExecuteEngine;
+import com.alibaba.nacos.core.distributed.distro.task.execute.DistroSyncBatchCollector;
 import org.springframework.beans.factory.DisposableBean;
 import org.springframework.stereotype.Component;
 
@@ -36,7 +38,11 @@ public class DistroTaskEngineHolder implements DisposableBean {
     
     private final DistroExecuteTaskExecuteEngine executeWorkersManager = new DistroExecuteTaskExecuteEngine();
     
+    private final DistroSyncBatchCollector syncBatchCollector;
+    
     public DistroTaskEngineHolder(DistroComponentHolder distroComponentHolder) {
+        syncBatchCollector = new DistroSyncBatchCollector(executeWorkersManager, distroComponentHolder,
+                DistroConfig.getInstance());
         DistroDelayTaskProcessor defaultDelayTaskProcessor = new DistroDelayTaskProcessor(this, distroComponentHolder);
         delayTaskExecuteEngine.setDefaultTaskProcessor(defaultDelayTaskProcessor);
     }
@@ -49,6 +55,10 @@ public class DistroTaskEngineHolder implements DisposableBean {
         return executeWorkersManager;
     }
     
+    public DistroSyncBatchCollector getSyncBatchCollector() {
+        return syncBatchCollector;
+    }
+    
     public void registerNacosTaskProcessor(Object key, NacosTaskProcessor nacosTaskProcessor) {
         this.delayTaskExecuteEngine.addProcessor(key, nacosTaskProcessor);
     }
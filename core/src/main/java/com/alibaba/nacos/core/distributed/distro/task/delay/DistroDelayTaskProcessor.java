@@ -18,7 +18,9 @@ package com.alibaba.nacos.core.distributed.distro.task.delay;
 
 import com.alibaba.nacos.common.task.NacosTask;
 import com.alibaba.nacos.common.task.NacosTaskProcessor;
+import com.alibaba.nacos.core.distributed.distro.DistroConfig;
 import com.alibaba.nacos.core.distributed.distro.component.DistroComponentHolder;
+import com.alibaba.nacos.core.distributed.distro.component.DistroTransportAgent;
 import com.alibaba.nacos.core.distributed.distro.entity.DistroKey;
 import com.alibaba.nacos.core.distributed.distro.task.DistroTaskEngineHolder;
 import com.alibaba.nacos.core.distributed.distro.task.execute.DistroSyncChangeTask;
@@ -48,6 +50,10 @@ public class DistroDelayTaskProcessor implements NacosTaskProcessor {
         }
         DistroDelayTask distroDelayTask = (DistroDelayTask) task;
         DistroKey distroKey = distroDelayTask.getDistroKey();
+        if (isBatchEnabled(distroKey.getResourceType())) {
+            distroTaskEngineHolder.getSyncBatchCollector().collect(distroDelayTask);
+            return true;
+        }
         switch (distroDelayTask.getAction()) {
             case DELETE:
                 DistroSyncDeleteTask syncDeleteTask = new DistroSyncDeleteTask(distroKey, distroComponentHolder);
@@ -62,4 +68,12 @@ public class DistroDelayTaskProcessor implements NacosTaskProcessor {
                 return false;
         }
     }
+    
+    private boolean isBatchEnabled(String type) {
+        if (DistroConfig.getInstance().getSyncBatchSize() <= 1) {
+            return false;
+        }
+        DistroTransportAgent transportAgent = distroComponentHolder.findTransportAgent(type);
+        return null != transportAgent && transportAgent.supportBatchTransport();
+    }
 }
@@ -0,0 +1,152 @@
+/*
+ * Copyright 1999-2025 Alibaba Group Holding Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.alibaba.nacos.core.distributed.distro.task.execute;
+
+import com.alibaba.nacos.consistency.DataOperation;
+import com.alibaba.nacos.core.distributed.distro.DistroConfig;
+import com.alibaba.nacos.core.distributed.distro.component.DistroComponentHolder;
+import com.alibaba.nacos.core.distributed.distro.entity.DistroKey;
+import com.alibaba.nacos.core.distributed.distro.task.delay.DistroDelayTask;
+import com.alibaba.nacos.core.utils.GlobalExecutor;
+
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Distro sync batch collector.
+ *
+ * <p>Collects due distro delay tasks per resource type and target server. The pending tasks of one target are
+ * coalesced by {@link DistroKey}, so only the latest operation of each key is synced. A batch is submitted to the
+ * execute engine once it reaches {@link DistroConfig#getSyncBatchSize()} or after
+ * {@link DistroConfig#getSyncBatchWaitMillis()} since its first task is collected.
+ *
+ * @author Nacos
+ */
+public class DistroSyncBatchCollector {
+    
+    private final Object lock = new Object();
+    
+    private final Map<String, PendingBatch> pendingBatches = new HashMap<>();
+    
+    private final DistroExecuteTaskExecuteEngine executeTaskExecuteEngine;
+    
+    private final DistroComponentHolder distroComponentHolder;
+    
+    private final DistroConfig distroConfig;
+    
+    public DistroSyncBatchCollector(DistroExecuteTaskExecuteEngine executeTaskExecuteEngine,
+            DistroComponentHolder distroComponentHolder, DistroConfig distroConfig) {
+        this.executeTaskExecuteEngine = executeTaskExecuteEngine;
+        this.distroComponentHolder = distroComponentHolder;
+        this.distroConfig = distroConfig;
+    }
+    
+    /**
+     * Collect one due distro delay task into the pending batch of its target server.
+     *
+     * @param task due distro delay task
+     */
+    public void collect(DistroDelayTask task) {
+        DistroKey distroKey = task.getDistroKey();
+        String batchKey = buildBatchKey(distroKey.getResourceType(), distroKey.getTargetServer());
+        PendingBatch fullBatch = null;
+        boolean newBatch = false;
+        synchronized (lock) {
+            PendingBatch batch = pendingBatches.get(batchKey);
+            if (null == batch) {
+                batch = new PendingBatch(distroKey.getResourceType(), distroKey.getTargetServer());
+                pendingBatches.put(batchKey, batch);
+                newBatch = true;
+            }
+            batch.add(task);
+            if (batch.size() >= distroConfig.getSyncBatchSize()) {
+                fullBatch = pendingBatches.remove(batchKey);
+            }
+        }
+        if (null != fullBatch) {
+            submit(batchKey, fullBatch);
+        } else if (newBatch) {
+            GlobalExecutor.scheduleByCommon(() -> flush(batchKey), distroConfig.getSyncBatchWaitMillis());
+        }
+    }
+    
+    /**
+     * Submit the pending batch of target batch key if exist.
+     *
+     * @param batchKey batch key
+     */
+    public void flush(String batchKey) {
+        PendingBatch batch;
+        synchronized (lock) {
+            batch = pendingBatches.remove(batchKey);
+        }
+        if (null != batch) {
+            submit(batchKey, batch);
+        }
+    }
+    
+    /**
+     * Get count of pending distro keys which are collected but not submitted.
+     *
+     * @return pending size
+     */
+    public int pendingSize() {
+        synchronized (lock) {
+            int result = 0;
+            for (PendingBatch each : pendingBatches.values()) {
+                result += each.size();
+            }
+            return result;
+        }
+    }
+    
+    private void submit(String batchKey, PendingBatch batch) {
+        DistroSyncBatchTask batchTask = new DistroSyncBatchTask(batch.type, batch.targetServer, batch.operations,
+                batch.earliestCreateTime, distroComponentHolder);
+        executeTaskExecuteEngine.addTask(batchKey, batchTask);
+    }
+    
+    public static String buildBatchKey(String type, String targetServer) {
+        return type + "@@" + targetServer;
+    }
+    
+    private static class PendingBatch {
+        
+        private final String type;
+        
+        private final String targetServer;
+        
+        private final Map<DistroKey, DataOperation> operations = new LinkedHashMap<>();
+        
+        private long earliestCreateTime = Long.MAX_VALUE;
+        
+        private PendingBatch(String type, String targetServer) {
+            this.type = type;
+            this.targetServer = targetServer;
+        }
+        
+        private void add(DistroDelayTask task) {
+            operations.put(task.getDistroKey(), task.getAction());
+            earliestCreateTime = Math.min(earliestCreateTime, task.getCreateTime());
+        }
+        
+        private int size() {
+            return operations.size();
+        }
+    }
+}
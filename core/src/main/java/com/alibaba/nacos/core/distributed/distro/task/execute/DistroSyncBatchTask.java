@@ -0,0 +1,154 @@
+/*
+ * Copyright 1999-2025 Alibaba Group Holding Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.alibaba.nacos.core.distributed.distro.task.execute;
+
+import com.alibaba.nacos.common.task.AbstractExecuteTask;
+import com.alibaba.nacos.consistency.DataOperation;
+import com.alibaba.nacos.core.distributed.distro.component.DistroCallback;
+import com.alibaba.nacos.core.distributed.distro.component.DistroComponentHolder;
+import com.alibaba.nacos.core.distributed.distro.component.DistroDataStorage;
+import com.alibaba.nacos.core.distributed.distro.component.DistroFailedTaskHandler;
+import com.alibaba.nacos.core.distributed.distro.component.DistroTransportAgent;
+import com.alibaba.nacos.core.distributed.distro.entity.DistroData;
+import com.alibaba.nacos.core.distributed.distro.entity.DistroKey;
+import com.alibaba.nacos.core.distributed.distro.monitor.DistroRecord;
+import com.alibaba.nacos.core.distributed.distro.monitor.DistroRecordsHolder;
+import com.alibaba.nacos.core.utils.Loggers;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Distro sync batch task, sync several changed or deleted data of the same type to one target server in one request.
+ *
+ * @author Nacos
+ */
+public class DistroSyncBatchTask extends AbstractExecuteTask {
+    
+    private final String type;
+    
+    private final String targetServer;
+    
+    private final Map<DistroKey, DataOperation> operations;
+    
+    private final long earliestCreateTime;
+    
+    private final DistroComponentHolder distroComponentHolder;
+    
+    public DistroSyncBatchTask(String type, String targetServer, Map<DistroKey, DataOperation> operations,
+            long earliestCreateTime, DistroComponentHolder distroComponentHolder) {
+        this.type = type;
+        this.targetServer = targetServer;
+        this.operations = operations;
+        this.earliestCreateTime = earliestCreateTime;
+        this.distroComponentHolder = distroComponentHolder;
+    }
+    
+    @Override
+    public void run() {
+        DistroTransportAgent transportAgent = distroComponentHolder.findTransportAgent(type);
+        if (null == transportAgent) {
+            Loggers.DISTRO.warn("No found transport agent for type [{}]", type);
+            return;
+        }
+        List<DistroData> batchData = buildBatchData();
+        if (batchData.isEmpty()) {
+            return;
+        }
+        Loggers.DISTRO.info("[DISTRO-START] {}", toString());
+        DistroRecordsHolder.getInstance().getRecord(type).batchSync(batchData.size());
+        try {
+            transportAgent.syncBatchData(batchData, targetServer, new DistroBatchExecuteCallback(batchData));
+        } catch (Exception e) {
+            Loggers.DISTRO.warn("[DISTRO] Sync batch data failed. {}", toString(), e);
+            handleFailedTask(batchData);
+        }
+    }
+    
+    private List<DistroData> buildBatchData() {
+        DistroDataStorage dataStorage = distroComponentHolder.findDataStorage(type);
+        List<DistroData> result = new ArrayList<>(operations.size());
+        for (Map.Entry<DistroKey, DataOperation> entry : operations.entrySet()) {
+            DistroData distroData;
+            if (DataOperation.DELETE == entry.getValue()) {
+                distroData = new DistroData();
+                distroData.setDistroKey(entry.getKey());
+            } else {
+                distroData = null == dataStorage ? null : dataStorage.getDistroData(entry.getKey());
+                if (null == distroData) {
+                    Loggers.DISTRO.warn("[DISTRO] {} with null data to sync, skip", entry.getKey());
+                    continue;
+                }
+            }
+            distroData.setType(DataOperation.DELETE == entry.getValue() ? DataOperation.DELETE : DataOperation.CHANGE);
+            result.add(distroData);
+        }
+        return result;
+    }
+    
+    private void handleFailedTask(List<DistroData> batchData) {
+        DistroFailedTaskHandler failedTaskHandler = distroComponentHolder.findFailedTaskHandler(type);
+        if (null == failedTaskHandler) {
+            Loggers.DISTRO.warn("[DISTRO] Can't find failed task for type {}, so discarded", type);
+            return;
+        }
+        for (DistroData each : batchData) {
+            failedTaskHandler.retry(each.getDistroKey(), each.getType());
+        }
+    }
+    
+    @Override
+    public String toString() {
+        return "DistroSyncBatchTask for type " + type + " to " + targetServer + ", size " + operations.size();
+    }
+    
+    private class DistroBatchExecuteCallback implements DistroCallback {
+        
+        private final List<DistroData> batchData;
+        
+        private DistroBatchExecuteCallback(List<DistroData> batchData) {
+            this.batchData = batchData;
+        }
+        
+        @Override
+        public void onSuccess() {
+            DistroRecord distroRecord = DistroRecordsHolder.getInstance().getRecord(type);
+            for (int i = 0; i < batchData.size(); i++) {
+                distroRecord.syncSuccess();
+            }
+            DistroRecordsHolder.getInstance()
+                    .recordSyncLag(targetServer, System.currentTimeMillis() - earliestCreateTime);
+            Loggers.DISTRO.info("[DISTRO-END] {} result: true", DistroSyncBatchTask.this.toString());
+        }
+        
+        @Override
+        public void onFailed(Throwable throwable) {
+            DistroRecord distroRecord = DistroRecordsHolder.getInstance().getRecord(type);
+            for (int i = 0; i < batchData.size(); i++) {
+                distroRecord.syncFail();
+            }
+            if (null == throwable) {
+                Loggers.DISTRO.info("[DISTRO-END] {} result: false", DistroSyncBatchTask.this.toString());
+            } else {
+                Loggers.DISTRO.warn("[DISTRO] Sync batch data failed. {}", DistroSyncBatchTask.this.toString(),
+                        throwable);
+            }
+            handleFailedTask(batchData);
+        }
+    }
+}
@@ -16,6 +16,7 @@
 
 package com.alibaba.nacos.core.distributed.distro.task.load;
 
+import com.alibaba.nacos.consistency.DataOperation;
 import com.alibaba.nacos.core.cluster.Member;
 import com.alibaba.nacos.core.cluster.ServerMemberManager;
 import com.alibaba.nacos.core.distributed.distro.DistroConfig;
@@ -24,6 +25,8 @@ import com.alibaba.nacos.core.distributed.distro.component.DistroComponentHolder
 import com.alibaba.nacos.core.distributed.distro.component.DistroDataProcessor;
 import com.alibaba.nacos.core.distributed.distro.component.DistroTransportAgent;
 import com.alibaba.nacos.core.distributed.distro.entity.DistroData;
+import com.alibaba.nacos.core.distributed.distro.monitor.DistroRecord;
+import com.alibaba.nacos.core.distributed.distro.monitor.DistroRecordsHolder;
 import com.alibaba.nacos.core.utils.GlobalExecutor;
 import com.alibaba.nacos.core.utils.Loggers;
 
@@ -48,6 +51,10 @@ public class DistroLoadDataTask implements Runnable {
     
     private final Map<String, Boolean> loadCompletedMap;
     
+    private final Map<String, Integer> loadChunkCountMap;
+    
+    private final Map<String, Integer> nextChunkIndexMap;
+    
     public DistroLoadDataTask(ServerMemberManager memberManager, DistroComponentHolder distroComponentHolder,
             DistroConfig distroConfig, DistroCallback loadCallback) {
         this.memberManager = memberManager;
@@ -55,6 +62,8 @@ public class DistroLoadDataTask implements Runnable {
         this.distroConfig = distroConfig;
         this.loadCallback = loadCallback;
         loadCompletedMap = new HashMap<>(1);
+        loadChunkCountMap = new HashMap<>(1);
+        nextChunkIndexMap = new HashMap<>(1);
     }
     
     @Override
@@ -97,6 +106,9 @@ public class DistroLoadDataTask implements Runnable {
                     resourceType, transportAgent, dataProcessor);
             return false;
         }
+        if (transportAgent.supportChunkedSnapshot() && distroConfig.getLoadDataChunkCount() > 1) {
+            return loadSnapshotByChunksFromRemote(resourceType, transportAgent, dataProcessor);
+        }
         for (Member each : memberManager.allMembersWithoutSelf()) {
             long startTime = System.currentTimeMillis();
             try {
@@ -120,6 +132,54 @@ public class DistroLoadDataTask implements Runnable {
         return false;
     }
     
+    /**
+     * Load snapshot chunk by chunk, so that neither the target server nor this server holds the full snapshot in
+     * memory. The chunk loaded progress is kept in this task, so the loading will resume from the failed chunk with
+     * other server or in next retry.
+     */
+    private boolean loadSnapshotByChunksFromRemote(String resourceType, DistroTransportAgent transportAgent,
+            DistroDataProcessor dataProcessor) {
+        DistroRecord distroRecord = DistroRecordsHolder.getInstance().getRecord(resourceType);
+        int chunkCount = loadChunkCountMap.computeIfAbsent(resourceType, type -> {
+            distroRecord.startLoadSnapshot(distroConfig.getLoadDataChunkCount());
+            return distroConfig.getLoadDataChunkCount();
+        });
+        for (Member each : memberManager.allMembersWithoutSelf()) {
+            try {
+                int chunkIndex = nextChunkIndexMap.getOrDefault(resourceType, 0);
+                while (chunkIndex < chunkCount) {
+                    final long startTime = System.currentTimeMillis();
+                    DistroData distroData = transportAgent.getDatumSnapshot(each.getAddress(), chunkIndex, chunkCount);
+                    if (!dataProcessor.processSnapshot(distroData)) {
+                        Loggers.DISTRO.warn("[DISTRO-INIT] process snapshot {} chunk {}/{} from {} failed.",
+                                resourceType, chunkIndex, chunkCount, each.getAddress());
+                        break;
+                    }
+                    if (DataOperation.SNAPSHOT != distroData.getType()) {
+                        Loggers.DISTRO.info("[DISTRO-INIT] {} responded full snapshot {}, size is {}.",
+                                each.getAddress(), resourceType, getDistroDataLength(distroData));
+                        chunkIndex = chunkCount;
+                        break;
+                    }
+                    distroRecord.snapshotChunkLoaded(getDistroDataLength(distroData));
+                    chunkIndex++;
+                    nextChunkIndexMap.put(resourceType, chunkIndex);
+                    Loggers.DISTRO.info("[DISTRO-INIT] it took {} ms to load snapshot {} chunk {}/{} from {}, size {}.",
+                            System.currentTimeMillis() - startTime, resourceType, chunkIndex, chunkCount,
+                            each.getAddress(), getDistroDataLength(distroData));
+                }
+                if (chunkIndex >= chunkCount) {
+                    distroComponentHolder.findDataStorage(resourceType).finishInitial();
+                    return true;
+                }
+            } catch (Exception e) {
+                Loggers.DISTRO.error("[DISTRO-INIT] load snapshot {} chunk from {} failed.", resourceType,
+                        each.getAddress(), e);
+            }
+        }
+        return false;
+    }
+    
     private static int getDistroDataLength(DistroData distroData) {
         return distroData != null && distroData.getContent() != null ? distroData.getContent().length : 0;
     }
@@ -0,0 +1,97 @@
+/*
+ * Copyright 1999-2025 Alibaba Group Holding Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.alibaba.nacos.core.distributed.distro.task.verify;
+
+import com.alibaba.nacos.common.task.AbstractExecuteTask;
+import com.alibaba.nacos.core.distributed.distro.component.DistroDataStorage;
+import com.alibaba.nacos.core.distributed.distro.component.DistroTransportAgent;
+import com.alibaba.nacos.core.distributed.distro.component.DistroVerifyDigestCallback;
+import com.alibaba.nacos.core.distributed.distro.entity.DistroData;
+import com.alibaba.nacos.core.utils.Loggers;
+
+import java.util.List;
+
+/**
+ * Execute distro verify by digest task.
+ *
+ * <p>Only the verify digest is sent to target server at first. The datum in matched part of digest are treated as
+ * verified by target server, and only the datum in not matched part will be verified one by one. If target server
+ * can't handle the digest, all verify datum will be verified one by one as before.
+ *
+ * @author Nacos
+ */
+public class DistroVerifyDigestExecuteTask extends AbstractExecuteTask {
+    
+    private final DistroTransportAgent transportAgent;
+    
+    private final DistroDataStorage dataStorage;
+    
+    private final DistroData verifyDigest;
+    
+    private final String targetServer;
+    
+    private final String resourceType;
+    
+    public DistroVerifyDigestExecuteTask(DistroTransportAgent transportAgent, DistroDataStorage dataStorage,
+            DistroData verifyDigest, String targetServer, String resourceType) {
+        this.transportAgent = transportAgent;
+        this.dataStorage = dataStorage;
+        this.verifyDigest = verifyDigest;
+        this.targetServer = targetServer;
+        this.resourceType = resourceType;
+    }
+    
+    @Override
+    public void run() {
+        try {
+            transportAgent.syncVerifyDigest(verifyDigest, targetServer, new DistroVerifyDigestExecuteCallback());
+        } catch (Exception e) {
+            Loggers.DISTRO.error("[DISTRO-FAILED] verify digest for type {} to {} failed.", resourceType, targetServer,
+                    e);
+            verifyOneByOne(dataStorage.getVerifyData());
+        }
+    }
+    
+    private void verifyOneByOne(List<DistroData> verifyData) {
+        if (null == verifyData || verifyData.isEmpty()) {
+            return;
+        }
+        new DistroVerifyExecuteTask(transportAgent, verifyData, targetServer, resourceType).run();
+    }
+    
+    private class DistroVerifyDigestExecuteCallback implements DistroVerifyDigestCallback {
+        
+        @Override
+        public void onSuccess(DistroData remoteDigest) {
+            List<DistroData> verifyData = dataStorage.getVerifyData(verifyDigest, remoteDigest);
+            if (Loggers.DISTRO.isDebugEnabled()) {
+                Loggers.DISTRO.debug("[DISTRO] verify digest for type {} to {} success, {} data not matched",
+                        resourceType, targetServer, null == verifyData ? 0 : verifyData.size());
+            }
+            verifyOneByOne(verifyData);
+        }
+        
+        @Override
+        public void onFailed(Throwable throwable) {
+            if (Loggers.DISTRO.isDebugEnabled()) {
+                Loggers.DISTRO.debug("[DISTRO-FAILED] verify digest for type {} to {} failed, verify one by one.",
+                        resourceType, targetServer, throwable);
+            }
+            verifyOneByOne(dataStorage.getVerifyData());
+        }
+    }
+}
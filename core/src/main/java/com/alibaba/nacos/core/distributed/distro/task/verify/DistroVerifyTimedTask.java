@@ -69,17 +69,33 @@ public class DistroVerifyTimedTask implements Runnable {
                     dataStorage.getClass().getSimpleName());
             return;
         }
+        DistroTransportAgent agent = distroComponentHolder.findTransportAgent(type);
+        if (null == agent) {
+            return;
+        }
+        if (agent.supportVerifyDigest() && verifyByDigest(type, targetServer, dataStorage, agent)) {
+            return;
+        }
         List<DistroData> verifyData = dataStorage.getVerifyData();
         if (null == verifyData || verifyData.isEmpty()) {
             return;
         }
         for (Member member : targetServer) {
-            DistroTransportAgent agent = distroComponentHolder.findTransportAgent(type);
-            if (null == agent) {
-                continue;
-            }
             executeTaskExecuteEngine.addTask(member.getAddress() + type,
                     new DistroVerifyExecuteTask(agent, verifyData, member.getAddress(), type));
         }
     }
+    
+    private boolean verifyByDigest(String type, List<Member> targetServer, DistroDataStorage dataStorage,
+            DistroTransportAgent agent) {
+        DistroData verifyDigest = dataStorage.getVerifyDigest();
+        if (null == verifyDigest) {
+            return false;
+        }
+        for (Member member : targetServer) {
+            executeTaskExecuteEngine.addTask(member.getAddress() + type,
+                    new DistroVerifyDigestExecuteTask(agent, dataStorage, verifyDigest, member.getAddress(), type));
+        }
+        return true;
+    }
 }
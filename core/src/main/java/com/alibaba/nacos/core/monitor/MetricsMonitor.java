@@ -26,6 +26,7 @@ import java.util.ArrayList;
 import java.util.List;
 import java.util.Map;
 import java.util.Arrays;
+import java.util.Collections;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicInteger;
@@ -311,4 +312,75 @@ public final class MetricsMonitor {
                 )
         ).record(costTime, TimeUnit.NANOSECONDS);
     }
+    
+    /**
+     * record payload compression.
+     *
+     * @param payloadType    type of the compressed payload
+     * @param compressor     compressor name
+     * @param rawSize        body size before compression
+     * @param compressedSize body size after compression
+     * @param costTime       compression cost in nanoseconds
+     */
+    public static void recordGrpcPayloadCompression(String payloadType, String compressor, int rawSize,
+            int compressedSize, long costTime) {
+        List<Tag> tags = Arrays.asList(Tag.of("payloadType", payloadType), Tag.of("compressor", compressor));
+        NacosMeterRegistryCenter.timer(METER_REGISTRY, "grpc_payload_compression", tags)
+                .record(costTime, TimeUnit.NANOSECONDS);
+        NacosMeterRegistryCenter.summary(METER_REGISTRY, "grpc_payload_compression_ratio", tags)
+                .record(rawSize == 0 ? 1D : (double) compressedSize / rawSize);
+        NacosMeterRegistryCenter.counter(METER_REGISTRY, "grpc_payload_compression_raw_bytes", tags).increment(rawSize);
+        NacosMeterRegistryCenter.counter(METER_REGISTRY, "grpc_payload_compression_compressed_bytes", tags)
+                .increment(compressedSize);
+    }
+    
+    /**
+     * record event of the push queue of connections.
+     *
+     * @param event event name, queued, coalesced or dropped
+     */
+    public static void recordGrpcPushQueueEvent(String event) {
+        NacosMeterRegistryCenter.counter(METER_REGISTRY, "grpc_push_queue_events",
+                Collections.singletonList(Tag.of("event", event))).increment();
+    }
+    
+    /**
+     * record waiting time for the permit of handling grpc request.
+     *
+     * @param source       source of the rpc server
+     * @param requestClass request class name
+     * @param acquired     whether the permit is acquired
+     * @param costTime     waiting time in nanoseconds
+     */
+    public static void recordGrpcHandlerPermitWait(String source, String requestClass, boolean acquired,
+            long costTime) {
+        NacosMeterRegistryCenter.timer(METER_REGISTRY, "grpc_handler_permit_wait",
+                Arrays.asList(Tag.of("source", source), Tag.of("requestClass", requestClass),
+                        Tag.of("acquired", String.valueOf(acquired)))).record(costTime, TimeUnit.NANOSECONDS);
+    }
+    
+    /**
+     * register the gauge of handling grpc requests which hold the permits.
+     *
+     * @param source       source of the rpc server
+     * @param requestClass request class name
+     * @return handling count of the gauge
+     */
+    public static AtomicInteger registerGrpcHandlingRequestsGauge(String source, String requestClass) {
+        AtomicInteger handling = new AtomicInteger();
+        NacosMeterRegistryCenter.gauge(METER_REGISTRY, "grpc_handling_requests",
+                Arrays.asList(Tag.of("source", source), Tag.of("requestClass", requestClass)), handling);
+        return handling;
+    }
+    
+    /**
+     * record ack result of server push.
+     *
+     * @param requestClass push request class name
+     * @param result       ack result, acked, timeout or late
+     */
+    public static void recordGrpcPushAck(String requestClass, String result) {
+        NacosMeterRegistryCenter.counter(METER_REGISTRY, "grpc_push_ack",
+                Arrays.asList(Tag.of("requestClass", requestClass), Tag.of("result", result))).increment();
+    }
 }
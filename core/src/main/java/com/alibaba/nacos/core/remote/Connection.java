@@ -16,6 +16,8 @@
 
 package com.alibaba.nacos.core.remote;
 
+import com.alibaba.nacos.api.ability.constant.AbilityKey;
+import com.alibaba.nacos.api.ability.constant.AbilityStatus;
 import com.alibaba.nacos.api.remote.Requester;
 
 import java.util.Map;
@@ -63,6 +65,21 @@ public abstract class Connection implements Requester {
         return this.abilityTable;
     }
     
+    /**
+     * Get the status of the ability reported by the remote side of this connection.
+     *
+     * @param abilityKey ability key
+     * @return {@link AbilityStatus#UNKNOWN} if the remote side does not report this ability
+     */
+    public AbilityStatus getConnectionAbility(AbilityKey abilityKey) {
+        Map<String, Boolean> abilities = this.abilityTable;
+        if (abilities == null || !abilities.containsKey(abilityKey.getName())) {
+            return AbilityStatus.UNKNOWN;
+        }
+        return Boolean.TRUE.equals(abilities.get(abilityKey.getName())) ? AbilityStatus.SUPPORTED
+                : AbilityStatus.NOT_SUPPORTED;
+    }
+    
     /**
      * check is connected.
      *
@@ -25,6 +25,7 @@ import java.util.Date;
 import java.util.HashMap;
 import java.util.Map;
 import java.util.Objects;
+import java.util.concurrent.atomic.AtomicLong;
 import java.util.stream.Collectors;
 
 import static com.alibaba.nacos.api.common.Constants.VIPSERVER_TAG;
@@ -96,6 +97,14 @@ public class ConnectionMeta {
     
     long lastPushQueueBlockTime = 0;
     
+    volatile int pushQueueSize;
+    
+    volatile long pushQueueBytes;
+    
+    final AtomicLong pushDroppedCount = new AtomicLong();
+    
+    final AtomicLong pushCoalescedCount = new AtomicLong();
+    
     protected Map<String, String> labels = new HashMap<>();
     
     boolean tlsProtected = false;
@@ -360,6 +369,41 @@ public class ConnectionMeta {
         this.lastPushQueueBlockTime = 0;
     }
     
+    /**
+     * refresh the size and bytes of the pushes waiting for the stream to be ready.
+     *
+     * @param size  count of queued pushes
+     * @param bytes bytes of queued pushes
+     */
+    public void refreshPushQueue(int size, long bytes) {
+        this.pushQueueSize = size;
+        this.pushQueueBytes = bytes;
+    }
+    
+    public void recordPushDropped() {
+        pushDroppedCount.incrementAndGet();
+    }
+    
+    public void recordPushCoalesced() {
+        pushCoalescedCount.incrementAndGet();
+    }
+    
+    public int getPushQueueSize() {
+        return pushQueueSize;
+    }
+    
+    public long getPushQueueBytes() {
+        return pushQueueBytes;
+    }
+    
+    public long getPushDroppedCount() {
+        return pushDroppedCount.get();
+    }
+    
+    public long getPushCoalescedCount() {
+        return pushCoalescedCount.get();
+    }
+    
     public boolean isTlsProtected() {
         return tlsProtected;
     }
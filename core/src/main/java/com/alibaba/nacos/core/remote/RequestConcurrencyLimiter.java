@@ -0,0 +1,109 @@
+/*
+ * Copyright 1999-2025 Alibaba Group Holding Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.alibaba.nacos.core.remote;
+
+import com.alibaba.nacos.core.monitor.MetricsMonitor;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Limit the concurrent handling requests of each request type.
+ *
+ * <p>The rpc executor bounds the concurrency of request handling by its pool size, but there is no such bound when
+ * requests are handled on virtual threads. Each rpc server in virtual thread mode owns a limiter, so that a burst of
+ * one request type which blocks on storage can't occupy all the resources of other request types. The handling count
+ * of each request type is exposed by the {@code grpc_handling_requests} gauge.
+ *
+ * @author Nacos
+ */
+public final class RequestConcurrencyLimiter {
+    
+    private final Map<String, TypePermits> permits = new ConcurrentHashMap<>();
+    
+    private final String source;
+    
+    private final int maxConcurrencyPerType;
+    
+    private final long acquireTimeoutMillis;
+    
+    /**
+     * Create a limiter for the rpc server.
+     *
+     * @param source                source of the rpc server
+     * @param maxConcurrencyPerType max concurrent handling requests of each request type
+     * @param acquireTimeoutMillis  max time to wait for a permit
+     */
+    public RequestConcurrencyLimiter(String source, int maxConcurrencyPerType, long acquireTimeoutMillis) {
+        if (maxConcurrencyPerType <= 0) {
+            throw new IllegalArgumentException(
+                    "maxConcurrencyPerType must be positive, but is " + maxConcurrencyPerType);
+        }
+        this.source = source;
+        this.maxConcurrencyPerType = maxConcurrencyPerType;
+        this.acquireTimeoutMillis = acquireTimeoutMillis;
+    }
+    
+    /**
+     * Try to acquire a permit to handle request of the type, the acquired permit must be released by {@link
+     * #release(String)}.
+     *
+     * @param requestType request type
+     * @return true if the permit is acquired in the acquire timeout
+     */
+    public boolean tryAcquire(String requestType) {
+        TypePermits typePermits = permits.computeIfAbsent(requestType, TypePermits::new);
+        long start = System.nanoTime();
+        boolean acquired;
+        try {
+            acquired = typePermits.semaphore.tryAcquire(acquireTimeoutMillis, TimeUnit.MILLISECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            acquired = false;
+        }
+        MetricsMonitor.recordGrpcHandlerPermitWait(source, requestType, acquired, System.nanoTime() - start);
+        if (acquired) {
+            typePermits.handling.incrementAndGet();
+        }
+        return acquired;
+    }
+    
+    /**
+     * Release the permit acquired by {@link #tryAcquire(String)}.
+     *
+     * @param requestType request type
+     */
+    public void release(String requestType) {
+        TypePermits typePermits = permits.get(requestType);
+        typePermits.handling.decrementAndGet();
+        typePermits.semaphore.release();
+    }
+    
+    private class TypePermits {
+        
+        private final Semaphore semaphore = new Semaphore(maxConcurrencyPerType);
+        
+        private final AtomicInteger handling;
+        
+        private TypePermits(String requestType) {
+            this.handling = MetricsMonitor.registerGrpcHandlingRequestsGauge(source, requestType);
+        }
+    }
+}
@@ -19,6 +19,7 @@ package com.alibaba.nacos.core.remote;
 import com.alibaba.nacos.api.exception.NacosException;
 import com.alibaba.nacos.api.remote.request.Request;
 import com.alibaba.nacos.api.remote.request.RequestMeta;
+import com.alibaba.nacos.api.remote.response.ErrorResponse;
 import com.alibaba.nacos.api.remote.response.Response;
 import com.alibaba.nacos.core.utils.Loggers;
 import org.springframework.beans.factory.annotation.Autowired;
@@ -44,6 +45,20 @@ public abstract class RequestHandler<T extends Request, S extends Response> {
      * @throws NacosException nacos exception when handle request has problem.
      */
     public Response handleRequest(T request, RequestMeta meta) throws NacosException {
+        return handleRequest(request, meta, null);
+    }
+    
+    /**
+     * Handler request with the concurrency limiter of the rpc server which receives the request.
+     *
+     * @param request request
+     * @param meta    request meta data
+     * @param limiter concurrency limiter of the rpc server, null means no limit
+     * @return response
+     * @throws NacosException nacos exception when handle request has problem.
+     */
+    public Response handleRequest(T request, RequestMeta meta, RequestConcurrencyLimiter limiter)
+            throws NacosException {
         for (AbstractRequestFilter filter : requestFilters.filters) {
             try {
                 Response filterResult = filter.filter(request, meta, this.getClass());
@@ -55,7 +70,20 @@ public abstract class RequestHandler<T extends Request, S extends Response> {
             }
             
         }
-        return handle(request, meta);
+        if (null == limiter) {
+            return handle(request, meta);
+        }
+        // acquire permit after the filters, so that the requests rejected by tps control don't wait for permits.
+        String requestType = request.getClass().getSimpleName();
+        if (!limiter.tryAcquire(requestType)) {
+            return ErrorResponse.build(NacosException.OVER_THRESHOLD,
+                    "Too many concurrent requests of type " + requestType + ", please try again later.");
+        }
+        try {
+            return handle(request, meta);
+        } finally {
+            limiter.release(requestType);
+        }
     }
     
     /**
@@ -19,26 +19,43 @@ package com.alibaba.nacos.core.remote;
 import com.alibaba.nacos.api.exception.NacosException;
 import com.alibaba.nacos.api.remote.DefaultRequestFuture;
 import com.alibaba.nacos.api.remote.response.Response;
+import com.alibaba.nacos.core.monitor.MetricsMonitor;
 import com.alibaba.nacos.core.utils.Loggers;
 import com.alipay.hessian.clhm.ConcurrentLinkedHashMap;
 
-import java.util.HashMap;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Map;
 import java.util.concurrent.TimeoutException;
 
 /**
  * server push ack synchronier.
  *
+ * <p>The timeouts of pending pushes are tracked by one {@link RpcAckTimingWheel} instead of one scheduled future for
+ * each push. A timed out push is kept for a while, so that the late ack of it can be recognized.
+ *
  * @author liuzunfei
  * @version $Id: RpcAckCallbackSynchronizer.java, v 0.1 2020年07月29日 7:56 PM liuzunfei Exp $
  */
 public class RpcAckCallbackSynchronizer {
     
-    @SuppressWarnings("checkstyle:linelength")
-    public static final Map<String, Map<String, DefaultRequestFuture>> CALLBACK_CONTEXT = new ConcurrentLinkedHashMap.Builder<String, Map<String, DefaultRequestFuture>>()
-            .maximumWeightedCapacity(1000000)
-            .listener((s, pushCallBack) -> pushCallBack.entrySet().forEach(
-                stringDefaultPushFutureEntry -> stringDefaultPushFutureEntry.getValue().setFailResult(new TimeoutException()))).build();
+    private static final long TICK_DURATION = 100L;
+    
+    private static final int WHEEL_SIZE = 512;
+    
+    /**
+     * How long a timed out push is kept to recognize its late ack.
+     */
+    private static final long LATE_ACK_WINDOW = 30000L;
+    
+    private static final String UNKNOWN_REQUEST_TYPE = "unknown";
+    
+    private static final Map<String, RpcAckContext> CALLBACK_CONTEXT =
+            new ConcurrentLinkedHashMap.Builder<String, RpcAckContext>().maximumWeightedCapacity(1000000)
+                    .listener((s, context) -> failAll(context)).build();
+    
+    private static final RpcAckTimingWheel TIMING_WHEEL = new RpcAckTimingWheel(TICK_DURATION, WHEEL_SIZE,
+            RpcAckCallbackSynchronizer::expire);
     
     /**
      * notify  ack.
@@ -48,8 +65,8 @@ public class RpcAckCallbackSynchronizer {
      */
     public static void ackNotify(String connectionId, Response response) {
         
-        Map<String, DefaultRequestFuture> stringDefaultPushFutureMap = CALLBACK_CONTEXT.get(connectionId);
-        if (stringDefaultPushFutureMap == null) {
+        RpcAckContext context = CALLBACK_CONTEXT.get(connectionId);
+        if (context == null) {
             
             Loggers.REMOTE_DIGEST
                     .warn("Ack receive on a outdated connection ,connection id={},requestId={} ", connectionId,
@@ -57,7 +74,16 @@ public class RpcAckCallbackSynchronizer {
             return;
         }
         
-        DefaultRequestFuture currentCallback = stringDefaultPushFutureMap.remove(response.getRequestId());
+        long requestId = parseRequestId(response.getRequestId());
+        RpcAckContext.Entry currentCallback;
+        int state = RpcAckContext.Entry.DONE;
+        synchronized (context) {
+            currentCallback = context.remove(requestId);
+            if (currentCallback != null) {
+                state = currentCallback.state;
+                currentCallback.state = RpcAckContext.Entry.DONE;
+            }
+        }
         if (currentCallback == null) {
             
             Loggers.REMOTE_DIGEST
@@ -65,11 +91,22 @@ public class RpcAckCallbackSynchronizer {
                             response.getRequestId());
             return;
         }
+        if (state == RpcAckContext.Entry.TIMED_OUT) {
+            MetricsMonitor.recordGrpcPushAck(currentCallback.requestType, "late");
+            Loggers.REMOTE_DIGEST.warn("Ack receive after timeout ,connection id={},requestId={} ", connectionId,
+                    response.getRequestId());
+            if (currentCallback.future.getRequestCallBack() != null) {
+                // the callback has been notified with timeout.
+                return;
+            }
+        } else {
+            MetricsMonitor.recordGrpcPushAck(currentCallback.requestType, "acked");
+        }
         
         if (response.isSuccess()) {
-            currentCallback.setResponse(response);
+            currentCallback.future.setResponse(response);
         } else {
-            currentCallback.setFailResult(new NacosException(response.getErrorCode(), response.getMessage()));
+            currentCallback.future.setFailResult(new NacosException(response.getErrorCode(), response.getMessage()));
         }
     }
     
@@ -83,23 +120,46 @@ public class RpcAckCallbackSynchronizer {
      */
     public static void syncCallback(String connectionId, String requestId, DefaultRequestFuture defaultPushFuture)
             throws NacosException {
-        
-        Map<String, DefaultRequestFuture> stringDefaultPushFutureMap = initContextIfNecessary(connectionId);
-        
-        if (!stringDefaultPushFutureMap.containsKey(requestId)) {
-            DefaultRequestFuture pushCallBackPrev = stringDefaultPushFutureMap
-                    .putIfAbsent(requestId, defaultPushFuture);
-            if (pushCallBackPrev == null) {
-                return;
-            }
+        syncCallback(connectionId, requestId, UNKNOWN_REQUEST_TYPE, defaultPushFuture, 0L);
+    }
+    
+    /**
+     * sync callback, and fail the future with {@link TimeoutException} if it is not acked in timeout.
+     *
+     * @param connectionId      connectionId
+     * @param requestId         requestId, generated by the server as a number
+     * @param requestType       type of the request, used for metrics
+     * @param defaultPushFuture defaultPushFuture, which should not schedule timeout itself
+     * @param timeoutMillis     timeout of the ack, no timeout if not positive
+     * @throws NacosException NacosException
+     */
+    public static void syncCallback(String connectionId, String requestId, String requestType,
+            DefaultRequestFuture defaultPushFuture, long timeoutMillis) throws NacosException {
+        long id = parseRequestId(requestId);
+        if (id < 0) {
+            throw new NacosException(NacosException.INVALID_PARAM, "invalid request id " + requestId);
+        }
+        RpcAckContext context = initContext(connectionId);
+        RpcAckContext.Entry entry = new RpcAckContext.Entry(context, id, requestType, defaultPushFuture,
+                timeoutMillis);
+        boolean success;
+        synchronized (context) {
+            success = context.putIfAbsent(entry);
+        }
+        if (!success) {
+            throw new NacosException(NacosException.INVALID_PARAM, "request id conflict");
+        }
+        if (timeoutMillis > 0) {
+            entry.deadline = System.currentTimeMillis() + timeoutMillis;
+            TIMING_WHEEL.schedule(entry);
         }
-        throw new NacosException(NacosException.INVALID_PARAM, "request id conflict");
-        
     }
     
     /**
      * clear context of connectionId.
      *
+     * <p>The pending futures are still failed by the timing wheel when they time out.
+     *
      * @param connectionId connectionId
      */
     public static void clearContext(String connectionId) {
@@ -111,31 +171,149 @@ public class RpcAckCallbackSynchronizer {
      *
      * @param connectionId connectionId
      */
-    public static Map<String, DefaultRequestFuture> initContextIfNecessary(String connectionId) {
-        if (!CALLBACK_CONTEXT.containsKey(connectionId)) {
-            Map<String, DefaultRequestFuture> context = new HashMap<>(128);
-            Map<String, DefaultRequestFuture> stringDefaultRequestFutureMap = CALLBACK_CONTEXT
-                    .putIfAbsent(connectionId, context);
-            return stringDefaultRequestFutureMap == null ? context : stringDefaultRequestFutureMap;
-        } else {
-            return CALLBACK_CONTEXT.get(connectionId);
+    public static void initContextIfNecessary(String connectionId) {
+        initContext(connectionId);
+    }
+    
+    private static RpcAckContext initContext(String connectionId) {
+        RpcAckContext context = CALLBACK_CONTEXT.get(connectionId);
+        if (context != null) {
+            return context;
+        }
+        context = new RpcAckContext();
+        RpcAckContext prev = CALLBACK_CONTEXT.putIfAbsent(connectionId, context);
+        return prev == null ? context : prev;
+    }
+    
+    /**
+     * fail the future of requestId, which is removed from context.
+     *
+     * @param connectionId connectionId
+     * @param requestId    requestId
+     * @param e            cause of the failure
+     */
+    public static void failFuture(String connectionId, String requestId, Exception e) {
+        RpcAckContext.Entry entry = removePending(connectionId, requestId);
+        if (entry != null) {
+            entry.future.setFailResult(e);
         }
     }
     
     /**
      * clear context of requestId.
      *
+     * <p>A timed out future is kept until the late ack window passed.
+     *
      * @param connectionId connectionId
      * @param requestId    requestId
      */
     public static void clearFuture(String connectionId, String requestId) {
-        Map<String, DefaultRequestFuture> stringDefaultPushFutureMap = CALLBACK_CONTEXT.get(connectionId);
-        
-        if (stringDefaultPushFutureMap == null || !stringDefaultPushFutureMap.containsKey(requestId)) {
+        removePending(connectionId, requestId);
+    }
+    
+    /**
+     * mark the future of requestId timed out, called when the waiting of the future is timeout.
+     *
+     * @param connectionId connectionId
+     * @param requestId    requestId
+     */
+    public static void timeoutFuture(String connectionId, String requestId) {
+        RpcAckContext context = CALLBACK_CONTEXT.get(connectionId);
+        if (context == null) {
             return;
         }
-        stringDefaultPushFutureMap.remove(requestId);
+        RpcAckContext.Entry entry;
+        synchronized (context) {
+            entry = context.get(parseRequestId(requestId));
+            if (entry == null || entry.state != RpcAckContext.Entry.PENDING) {
+                return;
+            }
+            if (entry.timeoutMillis > 0) {
+                // the entry is in the timing wheel, keep it to recognize the late ack.
+                entry.state = RpcAckContext.Entry.TIMED_OUT;
+                entry.deadline = System.currentTimeMillis() + LATE_ACK_WINDOW;
+            } else {
+                context.remove(entry);
+                entry.state = RpcAckContext.Entry.DONE;
+            }
+        }
+        MetricsMonitor.recordGrpcPushAck(entry.requestType, "timeout");
     }
     
+    private static RpcAckContext.Entry removePending(String connectionId, String requestId) {
+        RpcAckContext context = CALLBACK_CONTEXT.get(connectionId);
+        if (context == null) {
+            return null;
+        }
+        synchronized (context) {
+            RpcAckContext.Entry entry = context.get(parseRequestId(requestId));
+            if (entry == null || entry.state != RpcAckContext.Entry.PENDING) {
+                return null;
+            }
+            context.remove(entry);
+            entry.state = RpcAckContext.Entry.DONE;
+            return entry;
+        }
+    }
+    
+    private static void expire(List<RpcAckContext.Entry> entries) {
+        long now = System.currentTimeMillis();
+        for (RpcAckContext.Entry each : entries) {
+            boolean timeout = false;
+            boolean keep = false;
+            synchronized (each.context) {
+                if (each.state == RpcAckContext.Entry.PENDING) {
+                    each.state = RpcAckContext.Entry.TIMED_OUT;
+                    each.deadline = now + LATE_ACK_WINDOW;
+                    timeout = true;
+                    keep = true;
+                } else if (each.state == RpcAckContext.Entry.TIMED_OUT) {
+                    keep = now < each.deadline;
+                    if (!keep) {
+                        each.context.remove(each);
+                        each.state = RpcAckContext.Entry.DONE;
+                    }
+                }
+            }
+            if (keep) {
+                // expire again after the late ack window.
+                TIMING_WHEEL.schedule(each);
+            }
+            if (timeout) {
+                MetricsMonitor.recordGrpcPushAck(each.requestType, "timeout");
+            }
+            // the future without callback is waited by caller, which handles the timeout itself.
+            if (timeout && each.future.getRequestCallBack() != null) {
+                each.future.setFailResult(new TimeoutException(
+                        "Timeout After " + each.timeoutMillis + " milliseconds, requestId=" + each.requestId
+                                + ", connectionId=" + each.future.getConnectionId()));
+            }
+        }
+    }
+    
+    private static void failAll(RpcAckContext context) {
+        List<RpcAckContext.Entry> pendingEntries = new ArrayList<>();
+        synchronized (context) {
+            for (RpcAckContext.Entry each : context.removeAll()) {
+                if (each.state == RpcAckContext.Entry.PENDING) {
+                    pendingEntries.add(each);
+                }
+                each.state = RpcAckContext.Entry.DONE;
+            }
+        }
+        for (RpcAckContext.Entry each : pendingEntries) {
+            each.future.setFailResult(new TimeoutException());
+        }
+    }
+    
+    private static long parseRequestId(String requestId) {
+        if (requestId == null || requestId.isEmpty()) {
+            return -1L;
+        }
+        try {
+            return Long.parseLong(requestId);
+        } catch (NumberFormatException e) {
+            return -1L;
+        }
+    }
 }
-
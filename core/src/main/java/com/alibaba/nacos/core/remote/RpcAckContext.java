@@ -0,0 +1,231 @@
+/*
+ * Copyright 1999-2025 Alibaba Group Holding Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.alibaba.nacos.core.remote;
+
+import com.alibaba.nacos.api.remote.DefaultRequestFuture;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Pending push futures of one connection, keyed by the primitive push request id.
+ *
+ * <p>It is an open addressing hash map with linear probing, which avoids boxing the request id and allocating a map
+ * node for each push. The context is not thread safe, callers must synchronize on it.
+ *
+ * @author Nacos
+ */
+final class RpcAckContext {
+    
+    private static final int INITIAL_CAPACITY = 128;
+    
+    private static final int SHRINK_CAPACITY = INITIAL_CAPACITY * 8;
+    
+    private long[] keys;
+    
+    private Entry[] values;
+    
+    private int size;
+    
+    RpcAckContext() {
+        reset();
+    }
+    
+    /**
+     * Put the entry if no entry is mapped to its request id.
+     *
+     * @param entry entry
+     * @return {@code true} if the entry is put
+     */
+    boolean putIfAbsent(Entry entry) {
+        int mask = keys.length - 1;
+        int index = hash(entry.requestId) & mask;
+        while (null != values[index]) {
+            if (keys[index] == entry.requestId) {
+                return false;
+            }
+            index = (index + 1) & mask;
+        }
+        keys[index] = entry.requestId;
+        values[index] = entry;
+        if (++size > keys.length >> 1) {
+            rehash(keys.length << 1);
+        }
+        return true;
+    }
+    
+    Entry get(long requestId) {
+        int index = indexOf(requestId);
+        return index < 0 ? null : values[index];
+    }
+    
+    /**
+     * Remove the entry of the request id.
+     *
+     * @param requestId request id
+     * @return removed entry, null if absent
+     */
+    Entry remove(long requestId) {
+        int index = indexOf(requestId);
+        if (index < 0) {
+            return null;
+        }
+        Entry result = values[index];
+        removeAt(index);
+        return result;
+    }
+    
+    /**
+     * Remove the entry only if the request id is still mapped to it.
+     *
+     * @param entry entry
+     * @return {@code true} if the entry is removed
+     */
+    boolean remove(Entry entry) {
+        int index = indexOf(entry.requestId);
+        if (index < 0 || values[index] != entry) {
+            return false;
+        }
+        removeAt(index);
+        return true;
+    }
+    
+    /**
+     * Remove all entries.
+     *
+     * @return removed entries
+     */
+    List<Entry> removeAll() {
+        List<Entry> result = new ArrayList<>(size);
+        for (Entry each : values) {
+            if (null != each) {
+                result.add(each);
+            }
+        }
+        reset();
+        return result;
+    }
+    
+    int size() {
+        return size;
+    }
+    
+    private int indexOf(long requestId) {
+        int mask = keys.length - 1;
+        int index = hash(requestId) & mask;
+        while (null != values[index]) {
+            if (keys[index] == requestId) {
+                return index;
+            }
+            index = (index + 1) & mask;
+        }
+        return -1;
+    }
+    
+    private void removeAt(int index) {
+        int mask = keys.length - 1;
+        values[index] = null;
+        size--;
+        // shift back the following entries of the probe chain, so that lookups don't stop at the removed slot.
+        int hole = index;
+        int next = (hole + 1) & mask;
+        while (null != values[next]) {
+            int home = hash(keys[next]) & mask;
+            boolean stay = hole <= next ? hole < home && home <= next : hole < home || home <= next;
+            if (!stay) {
+                keys[hole] = keys[next];
+                values[hole] = values[next];
+                values[next] = null;
+                hole = next;
+            }
+            next = (next + 1) & mask;
+        }
+        if (0 == size && keys.length >= SHRINK_CAPACITY) {
+            reset();
+        }
+    }
+    
+    private void rehash(int capacity) {
+        final long[] oldKeys = keys;
+        Entry[] oldValues = values;
+        keys = new long[capacity];
+        values = new Entry[capacity];
+        size = 0;
+        for (int i = 0; i < oldKeys.length; i++) {
+            if (null != oldValues[i]) {
+                putIfAbsent(oldValues[i]);
+            }
+        }
+    }
+    
+    private void reset() {
+        keys = new long[INITIAL_CAPACITY];
+        values = new Entry[INITIAL_CAPACITY];
+        size = 0;
+    }
+    
+    private static int hash(long requestId) {
+        long result = requestId * 0x9E3779B97F4A7C15L;
+        return (int) (result ^ (result >>> 32));
+    }
+    
+    /**
+     * Pending push future and its ack state.
+     */
+    static final class Entry {
+        
+        static final int PENDING = 0;
+        
+        static final int TIMED_OUT = 1;
+        
+        static final int DONE = 2;
+        
+        final RpcAckContext context;
+        
+        final long requestId;
+        
+        final String requestType;
+        
+        final DefaultRequestFuture future;
+        
+        final long timeoutMillis;
+        
+        /**
+         * State of the ack, guarded by the context.
+         */
+        int state = PENDING;
+        
+        /**
+         * Time when the entry should be handled by the timing wheel.
+         */
+        volatile long deadline;
+        
+        /**
+         * The tick of bucket which contains this entry, only accessed by tick thread.
+         */
+        long tick;
+        
+        Entry(RpcAckContext context, long requestId, String requestType, DefaultRequestFuture future,
+                long timeoutMillis) {
+            this.context = context;
+            this.requestId = requestId;
+            this.requestType = requestType;
+            this.future = future;
+            this.timeoutMillis = timeoutMillis;
+        }
+    }
+}
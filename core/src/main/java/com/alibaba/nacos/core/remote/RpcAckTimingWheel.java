@@ -0,0 +1,133 @@
+/*
+ * Copyright 1999-2025 Alibaba Group Holding Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.alibaba.nacos.core.remote;
+
+import com.alibaba.nacos.api.remote.RpcScheduledExecutor;
+import com.alibaba.nacos.core.utils.Loggers;
+
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+
+/**
+ * Hashed timing wheel for the ack timeouts of push futures.
+ *
+ * <p>All pending pushes share one wheel instead of one scheduled future for each push. An entry is put into the bucket
+ * of its deadline, and each tick hands the entries of expired buckets to the expire handler as one batch. Acked entries
+ * are not removed from buckets eagerly, they are dropped by the handler when their buckets expire.
+ *
+ * @author Nacos
+ */
+final class RpcAckTimingWheel {
+    
+    private final long tickDuration;
+    
+    private final long startTime;
+    
+    private final Consumer<List<RpcAckContext.Entry>> expireHandler;
+    
+    /**
+     * Entries which wait to be put into wheel, wheel buckets are only accessed by tick thread.
+     */
+    private final Queue<RpcAckContext.Entry> pendingEntries = new ConcurrentLinkedQueue<>();
+    
+    private final List<RpcAckContext.Entry>[] wheel;
+    
+    private final ScheduledFuture<?> tickFuture;
+    
+    private long currentTick;
+    
+    @SuppressWarnings("unchecked")
+    RpcAckTimingWheel(long tickDuration, int wheelSize, ScheduledExecutorService executor,
+            Consumer<List<RpcAckContext.Entry>> expireHandler) {
+        this.tickDuration = tickDuration;
+        this.startTime = System.currentTimeMillis();
+        this.expireHandler = expireHandler;
+        this.wheel = new List[wheelSize];
+        for (int i = 0; i < wheelSize; i++) {
+            wheel[i] = new ArrayList<>();
+        }
+        this.tickFuture = executor.scheduleWithFixedDelay(this::tick, tickDuration, tickDuration,
+                TimeUnit.MILLISECONDS);
+    }
+    
+    RpcAckTimingWheel(long tickDuration, int wheelSize, Consumer<List<RpcAckContext.Entry>> expireHandler) {
+        this(tickDuration, wheelSize, RpcScheduledExecutor.TIMEOUT_SCHEDULER, expireHandler);
+    }
+    
+    /**
+     * Schedule the entry to expire at its deadline.
+     *
+     * @param entry entry
+     */
+    void schedule(RpcAckContext.Entry entry) {
+        pendingEntries.add(entry);
+    }
+    
+    void stop() {
+        tickFuture.cancel(false);
+    }
+    
+    private void tick() {
+        try {
+            long targetTick = Math.max(currentTick + 1, (System.currentTimeMillis() - startTime) / tickDuration);
+            transferPendingEntries();
+            List<RpcAckContext.Entry> dueEntries = expireBuckets(targetTick);
+            currentTick = targetTick;
+            if (!dueEntries.isEmpty()) {
+                expireHandler.accept(dueEntries);
+            }
+        } catch (Throwable e) {
+            Loggers.REMOTE_DIGEST.error("Push ack timing wheel tick failed.", e);
+        }
+    }
+    
+    private void transferPendingEntries() {
+        RpcAckContext.Entry each;
+        while (null != (each = pendingEntries.poll())) {
+            long tick = Math.max(currentTick + 1, (each.deadline - startTime + tickDuration - 1) / tickDuration);
+            each.tick = tick;
+            wheel[bucketIndex(tick)].add(each);
+        }
+    }
+    
+    private List<RpcAckContext.Entry> expireBuckets(long targetTick) {
+        List<RpcAckContext.Entry> result = new ArrayList<>();
+        long fromTick = Math.max(currentTick + 1, targetTick - wheel.length + 1);
+        for (long tick = fromTick; tick <= targetTick; tick++) {
+            Iterator<RpcAckContext.Entry> iterator = wheel[bucketIndex(tick)].iterator();
+            while (iterator.hasNext()) {
+                RpcAckContext.Entry each = iterator.next();
+                if (each.tick <= targetTick) {
+                    iterator.remove();
+                    result.add(each);
+                }
+            }
+        }
+        return result;
+    }
+    
+    private int bucketIndex(long tick) {
+        return (int) (tick % wheel.length);
+    }
+}
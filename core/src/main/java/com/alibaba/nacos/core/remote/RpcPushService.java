@@ -22,6 +22,7 @@ import com.alibaba.nacos.api.remote.request.ServerRequest;
 import com.alibaba.nacos.api.remote.PushCallBack;
 import com.alibaba.nacos.api.remote.response.Response;
 import com.alibaba.nacos.common.remote.exception.ConnectionAlreadyClosedException;
+import com.alibaba.nacos.common.remote.exception.RequestSupersededException;
 import com.alibaba.nacos.core.utils.Loggers;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Service;
@@ -70,6 +71,10 @@ public class RpcPushService {
                     
                     @Override
                     public void onException(Throwable e) {
+                        if (e instanceof RequestSupersededException) {
+                            // the newer push with the same key is queued, which reports the push result instead.
+                            return;
+                        }
                         requestCallBack.onFail(e);
                     }
                 });
@@ -0,0 +1,144 @@
+/*
+ * Copyright 1999-2025 Alibaba Group Holding Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.alibaba.nacos.core.remote;
+
+import com.alibaba.nacos.api.grpc.auto.Payload;
+import com.alibaba.nacos.api.remote.request.ServerRequest;
+import com.alibaba.nacos.common.remote.client.grpc.GrpcUtils;
+import com.alibaba.nacos.common.remote.codec.PayloadCodec;
+import com.alibaba.nacos.common.remote.codec.PayloadCodecManager;
+import com.alibaba.nacos.common.remote.codec.PayloadCompressor;
+import com.alibaba.nacos.core.monitor.MetricsMonitor;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Server request whose body is serialized once and shared by the pushes to many connections.
+ *
+ * <p>Each push still needs its own instance, because the request id and headers are set per connection. Use
+ * {@link #duplicate()} to get one for the next connection. The body is serialized at most once for each payload codec
+ * negotiated by the connections, and compressed at most once for each pair of codec and compressor.
+ *
+ * @author Nacos
+ */
+public class SharedPayloadRequest extends ServerRequest {
+    
+    private final ServerRequest request;
+    
+    private final Map<String, byte[]> sharedBodies;
+    
+    private final Map<String, byte[]> compressedBodies;
+    
+    private SharedPayloadRequest(ServerRequest request, Map<String, byte[]> sharedBodies,
+            Map<String, byte[]> compressedBodies) {
+        this.request = request;
+        this.sharedBodies = sharedBodies;
+        this.compressedBodies = compressedBodies;
+    }
+    
+    /**
+     * Serialize the request body and build a shared payload request.
+     *
+     * @param request original request
+     * @return shared payload request
+     */
+    public static SharedPayloadRequest of(ServerRequest request) {
+        Map<String, byte[]> sharedBodies = new ConcurrentHashMap<>(4);
+        PayloadCodec defaultCodec = PayloadCodecManager.getDefaultCodec();
+        sharedBodies.put(defaultCodec.getName(), GrpcUtils.convertRequestToSharedBody(request, defaultCodec));
+        return new SharedPayloadRequest(request, sharedBodies, new ConcurrentHashMap<>(4));
+    }
+    
+    /**
+     * Create a new request which shares the serialized body with this one.
+     *
+     * @return new shared payload request
+     */
+    public SharedPayloadRequest duplicate() {
+        return new SharedPayloadRequest(request, sharedBodies, compressedBodies);
+    }
+    
+    /**
+     * Convert to payload, only the request id and headers of this request are filled into the shared body.
+     *
+     * @return payload
+     */
+    public Payload toPayload() {
+        return toPayload(PayloadCodecManager.getDefaultCodec());
+    }
+    
+    /**
+     * Convert to payload with the codec, the body of the codec is serialized at the first time.
+     *
+     * @param codec payload codec
+     * @return payload
+     */
+    public Payload toPayload(PayloadCodec codec) {
+        byte[] sharedBody = sharedBodies.computeIfAbsent(codec.getName(), name -> serialize(codec));
+        return GrpcUtils.convert(this, request.getClass().getSimpleName(), sharedBody, codec);
+    }
+    
+    /**
+     * Convert to payload with the codec, and compress the body by the compressor if the body is not smaller than the
+     * threshold. The compressed body is shared too, so the request id is carried by metadata instead of the body.
+     *
+     * @param codec                payload codec
+     * @param compressor           payload compressor, {@code null} if compression is not negotiated
+     * @param compressionThreshold min body size to compress, negative means never compress
+     * @return payload
+     */
+    public Payload toPayload(PayloadCodec codec, PayloadCompressor compressor, int compressionThreshold) {
+        byte[] sharedBody = sharedBodies.computeIfAbsent(codec.getName(), name -> serialize(codec));
+        if (null == compressor || compressionThreshold < 0 || sharedBody.length < compressionThreshold) {
+            return GrpcUtils.convert(this, request.getClass().getSimpleName(), sharedBody, codec);
+        }
+        byte[] compressedBody = compressedBodies.computeIfAbsent(codec.getName() + "+" + compressor.getName(),
+                key -> compress(sharedBody, compressor));
+        return GrpcUtils.convert(this, request.getClass().getSimpleName(), compressedBody, codec, compressor);
+    }
+    
+    private byte[] serialize(PayloadCodec codec) {
+        // serializing modifies the request temporarily, so the bodies of different codecs can't be serialized at the
+        // same time.
+        synchronized (request) {
+            return GrpcUtils.convertRequestToSharedBody(request, codec);
+        }
+    }
+    
+    private byte[] compress(byte[] sharedBody, PayloadCompressor compressor) {
+        long startTime = System.nanoTime();
+        byte[] result = compressor.compress(sharedBody);
+        MetricsMonitor.recordGrpcPayloadCompression(request.getClass().getSimpleName(), compressor.getName(),
+                sharedBody.length, result.length, System.nanoTime() - startTime);
+        return result;
+    }
+    
+    public ServerRequest getRequest() {
+        return request;
+    }
+    
+    @Override
+    public String getModule() {
+        return request.getModule();
+    }
+    
+    @Override
+    public String toString() {
+        return "SharedPayloadRequest{" + "requestId='" + getRequestId() + '\'' + ", request=" + request + '}';
+    }
+}
@@ -19,11 +19,13 @@ package com.alibaba.nacos.core.remote.grpc;
 import com.alibaba.nacos.api.exception.NacosException;
 import com.alibaba.nacos.api.grpc.auto.Payload;
 import com.alibaba.nacos.api.remote.response.ErrorResponse;
+import com.alibaba.nacos.common.executor.VirtualThreadSupport;
 import com.alibaba.nacos.common.remote.ConnectionType;
 import com.alibaba.nacos.common.remote.client.grpc.GrpcUtils;
 import com.alibaba.nacos.core.monitor.MetricsMonitor;
 import com.alibaba.nacos.core.remote.BaseRpcServer;
 import com.alibaba.nacos.core.remote.ConnectionManager;
+import com.alibaba.nacos.core.remote.RequestConcurrencyLimiter;
 import com.alibaba.nacos.core.remote.RequestHandlerRegistry;
 import com.alibaba.nacos.core.remote.grpc.negotiator.NacosGrpcProtocolNegotiator;
 import com.alibaba.nacos.core.utils.Loggers;
@@ -49,6 +51,8 @@ import java.util.Collections;
 import java.util.LinkedList;
 import java.util.List;
 import java.util.Optional;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
 import java.util.concurrent.ThreadPoolExecutor;
 import java.util.concurrent.TimeUnit;
 
@@ -79,6 +83,10 @@ public abstract class BaseGrpcServer extends BaseRpcServer {
     @Autowired
     private RequestHandlerRegistry requestHandlerRegistry;
     
+    private ExecutorService virtualThreadExecutor;
+    
+    private RequestConcurrencyLimiter requestConcurrencyLimiter;
+    
     @Override
     public ConnectionType getConnectionType() {
         return ConnectionType.GRPC;
@@ -88,7 +96,7 @@ public abstract class BaseGrpcServer extends BaseRpcServer {
     public void startServer() throws Exception {
         final MutableHandlerRegistry handlerRegistry = new MutableHandlerRegistry();
         addServices(handlerRegistry, getSeverInterceptors().toArray(new ServerInterceptor[0]));
-        NettyServerBuilder builder = NettyServerBuilder.forPort(getServicePort()).executor(getRpcExecutor());
+        NettyServerBuilder builder = NettyServerBuilder.forPort(getServicePort()).executor(getServerExecutor());
         
         Optional<InternalProtocolNegotiator.ProtocolNegotiator> negotiator = newProtocolNegotiator();
         if (negotiator.isPresent()) {
@@ -110,6 +118,41 @@ public abstract class BaseGrpcServer extends BaseRpcServer {
         server.start();
     }
     
+    /**
+     * Get the executor which runs the grpc calls and request handlers.
+     *
+     * <p>It is the rpc executor by default. If virtual thread mode is enabled and the JVM supports virtual threads,
+     * every call is run on a new virtual thread, and the concurrency of each request type is bounded by a
+     * {@link RequestConcurrencyLimiter} of this server instead of the pool size.
+     *
+     * @return executor of grpc server
+     */
+    protected Executor getServerExecutor() {
+        if (!EnvUtil.getProperty(GrpcServerConstants.GrpcConfig.VIRTUAL_THREAD_ENABLED_PROPERTY, Boolean.class,
+                false)) {
+            return getRpcExecutor();
+        }
+        if (!VirtualThreadSupport.isSupported()) {
+            Loggers.REMOTE.warn("Nacos {} Rpc server virtual thread mode requires JDK 21+, current is {}, "
+                    + "use rpc executor instead.", getSource(), System.getProperty("java.version"));
+            return getRpcExecutor();
+        }
+        int maxConcurrencyPerType = EnvUtil.getProperty(
+                GrpcServerConstants.GrpcConfig.VIRTUAL_THREAD_MAX_CONCURRENCY_PER_TYPE_PROPERTY, Integer.class,
+                getRpcExecutor().getMaximumPoolSize());
+        long permitTimeout = EnvUtil.getProperty(GrpcServerConstants.GrpcConfig.VIRTUAL_THREAD_PERMIT_TIMEOUT_PROPERTY,
+                Long.class, GrpcServerConstants.GrpcConfig.DEFAULT_VIRTUAL_THREAD_PERMIT_TIMEOUT);
+        if (maxConcurrencyPerType > 0) {
+            requestConcurrencyLimiter = new RequestConcurrencyLimiter(getSource(), maxConcurrencyPerType,
+                    permitTimeout);
+        }
+        virtualThreadExecutor = VirtualThreadSupport.newThreadPerTaskExecutor(
+                "nacos-" + getSource() + "-grpc-virtual-");
+        Loggers.REMOTE.info("Nacos {} Rpc server run requests on virtual threads, max concurrency per type is {}.",
+                getSource(), maxConcurrencyPerType);
+        return virtualThreadExecutor;
+    }
+    
     @Override
     public void reloadProtocolContext() {
         reloadProtocolNegotiator();
@@ -194,7 +237,7 @@ public abstract class BaseGrpcServer extends BaseRpcServer {
             MetricsMonitor.recordGrpcRequestEvent(grpcRequest.getMetadata().getType(), false,
                     NacosException.BAD_GATEWAY, null, null, 0);
         } else {
-            grpcCommonRequestAcceptor.request(grpcRequest, responseObserver);
+            grpcCommonRequestAcceptor.request(grpcRequest, responseObserver, requestConcurrencyLimiter);
         }
     }
     
@@ -239,6 +282,9 @@ public abstract class BaseGrpcServer extends BaseRpcServer {
         if (server != null) {
             server.shutdownNow();
         }
+        if (virtualThreadExecutor != null) {
+            virtualThreadExecutor.shutdownNow();
+        }
     }
     
     /**
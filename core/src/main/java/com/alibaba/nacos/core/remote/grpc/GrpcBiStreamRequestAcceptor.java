@@ -26,10 +26,14 @@ import com.alibaba.nacos.api.remote.response.Response;
 import com.alibaba.nacos.common.ability.discover.NacosAbilityManagerHolder;
 import com.alibaba.nacos.common.remote.ConnectionType;
 import com.alibaba.nacos.common.remote.client.grpc.GrpcUtils;
+import com.alibaba.nacos.common.remote.codec.PayloadCodec;
+import com.alibaba.nacos.common.remote.codec.PayloadCodecManager;
+import com.alibaba.nacos.common.remote.codec.PayloadCompressor;
 import com.alibaba.nacos.core.remote.ConnectionManager;
 import com.alibaba.nacos.core.remote.ConnectionMeta;
 import com.alibaba.nacos.core.remote.RpcAckCallbackSynchronizer;
 import com.alibaba.nacos.core.utils.Loggers;
+import com.alibaba.nacos.sys.env.EnvUtil;
 import com.alibaba.nacos.sys.utils.ApplicationUtils;
 import io.grpc.netty.shaded.io.netty.channel.Channel;
 import io.grpc.netty.shaded.io.netty.util.Attribute;
@@ -40,6 +44,7 @@ import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Service;
 
 import java.util.Map;
+import java.util.concurrent.atomic.AtomicReference;
 
 /**
  * grpc bi stream request .
@@ -69,9 +74,36 @@ public class GrpcBiStreamRequestAcceptor extends BiRequestStreamGrpc.BiRequestSt
         
     }
     
+    private static int getIntConfig(String key, int defaultValue) {
+        return null == EnvUtil.getEnvironment() ? defaultValue
+                : EnvUtil.getProperty(key, Integer.class, defaultValue);
+    }
+    
+    /**
+     * Decompressed body should not be larger than the max inbound message size of the server accepted connection.
+     */
+    private static int getMaxInboundMessageSize(ConnectionMeta metaInfo) {
+        int defaultSize = getIntConfig(GrpcServerConstants.GrpcConfig.MAX_INBOUND_MSG_SIZE_PROPERTY,
+                GrpcServerConstants.GrpcConfig.DEFAULT_GRPC_MAX_INBOUND_MSG_SIZE);
+        String key = metaInfo.isClusterSource() ? GrpcServerConstants.GrpcConfig.CLUSTER_MAX_INBOUND_MSG_SIZE_PROPERTY
+                : GrpcServerConstants.GrpcConfig.SDK_MAX_INBOUND_MSG_SIZE_PROPERTY;
+        return getIntConfig(key, defaultSize);
+    }
+    
     @Override
     public StreamObserver<Payload> requestBiStream(StreamObserver<Payload> responseObserver) {
         
+        // the on ready handler can only be set before returning the stream observer, the connection is set up later.
+        AtomicReference<GrpcConnection> connectionHolder = new AtomicReference<>();
+        if (responseObserver instanceof ServerCallStreamObserver) {
+            ((ServerCallStreamObserver<Payload>) responseObserver).setOnReadyHandler(() -> {
+                GrpcConnection connection = connectionHolder.get();
+                if (null != connection) {
+                    connection.onReady();
+                }
+            });
+        }
+        
         StreamObserver<Payload> streamObserver = new StreamObserver<Payload>() {
             
             final String connectionId = GrpcServerConstants.CONTEXT_KEY_CONN_ID.get();
@@ -92,7 +124,11 @@ public class GrpcBiStreamRequestAcceptor extends BiRequestStreamGrpc.BiRequestSt
                 
                 Object parseObj;
                 try {
-                    parseObj = GrpcUtils.parse(payload);
+                    // the setup request is sent before compressor negotiated, so it should never be compressed.
+                    GrpcConnection currentConnection = connectionHolder.get();
+                    parseObj = null == currentConnection
+                            ? GrpcUtils.parse(payload, null, GrpcUtils.DEFAULT_MAX_DECOMPRESSED_SIZE)
+                            : currentConnection.parse(payload);
                 } catch (Throwable throwable) {
                     Loggers.REMOTE_DIGEST.warn("[{}]Grpc request bi stream,payload parse error={}", connectionId,
                             throwable);
@@ -122,6 +158,22 @@ public class GrpcBiStreamRequestAcceptor extends BiRequestStreamGrpc.BiRequestSt
                             tlsProtected != null && tlsProtected.get() != null && tlsProtected.get());
                     GrpcConnection connection = new GrpcConnection(metaInfo, responseObserver,
                             GrpcServerConstants.CONTEXT_KEY_CHANNEL.get());
+                    PayloadCodec payloadCodec = PayloadCodecManager.getCodec(setUpRequest.getPayloadCodec());
+                    if (null != payloadCodec) {
+                        connection.setPayloadCodec(payloadCodec);
+                    }
+                    PayloadCompressor payloadCompressor = PayloadCodecManager
+                            .getCompressor(setUpRequest.getPayloadCompressor());
+                    if (null != payloadCompressor) {
+                        connection.setPayloadCompressor(payloadCompressor,
+                                getIntConfig(GrpcServerConstants.GrpcConfig.PAYLOAD_COMPRESSION_THRESHOLD_PROPERTY,
+                                        GrpcServerConstants.GrpcConfig.DEFAULT_PAYLOAD_COMPRESSION_THRESHOLD));
+                        connection.setMaxDecompressedSize(getMaxInboundMessageSize(metaInfo));
+                    }
+                    connection.setPushQueueCapacityBytes(
+                            getIntConfig(GrpcServerConstants.GrpcConfig.PUSH_QUEUE_CAPACITY_BYTES_PROPERTY,
+                                    GrpcServerConstants.GrpcConfig.DEFAULT_PUSH_QUEUE_CAPACITY_BYTES));
+                    connectionHolder.set(connection);
                     // null if supported
                     if (setUpRequest.getAbilityTable() != null) {
                         // map to table
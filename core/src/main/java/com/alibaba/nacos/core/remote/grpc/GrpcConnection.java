@@ -25,11 +25,17 @@ import com.alibaba.nacos.api.remote.RequestFuture;
 import com.alibaba.nacos.api.remote.request.Request;
 import com.alibaba.nacos.api.remote.response.Response;
 import com.alibaba.nacos.common.remote.client.grpc.GrpcUtils;
+import com.alibaba.nacos.common.remote.codec.PayloadCodec;
+import com.alibaba.nacos.common.remote.codec.PayloadCodecManager;
+import com.alibaba.nacos.common.remote.codec.PayloadCompressor;
 import com.alibaba.nacos.common.remote.exception.ConnectionAlreadyClosedException;
 import com.alibaba.nacos.common.remote.exception.ConnectionBusyException;
+import com.alibaba.nacos.common.remote.exception.RequestSupersededException;
+import com.alibaba.nacos.core.monitor.MetricsMonitor;
 import com.alibaba.nacos.core.remote.Connection;
 import com.alibaba.nacos.core.remote.ConnectionMeta;
 import com.alibaba.nacos.core.remote.RpcAckCallbackSynchronizer;
+import com.alibaba.nacos.core.remote.SharedPayloadRequest;
 import com.alibaba.nacos.core.utils.Loggers;
 import com.alibaba.nacos.plugin.control.ControlManagerCenter;
 import com.alibaba.nacos.plugin.control.tps.TpsControlManager;
@@ -54,6 +60,17 @@ public class GrpcConnection extends Connection {
     
     private Channel channel;
     
+    private PayloadCodec payloadCodec = PayloadCodecManager.getDefaultCodec();
+    
+    private PayloadCompressor payloadCompressor;
+    
+    private int compressionThreshold = -1;
+    
+    private int maxDecompressedSize = GrpcUtils.DEFAULT_MAX_DECOMPRESSED_SIZE;
+    
+    private final GrpcPushQueue pushQueue = new GrpcPushQueue(
+            GrpcServerConstants.GrpcConfig.DEFAULT_PUSH_QUEUE_CAPACITY_BYTES);
+    
     private static TpsControlManager tpsControlManager;
     
     public GrpcConnection(ConnectionMeta metaInfo, StreamObserver streamObserver, Channel channel) {
@@ -65,32 +82,36 @@ public class GrpcConnection extends Connection {
     /**
      * send request without ack.
      *
+     * <p>The request is sent directly if the stream is ready and no push is waiting, otherwise it is queued and sent
+     * when the stream becomes ready again.
+     *
      * @param request request data.
      * @throws NacosException NacosException
      */
     public void sendRequestNoAck(Request request) throws NacosException {
-        sendQueueBlockCheck();
+        // serialize and compress out of the event loop, which should not be blocked by large payloads.
+        // the shared body is compressed once for all connections instead of per push.
+        Payload payload = request instanceof SharedPayloadRequest
+                ? ((SharedPayloadRequest) request).toPayload(payloadCodec, payloadCompressor, compressionThreshold)
+                : compressIfNecessary(GrpcUtils.convert(request, payloadCodec));
+        // the push queue is only accessed in the event loop, which keeps the order of pushes.
         Future<Boolean> executeFuture = this.channel.eventLoop().submit(() -> {
-            //StreamObserver#onNext() is not thread-safe,synchronized is required to avoid direct memory leak.
-            synchronized (streamObserver) {
-                try {
-                    Payload payload = GrpcUtils.convert(request);
-                    traceIfNecessary(payload);
-                    streamObserver.onNext(payload);
-                    return true;
-                } catch (Throwable e) {
-                    if (e instanceof StatusRuntimeException) {
-                        throw new ConnectionAlreadyClosedException(e);
-                    } else if (e instanceof IllegalStateException) {
-                        throw new ConnectionAlreadyClosedException(e);
-                    }
-                    throw new NacosRuntimeException(NacosException.SERVER_ERROR, e);
-                }
+            if (pushQueue.isEmpty() && isStreamReady()) {
+                getMetaInfo().clearPushQueueBlockTimes();
+                sendPayload(payload);
+                return true;
             }
+            enqueue(request, payload);
+            drainPushQueue();
+            return false;
         });
         try {
             executeFuture.get();
         } catch (Throwable throwable) {
+            if (throwable instanceof ExecutionException && throwable.getCause() instanceof ConnectionBusyException) {
+                // record the dropped push out of the event loop, the tps check should not block it.
+                recordPushDropped();
+            }
             if (throwable instanceof ExecutionException && throwable.getCause() != null
                     && throwable.getCause() instanceof NacosRuntimeException) {
                 throw (NacosRuntimeException) throwable.getCause();
@@ -99,32 +120,91 @@ public class GrpcConnection extends Connection {
         }
     }
     
-    private void sendQueueBlockCheck() {
+    private void sendPayload(Payload payload) {
+        //StreamObserver#onNext() is not thread-safe,synchronized is required to avoid direct memory leak.
+        synchronized (streamObserver) {
+            try {
+                traceIfNecessary(payload);
+                streamObserver.onNext(payload);
+            } catch (Throwable e) {
+                if (e instanceof StatusRuntimeException) {
+                    throw new ConnectionAlreadyClosedException(e);
+                } else if (e instanceof IllegalStateException) {
+                    throw new ConnectionAlreadyClosedException(e);
+                }
+                throw new NacosRuntimeException(NacosException.SERVER_ERROR, e);
+            }
+        }
+    }
+    
+    private boolean isStreamReady() {
         if (streamObserver instanceof ServerCallStreamObserver) {
             // if bytes on queue is greater than  32k ,isReady will return false.
             // queue type: grpc write queue,flowed controller queue etc.
             // this 32k threshold is fixed with static final.
             // see io.grpc.internal.AbstractStream.TransportState.DEFAULT_ONREADY_THRESHOLD
-            boolean ready = ((ServerCallStreamObserver<?>) streamObserver).isReady();
-            if (!ready) {
+            return ((ServerCallStreamObserver<?>) streamObserver).isReady();
+        }
+        return true;
+    }
+    
+    private void enqueue(Request request, Payload payload) {
+        getMetaInfo().recordPushQueueBlockTimes();
+        String supersededRequestId = pushQueue.offer(GrpcPushQueue.coalesceKey(request), request.getRequestId(),
+                payload);
+        if (null == supersededRequestId) {
+            MetricsMonitor.recordGrpcPushQueueEvent("queued");
+        } else {
+            getMetaInfo().recordPushCoalesced();
+            MetricsMonitor.recordGrpcPushQueueEvent("coalesced");
+            RpcAckCallbackSynchronizer.failFuture(getMetaInfo().getConnectionId(), supersededRequestId,
+                    new RequestSupersededException("push is superseded by request " + request.getRequestId()));
+        }
+        getMetaInfo().refreshPushQueue(pushQueue.size(), pushQueue.bytes());
+    }
+    
+    private void recordPushDropped() {
+        if (tpsControlManager == null) {
+            synchronized (GrpcConnection.class.getClass()) {
                 if (tpsControlManager == null) {
-                    synchronized (GrpcConnection.class.getClass()) {
-                        if (tpsControlManager == null) {
-                            tpsControlManager = ControlManagerCenter.getInstance().getTpsControlManager();
-                            tpsControlManager.registerTpsPoint("SERVER_PUSH_BLOCK");
-                        }
-                    }
+                    tpsControlManager = ControlManagerCenter.getInstance().getTpsControlManager();
+                    tpsControlManager.registerTpsPoint("SERVER_PUSH_BLOCK");
                 }
-                TpsCheckRequest tpsCheckRequest = new TpsCheckRequest("SERVER_PUSH_BLOCK",
-                        this.getMetaInfo().getConnectionId(), this.getMetaInfo().getClientIp());
-                //record block only.
-                tpsControlManager.check(tpsCheckRequest);
-                getMetaInfo().recordPushQueueBlockTimes();
-                throw new ConnectionBusyException("too much bytes on sending queue of this stream.");
-            } else {
-                getMetaInfo().clearPushQueueBlockTimes();
             }
         }
+        TpsCheckRequest tpsCheckRequest = new TpsCheckRequest("SERVER_PUSH_BLOCK",
+                this.getMetaInfo().getConnectionId(), this.getMetaInfo().getClientIp());
+        //record block only.
+        tpsControlManager.check(tpsCheckRequest);
+        getMetaInfo().recordPushDropped();
+        MetricsMonitor.recordGrpcPushQueueEvent("dropped");
+    }
+    
+    /**
+     * Drain the queued pushes when the stream becomes ready, called by the on ready handler of the stream.
+     */
+    public void onReady() {
+        if (!pushQueue.isEmpty()) {
+            this.channel.eventLoop().execute(this::drainPushQueue);
+        }
+    }
+    
+    private void drainPushQueue() {
+        while (!pushQueue.isEmpty() && isStreamReady()) {
+            GrpcPushQueue.Entry entry = pushQueue.poll();
+            try {
+                sendPayload(entry.getPayload());
+            } catch (ConnectionAlreadyClosedException e) {
+                RpcAckCallbackSynchronizer.failFuture(getMetaInfo().getConnectionId(), entry.getRequestId(), e);
+                pushQueue.clear();
+            } catch (NacosRuntimeException e) {
+                RpcAckCallbackSynchronizer.failFuture(getMetaInfo().getConnectionId(), entry.getRequestId(), e);
+            }
+        }
+        if (pushQueue.isEmpty()) {
+            getMetaInfo().clearPushQueueBlockTimes();
+        }
+        getMetaInfo().refreshPushQueue(pushQueue.size(), pushQueue.bytes());
     }
     
     private void traceIfNecessary(Payload payload) {
@@ -141,21 +221,33 @@ public class GrpcConnection extends Connection {
         }
     }
     
-    private DefaultRequestFuture sendRequestInner(Request request, RequestCallBack callBack) throws NacosException {
+    private DefaultRequestFuture sendRequestInner(Request request, RequestCallBack callBack, long timeoutMills)
+            throws NacosException {
         final String requestId = String.valueOf(PushAckIdGenerator.getNextId());
         request.setRequestId(requestId);
         
+        // the timeout is tracked by the timing wheel of RpcAckCallbackSynchronizer instead of the future itself.
         DefaultRequestFuture defaultPushFuture = new DefaultRequestFuture(getMetaInfo().getConnectionId(), requestId,
-                callBack, () -> RpcAckCallbackSynchronizer.clearFuture(getMetaInfo().getConnectionId(), requestId));
+                callBack, () -> RpcAckCallbackSynchronizer.timeoutFuture(getMetaInfo().getConnectionId(), requestId),
+                false);
         
-        RpcAckCallbackSynchronizer.syncCallback(getMetaInfo().getConnectionId(), requestId, defaultPushFuture);
-        sendRequestNoAck(request);
+        Request actualRequest = request instanceof SharedPayloadRequest ? ((SharedPayloadRequest) request).getRequest()
+                : request;
+        RpcAckCallbackSynchronizer.syncCallback(getMetaInfo().getConnectionId(), requestId,
+                actualRequest.getClass().getSimpleName(), defaultPushFuture, timeoutMills);
+        try {
+            sendRequestNoAck(request);
+        } catch (NacosException | RuntimeException e) {
+            // the push is not sent, so it won't be acked or timed out.
+            RpcAckCallbackSynchronizer.clearFuture(getMetaInfo().getConnectionId(), requestId);
+            throw e;
+        }
         return defaultPushFuture;
     }
     
     @Override
     public Response request(Request request, long timeoutMills) throws NacosException {
-        DefaultRequestFuture pushFuture = sendRequestInner(request, null);
+        DefaultRequestFuture pushFuture = sendRequestInner(request, null, timeoutMills);
         try {
             return pushFuture.get(timeoutMills);
         } catch (Exception e) {
@@ -167,12 +259,12 @@ public class GrpcConnection extends Connection {
     
     @Override
     public RequestFuture requestFuture(Request request) throws NacosException {
-        return sendRequestInner(request, null);
+        return sendRequestInner(request, null, 0L);
     }
     
     @Override
     public void asyncRequest(Request request, RequestCallBack requestCallBack) throws NacosException {
-        sendRequestInner(request, requestCallBack);
+        sendRequestInner(request, requestCallBack, null == requestCallBack ? 0L : requestCallBack.getTimeout());
     }
     
     @Override
@@ -211,4 +303,78 @@ public class GrpcConnection extends Connection {
     public boolean isConnected() {
         return channel != null && channel.isOpen() && channel.isActive();
     }
+    
+    public PayloadCodec getPayloadCodec() {
+        return payloadCodec;
+    }
+    
+    public void setPayloadCodec(PayloadCodec payloadCodec) {
+        this.payloadCodec = payloadCodec;
+    }
+    
+    /**
+     * Set the max bytes of the pushes waiting for the stream to be ready.
+     *
+     * @param capacityBytes max bytes of queued pushes
+     */
+    public void setPushQueueCapacityBytes(int capacityBytes) {
+        pushQueue.setCapacityBytes(capacityBytes);
+    }
+    
+    public PayloadCompressor getPayloadCompressor() {
+        return payloadCompressor;
+    }
+    
+    /**
+     * Set the compressor negotiated with client and the min body size to compress.
+     *
+     * @param payloadCompressor    negotiated compressor, null means no compression
+     * @param compressionThreshold min body size to compress, negative means never compress
+     */
+    public void setPayloadCompressor(PayloadCompressor payloadCompressor, int compressionThreshold) {
+        this.payloadCompressor = payloadCompressor;
+        this.compressionThreshold = compressionThreshold;
+    }
+    
+    /**
+     * Set the max size of decompressed payload body received from this connection.
+     *
+     * @param maxDecompressedSize max size of decompressed body
+     */
+    public void setMaxDecompressedSize(int maxDecompressedSize) {
+        this.maxDecompressedSize = maxDecompressedSize;
+    }
+    
+    /**
+     * Parse the payload received from this connection, compressed body is only accepted with the negotiated
+     * compressor.
+     *
+     * @param payload payload received from this connection
+     * @return parsed request or response
+     */
+    public Object parse(Payload payload) {
+        return GrpcUtils.parse(payload, payloadCompressor, maxDecompressedSize);
+    }
+    
+    /**
+     * Compress the payload sent to this connection if the body is not smaller than the compression threshold.
+     *
+     * @param payload payload with uncompressed body
+     * @return payload with compressed body, or the payload itself if not compressed
+     */
+    public Payload compressIfNecessary(Payload payload) {
+        PayloadCompressor compressor = payloadCompressor;
+        if (null == compressor || compressionThreshold < 0) {
+            return payload;
+        }
+        int rawSize = payload.getBody().getValue().size();
+        if (rawSize < compressionThreshold) {
+            return payload;
+        }
+        long startTime = System.nanoTime();
+        Payload result = GrpcUtils.compress(payload, compressor);
+        MetricsMonitor.recordGrpcPayloadCompression(payload.getMetadata().getType(), compressor.getName(), rawSize,
+                result.getBody().getValue().size(), System.nanoTime() - startTime);
+        return result;
+    }
 }
@@ -0,0 +1,184 @@
+/*
+ * Copyright 1999-2025 Alibaba Group Holding Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.alibaba.nacos.core.remote.grpc;
+
+import com.alibaba.nacos.api.config.remote.request.ConfigChangeNotifyRequest;
+import com.alibaba.nacos.api.grpc.auto.Payload;
+import com.alibaba.nacos.api.naming.remote.request.NotifySubscriberRequest;
+import com.alibaba.nacos.api.remote.request.Request;
+import com.alibaba.nacos.common.remote.exception.ConnectionBusyException;
+import com.alibaba.nacos.core.remote.SharedPayloadRequest;
+
+import java.util.ArrayDeque;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Bounded outbound queue of the pushes to one connection, which holds the pushes while the stream is not ready.
+ *
+ * <p>A push with a coalesce key replaces the queued push with the same key in place, so only the latest data is sent
+ * for each key. The queue is not thread safe and must be accessed in the event loop of the connection, except the
+ * statistics getters.
+ *
+ * @author Nacos
+ */
+final class GrpcPushQueue {
+    
+    private final ArrayDeque<Entry> entries = new ArrayDeque<>();
+    
+    private final Map<String, Entry> keyedEntries = new HashMap<>();
+    
+    private volatile int capacityBytes;
+    
+    private volatile int size;
+    
+    private volatile long bytes;
+    
+    GrpcPushQueue(int capacityBytes) {
+        this.capacityBytes = capacityBytes;
+    }
+    
+    /**
+     * Offer a push to the queue. The first push is always accepted even if it is larger than the capacity.
+     *
+     * @param key       coalesce key, null if the push can't be coalesced
+     * @param requestId request id of the push
+     * @param payload   payload of the push
+     * @return request id of the superseded push, null if no push is superseded
+     * @throws ConnectionBusyException if the queue is full
+     */
+    String offer(String key, String requestId, Payload payload) {
+        int payloadSize = payload.getSerializedSize();
+        Entry existing = null == key ? null : keyedEntries.get(key);
+        if (null != existing) {
+            final String supersededRequestId = existing.requestId;
+            bytes += payloadSize - existing.size;
+            existing.requestId = requestId;
+            existing.payload = payload;
+            existing.size = payloadSize;
+            return supersededRequestId;
+        }
+        if (!entries.isEmpty() && bytes + payloadSize > capacityBytes) {
+            throw new ConnectionBusyException("too much bytes on push queue of this connection.");
+        }
+        Entry entry = new Entry(key, requestId, payload, payloadSize);
+        entries.addLast(entry);
+        if (null != key) {
+            keyedEntries.put(key, entry);
+        }
+        size++;
+        bytes += payloadSize;
+        return null;
+    }
+    
+    /**
+     * Poll the first push of the queue.
+     *
+     * @return the first push, null if the queue is empty
+     */
+    Entry poll() {
+        Entry entry = entries.pollFirst();
+        if (null == entry) {
+            return null;
+        }
+        if (null != entry.key) {
+            keyedEntries.remove(entry.key);
+        }
+        size--;
+        bytes -= entry.size;
+        return entry;
+    }
+    
+    /**
+     * Remove all pushes of the queue.
+     *
+     * @return count of removed pushes
+     */
+    int clear() {
+        final int result = entries.size();
+        entries.clear();
+        keyedEntries.clear();
+        size = 0;
+        bytes = 0;
+        return result;
+    }
+    
+    boolean isEmpty() {
+        return 0 == size;
+    }
+    
+    int size() {
+        return size;
+    }
+    
+    long bytes() {
+        return bytes;
+    }
+    
+    void setCapacityBytes(int capacityBytes) {
+        this.capacityBytes = capacityBytes;
+    }
+    
+    /**
+     * Get the coalesce key of push, pushes with the same key carry the full data of the same resource, so the latest
+     * one can supersede the queued one.
+     *
+     * @param request push request
+     * @return coalesce key, null if the push can't be coalesced
+     */
+    static String coalesceKey(Request request) {
+        Request actual = request instanceof SharedPayloadRequest ? ((SharedPayloadRequest) request).getRequest()
+                : request;
+        if (actual instanceof NotifySubscriberRequest) {
+            NotifySubscriberRequest notifyRequest = (NotifySubscriberRequest) actual;
+            return null == notifyRequest.getServiceInfo() ? null
+                    : NotifySubscriberRequest.class.getSimpleName() + "@" + notifyRequest.getServiceInfo().getKey();
+        }
+        if (actual instanceof ConfigChangeNotifyRequest) {
+            ConfigChangeNotifyRequest notifyRequest = (ConfigChangeNotifyRequest) actual;
+            return ConfigChangeNotifyRequest.class.getSimpleName() + "@" + notifyRequest.getDataId() + "+"
+                    + notifyRequest.getGroup() + "+" + notifyRequest.getTenant();
+        }
+        return null;
+    }
+    
+    static final class Entry {
+        
+        private final String key;
+        
+        private String requestId;
+        
+        private Payload payload;
+        
+        private int size;
+        
+        private Entry(String key, String requestId, Payload payload, int size) {
+            this.key = key;
+            this.requestId = requestId;
+            this.payload = payload;
+            this.size = size;
+        }
+        
+        String getRequestId() {
+            return requestId;
+        }
+        
+        Payload getPayload() {
+            return payload;
+        }
+    }
+}
@@ -16,6 +16,7 @@
 
 package com.alibaba.nacos.core.remote.grpc;
 
+import com.alibaba.nacos.api.config.remote.response.ConfigQueryResponse;
 import com.alibaba.nacos.api.exception.NacosException;
 import com.alibaba.nacos.api.grpc.auto.Payload;
 import com.alibaba.nacos.api.grpc.auto.RequestGrpc;
@@ -29,6 +30,8 @@ import com.alibaba.nacos.api.remote.response.ResponseCode;
 import com.alibaba.nacos.api.remote.response.ServerCheckResponse;
 import com.alibaba.nacos.common.constant.HttpHeaderConsts;
 import com.alibaba.nacos.common.remote.client.grpc.GrpcUtils;
+import com.alibaba.nacos.common.remote.codec.PayloadCodec;
+import com.alibaba.nacos.common.remote.codec.PayloadCodecManager;
 import com.alibaba.nacos.common.utils.StringUtils;
 import com.alibaba.nacos.core.context.RequestContext;
 import com.alibaba.nacos.core.context.RequestContextHolder;
@@ -36,6 +39,7 @@ import com.alibaba.nacos.core.context.addition.BasicContext;
 import com.alibaba.nacos.core.monitor.MetricsMonitor;
 import com.alibaba.nacos.core.remote.Connection;
 import com.alibaba.nacos.core.remote.ConnectionManager;
+import com.alibaba.nacos.core.remote.RequestConcurrencyLimiter;
 import com.alibaba.nacos.core.remote.RequestHandler;
 import com.alibaba.nacos.core.remote.RequestHandlerRegistry;
 import com.alibaba.nacos.core.utils.Loggers;
@@ -79,15 +83,31 @@ public class GrpcRequestAcceptor extends RequestGrpc.RequestImplBase {
     
     @Override
     public void request(Payload grpcRequest, StreamObserver<Payload> responseObserver) {
+        request(grpcRequest, responseObserver, null);
+    }
+    
+    /**
+     * Handle the request with the concurrency limiter of the rpc server which receives the request.
+     *
+     * @param grpcRequest      grpc request payload
+     * @param responseObserver response observer
+     * @param limiter          concurrency limiter of the rpc server, null means no limit
+     */
+    public void request(Payload grpcRequest, StreamObserver<Payload> responseObserver,
+            RequestConcurrencyLimiter limiter) {
         
         traceIfNecessary(grpcRequest, true);
         String type = grpcRequest.getMetadata().getType();
         long startTime = System.nanoTime();
+        // response with the same codec as request, and json if the codec is not supported.
+        PayloadCodec requestCodec = GrpcUtils.getPayloadCodec(grpcRequest);
+        PayloadCodec codec = null == requestCodec ? PayloadCodecManager.getDefaultCodec() : requestCodec;
         
         //server is on starting.
         if (!ApplicationUtils.isStarted()) {
             Payload payloadResponse = GrpcUtils.convert(
-                    ErrorResponse.build(NacosException.INVALID_SERVER_STATUS, "Server is starting,please try later."));
+                    ErrorResponse.build(NacosException.INVALID_SERVER_STATUS, "Server is starting,please try later."),
+                    codec);
             traceIfNecessary(payloadResponse, false);
             responseObserver.onNext(payloadResponse);
             
@@ -99,7 +119,11 @@ public class GrpcRequestAcceptor extends RequestGrpc.RequestImplBase {
 
         // server check.
         if (ServerCheckRequest.class.getSimpleName().equals(type)) {
-            Payload serverCheckResponseP = GrpcUtils.convert(new ServerCheckResponse(GrpcServerConstants.CONTEXT_KEY_CONN_ID.get(), true));
+            ServerCheckResponse serverCheckResponse = new ServerCheckResponse(
+                    GrpcServerConstants.CONTEXT_KEY_CONN_ID.get(), true);
+            serverCheckResponse.setPayloadCodecs(PayloadCodecManager.getSupportedCodecs());
+            serverCheckResponse.setPayloadCompressors(PayloadCodecManager.getSupportedCompressors());
+            Payload serverCheckResponseP = GrpcUtils.convert(serverCheckResponse, codec);
             traceIfNecessary(serverCheckResponseP, false);
             responseObserver.onNext(serverCheckResponseP);
             responseObserver.onCompleted();
@@ -113,7 +137,7 @@ public class GrpcRequestAcceptor extends RequestGrpc.RequestImplBase {
         if (requestHandler == null) {
             Loggers.REMOTE_DIGEST.warn(String.format("[%s] No handler for request type : %s :", "grpc", type));
             Payload payloadResponse = GrpcUtils
-                    .convert(ErrorResponse.build(NacosException.NO_HANDLER, "RequestHandler Not Found"));
+                    .convert(ErrorResponse.build(NacosException.NO_HANDLER, "RequestHandler Not Found"), codec);
             traceIfNecessary(payloadResponse, false);
             responseObserver.onNext(payloadResponse);
             responseObserver.onCompleted();
@@ -129,7 +153,7 @@ public class GrpcRequestAcceptor extends RequestGrpc.RequestImplBase {
             Loggers.REMOTE_DIGEST
                     .warn("[{}] Invalid connection Id ,connection [{}] is un registered ,", "grpc", connectionId);
             Payload payloadResponse = GrpcUtils
-                    .convert(ErrorResponse.build(NacosException.UN_REGISTER, "Connection is unregistered."));
+                    .convert(ErrorResponse.build(NacosException.UN_REGISTER, "Connection is unregistered."), codec);
             traceIfNecessary(payloadResponse, false);
             responseObserver.onNext(payloadResponse);
             responseObserver.onCompleted();
@@ -140,11 +164,14 @@ public class GrpcRequestAcceptor extends RequestGrpc.RequestImplBase {
         
         Object parseObj = null;
         try {
-            parseObj = GrpcUtils.parse(grpcRequest);
+            Connection connection = connectionManager.getConnection(connectionId);
+            parseObj = connection instanceof GrpcConnection ? ((GrpcConnection) connection).parse(grpcRequest)
+                    : GrpcUtils.parse(grpcRequest, null, GrpcUtils.DEFAULT_MAX_DECOMPRESSED_SIZE);
         } catch (Exception e) {
             Loggers.REMOTE_DIGEST
                     .warn("[{}] Invalid request receive from connection [{}] ,error={}", "grpc", connectionId, e);
-            Payload payloadResponse = GrpcUtils.convert(ErrorResponse.build(NacosException.BAD_GATEWAY, e.getMessage()));
+            Payload payloadResponse = GrpcUtils
+                    .convert(ErrorResponse.build(NacosException.BAD_GATEWAY, e.getMessage()), codec);
             traceIfNecessary(payloadResponse, false);
             responseObserver.onNext(payloadResponse);
             responseObserver.onCompleted();
@@ -156,7 +183,7 @@ public class GrpcRequestAcceptor extends RequestGrpc.RequestImplBase {
         if (parseObj == null) {
             Loggers.REMOTE_DIGEST.warn("[{}] Invalid request receive  ,parse request is null", connectionId);
             Payload payloadResponse = GrpcUtils
-                    .convert(ErrorResponse.build(NacosException.BAD_GATEWAY, "Invalid request"));
+                    .convert(ErrorResponse.build(NacosException.BAD_GATEWAY, "Invalid request"), codec);
             traceIfNecessary(payloadResponse, false);
             responseObserver.onNext(payloadResponse);
             responseObserver.onCompleted();
@@ -171,7 +198,7 @@ public class GrpcRequestAcceptor extends RequestGrpc.RequestImplBase {
                     .warn("[{}] Invalid request receive  ,parsed payload is not a request,parseObj={}", connectionId,
                             parseObj);
             Payload payloadResponse = GrpcUtils
-                    .convert(ErrorResponse.build(NacosException.BAD_GATEWAY, "Invalid request"));
+                    .convert(ErrorResponse.build(NacosException.BAD_GATEWAY, "Invalid request"), codec);
             traceIfNecessary(payloadResponse, false);
             responseObserver.onNext(payloadResponse);
             responseObserver.onCompleted();
@@ -192,8 +219,10 @@ public class GrpcRequestAcceptor extends RequestGrpc.RequestImplBase {
             requestMeta.setAbilityTable(connection.getAbilityTable());
             connectionManager.refreshActiveTime(requestMeta.getConnectionId());
             prepareRequestContext(request, requestMeta, connection);
-            Response response = requestHandler.handleRequest(request, requestMeta);
-            Payload payloadResponse = GrpcUtils.convert(response);
+            Response response = requestHandler.handleRequest(request, requestMeta, limiter);
+            Payload convertedResponse = GrpcUtils.convert(response, codec);
+            Payload payloadResponse = connection instanceof GrpcConnection && !isContentCompressed(response)
+                    ? ((GrpcConnection) connection).compressIfNecessary(convertedResponse) : convertedResponse;
             traceIfNecessary(payloadResponse, false);
             if (response.getErrorCode() == NacosException.OVER_THRESHOLD) {
                 RpcScheduledExecutor.CONTROL_SCHEDULER.schedule(() -> {
@@ -212,7 +241,7 @@ public class GrpcRequestAcceptor extends RequestGrpc.RequestImplBase {
             Loggers.REMOTE_DIGEST
                     .error("[{}] Fail to handle request from connection [{}] ,error message :{}", "grpc", connectionId,
                             e);
-            Payload payloadResponse = GrpcUtils.convert(ErrorResponse.build(e));
+            Payload payloadResponse = GrpcUtils.convert(ErrorResponse.build(e), codec);
             traceIfNecessary(payloadResponse, false);
             responseObserver.onNext(payloadResponse);
             responseObserver.onCompleted();
@@ -224,6 +253,14 @@ public class GrpcRequestAcceptor extends RequestGrpc.RequestImplBase {
         
     }
     
+    /**
+     * The config content already compressed by the handler is not worth compressing again with the payload.
+     */
+    private boolean isContentCompressed(Response response) {
+        return response instanceof ConfigQueryResponse
+                && null != ((ConfigQueryResponse) response).getCompressedContent();
+    }
+    
     private void prepareRequestContext(Request request, RequestMeta requestMeta, Connection connection) {
         RequestContext requestContext = RequestContextHolder.getContext();
         requestContext.setRequestId(request.getRequestId());
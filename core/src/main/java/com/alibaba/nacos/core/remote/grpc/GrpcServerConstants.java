@@ -91,8 +91,29 @@ final class GrpcServerConstants {
         static final String CLUSTER_PERMIT_KEEP_ALIVE_TIME =
                 NACOS_REMOTE_SERVER_GRPC_CLUSTER_PREFIX + "permit-keep-alive-time";
         
+        static final String PAYLOAD_COMPRESSION_THRESHOLD_PROPERTY =
+                NACOS_REMOTE_SERVER_GRPC_PREFIX + "payload-compression-threshold";
+        
+        static final String PUSH_QUEUE_CAPACITY_BYTES_PROPERTY =
+                NACOS_REMOTE_SERVER_GRPC_PREFIX + "push-queue-capacity-bytes";
+        
+        static final String VIRTUAL_THREAD_ENABLED_PROPERTY =
+                NACOS_REMOTE_SERVER_GRPC_PREFIX + "virtual-thread.enabled";
+        
+        static final String VIRTUAL_THREAD_MAX_CONCURRENCY_PER_TYPE_PROPERTY =
+                NACOS_REMOTE_SERVER_GRPC_PREFIX + "virtual-thread.max-concurrency-per-type";
+        
+        static final String VIRTUAL_THREAD_PERMIT_TIMEOUT_PROPERTY =
+                NACOS_REMOTE_SERVER_GRPC_PREFIX + "virtual-thread.permit-timeout";
+        
         static final int DEFAULT_GRPC_MAX_INBOUND_MSG_SIZE = 10 * 1024 * 1024;
         
+        static final int DEFAULT_PAYLOAD_COMPRESSION_THRESHOLD = 64 * 1024;
+        
+        static final int DEFAULT_PUSH_QUEUE_CAPACITY_BYTES = 1024 * 1024;
+        
+        static final long DEFAULT_VIRTUAL_THREAD_PERMIT_TIMEOUT = 3000L;
+        
         static final long DEFAULT_GRPC_KEEP_ALIVE_TIME = TimeUnit.NANOSECONDS.toMillis(GrpcUtil.DEFAULT_SERVER_KEEPALIVE_TIME_NANOS);
         
         static final long DEFAULT_GRPC_KEEP_ALIVE_TIMEOUT = TimeUnit.NANOSECONDS.toMillis(GrpcUtil.DEFAULT_SERVER_KEEPALIVE_TIMEOUT_NANOS);
@@ -63,5 +63,11 @@ class DistroModuleStateBuilderTest {
                 states.get(DistroConstants.DATA_LOAD_RETRY_DELAY_MILLISECONDS_STATE));
         assertEquals(DistroConstants.DEFAULT_DATA_LOAD_TIMEOUT_MILLISECONDS,
                 states.get(DistroConstants.DATA_LOAD_TIMEOUT_MILLISECONDS_STATE));
+        assertEquals(DistroConstants.DEFAULT_DATA_LOAD_CHUNK_COUNT,
+                states.get(DistroConstants.DATA_LOAD_CHUNK_COUNT_STATE));
+        assertEquals(DistroConstants.DEFAULT_DATA_SYNC_BATCH_SIZE,
+                states.get(DistroConstants.DATA_SYNC_BATCH_SIZE_STATE));
+        assertEquals(DistroConstants.DEFAULT_DATA_SYNC_BATCH_WAIT_MILLISECONDS,
+                states.get(DistroConstants.DATA_SYNC_BATCH_WAIT_MILLISECONDS_STATE));
     }
 }
@@ -44,6 +44,12 @@ class DistroConfigTest {
     
     private long loadDataRetryDelayMillis = 80000L;
     
+    private int loadDataChunkCount = 64;
+    
+    private int syncBatchSize = 50;
+    
+    private long syncBatchWaitMillis = 20L;
+    
     @BeforeEach
     void setUp() {
         EnvUtil.setEnvironment(new MockEnvironment());
@@ -95,6 +101,9 @@ class DistroConfigTest {
         environment.setProperty(DistroConstants.DATA_VERIFY_INTERVAL_MILLISECONDS, String.valueOf(verifyIntervalMillis));
         environment.setProperty(DistroConstants.DATA_VERIFY_TIMEOUT_MILLISECONDS, String.valueOf(verifyTimeoutMillis));
         environment.setProperty(DistroConstants.DATA_LOAD_RETRY_DELAY_MILLISECONDS, String.valueOf(loadDataRetryDelayMillis));
+        environment.setProperty(DistroConstants.DATA_LOAD_CHUNK_COUNT, String.valueOf(loadDataChunkCount));
+        environment.setProperty(DistroConstants.DATA_SYNC_BATCH_SIZE, String.valueOf(syncBatchSize));
+        environment.setProperty(DistroConstants.DATA_SYNC_BATCH_WAIT_MILLISECONDS, String.valueOf(syncBatchWaitMillis));
         
         Constructor<DistroConfig> declaredConstructor = DistroConfig.class.getDeclaredConstructor();
         declaredConstructor.setAccessible(true);
@@ -106,6 +115,9 @@ class DistroConfigTest {
         assertEquals(distroConfig.getVerifyIntervalMillis(), verifyIntervalMillis);
         assertEquals(distroConfig.getVerifyTimeoutMillis(), verifyTimeoutMillis);
         assertEquals(distroConfig.getLoadDataRetryDelayMillis(), loadDataRetryDelayMillis);
+        assertEquals(distroConfig.getLoadDataChunkCount(), loadDataChunkCount);
+        assertEquals(distroConfig.getSyncBatchSize(), syncBatchSize);
+        assertEquals(distroConfig.getSyncBatchWaitMillis(), syncBatchWaitMillis);
         
     }
 }
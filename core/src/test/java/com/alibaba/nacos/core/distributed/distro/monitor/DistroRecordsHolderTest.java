@@ -69,4 +69,27 @@ class DistroRecordsHolderTest {
         actual.get().verifyFail();
         assertEquals(1, DistroRecordsHolder.getInstance().getFailedVerifyCount());
     }
+    
+    @Test
+    void testBatchSync() {
+        final long expectedCount = DistroRecordsHolder.getInstance().getBatchSyncCount() + 2;
+        final long expectedDataCount = DistroRecordsHolder.getInstance().getBatchSyncDataCount() + 15;
+        DistroRecord record = DistroRecordsHolder.getInstance().getRecord("testBatchSync");
+        record.batchSync(10);
+        record.batchSync(5);
+        assertEquals(2, record.getBatchSyncCount());
+        assertEquals(15, record.getBatchSyncDataCount());
+        assertEquals(10, record.getMaxBatchSize());
+        assertEquals(expectedCount, DistroRecordsHolder.getInstance().getBatchSyncCount());
+        assertEquals(expectedDataCount, DistroRecordsHolder.getInstance().getBatchSyncDataCount());
+    }
+    
+    @Test
+    void testRecordSyncLag() {
+        assertEquals(0L, DistroRecordsHolder.getInstance().getSyncLag("1.1.1.1:8848"));
+        DistroRecordsHolder.getInstance().recordSyncLag("1.1.1.1:8848", 100L);
+        DistroRecordsHolder.getInstance().recordSyncLag("1.1.1.1:8848", 50L);
+        assertEquals(50L, DistroRecordsHolder.getInstance().getSyncLag("1.1.1.1:8848"));
+        assertEquals(50L, DistroRecordsHolder.getInstance().getSyncLags().get("1.1.1.1:8848").longValue());
+    }
 }
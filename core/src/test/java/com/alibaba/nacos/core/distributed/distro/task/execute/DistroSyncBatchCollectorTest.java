@@ -0,0 +1,110 @@
+/*
+ * Copyright 1999-2025 Alibaba Group Holding Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.alibaba.nacos.core.distributed.distro.task.execute;
+
+import com.alibaba.nacos.consistency.DataOperation;
+import com.alibaba.nacos.core.distributed.distro.DistroConfig;
+import com.alibaba.nacos.core.distributed.distro.component.DistroComponentHolder;
+import com.alibaba.nacos.core.distributed.distro.entity.DistroKey;
+import com.alibaba.nacos.core.distributed.distro.task.delay.DistroDelayTask;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.timeout;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class DistroSyncBatchCollectorTest {
+    
+    private static final String TYPE = "testType";
+    
+    private static final String TARGET = "1.1.1.1:8848";
+    
+    @Mock
+    private DistroExecuteTaskExecuteEngine executeTaskExecuteEngine;
+    
+    @Mock
+    private DistroComponentHolder distroComponentHolder;
+    
+    @Mock
+    private DistroConfig distroConfig;
+    
+    private DistroSyncBatchCollector collector;
+    
+    @BeforeEach
+    void setUp() {
+        collector = new DistroSyncBatchCollector(executeTaskExecuteEngine, distroComponentHolder, distroConfig);
+    }
+    
+    @Test
+    void testCollectCoalesceSameKey() {
+        when(distroConfig.getSyncBatchSize()).thenReturn(10);
+        when(distroConfig.getSyncBatchWaitMillis()).thenReturn(60000L);
+        collector.collect(new DistroDelayTask(new DistroKey("a", TYPE, TARGET), DataOperation.CHANGE, 0L));
+        collector.collect(new DistroDelayTask(new DistroKey("a", TYPE, TARGET), DataOperation.DELETE, 0L));
+        collector.collect(new DistroDelayTask(new DistroKey("b", TYPE, TARGET), DataOperation.CHANGE, 0L));
+        assertEquals(2, collector.pendingSize());
+        verify(executeTaskExecuteEngine, never()).addTask(any(), any());
+    }
+    
+    @Test
+    void testCollectReachBatchSize() {
+        when(distroConfig.getSyncBatchSize()).thenReturn(2);
+        when(distroConfig.getSyncBatchWaitMillis()).thenReturn(60000L);
+        collector.collect(new DistroDelayTask(new DistroKey("a", TYPE, TARGET), DataOperation.CHANGE, 0L));
+        collector.collect(new DistroDelayTask(new DistroKey("b", TYPE, TARGET), DataOperation.CHANGE, 0L));
+        assertEquals(0, collector.pendingSize());
+        verify(executeTaskExecuteEngine).addTask(eq(DistroSyncBatchCollector.buildBatchKey(TYPE, TARGET)),
+                any(DistroSyncBatchTask.class));
+    }
+    
+    @Test
+    void testCollectSeparateByTarget() {
+        when(distroConfig.getSyncBatchSize()).thenReturn(2);
+        when(distroConfig.getSyncBatchWaitMillis()).thenReturn(60000L);
+        collector.collect(new DistroDelayTask(new DistroKey("a", TYPE, TARGET), DataOperation.CHANGE, 0L));
+        collector.collect(new DistroDelayTask(new DistroKey("a", TYPE, "2.2.2.2:8848"), DataOperation.CHANGE, 0L));
+        assertEquals(2, collector.pendingSize());
+        verify(executeTaskExecuteEngine, never()).addTask(any(), any());
+    }
+    
+    @Test
+    void testFlushAfterWait() {
+        when(distroConfig.getSyncBatchSize()).thenReturn(10);
+        when(distroConfig.getSyncBatchWaitMillis()).thenReturn(10L);
+        collector.collect(new DistroDelayTask(new DistroKey("a", TYPE, TARGET), DataOperation.CHANGE, 0L));
+        verify(executeTaskExecuteEngine, timeout(3000L)).addTask(
+                eq(DistroSyncBatchCollector.buildBatchKey(TYPE, TARGET)), any(DistroSyncBatchTask.class));
+        assertEquals(0, collector.pendingSize());
+    }
+    
+    @Test
+    void testFlushNotExist() {
+        collector.flush(DistroSyncBatchCollector.buildBatchKey(TYPE, TARGET));
+        verify(executeTaskExecuteEngine, never()).addTask(any(), any());
+        assertTrue(collector.pendingSize() == 0);
+    }
+}
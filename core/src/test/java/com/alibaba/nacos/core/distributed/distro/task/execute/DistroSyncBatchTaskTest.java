@@ -0,0 +1,134 @@
+/*
+ * Copyright 1999-2025 Alibaba Group Holding Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.alibaba.nacos.core.distributed.distro.task.execute;
+
+import com.alibaba.nacos.consistency.DataOperation;
+import com.alibaba.nacos.core.distributed.distro.component.DistroCallback;
+import com.alibaba.nacos.core.distributed.distro.component.DistroComponentHolder;
+import com.alibaba.nacos.core.distributed.distro.component.DistroDataStorage;
+import com.alibaba.nacos.core.distributed.distro.component.DistroFailedTaskHandler;
+import com.alibaba.nacos.core.distributed.distro.component.DistroTransportAgent;
+import com.alibaba.nacos.core.distributed.distro.entity.DistroData;
+import com.alibaba.nacos.core.distributed.distro.entity.DistroKey;
+import com.alibaba.nacos.core.distributed.distro.monitor.DistroRecord;
+import com.alibaba.nacos.core.distributed.distro.monitor.DistroRecordsHolder;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class DistroSyncBatchTaskTest {
+    
+    private static final String TYPE = "DistroSyncBatchTaskTest";
+    
+    private static final String TARGET = "1.1.1.1:8848";
+    
+    @Mock
+    private DistroComponentHolder distroComponentHolder;
+    
+    @Mock
+    private DistroTransportAgent transportAgent;
+    
+    @Mock
+    private DistroDataStorage dataStorage;
+    
+    @Mock
+    private DistroFailedTaskHandler failedTaskHandler;
+    
+    private DistroKey changeKey;
+    
+    private DistroKey deleteKey;
+    
+    private DistroKey removedKey;
+    
+    private Map<DistroKey, DataOperation> operations;
+    
+    @BeforeEach
+    void setUp() {
+        changeKey = new DistroKey("change", TYPE, TARGET);
+        deleteKey = new DistroKey("delete", TYPE, TARGET);
+        removedKey = new DistroKey("removed", TYPE, TARGET);
+        operations = new LinkedHashMap<>();
+        operations.put(changeKey, DataOperation.ADD);
+        operations.put(deleteKey, DataOperation.DELETE);
+        operations.put(removedKey, DataOperation.CHANGE);
+    }
+    
+    @Test
+    void testRunSuccess() {
+        when(distroComponentHolder.findTransportAgent(TYPE)).thenReturn(transportAgent);
+        when(distroComponentHolder.findDataStorage(TYPE)).thenReturn(dataStorage);
+        when(dataStorage.getDistroData(changeKey)).thenReturn(new DistroData(changeKey, new byte[1]));
+        doAnswer(invocationOnMock -> {
+            DistroCallback callback = invocationOnMock.getArgument(2);
+            callback.onSuccess();
+            return null;
+        }).when(transportAgent).syncBatchData(anyList(), eq(TARGET), any(DistroCallback.class));
+        DistroRecord record = DistroRecordsHolder.getInstance().getRecord(TYPE);
+        final long expectedSuccess = record.getSuccessfulSyncCount() + 2;
+        new DistroSyncBatchTask(TYPE, TARGET, operations, System.currentTimeMillis(), distroComponentHolder).run();
+        ArgumentCaptor<List<DistroData>> captor = ArgumentCaptor.forClass(List.class);
+        verify(transportAgent).syncBatchData(captor.capture(), eq(TARGET), any(DistroCallback.class));
+        List<DistroData> actual = captor.getValue();
+        assertEquals(2, actual.size());
+        assertEquals(changeKey, actual.get(0).getDistroKey());
+        assertEquals(DataOperation.CHANGE, actual.get(0).getType());
+        assertEquals(deleteKey, actual.get(1).getDistroKey());
+        assertEquals(DataOperation.DELETE, actual.get(1).getType());
+        assertEquals(expectedSuccess, record.getSuccessfulSyncCount());
+        assertEquals(2, record.getMaxBatchSize());
+        assertTrue(DistroRecordsHolder.getInstance().getSyncLags().containsKey(TARGET));
+    }
+    
+    @Test
+    void testRunWithoutAgent() {
+        new DistroSyncBatchTask(TYPE, TARGET, operations, System.currentTimeMillis(), distroComponentHolder).run();
+        verify(distroComponentHolder, never()).findDataStorage(TYPE);
+    }
+    
+    @Test
+    void testRunException() {
+        when(distroComponentHolder.findTransportAgent(TYPE)).thenReturn(transportAgent);
+        when(distroComponentHolder.findDataStorage(TYPE)).thenReturn(dataStorage);
+        when(distroComponentHolder.findFailedTaskHandler(TYPE)).thenReturn(failedTaskHandler);
+        when(dataStorage.getDistroData(changeKey)).thenReturn(new DistroData(changeKey, new byte[1]));
+        doThrow(new UnsupportedOperationException()).when(transportAgent)
+                .syncBatchData(anyList(), eq(TARGET), any(DistroCallback.class));
+        new DistroSyncBatchTask(TYPE, TARGET, operations, System.currentTimeMillis(), distroComponentHolder).run();
+        verify(failedTaskHandler).retry(changeKey, DataOperation.CHANGE);
+        verify(failedTaskHandler).retry(deleteKey, DataOperation.DELETE);
+        verify(failedTaskHandler, never()).retry(eq(removedKey), any());
+    }
+}
@@ -16,6 +16,7 @@
 
 package com.alibaba.nacos.core.distributed.distro.task.load;
 
+import com.alibaba.nacos.consistency.DataOperation;
 import com.alibaba.nacos.core.cluster.Member;
 import com.alibaba.nacos.core.cluster.ServerMemberManager;
 import com.alibaba.nacos.core.distributed.distro.DistroConfig;
@@ -26,6 +27,8 @@ import com.alibaba.nacos.core.distributed.distro.component.DistroDataStorage;
 import com.alibaba.nacos.core.distributed.distro.component.DistroFailedTaskHandler;
 import com.alibaba.nacos.core.distributed.distro.component.DistroTransportAgent;
 import com.alibaba.nacos.core.distributed.distro.entity.DistroData;
+import com.alibaba.nacos.core.distributed.distro.monitor.DistroRecord;
+import com.alibaba.nacos.core.distributed.distro.monitor.DistroRecordsHolder;
 import com.alibaba.nacos.sys.env.EnvUtil;
 import org.junit.jupiter.api.BeforeAll;
 import org.junit.jupiter.api.BeforeEach;
@@ -40,9 +43,15 @@ import java.util.LinkedList;
 import java.util.List;
 import java.util.Map;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.lenient;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
@@ -96,8 +105,8 @@ class DistroLoadDataTaskTest {
         componentHolder.registerFailedTaskHandler(type, distroFailedTaskHandler);
         when(distroDataProcessor.processType()).thenReturn(type);
         componentHolder.registerDataProcessor(distroDataProcessor);
-        when(distroTransportAgent.getDatumSnapshot(any(String.class))).thenReturn(distroData);
-        when(distroDataProcessor.processSnapshot(distroData)).thenReturn(true);
+        lenient().when(distroTransportAgent.getDatumSnapshot(any(String.class))).thenReturn(distroData);
+        lenient().when(distroDataProcessor.processSnapshot(distroData)).thenReturn(true);
         distroLoadDataTask = new DistroLoadDataTask(memberManager, componentHolder, distroConfig, loadCallback);
     }
     
@@ -109,4 +118,43 @@ class DistroLoadDataTaskTest {
         assertTrue(loadCompletedMap.containsKey(type));
         verify(distroTransportAgent).getDatumSnapshot(any(String.class));
     }
+    
+    @Test
+    void testRunByChunksAndResume() {
+        when(distroTransportAgent.supportChunkedSnapshot()).thenReturn(true);
+        when(distroConfig.getLoadDataChunkCount()).thenReturn(3);
+        DistroData chunk = new DistroData();
+        chunk.setType(DataOperation.SNAPSHOT);
+        chunk.setContent(new byte[10]);
+        when(distroTransportAgent.getDatumSnapshot(eq("2.2.2.2:8848"), anyInt(), eq(3))).thenReturn(chunk);
+        when(distroTransportAgent.getDatumSnapshot("2.2.2.2:8848", 1, 3)).thenThrow(new RuntimeException("test"));
+        when(distroTransportAgent.getDatumSnapshot(eq("1.1.1.1:8848"), anyInt(), eq(3))).thenReturn(chunk);
+        when(distroDataProcessor.processSnapshot(chunk)).thenReturn(true);
+        distroLoadDataTask.run();
+        // chunk 0 from 2.2.2.2, then resume chunk 1 and 2 from 1.1.1.1.
+        verify(distroTransportAgent, never()).getDatumSnapshot(any(String.class));
+        verify(distroTransportAgent, never()).getDatumSnapshot("1.1.1.1:8848", 0, 3);
+        verify(distroTransportAgent).getDatumSnapshot("1.1.1.1:8848", 1, 3);
+        verify(distroTransportAgent).getDatumSnapshot("1.1.1.1:8848", 2, 3);
+        verify(distroDataProcessor, times(3)).processSnapshot(chunk);
+        verify(distroDataStorage).finishInitial();
+        verify(loadCallback).onSuccess();
+        DistroRecord record = DistroRecordsHolder.getInstance().getRecord(type);
+        assertEquals(3, record.getTotalSnapshotChunkCount());
+        assertEquals(3, record.getLoadedSnapshotChunkCount());
+        assertEquals(30L, record.getLoadedSnapshotBytes());
+    }
+    
+    @Test
+    void testRunByChunksWithFullSnapshotResponse() {
+        when(distroTransportAgent.supportChunkedSnapshot()).thenReturn(true);
+        when(distroConfig.getLoadDataChunkCount()).thenReturn(3);
+        DistroData fullSnapshot = new DistroData();
+        when(distroTransportAgent.getDatumSnapshot("2.2.2.2:8848", 0, 3)).thenReturn(fullSnapshot);
+        when(distroDataProcessor.processSnapshot(fullSnapshot)).thenReturn(true);
+        distroLoadDataTask.run();
+        verify(distroTransportAgent).getDatumSnapshot(any(String.class), anyInt(), anyInt());
+        verify(distroDataStorage).finishInitial();
+        verify(loadCallback).onSuccess();
+    }
 }
@@ -0,0 +1,118 @@
+/*
+ * Copyright 1999-2025 Alibaba Group Holding Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.alibaba.nacos.core.distributed.distro.task.verify;
+
+import com.alibaba.nacos.core.distributed.distro.component.DistroCallback;
+import com.alibaba.nacos.core.distributed.distro.component.DistroDataStorage;
+import com.alibaba.nacos.core.distributed.distro.component.DistroTransportAgent;
+import com.alibaba.nacos.core.distributed.distro.component.DistroVerifyDigestCallback;
+import com.alibaba.nacos.core.distributed.distro.entity.DistroData;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.Collections;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class DistroVerifyDigestExecuteTaskTest {
+    
+    private static final String TYPE = "type";
+    
+    private static final String TARGET = "1.1.1.1:8848";
+    
+    @Mock
+    private DistroTransportAgent transportAgent;
+    
+    @Mock
+    private DistroDataStorage dataStorage;
+    
+    private DistroData localDigest;
+    
+    private DistroData remoteDigest;
+    
+    private DistroData verifyData;
+    
+    private DistroVerifyDigestExecuteTask task;
+    
+    @BeforeEach
+    void setUp() {
+        localDigest = new DistroData();
+        remoteDigest = new DistroData();
+        verifyData = new DistroData();
+        task = new DistroVerifyDigestExecuteTask(transportAgent, dataStorage, localDigest, TARGET, TYPE);
+    }
+    
+    @Test
+    void testRunAllMatched() {
+        doAnswer(invocationOnMock -> {
+            DistroVerifyDigestCallback callback = invocationOnMock.getArgument(2);
+            callback.onSuccess(remoteDigest);
+            return null;
+        }).when(transportAgent).syncVerifyDigest(eq(localDigest), eq(TARGET), any());
+        when(dataStorage.getVerifyData(localDigest, remoteDigest)).thenReturn(null);
+        task.run();
+        verify(transportAgent, never()).syncVerifyData(any(), any(), any());
+        verify(transportAgent, never()).syncVerifyData(any(), any());
+    }
+    
+    @Test
+    void testRunPartMatched() {
+        doAnswer(invocationOnMock -> {
+            DistroVerifyDigestCallback callback = invocationOnMock.getArgument(2);
+            callback.onSuccess(remoteDigest);
+            return null;
+        }).when(transportAgent).syncVerifyDigest(eq(localDigest), eq(TARGET), any());
+        when(dataStorage.getVerifyData(localDigest, remoteDigest)).thenReturn(Collections.singletonList(verifyData));
+        when(transportAgent.supportCallbackTransport()).thenReturn(true);
+        task.run();
+        verify(transportAgent).syncVerifyData(eq(verifyData), eq(TARGET), any(DistroCallback.class));
+        verify(dataStorage, never()).getVerifyData();
+    }
+    
+    @Test
+    void testRunDigestFailed() {
+        doAnswer(invocationOnMock -> {
+            DistroVerifyDigestCallback callback = invocationOnMock.getArgument(2);
+            callback.onFailed(null);
+            return null;
+        }).when(transportAgent).syncVerifyDigest(eq(localDigest), eq(TARGET), any());
+        when(dataStorage.getVerifyData()).thenReturn(Collections.singletonList(verifyData));
+        when(transportAgent.supportCallbackTransport()).thenReturn(true);
+        task.run();
+        verify(transportAgent).syncVerifyData(eq(verifyData), eq(TARGET), any(DistroCallback.class));
+    }
+    
+    @Test
+    void testRunDigestException() {
+        doThrow(new UnsupportedOperationException()).when(transportAgent)
+                .syncVerifyDigest(eq(localDigest), eq(TARGET), any());
+        when(dataStorage.getVerifyData()).thenReturn(Collections.singletonList(verifyData));
+        when(transportAgent.supportCallbackTransport()).thenReturn(false);
+        task.run();
+        verify(transportAgent).syncVerifyData(verifyData, TARGET);
+    }
+}
@@ -0,0 +1,161 @@
+/*
+ * Copyright 1999-2025 Alibaba Group Holding Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.alibaba.nacos.core.remote;
+
+import com.alibaba.nacos.api.exception.NacosException;
+import com.alibaba.nacos.api.remote.request.HealthCheckRequest;
+import com.alibaba.nacos.api.remote.request.Request;
+import com.alibaba.nacos.api.remote.request.RequestMeta;
+import com.alibaba.nacos.api.remote.response.ErrorResponse;
+import com.alibaba.nacos.api.remote.response.HealthCheckResponse;
+import com.alibaba.nacos.api.remote.response.Response;
+import com.alibaba.nacos.core.monitor.NacosMeterRegistryCenter;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class RequestConcurrencyLimiterTest {
+    
+    @BeforeAll
+    static void initMeterRegistry() {
+        NacosMeterRegistryCenter.getMeterRegistry(NacosMeterRegistryCenter.CORE_STABLE_REGISTRY)
+                .add(new SimpleMeterRegistry());
+    }
+    
+    @Test
+    void testInvalidMaxConcurrency() {
+        assertThrows(IllegalArgumentException.class, () -> new RequestConcurrencyLimiter("invalid", 0, 10L));
+    }
+    
+    @Test
+    void testTryAcquirePerType() {
+        RequestConcurrencyLimiter limiter = new RequestConcurrencyLimiter("perType", 1, 10L);
+        assertTrue(limiter.tryAcquire("a"));
+        assertFalse(limiter.tryAcquire("a"));
+        assertTrue(limiter.tryAcquire("b"));
+        assertEquals(1, getHandlingCount("perType", "a"));
+        
+        limiter.release("a");
+        assertEquals(0, getHandlingCount("perType", "a"));
+        assertTrue(limiter.tryAcquire("a"));
+        assertEquals(1, getHandlingCount("perType", "b"));
+    }
+    
+    @Test
+    void testLimiterPerServer() {
+        RequestConcurrencyLimiter sdkLimiter = new RequestConcurrencyLimiter("sdk", 1, 10L);
+        RequestConcurrencyLimiter clusterLimiter = new RequestConcurrencyLimiter("cluster", 2, 10L);
+        assertTrue(sdkLimiter.tryAcquire("a"));
+        assertFalse(sdkLimiter.tryAcquire("a"));
+        assertTrue(clusterLimiter.tryAcquire("a"));
+        assertTrue(clusterLimiter.tryAcquire("a"));
+        assertFalse(clusterLimiter.tryAcquire("a"));
+        assertEquals(1, getHandlingCount("sdk", "a"));
+        assertEquals(2, getHandlingCount("cluster", "a"));
+    }
+    
+    @Test
+    void testHandleRequestWithoutLimiter() throws Exception {
+        CountDownLatch handling = new CountDownLatch(2);
+        BlockingHandler handler = new BlockingHandler(handling, new CountDownLatch(0));
+        ReflectionTestUtils.setField(handler, "requestFilters", new RequestFilters());
+        assertTrue(handler.handleRequest(new HealthCheckRequest(), null).isSuccess());
+        assertTrue(handler.handleRequest(new HealthCheckRequest(), null, null).isSuccess());
+        assertEquals(0, handling.getCount());
+    }
+    
+    @Test
+    void testHandleRequestWithLimiter() throws Exception {
+        RequestConcurrencyLimiter limiter = new RequestConcurrencyLimiter("handle", 1, 10L);
+        CountDownLatch handling = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        BlockingHandler handler = new BlockingHandler(handling, release);
+        RequestFilters requestFilters = new RequestFilters();
+        ReflectionTestUtils.setField(handler, "requestFilters", requestFilters);
+        ExecutorService executor = Executors.newSingleThreadExecutor();
+        try {
+            final Future<Response> blocked = executor.submit(
+                    () -> handler.handleRequest(new HealthCheckRequest(), null, limiter));
+            assertTrue(handling.await(3L, TimeUnit.SECONDS));
+            
+            Response rejected = handler.handleRequest(new HealthCheckRequest(), null, limiter);
+            assertEquals(NacosException.OVER_THRESHOLD, rejected.getErrorCode());
+            
+            // filters run before acquiring permit.
+            requestFilters.registerFilter(new RejectFilter());
+            Response filtered = handler.handleRequest(new HealthCheckRequest(), null, limiter);
+            assertEquals(NacosException.BAD_GATEWAY, filtered.getErrorCode());
+            requestFilters.filters.clear();
+            
+            release.countDown();
+            assertTrue(blocked.get(3L, TimeUnit.SECONDS).isSuccess());
+            assertEquals(0, getHandlingCount("handle", HealthCheckRequest.class.getSimpleName()));
+            assertTrue(handler.handleRequest(new HealthCheckRequest(), null, limiter).isSuccess());
+        } finally {
+            release.countDown();
+            executor.shutdownNow();
+        }
+    }
+    
+    private double getHandlingCount(String source, String requestType) {
+        return NacosMeterRegistryCenter.getMeterRegistry(NacosMeterRegistryCenter.CORE_STABLE_REGISTRY)
+                .get("grpc_handling_requests").tags("source", source, "requestClass", requestType).gauge().value();
+    }
+    
+    private static class BlockingHandler extends RequestHandler<HealthCheckRequest, HealthCheckResponse> {
+        
+        private final CountDownLatch handling;
+        
+        private final CountDownLatch release;
+        
+        private BlockingHandler(CountDownLatch handling, CountDownLatch release) {
+            this.handling = handling;
+            this.release = release;
+        }
+        
+        @Override
+        public HealthCheckResponse handle(HealthCheckRequest request, RequestMeta meta) {
+            handling.countDown();
+            try {
+                release.await(3L, TimeUnit.SECONDS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            return new HealthCheckResponse();
+        }
+    }
+    
+    private static class RejectFilter extends AbstractRequestFilter {
+        
+        @Override
+        protected Response filter(Request request, RequestMeta meta, Class handlerClazz) {
+            return ErrorResponse.build(NacosException.BAD_GATEWAY, "rejected");
+        }
+    }
+}
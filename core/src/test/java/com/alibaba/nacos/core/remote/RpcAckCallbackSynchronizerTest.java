@@ -0,0 +1,187 @@
+/*
+ * Copyright 1999-2025 Alibaba Group Holding Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.alibaba.nacos.core.remote;
+
+import com.alibaba.nacos.api.exception.NacosException;
+import com.alibaba.nacos.api.naming.remote.response.NotifySubscriberResponse;
+import com.alibaba.nacos.api.remote.DefaultRequestFuture;
+import com.alibaba.nacos.api.remote.RequestCallBack;
+import com.alibaba.nacos.api.remote.response.Response;
+import com.alibaba.nacos.core.monitor.NacosMeterRegistryCenter;
+import io.micrometer.core.instrument.Tag;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.concurrent.Executor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class RpcAckCallbackSynchronizerTest {
+    
+    private static final String CONNECTION_ID = "rpcAckTestConnection";
+    
+    @BeforeAll
+    static void setUpBeforeClass() {
+        NacosMeterRegistryCenter.getMeterRegistry(NacosMeterRegistryCenter.CORE_STABLE_REGISTRY)
+                .add(new SimpleMeterRegistry());
+    }
+    
+    @AfterEach
+    void tearDown() {
+        RpcAckCallbackSynchronizer.clearContext(CONNECTION_ID);
+    }
+    
+    @Test
+    void testAckNotify() throws Exception {
+        MockCallback callback = new MockCallback();
+        DefaultRequestFuture future = newFuture("1", callback);
+        RpcAckCallbackSynchronizer.syncCallback(CONNECTION_ID, "1", "AckRequest", future, 3000L);
+        
+        RpcAckCallbackSynchronizer.ackNotify(CONNECTION_ID, newResponse("1"));
+        assertTrue(future.isDone());
+        assertTrue(callback.response.get().isSuccess());
+        assertEquals(1.0D, count("AckRequest", "acked"));
+        
+        // duplicated ack is ignored.
+        RpcAckCallbackSynchronizer.ackNotify(CONNECTION_ID, newResponse("1"));
+        assertEquals(1.0D, count("AckRequest", "acked"));
+    }
+    
+    @Test
+    void testTimeoutAndLateAck() throws Exception {
+        MockCallback callback = new MockCallback();
+        DefaultRequestFuture future = newFuture("2", callback);
+        RpcAckCallbackSynchronizer.syncCallback(CONNECTION_ID, "2", "TimeoutRequest", future, 100L);
+        
+        long start = System.currentTimeMillis();
+        while (!future.isDone() && System.currentTimeMillis() - start < 3000L) {
+            TimeUnit.MILLISECONDS.sleep(50L);
+        }
+        assertTrue(callback.exception.get() instanceof TimeoutException);
+        assertEquals(1.0D, count("TimeoutRequest", "timeout"));
+        
+        RpcAckCallbackSynchronizer.ackNotify(CONNECTION_ID, newResponse("2"));
+        assertNull(callback.response.get());
+        assertEquals(1.0D, count("TimeoutRequest", "late"));
+        assertEquals(0.0D, count("TimeoutRequest", "acked"));
+    }
+    
+    @Test
+    void testTimeoutFutureWithoutCallback() throws Exception {
+        DefaultRequestFuture future = newFuture("3", null);
+        RpcAckCallbackSynchronizer.syncCallback(CONNECTION_ID, "3", "SyncRequest", future, 3000L);
+        assertThrows(TimeoutException.class, () -> future.get(10L));
+        assertEquals(1.0D, count("SyncRequest", "timeout"));
+        
+        // timed out future is kept for late ack after cleared by caller.
+        RpcAckCallbackSynchronizer.clearFuture(CONNECTION_ID, "3");
+        RpcAckCallbackSynchronizer.ackNotify(CONNECTION_ID, newResponse("3"));
+        assertEquals(1.0D, count("SyncRequest", "late"));
+    }
+    
+    @Test
+    void testClearAndFailFuture() throws Exception {
+        MockCallback callback = new MockCallback();
+        RpcAckCallbackSynchronizer.syncCallback(CONNECTION_ID, "4", "ClearRequest", newFuture("4", callback),
+                3000L);
+        RpcAckCallbackSynchronizer.clearFuture(CONNECTION_ID, "4");
+        RpcAckCallbackSynchronizer.ackNotify(CONNECTION_ID, newResponse("4"));
+        assertNull(callback.response.get());
+        assertEquals(0.0D, count("ClearRequest", "acked"));
+        
+        RpcAckCallbackSynchronizer.syncCallback(CONNECTION_ID, "5", "ClearRequest", newFuture("5", callback),
+                3000L);
+        NacosException exception = new NacosException();
+        RpcAckCallbackSynchronizer.failFuture(CONNECTION_ID, "5", exception);
+        assertSame(exception, callback.exception.get());
+    }
+    
+    @Test
+    void testSyncCallbackInvalid() throws Exception {
+        RpcAckCallbackSynchronizer.syncCallback(CONNECTION_ID, "6", newFuture("6", null));
+        NacosException conflict = assertThrows(NacosException.class,
+                () -> RpcAckCallbackSynchronizer.syncCallback(CONNECTION_ID, "6", newFuture("6", null)));
+        assertEquals(NacosException.INVALID_PARAM, conflict.getErrCode());
+        assertThrows(NacosException.class,
+                () -> RpcAckCallbackSynchronizer.syncCallback(CONNECTION_ID, "abc", newFuture("abc", null)));
+    }
+    
+    @Test
+    void testAckNotifyOnOutdatedConnection() throws Exception {
+        MockCallback callback = new MockCallback();
+        RpcAckCallbackSynchronizer.syncCallback(CONNECTION_ID, "7", "OutdatedRequest", newFuture("7", callback),
+                3000L);
+        RpcAckCallbackSynchronizer.clearContext(CONNECTION_ID);
+        RpcAckCallbackSynchronizer.ackNotify(CONNECTION_ID, newResponse("7"));
+        assertNull(callback.response.get());
+        assertFalse(count("OutdatedRequest", "acked") > 0);
+    }
+    
+    private DefaultRequestFuture newFuture(String requestId, RequestCallBack callBack) {
+        return new DefaultRequestFuture(CONNECTION_ID, requestId, callBack,
+                () -> RpcAckCallbackSynchronizer.timeoutFuture(CONNECTION_ID, requestId), false);
+    }
+    
+    private Response newResponse(String requestId) {
+        NotifySubscriberResponse response = new NotifySubscriberResponse();
+        response.setRequestId(requestId);
+        return response;
+    }
+    
+    private double count(String requestType, String result) {
+        return NacosMeterRegistryCenter.counter(NacosMeterRegistryCenter.CORE_STABLE_REGISTRY, "grpc_push_ack",
+                Arrays.asList(Tag.of("requestClass", requestType), Tag.of("result", result))).count();
+    }
+    
+    private static class MockCallback implements RequestCallBack<Response> {
+        
+        private final AtomicReference<Response> response = new AtomicReference<>();
+        
+        private final AtomicReference<Throwable> exception = new AtomicReference<>();
+        
+        @Override
+        public Executor getExecutor() {
+            return null;
+        }
+        
+        @Override
+        public long getTimeout() {
+            return 3000L;
+        }
+        
+        @Override
+        public void onResponse(Response response) {
+            this.response.set(response);
+        }
+        
+        @Override
+        public void onException(Throwable e) {
+            this.exception.set(e);
+        }
+    }
+}
@@ -0,0 +1,78 @@
+/*
+ * Copyright 1999-2025 Alibaba Group Holding Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.alibaba.nacos.core.remote;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class RpcAckContextTest {
+    
+    @Test
+    void testPutGetRemove() {
+        RpcAckContext context = new RpcAckContext();
+        RpcAckContext.Entry entry = newEntry(context, 1L);
+        assertTrue(context.putIfAbsent(entry));
+        assertFalse(context.putIfAbsent(newEntry(context, 1L)));
+        assertSame(entry, context.get(1L));
+        assertEquals(1, context.size());
+        
+        assertFalse(context.remove(newEntry(context, 1L)));
+        assertTrue(context.remove(entry));
+        assertNull(context.get(1L));
+        assertNull(context.remove(1L));
+        assertEquals(0, context.size());
+    }
+    
+    @Test
+    void testRandomOperations() {
+        RpcAckContext context = new RpcAckContext();
+        Map<Long, RpcAckContext.Entry> expected = new HashMap<>();
+        Random random = new Random(0L);
+        for (int i = 0; i < 100000; i++) {
+            // a small key range makes many collisions and probe chains.
+            long requestId = random.nextInt(4096);
+            if (random.nextBoolean()) {
+                RpcAckContext.Entry entry = newEntry(context, requestId);
+                assertEquals(!expected.containsKey(requestId), context.putIfAbsent(entry));
+                expected.putIfAbsent(requestId, entry);
+            } else {
+                assertSame(expected.remove(requestId), context.remove(requestId));
+            }
+            assertEquals(expected.size(), context.size());
+        }
+        for (Map.Entry<Long, RpcAckContext.Entry> each : expected.entrySet()) {
+            assertSame(each.getValue(), context.get(each.getKey()));
+        }
+        List<RpcAckContext.Entry> removed = context.removeAll();
+        assertEquals(expected.size(), removed.size());
+        assertEquals(0, context.size());
+    }
+    
+    private RpcAckContext.Entry newEntry(RpcAckContext context, long requestId) {
+        return new RpcAckContext.Entry(context, requestId, "test", null, 0L);
+    }
+}
@@ -0,0 +1,95 @@
+/*
+ * Copyright 1999-2025 Alibaba Group Holding Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.alibaba.nacos.core.remote;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class RpcAckTimingWheelTest {
+    
+    private ScheduledExecutorService executor;
+    
+    private RpcAckTimingWheel timingWheel;
+    
+    private Queue<List<RpcAckContext.Entry>> batches;
+    
+    @BeforeEach
+    void setUp() {
+        executor = Executors.newSingleThreadScheduledExecutor();
+        batches = new ConcurrentLinkedQueue<>();
+        timingWheel = new RpcAckTimingWheel(10L, 8, executor, batches::add);
+    }
+    
+    @AfterEach
+    void tearDown() {
+        timingWheel.stop();
+        executor.shutdownNow();
+    }
+    
+    @Test
+    void testExpireInBatch() throws InterruptedException {
+        long now = System.currentTimeMillis();
+        for (int i = 0; i < 100; i++) {
+            timingWheel.schedule(newEntry(i, now + 50L));
+        }
+        // the deadline is longer than one round of the wheel.
+        RpcAckContext.Entry late = newEntry(100, now + 500L);
+        timingWheel.schedule(late);
+        
+        waitExpired(100);
+        assertEquals(1, batches.size());
+        assertEquals(100, batches.peek().size());
+        assertTrue(System.currentTimeMillis() >= now + 50L);
+        
+        waitExpired(101);
+        assertTrue(System.currentTimeMillis() >= late.deadline);
+        assertEquals(2, batches.size());
+    }
+    
+    private void waitExpired(int expected) throws InterruptedException {
+        long start = System.currentTimeMillis();
+        while (expiredCount() < expected && System.currentTimeMillis() - start < 3000L) {
+            TimeUnit.MILLISECONDS.sleep(10L);
+        }
+        assertEquals(expected, expiredCount());
+    }
+    
+    private int expiredCount() {
+        int result = 0;
+        for (List<RpcAckContext.Entry> each : batches) {
+            result += each.size();
+        }
+        return result;
+    }
+    
+    private RpcAckContext.Entry newEntry(long requestId, long deadline) {
+        RpcAckContext.Entry result = new RpcAckContext.Entry(new RpcAckContext(), requestId, "test", null, 0L);
+        result.deadline = deadline;
+        return result;
+    }
+}
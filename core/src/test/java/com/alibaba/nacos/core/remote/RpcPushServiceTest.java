@@ -19,7 +19,9 @@ package com.alibaba.nacos.core.remote;
 
 import com.alibaba.nacos.api.exception.NacosException;
 import com.alibaba.nacos.api.remote.PushCallBack;
+import com.alibaba.nacos.api.remote.RequestCallBack;
 import com.alibaba.nacos.common.remote.exception.ConnectionAlreadyClosedException;
+import com.alibaba.nacos.common.remote.exception.RequestSupersededException;
 import com.alibaba.nacos.core.remote.grpc.GrpcConnection;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
@@ -79,6 +81,20 @@ class RpcPushServiceTest {
         }
     }
     
+    @Test
+    void testPushWithCallbackSuperseded() throws Exception {
+        Mockito.when(connectionManager.getConnection(Mockito.any())).thenReturn(grpcConnection);
+        Mockito.doAnswer(invocation -> {
+            RequestCallBack callBack = invocation.getArgument(1);
+            callBack.onException(new RequestSupersededException("superseded"));
+            return null;
+        }).when(grpcConnection).asyncRequest(Mockito.any(), Mockito.any());
+        PushCallBack pushCallBack = Mockito.mock(PushCallBack.class);
+        rpcPushService.pushWithCallback(connectId, null, pushCallBack, null);
+        Mockito.verify(pushCallBack, Mockito.never()).onFail(Mockito.any());
+        Mockito.verify(pushCallBack, Mockito.never()).onSuccess();
+    }
+    
     @Test
     void testPushWithoutAck() {
         Mockito.when(connectionManager.getConnection(Mockito.any())).thenReturn(grpcConnection);
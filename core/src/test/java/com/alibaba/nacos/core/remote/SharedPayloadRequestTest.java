@@ -0,0 +1,122 @@
+/*
+ * Copyright 1999-2025 Alibaba Group Holding Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.alibaba.nacos.core.remote;
+
+import com.alibaba.nacos.api.grpc.auto.Payload;
+import com.alibaba.nacos.api.naming.pojo.ServiceInfo;
+import com.alibaba.nacos.api.naming.remote.request.NotifySubscriberRequest;
+import com.alibaba.nacos.common.remote.PayloadRegistry;
+import com.alibaba.nacos.common.remote.client.grpc.GrpcUtils;
+import com.alibaba.nacos.common.remote.codec.BinaryPayloadCodec;
+import com.alibaba.nacos.common.remote.codec.GzipPayloadCompressor;
+import com.alibaba.nacos.common.remote.codec.PayloadCodec;
+import com.alibaba.nacos.common.remote.codec.PayloadCodecManager;
+import com.alibaba.nacos.common.remote.codec.PayloadCompressor;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+class SharedPayloadRequestTest {
+    
+    @BeforeEach
+    void setUp() {
+        PayloadRegistry.init();
+    }
+    
+    @Test
+    void testToPayload() {
+        NotifySubscriberRequest original = NotifySubscriberRequest
+                .buildNotifySubscriberRequest(new ServiceInfo("G@@S"));
+        SharedPayloadRequest template = SharedPayloadRequest.of(original);
+        SharedPayloadRequest request1 = template.duplicate();
+        request1.setRequestId("1");
+        SharedPayloadRequest request2 = template.duplicate();
+        request2.setRequestId("2");
+        request2.putHeader("k", "v");
+        assertNotSame(request1, request2);
+        assertSame(original, request2.getRequest());
+        assertEquals(original.getModule(), request2.getModule());
+        
+        Payload payload1 = request1.toPayload();
+        assertEquals(NotifySubscriberRequest.class.getSimpleName(), payload1.getMetadata().getType());
+        NotifySubscriberRequest actual1 = (NotifySubscriberRequest) GrpcUtils.parse(payload1);
+        assertEquals("1", actual1.getRequestId());
+        assertEquals("G@@S", actual1.getServiceInfo().getKey());
+        NotifySubscriberRequest actual2 = (NotifySubscriberRequest) GrpcUtils.parse(request2.toPayload());
+        assertEquals("2", actual2.getRequestId());
+        assertEquals("v", actual2.getHeader("k"));
+        assertEquals("G@@S", actual2.getServiceInfo().getKey());
+    }
+    
+    @Test
+    void testToPayloadWithCodec() {
+        NotifySubscriberRequest original = NotifySubscriberRequest
+                .buildNotifySubscriberRequest(new ServiceInfo("G@@S"));
+        SharedPayloadRequest template = SharedPayloadRequest.of(original);
+        PayloadCodec codec = PayloadCodecManager.getCodec(BinaryPayloadCodec.NAME);
+        SharedPayloadRequest request1 = template.duplicate();
+        request1.setRequestId("1");
+        SharedPayloadRequest request2 = template.duplicate();
+        request2.setRequestId("2");
+        
+        Payload binaryPayload = request1.toPayload(codec);
+        assertEquals(BinaryPayloadCodec.NAME, binaryPayload.getBody().getTypeUrl());
+        NotifySubscriberRequest actual1 = (NotifySubscriberRequest) GrpcUtils.parse(binaryPayload);
+        assertEquals("1", actual1.getRequestId());
+        assertEquals("G@@S", actual1.getServiceInfo().getKey());
+        Payload jsonPayload = request2.toPayload();
+        assertEquals("", jsonPayload.getBody().getTypeUrl());
+        NotifySubscriberRequest actual2 = (NotifySubscriberRequest) GrpcUtils.parse(jsonPayload);
+        assertEquals("2", actual2.getRequestId());
+        assertEquals("G@@S", actual2.getServiceInfo().getKey());
+    }
+    
+    @Test
+    void testToPayloadWithCompressor() {
+        NotifySubscriberRequest original = NotifySubscriberRequest
+                .buildNotifySubscriberRequest(new ServiceInfo("G@@S"));
+        SharedPayloadRequest template = SharedPayloadRequest.of(original);
+        final PayloadCodec codec = PayloadCodecManager.getDefaultCodec();
+        final PayloadCompressor compressor = PayloadCodecManager.getCompressor(GzipPayloadCompressor.NAME);
+        SharedPayloadRequest request1 = template.duplicate();
+        request1.setRequestId("1");
+        SharedPayloadRequest request2 = template.duplicate();
+        request2.setRequestId("2");
+        request2.putHeader("k", "v");
+        
+        assertEquals("", request1.toPayload(codec, compressor, -1).getBody().getTypeUrl());
+        assertEquals("", request1.toPayload(codec, compressor, Integer.MAX_VALUE).getBody().getTypeUrl());
+        Payload payload1 = request1.toPayload(codec, compressor, 0);
+        Payload payload2 = request2.toPayload(codec, compressor, 0);
+        assertEquals("json+gzip", payload1.getBody().getTypeUrl());
+        // the compressed body is shared, only the metadata differs.
+        assertEquals(payload1.getBody(), payload2.getBody());
+        NotifySubscriberRequest actual1 = (NotifySubscriberRequest) GrpcUtils.parse(payload1, compressor,
+                GrpcUtils.DEFAULT_MAX_DECOMPRESSED_SIZE);
+        assertEquals("1", actual1.getRequestId());
+        assertEquals("G@@S", actual1.getServiceInfo().getKey());
+        NotifySubscriberRequest actual2 = (NotifySubscriberRequest) GrpcUtils.parse(payload2, compressor,
+                GrpcUtils.DEFAULT_MAX_DECOMPRESSED_SIZE);
+        assertEquals("2", actual2.getRequestId());
+        assertEquals("v", actual2.getHeader("k"));
+        assertNull(actual2.getHeader(GrpcUtils.PAYLOAD_REQUEST_ID_HEADER));
+    }
+}
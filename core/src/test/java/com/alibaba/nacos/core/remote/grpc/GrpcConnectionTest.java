@@ -17,11 +17,20 @@
 package com.alibaba.nacos.core.remote.grpc;
 
 import com.alibaba.nacos.api.exception.runtime.NacosRuntimeException;
+import com.alibaba.nacos.api.grpc.auto.Payload;
+import com.alibaba.nacos.api.naming.pojo.ServiceInfo;
 import com.alibaba.nacos.api.naming.remote.request.NotifySubscriberRequest;
 import com.alibaba.nacos.api.naming.remote.response.NotifySubscriberResponse;
-import com.alibaba.nacos.api.remote.DefaultRequestFuture;
+import com.alibaba.nacos.api.remote.RequestCallBack;
+import com.alibaba.nacos.api.remote.response.Response;
+import com.alibaba.nacos.common.remote.PayloadRegistry;
+import com.alibaba.nacos.common.remote.client.grpc.GrpcUtils;
+import com.alibaba.nacos.common.remote.codec.GzipPayloadCompressor;
+import com.alibaba.nacos.common.remote.codec.PayloadCodecManager;
 import com.alibaba.nacos.common.remote.exception.ConnectionAlreadyClosedException;
 import com.alibaba.nacos.common.remote.exception.ConnectionBusyException;
+import com.alibaba.nacos.common.remote.exception.RemoteException;
+import com.alibaba.nacos.common.remote.exception.RequestSupersededException;
 import com.alibaba.nacos.core.remote.ConnectionMeta;
 import com.alibaba.nacos.core.remote.RpcAckCallbackSynchronizer;
 import com.alibaba.nacos.plugin.control.ControlManagerCenter;
@@ -45,9 +54,13 @@ import org.mockito.quality.Strictness;
 
 import java.io.IOException;
 import java.util.HashMap;
-import java.util.Map;
+import java.util.concurrent.Executor;
+import java.util.concurrent.atomic.AtomicReference;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
 @ExtendWith(MockitoExtension.class)
@@ -141,34 +154,32 @@ class GrpcConnectionTest {
         Mockito.doReturn(new DefaultEventLoop()).when(channel).eventLoop();
         Mockito.doReturn(true).when(streamObserver).isReady();
         assertTrue(connection.isConnected());
+        NotifySubscriberRequest request = new NotifySubscriberRequest();
         try {
             new Thread(new Runnable() {
                 @Override
                 public void run() {
                     long start = System.currentTimeMillis();
                     while ((System.currentTimeMillis() - start < 3000L)) {
-                        Map<String, DefaultRequestFuture> stringDefaultRequestFutureMap = RpcAckCallbackSynchronizer.initContextIfNecessary(
-                                connection.getMetaInfo().getConnectionId());
-                        if (!stringDefaultRequestFutureMap.entrySet().iterator().hasNext()) {
+                        if (null != request.getRequestId()) {
+                            NotifySubscriberResponse notifySubscriberResponse = new NotifySubscriberResponse();
+                            notifySubscriberResponse.setRequestId(request.getRequestId());
                             try {
-                                Thread.sleep(100L);
-                                continue;
-                            } catch (InterruptedException e) {
-                                throw new RuntimeException(e);
+                                RpcAckCallbackSynchronizer.ackNotify(connection.getMetaInfo().getConnectionId(),
+                                        notifySubscriberResponse);
+                            } catch (Exception e) {
+                                //ignore
                             }
                         }
-                        Map.Entry<String, DefaultRequestFuture> next = stringDefaultRequestFutureMap.entrySet().iterator().next();
-                        NotifySubscriberResponse notifySubscriberResponse = new NotifySubscriberResponse();
-                        notifySubscriberResponse.setRequestId(next.getValue().getRequestId());
                         try {
-                            RpcAckCallbackSynchronizer.ackNotify(connection.getMetaInfo().getConnectionId(), notifySubscriberResponse);
-                        } catch (Exception e) {
-                            //ignore
+                            Thread.sleep(100L);
+                        } catch (InterruptedException e) {
+                            throw new RuntimeException(e);
                         }
                     }
                 }
             }).start();
-            connection.request(new NotifySubscriberRequest(), 3000L);
+            connection.request(request, 3000L);
             assertTrue(true);
         } catch (Throwable e) {
             e.printStackTrace();
@@ -177,15 +188,21 @@ class GrpcConnectionTest {
     }
     
     @Test
-    void testBusy() {
+    void testBusy() throws Exception {
         controlManagerCenterMockedStatic = Mockito.mockStatic(ControlManagerCenter.class);
         Mockito.when(ControlManagerCenter.getInstance()).thenReturn(controlManagerCenter);
         Mockito.when(ControlManagerCenter.getInstance().getTpsControlManager()).thenReturn(tpsControlManager);
         Mockito.when(tpsControlManager.check(Mockito.any())).thenReturn(new TpsCheckResponse(true, 200, ""));
+        Mockito.doReturn(new DefaultEventLoop()).when(channel).eventLoop();
         Mockito.doReturn(false).when(streamObserver).isReady();
+        connection.setPushQueueCapacityBytes(1);
+        
+        // the first push is queued even if it exceeds the capacity.
+        connection.sendRequestNoAck(newNotifyRequest("1", "a"));
+        assertEquals(1, connection.getMetaInfo().getPushQueueSize());
         
         try {
-            connection.request(new NotifySubscriberRequest(), 3000L);
+            connection.sendRequestNoAck(newNotifyRequest("2", "b"));
             assertTrue(false);
         } catch (Exception e) {
             assertTrue(e instanceof ConnectionBusyException);
@@ -197,14 +214,73 @@ class GrpcConnectionTest {
             throw new RuntimeException(e);
         }
         try {
-            connection.request(new NotifySubscriberRequest(), 3000L);
+            connection.sendRequestNoAck(newNotifyRequest("3", "c"));
             assertTrue(false);
         } catch (Exception e) {
             assertTrue(e instanceof ConnectionBusyException);
         }
         
         assertTrue(connection.getMetaInfo().pushQueueBlockTimesLastOver(3000));
+        assertEquals(2, connection.getMetaInfo().getPushDroppedCount());
+        assertEquals(1, connection.getMetaInfo().getPushQueueSize());
+    }
+    
+    @Test
+    void testDrainPushQueueOnReady() throws Exception {
+        Mockito.doReturn(new DefaultEventLoop()).when(channel).eventLoop();
+        Mockito.doReturn(false).when(streamObserver).isReady();
+        connection.sendRequestNoAck(newNotifyRequest("1", "a"));
+        connection.sendRequestNoAck(newNotifyRequest("2", "b"));
+        Mockito.verify(streamObserver, Mockito.never()).onNext(Mockito.any());
+        assertEquals(2, connection.getMetaInfo().getPushQueueSize());
         
+        Mockito.doReturn(true).when(streamObserver).isReady();
+        connection.onReady();
+        Mockito.verify(streamObserver, Mockito.timeout(3000L).times(2)).onNext(Mockito.any());
+        // the queued pushes are sent before the new one.
+        connection.sendRequestNoAck(newNotifyRequest("3", "c"));
+        Mockito.verify(streamObserver, Mockito.times(3)).onNext(Mockito.any());
+        assertEquals(0, connection.getMetaInfo().getPushQueueSize());
+        assertEquals(0, connection.getMetaInfo().getPushQueueBytes());
+    }
+    
+    @Test
+    void testCoalescePush() throws Exception {
+        Mockito.doReturn(new DefaultEventLoop()).when(channel).eventLoop();
+        Mockito.doReturn(false).when(streamObserver).isReady();
+        AtomicReference<Throwable> superseded = new AtomicReference<>();
+        connection.asyncRequest(newNotifyRequest(null, "a"), new RequestCallBack() {
+            @Override
+            public Executor getExecutor() {
+                return null;
+            }
+            
+            @Override
+            public long getTimeout() {
+                return 3000L;
+            }
+            
+            @Override
+            public void onResponse(Response response) {
+            }
+            
+            @Override
+            public void onException(Throwable e) {
+                superseded.set(e);
+            }
+        });
+        connection.asyncRequest(newNotifyRequest(null, "a"), null);
+        
+        assertTrue(superseded.get() instanceof RequestSupersededException);
+        assertEquals(1, connection.getMetaInfo().getPushQueueSize());
+        assertEquals(1, connection.getMetaInfo().getPushCoalescedCount());
+    }
+    
+    private NotifySubscriberRequest newNotifyRequest(String requestId, String serviceName) {
+        NotifySubscriberRequest request = NotifySubscriberRequest.buildNotifySubscriberRequest(
+                new ServiceInfo(serviceName, "DEFAULT_GROUP"));
+        request.setRequestId(requestId);
+        return request;
     }
     
     @Test
@@ -215,4 +291,39 @@ class GrpcConnectionTest {
         Mockito.verify(channel, Mockito.times(1)).close();
         
     }
+    
+    @Test
+    void testCompressIfNecessary() {
+        PayloadRegistry.init();
+        NotifySubscriberRequest request = new NotifySubscriberRequest();
+        request.setRequestId("1");
+        Payload payload = GrpcUtils.convert(request);
+        assertSame(payload, connection.compressIfNecessary(payload));
+        
+        int size = payload.getBody().getValue().size();
+        connection.setPayloadCompressor(PayloadCodecManager.getCompressor(GzipPayloadCompressor.NAME), size + 1);
+        assertSame(payload, connection.compressIfNecessary(payload));
+        
+        connection.setPayloadCompressor(PayloadCodecManager.getCompressor(GzipPayloadCompressor.NAME), size);
+        Payload compressed = connection.compressIfNecessary(payload);
+        assertEquals("json+gzip", compressed.getBody().getTypeUrl());
+        assertEquals("1", ((NotifySubscriberRequest) GrpcUtils.parse(compressed)).getRequestId());
+    }
+    
+    @Test
+    void testParseCompressedPayload() {
+        PayloadRegistry.init();
+        NotifySubscriberRequest request = new NotifySubscriberRequest();
+        request.setRequestId("1");
+        Payload payload = GrpcUtils.convert(request);
+        Payload compressed = GrpcUtils.compress(payload,
+                PayloadCodecManager.getCompressor(GzipPayloadCompressor.NAME));
+        assertEquals("1", ((NotifySubscriberRequest) connection.parse(payload)).getRequestId());
+        assertThrows(RemoteException.class, () -> connection.parse(compressed));
+        
+        connection.setPayloadCompressor(PayloadCodecManager.getCompressor(GzipPayloadCompressor.NAME), -1);
+        assertEquals("1", ((NotifySubscriberRequest) connection.parse(compressed)).getRequestId());
+        connection.setMaxDecompressedSize(payload.getBody().getValue().size() - 1);
+        assertThrows(NacosRuntimeException.class, () -> connection.parse(compressed));
+    }
 }
@@ -0,0 +1,115 @@
+/*
+ * Copyright 1999-2025 Alibaba Group Holding Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.alibaba.nacos.core.remote.grpc;
+
+import com.alibaba.nacos.api.config.remote.request.ConfigChangeNotifyRequest;
+import com.alibaba.nacos.api.grpc.auto.Payload;
+import com.alibaba.nacos.api.naming.pojo.ServiceInfo;
+import com.alibaba.nacos.api.naming.remote.request.NotifySubscriberRequest;
+import com.alibaba.nacos.api.remote.request.SetupAckRequest;
+import com.alibaba.nacos.common.remote.PayloadRegistry;
+import com.alibaba.nacos.common.remote.client.grpc.GrpcUtils;
+import com.alibaba.nacos.common.remote.exception.ConnectionBusyException;
+import com.alibaba.nacos.core.remote.SharedPayloadRequest;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class GrpcPushQueueTest {
+    
+    @BeforeAll
+    static void setUpBeforeClass() {
+        PayloadRegistry.init();
+    }
+    
+    @Test
+    void testOfferAndPoll() {
+        GrpcPushQueue queue = new GrpcPushQueue(1024 * 1024);
+        Payload payload1 = newPayload("1", "a");
+        Payload payload2 = newPayload("2", "b");
+        assertNull(queue.offer("a", "1", payload1));
+        assertNull(queue.offer("b", "2", payload2));
+        assertEquals(2, queue.size());
+        assertEquals(payload1.getSerializedSize() + payload2.getSerializedSize(), queue.bytes());
+        
+        GrpcPushQueue.Entry entry = queue.poll();
+        assertEquals("1", entry.getRequestId());
+        assertSame(payload1, entry.getPayload());
+        assertEquals("2", queue.poll().getRequestId());
+        assertNull(queue.poll());
+        assertTrue(queue.isEmpty());
+        assertEquals(0, queue.bytes());
+    }
+    
+    @Test
+    void testCoalesceInPlace() {
+        GrpcPushQueue queue = new GrpcPushQueue(1024 * 1024);
+        queue.offer("a", "1", newPayload("1", "a"));
+        queue.offer("b", "2", newPayload("2", "b"));
+        Payload latest = newPayload("3", "a");
+        assertEquals("1", queue.offer("a", "3", latest));
+        assertEquals(2, queue.size());
+        
+        GrpcPushQueue.Entry entry = queue.poll();
+        assertEquals("3", entry.getRequestId());
+        assertSame(latest, entry.getPayload());
+        // the key is released after poll, so the next push with the same key is queued again.
+        assertNull(queue.offer("a", "4", newPayload("4", "a")));
+        assertEquals(2, queue.size());
+    }
+    
+    @Test
+    void testCapacity() {
+        Payload payload = newPayload("1", "a");
+        GrpcPushQueue queue = new GrpcPushQueue(payload.getSerializedSize());
+        queue.offer(null, "1", payload);
+        assertThrows(ConnectionBusyException.class, () -> queue.offer(null, "2", newPayload("2", "b")));
+        assertEquals(1, queue.size());
+        
+        queue.setCapacityBytes(1024 * 1024);
+        queue.offer(null, "2", newPayload("2", "b"));
+        assertEquals(2, queue.clear());
+        assertTrue(queue.isEmpty());
+        assertEquals(0, queue.bytes());
+    }
+    
+    @Test
+    void testCoalesceKey() {
+        NotifySubscriberRequest notifyRequest = NotifySubscriberRequest.buildNotifySubscriberRequest(
+                new ServiceInfo("a", "DEFAULT_GROUP"));
+        String expected = "NotifySubscriberRequest@" + notifyRequest.getServiceInfo().getKey();
+        assertEquals(expected, GrpcPushQueue.coalesceKey(notifyRequest));
+        assertEquals(expected, GrpcPushQueue.coalesceKey(SharedPayloadRequest.of(notifyRequest)));
+        assertNull(GrpcPushQueue.coalesceKey(new NotifySubscriberRequest()));
+        
+        ConfigChangeNotifyRequest configRequest = ConfigChangeNotifyRequest.build("dataId", "group", "tenant");
+        assertEquals("ConfigChangeNotifyRequest@dataId+group+tenant", GrpcPushQueue.coalesceKey(configRequest));
+        assertNull(GrpcPushQueue.coalesceKey(new SetupAckRequest()));
+    }
+    
+    private Payload newPayload(String requestId, String serviceName) {
+        NotifySubscriberRequest request = NotifySubscriberRequest.buildNotifySubscriberRequest(
+                new ServiceInfo(serviceName, "DEFAULT_GROUP"));
+        request.setRequestId(requestId);
+        return GrpcUtils.convert(request);
+    }
+}
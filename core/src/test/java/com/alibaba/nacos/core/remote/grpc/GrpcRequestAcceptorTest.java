@@ -17,6 +17,7 @@
 
 package com.alibaba.nacos.core.remote.grpc;
 
+import com.alibaba.nacos.api.config.remote.response.ConfigQueryResponse;
 import com.alibaba.nacos.api.exception.NacosException;
 import com.alibaba.nacos.api.grpc.auto.Payload;
 import com.alibaba.nacos.api.grpc.auto.RequestGrpc;
@@ -30,9 +31,12 @@ import com.alibaba.nacos.api.remote.response.Response;
 import com.alibaba.nacos.api.remote.response.ServerCheckResponse;
 import com.alibaba.nacos.common.remote.PayloadRegistry;
 import com.alibaba.nacos.common.remote.client.grpc.GrpcUtils;
+import com.alibaba.nacos.common.remote.codec.GzipPayloadCompressor;
+import com.alibaba.nacos.common.remote.codec.PayloadCodecManager;
 import com.alibaba.nacos.core.remote.Connection;
 import com.alibaba.nacos.core.remote.ConnectionManager;
 import com.alibaba.nacos.core.remote.ConnectionMeta;
+import com.alibaba.nacos.core.remote.RequestConcurrencyLimiter;
 import com.alibaba.nacos.core.remote.RequestHandler;
 import com.alibaba.nacos.core.remote.RequestHandlerRegistry;
 import com.alibaba.nacos.sys.utils.ApplicationUtils;
@@ -61,6 +65,7 @@ import java.time.Duration;
 import java.util.HashMap;
 import java.util.UUID;
 
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.junit.jupiter.api.Assertions.fail;
@@ -163,6 +168,9 @@ public class GrpcRequestAcceptorTest {
                 System.out.println("Receive data from server: " + payload);
                 Object res = GrpcUtils.parse(payload);
                 assertTrue(res instanceof ServerCheckResponse);
+                assertEquals(PayloadCodecManager.getSupportedCodecs(), ((ServerCheckResponse) res).getPayloadCodecs());
+                assertEquals(PayloadCodecManager.getSupportedCompressors(),
+                        ((ServerCheckResponse) res).getPayloadCompressors());
             }
             
             @Override
@@ -364,13 +372,55 @@ public class GrpcRequestAcceptorTest {
         ApplicationUtils.setStarted(false);
     }
     
+    @Test
+    void testCompressedConfigContentNotCompressedAgain() {
+        ApplicationUtils.setStarted(true);
+        Mockito.when(requestHandlerRegistry.getByRequestType(Mockito.anyString()))
+                .thenReturn(new MockCompressedConfigHandler());
+        Mockito.when(connectionManager.checkValid(Mockito.any())).thenReturn(true);
+        String ip = "1.1.1.1";
+        ConnectionMeta connectionMeta = new ConnectionMeta(connectId, ip, ip, 8888, 9848, "GRPC", "", "", new HashMap<>());
+        GrpcConnection connection = new GrpcConnection(connectionMeta, null, null);
+        connection.setPayloadCompressor(PayloadCodecManager.getCompressor(GzipPayloadCompressor.NAME), 0);
+        Mockito.when(connectionManager.getConnection(Mockito.any())).thenReturn(connection);
+        
+        RequestMeta metadata = new RequestMeta();
+        metadata.setClientIp("127.0.0.1");
+        metadata.setConnectionId(connectId);
+        Payload payload = GrpcUtils.convert(new HealthCheckRequest(), metadata);
+        
+        StreamObserver<Payload> streamObserver = new StreamObserver<Payload>() {
+            @Override
+            public void onNext(Payload payload) {
+                assertEquals("", payload.getBody().getTypeUrl());
+                Object res = GrpcUtils.parse(payload);
+                assertTrue(res instanceof ConfigQueryResponse);
+                assertArrayEquals(new byte[] {1, 2, 3}, ((ConfigQueryResponse) res).getCompressedContent());
+            }
+            
+            @Override
+            public void onError(Throwable throwable) {
+                fail(throwable.getMessage());
+            }
+            
+            @Override
+            public void onCompleted() {
+                System.out.println("complete");
+            }
+        };
+        
+        streamStub.request(payload, streamObserver);
+        ApplicationUtils.setStarted(false);
+    }
+    
     /**
      * add this Handler just for test.
      */
     class MockRequestHandler extends RequestHandler<HealthCheckRequest, HealthCheckResponse> {
         
         @Override
-        public Response handleRequest(HealthCheckRequest request, RequestMeta meta) throws NacosException {
+        public Response handleRequest(HealthCheckRequest request, RequestMeta meta, RequestConcurrencyLimiter limiter)
+                throws NacosException {
             return handle(request, meta);
         }
         
@@ -380,4 +430,20 @@ public class GrpcRequestAcceptorTest {
             return new HealthCheckResponse();
         }
     }
+    
+    class MockCompressedConfigHandler extends RequestHandler<HealthCheckRequest, ConfigQueryResponse> {
+        
+        @Override
+        public Response handleRequest(HealthCheckRequest request, RequestMeta meta, RequestConcurrencyLimiter limiter)
+                throws NacosException {
+            return handle(request, meta);
+        }
+        
+        @Override
+        public ConfigQueryResponse handle(HealthCheckRequest request, RequestMeta meta) throws NacosException {
+            ConfigQueryResponse response = new ConfigQueryResponse();
+            response.setCompressedContent(new byte[] {1, 2, 3});
+            return response;
+        }
+    }
 }
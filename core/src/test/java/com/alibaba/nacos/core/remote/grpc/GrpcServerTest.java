@@ -42,6 +42,7 @@ import java.lang.reflect.Field;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.isNull;
 
 /**
  * {@link GrpcSdkServer} and {@link GrpcClusterServer} unit test.
@@ -115,7 +116,7 @@ class GrpcServerTest {
         Mockito.when(mock.checkSourceInvokeAllowed(ConfigChangeClusterSyncRequest.class.getSimpleName(),
                 grpcSdkServer.getSource())).thenReturn(true);
         grpcSdkServer.handleCommonRequest(convert, streamObserverMock);
-        Mockito.verify(mockAcceptor, Mockito.times(1)).request(eq(convert), eq(streamObserverMock));
+        Mockito.verify(mockAcceptor, Mockito.times(1)).request(eq(convert), eq(streamObserverMock), isNull());
         
     }
 }
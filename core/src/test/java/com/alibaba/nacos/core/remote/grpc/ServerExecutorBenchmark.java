@@ -0,0 +1,149 @@
+/*
+ * Copyright 1999-2025 Alibaba Group Holding Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.alibaba.nacos.core.remote.grpc;
+
+import com.alibaba.nacos.api.remote.request.HealthCheckRequest;
+import com.alibaba.nacos.api.remote.request.Request;
+import com.alibaba.nacos.api.remote.request.RequestMeta;
+import com.alibaba.nacos.api.remote.request.ServerCheckRequest;
+import com.alibaba.nacos.api.remote.response.HealthCheckResponse;
+import com.alibaba.nacos.api.remote.response.Response;
+import com.alibaba.nacos.common.executor.VirtualThreadSupport;
+import com.alibaba.nacos.core.remote.RequestConcurrencyLimiter;
+import com.alibaba.nacos.core.remote.RequestFilters;
+import com.alibaba.nacos.core.remote.RequestHandler;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.Arrays;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * Latency benchmark of the grpc server executors under blocking request handlers.
+ *
+ * <p>It is a plain harness instead of a unit test, run it with {@code main} on JDK 21+ to compare the rpc executor
+ * with the virtual thread executor, for example {@code ServerExecutorBenchmark 20000 50 64}. Half of the requests
+ * block in the handler and arrive faster than the pool can handle them, the other half return at once. The p50 and p99
+ * latency from arrival to response of both request types are reported.
+ *
+ * @author Nacos
+ */
+public class ServerExecutorBenchmark {
+    
+    private static final long PERMIT_TIMEOUT_MILLIS = 3000L;
+    
+    /**
+     * Run the benchmark.
+     *
+     * @param args optional request count, handler blocking millis and pool size.
+     */
+    public static void main(String[] args) throws Exception {
+        int requests = args.length > 0 ? Integer.parseInt(args[0]) : 20000;
+        long blockMillis = args.length > 1 ? Long.parseLong(args[1]) : 50L;
+        int poolSize = args.length > 2 ? Integer.parseInt(args[2]) : Runtime.getRuntime().availableProcessors() << 4;
+        // the blocking requests arrive at 1.5 times of the pool capacity.
+        long intervalNanos = TimeUnit.MILLISECONDS.toNanos(blockMillis) / poolSize / 3;
+        System.out.printf("requests=%d, block=%dms, pool=%d, arrival interval=%dus%n", requests, blockMillis,
+                poolSize, TimeUnit.NANOSECONDS.toMicros(intervalNanos));
+        System.out.printf("%-8s %-20s %10s %10s %10s%n", "mode", "request", "p50 ms", "p99 ms", "rejected");
+        ThreadPoolExecutor pool = new ThreadPoolExecutor(poolSize, poolSize, 60L, TimeUnit.SECONDS,
+                new LinkedBlockingQueue<>());
+        run("pool", pool, null, requests, blockMillis, intervalNanos);
+        pool.shutdownNow();
+        if (!VirtualThreadSupport.isSupported()) {
+            System.out.println("Virtual thread executor requires JDK 21+, current is "
+                    + System.getProperty("java.version"));
+            return;
+        }
+        ExecutorService virtual = VirtualThreadSupport.newThreadPerTaskExecutor("benchmark-virtual-");
+        run("virtual", virtual, new RequestConcurrencyLimiter("benchmark", poolSize, PERMIT_TIMEOUT_MILLIS),
+                requests, blockMillis, intervalNanos);
+        virtual.shutdownNow();
+    }
+    
+    private static void run(String mode, ExecutorService executor, RequestConcurrencyLimiter limiter, int requests,
+            long blockMillis, long intervalNanos) throws InterruptedException {
+        SleepingHandler handler = new SleepingHandler(blockMillis);
+        ReflectionTestUtils.setField(handler, "requestFilters", new RequestFilters());
+        long[] blockingLatency = new long[requests / 2];
+        long[] fastLatency = new long[requests - blockingLatency.length];
+        AtomicInteger blockingRejected = new AtomicInteger();
+        AtomicInteger fastRejected = new AtomicInteger();
+        CountDownLatch finished = new CountDownLatch(requests);
+        long start = System.nanoTime();
+        for (int i = 0; i < requests; i++) {
+            long arrival = start + i * intervalNanos;
+            LockSupport.parkNanos(arrival - System.nanoTime());
+            boolean blocking = (i & 1) == 0;
+            Request request = blocking ? new ServerCheckRequest() : new HealthCheckRequest();
+            long[] latency = blocking ? blockingLatency : fastLatency;
+            AtomicInteger rejected = blocking ? blockingRejected : fastRejected;
+            int index = i >> 1;
+            executor.execute(() -> {
+                try {
+                    if (!handler.handleRequest(request, null, limiter).isSuccess()) {
+                        rejected.incrementAndGet();
+                    }
+                } catch (Exception e) {
+                    rejected.incrementAndGet();
+                }
+                latency[index] = System.nanoTime() - arrival;
+                finished.countDown();
+            });
+        }
+        finished.await();
+        print(mode, "blocking", blockingLatency, blockingRejected.get());
+        print(mode, "fast", fastLatency, fastRejected.get());
+    }
+    
+    private static void print(String mode, String request, long[] latency, int rejected) {
+        Arrays.sort(latency);
+        System.out.printf("%-8s %-20s %10.2f %10.2f %10d%n", mode, request, percentile(latency, 0.5D),
+                percentile(latency, 0.99D), rejected);
+    }
+    
+    private static double percentile(long[] sortedLatency, double percentile) {
+        int index = (int) Math.ceil(percentile * sortedLatency.length) - 1;
+        return sortedLatency[Math.max(index, 0)] / 1000000D;
+    }
+    
+    private static class SleepingHandler extends RequestHandler<Request, Response> {
+        
+        private final long blockMillis;
+        
+        private SleepingHandler(long blockMillis) {
+            this.blockMillis = blockMillis;
+        }
+        
+        @Override
+        public Response handle(Request request, RequestMeta meta) {
+            if (request instanceof ServerCheckRequest) {
+                try {
+                    Thread.sleep(blockMillis);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+            }
+            return new HealthCheckResponse();
+        }
+    }
+}
@@ -19,6 +19,7 @@ package com.alibaba.nacos.naming.cluster;
 import com.alibaba.nacos.common.utils.StringUtils;
 import com.alibaba.nacos.core.distributed.ProtocolManager;
 import com.alibaba.nacos.core.distributed.distro.DistroProtocol;
+import com.alibaba.nacos.naming.consistency.ephemeral.distro.v2.DistroClientDataProcessor;
 import com.alibaba.nacos.naming.misc.GlobalConfig;
 import com.alibaba.nacos.naming.misc.GlobalExecutor;
 import com.alibaba.nacos.naming.misc.SwitchDomain;
@@ -80,7 +81,15 @@ public class ServerStatusManager {
         if (!protocolManager.isCpInit() || protocolManager.getCpProtocol() == null) {
             return false;
         }
-        return protocolManager.getCpProtocol().isReady() && distroProtocol.isInitialized();
+        return protocolManager.getCpProtocol().isReady() && isDistroInitialized();
+    }
+    
+    /**
+     * Naming only reads the ephemeral client data from distro, so it is ready to serve once this type is loaded, which
+     * might be earlier than the whole distro protocol.
+     */
+    private boolean isDistroInitialized() {
+        return distroProtocol.isInitialized(DistroClientDataProcessor.TYPE);
     }
     
     public ServerStatus getServerStatus() {
@@ -91,7 +100,7 @@ public class ServerStatusManager {
         if (isReady()) {
             return Optional.empty();
         }
-        if (!distroProtocol.isInitialized()) {
+        if (!isDistroInitialized()) {
             return Optional.of(
                     "Distro snapshot load failed, please see logs `protocol-distro.log` or `naming-distro.log` to see details.");
         }
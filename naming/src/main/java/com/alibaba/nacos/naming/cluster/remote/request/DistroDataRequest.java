@@ -31,6 +31,16 @@ public class DistroDataRequest extends AbstractClusterRequest {
     
     private DataOperation dataOperation;
     
+    /**
+     * Index of snapshot chunk, only used by {@link DataOperation#SNAPSHOT}.
+     */
+    private int chunkIndex;
+    
+    /**
+     * Count of snapshot chunks, only used by {@link DataOperation#SNAPSHOT}, {@code 0} means full snapshot.
+     */
+    private int chunkCount;
+    
     public DistroDataRequest() {
     }
     
@@ -54,4 +64,20 @@ public class DistroDataRequest extends AbstractClusterRequest {
     public void setDataOperation(DataOperation dataOperation) {
         this.dataOperation = dataOperation;
     }
+    
+    public int getChunkIndex() {
+        return chunkIndex;
+    }
+    
+    public void setChunkIndex(int chunkIndex) {
+        this.chunkIndex = chunkIndex;
+    }
+    
+    public int getChunkCount() {
+        return chunkCount;
+    }
+    
+    public void setChunkCount(int chunkCount) {
+        this.chunkCount = chunkCount;
+    }
 }
@@ -35,6 +35,8 @@ public class RequestRegistry {
         HashSet<Class<? extends Payload>> payloads = new HashSet<>();
         payloads.add(AbstractClusterRequest.class);
         payloads.add(DistroDataRequest.class);
+        payloads.add(DistroBatchDataRequest.class);
+        payloads.add(DistroVerifyDigestRequest.class);
         return payloads;
     }
     
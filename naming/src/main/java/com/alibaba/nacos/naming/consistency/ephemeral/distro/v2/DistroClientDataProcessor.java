@@ -20,6 +20,9 @@ import com.alibaba.nacos.common.notify.Event;
 import com.alibaba.nacos.common.notify.NotifyCenter;
 import com.alibaba.nacos.common.notify.listener.SmartSubscriber;
 import com.alibaba.nacos.consistency.DataOperation;
+import com.alibaba.nacos.core.cluster.MemberChangeListener;
+import com.alibaba.nacos.core.cluster.MemberUtil;
+import com.alibaba.nacos.core.cluster.MembersChangeEvent;
 import com.alibaba.nacos.core.distributed.distro.DistroProtocol;
 import com.alibaba.nacos.core.distributed.distro.component.DistroDataProcessor;
 import com.alibaba.nacos.core.distributed.distro.component.DistroDataStorage;
@@ -63,12 +66,15 @@ public class DistroClientDataProcessor extends SmartSubscriber implements Distro
     
     private final DistroProtocol distroProtocol;
     
+    private final DistroClientVerifyIndex verifyIndex = new DistroClientVerifyIndex();
+    
     private volatile boolean isFinishInitial;
     
     public DistroClientDataProcessor(ClientManager clientManager, DistroProtocol distroProtocol) {
         this.clientManager = clientManager;
         this.distroProtocol = distroProtocol;
         NotifyCenter.registerSubscriber(this, NamingEventPublisherFactory.getInstance());
+        NotifyCenter.registerSubscriber(new VerifyIndexMemberChangeListener());
     }
     
     @Override
@@ -138,11 +144,14 @@ public class DistroClientDataProcessor extends SmartSubscriber implements Distro
     
     @Override
     public boolean processData(DistroData distroData) {
+        return processData(distroData, ApplicationUtils.getBean(Serializer.class));
+    }
+    
+    private boolean processData(DistroData distroData, Serializer serializer) {
         switch (distroData.getType()) {
             case ADD:
             case CHANGE:
-                ClientSyncData clientSyncData = ApplicationUtils.getBean(Serializer.class)
-                        .deserialize(distroData.getContent(), ClientSyncData.class);
+                ClientSyncData clientSyncData = serializer.deserialize(distroData.getContent(), ClientSyncData.class);
                 handlerClientSyncData(clientSyncData);
                 return true;
             case DELETE:
@@ -155,6 +164,22 @@ public class DistroClientDataProcessor extends SmartSubscriber implements Distro
         }
     }
     
+    @Override
+    public boolean processBatchData(List<DistroData> distroDataList) {
+        Serializer serializer = ApplicationUtils.getBean(Serializer.class);
+        boolean result = true;
+        for (DistroData each : distroDataList) {
+            try {
+                result &= processData(each, serializer);
+            } catch (Exception e) {
+                Loggers.DISTRO.error("[DISTRO-FAILED] Process distro batch data failed, key: {}", each.getDistroKey(),
+                        e);
+                result = false;
+            }
+        }
+        return result;
+    }
+    
     private void handlerClientSyncData(ClientSyncData clientSyncData) {
         Loggers.DISTRO
                 .info("[Client-Add] Received distro client sync data {}, revision={}", clientSyncData.getClientId(),
@@ -228,12 +253,31 @@ public class DistroClientDataProcessor extends SmartSubscriber implements Distro
         DistroClientVerifyInfo verifyData = ApplicationUtils.getBean(Serializer.class)
                 .deserialize(distroData.getContent(), DistroClientVerifyInfo.class);
         if (clientManager.verifyClient(verifyData)) {
+            verifyIndex.record(getSourceServer(distroData, sourceAddress), verifyData.getClientId(),
+                    verifyData.getRevision());
             return true;
         }
         Loggers.DISTRO.info("client {} is invalid, get new client from {}", verifyData.getClientId(), sourceAddress);
         return false;
     }
     
+    @Override
+    public DistroData processVerifyDigest(DistroData distroData, String sourceAddress) {
+        DistroClientVerifyDigest remoteDigest = ApplicationUtils.getBean(Serializer.class)
+                .deserialize(distroData.getContent(), DistroClientVerifyDigest.class);
+        DistroClientVerifyDigest localDigest = verifyIndex
+                .compareAndRenew(getSourceServer(distroData, sourceAddress), remoteDigest, clientManager);
+        DistroData result = new DistroData(new DistroKey(DistroClientVerifyDigest.class.getSimpleName(), TYPE),
+                ApplicationUtils.getBean(Serializer.class).serialize(localDigest));
+        result.setType(DataOperation.VERIFY);
+        return result;
+    }
+    
+    private String getSourceServer(DistroData distroData, String sourceAddress) {
+        String result = distroData.getDistroKey().getTargetServer();
+        return null == result ? sourceAddress : result;
+    }
+    
     @Override
     public boolean processSnapshot(DistroData distroData) {
         ClientSyncDatumSnapshot snapshot = ApplicationUtils.getBean(Serializer.class)
@@ -256,8 +300,23 @@ public class DistroClientDataProcessor extends SmartSubscriber implements Distro
     
     @Override
     public DistroData getDatumSnapshot() {
+        return new DistroData(new DistroKey(DataOperation.SNAPSHOT.name(), TYPE), generateSnapshot(0, 1));
+    }
+    
+    @Override
+    public DistroData getDatumSnapshot(int chunkIndex, int chunkCount) {
+        DistroData result = new DistroData(new DistroKey(DataOperation.SNAPSHOT.name(), TYPE),
+                generateSnapshot(chunkIndex, chunkCount));
+        result.setType(DataOperation.SNAPSHOT);
+        return result;
+    }
+    
+    private byte[] generateSnapshot(int chunkIndex, int chunkCount) {
         List<ClientSyncData> datum = new LinkedList<>();
         for (String each : clientManager.allClientId()) {
+            if (chunkCount > 1 && (each.hashCode() & Integer.MAX_VALUE) % chunkCount != chunkIndex) {
+                continue;
+            }
             Client client = clientManager.getClient(each);
             if (null == client || !client.isEphemeral()) {
                 continue;
@@ -266,18 +325,38 @@ public class DistroClientDataProcessor extends SmartSubscriber implements Distro
         }
         ClientSyncDatumSnapshot snapshot = new ClientSyncDatumSnapshot();
         snapshot.setClientSyncDataList(datum);
-        byte[] data = ApplicationUtils.getBean(Serializer.class).serialize(snapshot);
-        return new DistroData(new DistroKey(DataOperation.SNAPSHOT.name(), TYPE), data);
+        return ApplicationUtils.getBean(Serializer.class).serialize(snapshot);
     }
     
     @Override
     public List<DistroData> getVerifyData() {
+        return getVerifyData(null, 0);
+    }
+    
+    @Override
+    public List<DistroData> getVerifyData(DistroData localDigest, DistroData remoteDigest) {
+        Serializer serializer = ApplicationUtils.getBean(Serializer.class);
+        DistroClientVerifyDigest local = serializer.deserialize(localDigest.getContent(),
+                DistroClientVerifyDigest.class);
+        DistroClientVerifyDigest remote = serializer.deserialize(remoteDigest.getContent(),
+                DistroClientVerifyDigest.class);
+        Set<Integer> mismatchedBuckets = local.mismatchedBuckets(remote);
+        if (mismatchedBuckets.isEmpty()) {
+            return null;
+        }
+        return getVerifyData(mismatchedBuckets, local.getBucketCount());
+    }
+    
+    private List<DistroData> getVerifyData(Set<Integer> buckets, int bucketCount) {
         List<DistroData> result = null;
         for (String each : clientManager.allClientId()) {
             Client client = clientManager.getClient(each);
             if (null == client || !client.isEphemeral()) {
                 continue;
             }
+            if (null != buckets && !buckets.contains(DistroClientVerifyDigest.bucketOf(each, bucketCount))) {
+                continue;
+            }
             if (clientManager.isResponsibleClient(client)) {
                 DistroClientVerifyInfo verifyData = new DistroClientVerifyInfo(client.getClientId(),
                         client.getRevision());
@@ -293,4 +372,30 @@ public class DistroClientDataProcessor extends SmartSubscriber implements Distro
         }
         return result;
     }
+    
+    @Override
+    public DistroData getVerifyDigest() {
+        DistroClientVerifyDigest digest = new DistroClientVerifyDigest(DistroClientVerifyDigest.DEFAULT_BUCKET_COUNT);
+        for (String each : clientManager.allClientId()) {
+            Client client = clientManager.getClient(each);
+            if (null != client && client.isEphemeral() && clientManager.isResponsibleClient(client)) {
+                digest.add(client.getClientId(), client.getRevision());
+            }
+        }
+        DistroData result = new DistroData(new DistroKey(DistroClientVerifyDigest.class.getSimpleName(), TYPE),
+                ApplicationUtils.getBean(Serializer.class).serialize(digest));
+        result.setType(DataOperation.VERIFY);
+        return result;
+    }
+    
+    /**
+     * Drop the verified records of servers which left the cluster, they are only pruned by digest otherwise.
+     */
+    private class VerifyIndexMemberChangeListener extends MemberChangeListener {
+        
+        @Override
+        public void onEvent(MembersChangeEvent event) {
+            verifyIndex.retainServers(MemberUtil.simpleMembers(event.getMembers()));
+        }
+    }
 }
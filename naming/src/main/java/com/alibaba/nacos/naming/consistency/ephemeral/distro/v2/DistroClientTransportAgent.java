@@ -29,17 +29,26 @@ import com.alibaba.nacos.core.cluster.remote.ClusterRpcClientProxy;
 import com.alibaba.nacos.core.distributed.distro.DistroConfig;
 import com.alibaba.nacos.core.distributed.distro.component.DistroCallback;
 import com.alibaba.nacos.core.distributed.distro.component.DistroTransportAgent;
+import com.alibaba.nacos.core.distributed.distro.component.DistroVerifyDigestCallback;
 import com.alibaba.nacos.core.distributed.distro.entity.DistroData;
 import com.alibaba.nacos.core.distributed.distro.entity.DistroKey;
 import com.alibaba.nacos.core.distributed.distro.exception.DistroException;
+import com.alibaba.nacos.naming.cluster.remote.request.DistroBatchDataRequest;
 import com.alibaba.nacos.naming.cluster.remote.request.DistroDataRequest;
+import com.alibaba.nacos.naming.cluster.remote.request.DistroVerifyDigestRequest;
 import com.alibaba.nacos.naming.cluster.remote.response.DistroDataResponse;
 import com.alibaba.nacos.naming.core.v2.event.client.ClientEvent;
 import com.alibaba.nacos.naming.misc.GlobalExecutor;
 import com.alibaba.nacos.naming.misc.Loggers;
 import com.alibaba.nacos.naming.monitor.NamingTpsMonitor;
 
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.Executor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
 
 /**
  * Distro transport agent for v2.
@@ -48,6 +57,15 @@ import java.util.concurrent.Executor;
  */
 public class DistroClientTransportAgent implements DistroTransportAgent {
     
+    /**
+     * Old version servers without batch or digest handler will be synced or verified one by one during this period.
+     */
+    private static final long UNSUPPORTED_EXPIRE_MILLIS = TimeUnit.MINUTES.toMillis(5);
+    
+    private final Map<String, Long> batchUnsupportedTargets = new ConcurrentHashMap<>();
+    
+    private final Map<String, Long> digestUnsupportedTargets = new ConcurrentHashMap<>();
+    
     private final ClusterRpcClientProxy clusterRpcClientProxy;
     
     private final ServerMemberManager memberManager;
@@ -107,6 +125,86 @@ public class DistroClientTransportAgent implements DistroTransportAgent {
         }
     }
     
+    @Override
+    public boolean supportBatchTransport() {
+        return true;
+    }
+    
+    @Override
+    public void syncBatchData(List<DistroData> data, String targetServer, DistroCallback callback) {
+        if (isNoExistTarget(targetServer)) {
+            callback.onSuccess();
+            return;
+        }
+        if (isUnsupported(batchUnsupportedTargets, targetServer)) {
+            syncDataOneByOne(data, targetServer, callback);
+            return;
+        }
+        Member member = memberManager.find(targetServer);
+        if (checkTargetServerStatusUnhealthy(member)) {
+            Loggers.DISTRO.warn("[DISTRO] Cancel distro batch sync caused by target server {} unhealthy, size: {}",
+                    targetServer, data.size());
+            callback.onFailed(null);
+            return;
+        }
+        DistroBatchDataRequest request = new DistroBatchDataRequest(data);
+        try {
+            clusterRpcClientProxy.asyncRequest(member, request,
+                    new DistroBatchRpcCallbackWrapper(data, targetServer, callback, member));
+        } catch (NacosException nacosException) {
+            callback.onFailed(nacosException);
+        }
+    }
+    
+    private boolean isUnsupported(Map<String, Long> unsupportedTargets, String targetServer) {
+        Long expireTime = unsupportedTargets.get(targetServer);
+        if (null == expireTime) {
+            return false;
+        }
+        if (expireTime < System.currentTimeMillis()) {
+            unsupportedTargets.remove(targetServer, expireTime);
+            return false;
+        }
+        return true;
+    }
+    
+    private boolean isNoHandler(Throwable throwable) {
+        return throwable instanceof NacosException
+                && NacosException.NO_HANDLER == ((NacosException) throwable).getErrCode();
+    }
+    
+    private void syncDataOneByOne(List<DistroData> data, String targetServer, DistroCallback callback) {
+        AtomicInteger remain = new AtomicInteger(data.size());
+        AtomicBoolean failed = new AtomicBoolean(false);
+        DistroCallback eachCallback = new DistroCallback() {
+            
+            @Override
+            public void onSuccess() {
+                finishOne();
+            }
+            
+            @Override
+            public void onFailed(Throwable throwable) {
+                failed.set(true);
+                finishOne();
+            }
+            
+            private void finishOne() {
+                if (remain.decrementAndGet() != 0) {
+                    return;
+                }
+                if (failed.get()) {
+                    callback.onFailed(null);
+                } else {
+                    callback.onSuccess();
+                }
+            }
+        };
+        for (DistroData each : data) {
+            syncData(each, targetServer, eachCallback);
+        }
+    }
+    
     @Override
     public boolean syncVerifyData(DistroData verifyData, String targetServer) {
         if (isNoExistTarget(targetServer)) {
@@ -137,6 +235,8 @@ public class DistroClientTransportAgent implements DistroTransportAgent {
             callback.onSuccess();
             return;
         }
+        // set target server as self server so that target server can index verified data by source.
+        verifyData.getDistroKey().setTargetServer(memberManager.getSelf().getAddress());
         DistroDataRequest request = new DistroDataRequest(verifyData, DataOperation.VERIFY);
         Member member = memberManager.find(targetServer);
         if (checkTargetServerStatusUnhealthy(member)) {
@@ -155,6 +255,38 @@ public class DistroClientTransportAgent implements DistroTransportAgent {
         }
     }
     
+    @Override
+    public boolean supportVerifyDigest() {
+        return true;
+    }
+    
+    @Override
+    public void syncVerifyDigest(DistroData verifyDigest, String targetServer, DistroVerifyDigestCallback callback) {
+        if (isNoExistTarget(targetServer)) {
+            callback.onSuccess(verifyDigest);
+            return;
+        }
+        if (isUnsupported(digestUnsupportedTargets, targetServer)) {
+            callback.onFailed(null);
+            return;
+        }
+        Member member = memberManager.find(targetServer);
+        if (checkTargetServerStatusUnhealthy(member)) {
+            Loggers.DISTRO.warn("[DISTRO] Cancel distro verify digest caused by target server {} unhealthy",
+                    targetServer);
+            callback.onFailed(null);
+            return;
+        }
+        verifyDigest.getDistroKey().setTargetServer(memberManager.getSelf().getAddress());
+        DistroVerifyDigestRequest request = new DistroVerifyDigestRequest(verifyDigest);
+        try {
+            clusterRpcClientProxy.asyncRequest(member, request,
+                    new DistroVerifyDigestCallbackWrapper(targetServer, callback, member));
+        } catch (NacosException nacosException) {
+            callback.onFailed(nacosException);
+        }
+    }
+    
     @Override
     public DistroData getData(DistroKey key, String targetServer) {
         Member member = memberManager.find(targetServer);
@@ -182,6 +314,11 @@ public class DistroClientTransportAgent implements DistroTransportAgent {
         }
     }
     
+    @Override
+    public boolean supportChunkedSnapshot() {
+        return true;
+    }
+    
     @Override
     public DistroData getDatumSnapshot(String targetServer) {
         Member member = memberManager.find(targetServer);
@@ -206,6 +343,32 @@ public class DistroClientTransportAgent implements DistroTransportAgent {
         }
     }
     
+    @Override
+    public DistroData getDatumSnapshot(String targetServer, int chunkIndex, int chunkCount) {
+        Member member = memberManager.find(targetServer);
+        if (checkTargetServerStatusUnhealthy(member)) {
+            throw new DistroException(
+                    String.format("[DISTRO] Cancel get snapshot caused by target server %s unhealthy", targetServer));
+        }
+        DistroDataRequest request = new DistroDataRequest();
+        request.setDataOperation(DataOperation.SNAPSHOT);
+        request.setChunkIndex(chunkIndex);
+        request.setChunkCount(chunkCount);
+        try {
+            Response response = clusterRpcClientProxy
+                    .sendRequest(member, request, DistroConfig.getInstance().getLoadDataTimeoutMillis());
+            if (checkResponse(response)) {
+                return ((DistroDataResponse) response).getDistroData();
+            } else {
+                throw new DistroException(
+                        String.format("[DISTRO-FAILED] Get snapshot chunk request to %s failed, code: %d, message: %s",
+                                targetServer, response.getErrorCode(), response.getMessage()));
+            }
+        } catch (NacosException e) {
+            throw new DistroException("[DISTRO-FAILED] Get distro snapshot chunk failed! ", e);
+        }
+    }
+    
     private boolean isNoExistTarget(String target) {
         return !memberManager.hasMember(target);
     }
@@ -256,6 +419,105 @@ public class DistroClientTransportAgent implements DistroTransportAgent {
         }
     }
     
+    private class DistroBatchRpcCallbackWrapper implements RequestCallBack<Response> {
+        
+        private final List<DistroData> data;
+        
+        private final String targetServer;
+        
+        private final DistroCallback distroCallback;
+        
+        private final Member member;
+        
+        private DistroBatchRpcCallbackWrapper(List<DistroData> data, String targetServer,
+                DistroCallback distroCallback, Member member) {
+            this.data = data;
+            this.targetServer = targetServer;
+            this.distroCallback = distroCallback;
+            this.member = member;
+        }
+        
+        @Override
+        public Executor getExecutor() {
+            return GlobalExecutor.getCallbackExecutor();
+        }
+        
+        @Override
+        public long getTimeout() {
+            return DistroConfig.getInstance().getSyncTimeoutMillis();
+        }
+        
+        @Override
+        public void onResponse(Response response) {
+            if (checkResponse(response)) {
+                NamingTpsMonitor.distroSyncSuccess(member.getAddress(), member.getIp());
+                distroCallback.onSuccess();
+            } else {
+                NamingTpsMonitor.distroSyncFail(member.getAddress(), member.getIp());
+                distroCallback.onFailed(null);
+            }
+        }
+        
+        @Override
+        public void onException(Throwable e) {
+            if (isNoHandler(e)) {
+                Loggers.DISTRO.warn("[DISTRO] Target server {} not support batch sync, sync one by one instead.",
+                        targetServer);
+                batchUnsupportedTargets.put(targetServer, System.currentTimeMillis() + UNSUPPORTED_EXPIRE_MILLIS);
+                syncDataOneByOne(data, targetServer, distroCallback);
+                return;
+            }
+            distroCallback.onFailed(e);
+        }
+    }
+    
+    private class DistroVerifyDigestCallbackWrapper implements RequestCallBack<Response> {
+        
+        private final String targetServer;
+        
+        private final DistroVerifyDigestCallback distroCallback;
+        
+        private final Member member;
+        
+        private DistroVerifyDigestCallbackWrapper(String targetServer, DistroVerifyDigestCallback distroCallback,
+                Member member) {
+            this.targetServer = targetServer;
+            this.distroCallback = distroCallback;
+            this.member = member;
+        }
+        
+        @Override
+        public Executor getExecutor() {
+            return GlobalExecutor.getCallbackExecutor();
+        }
+        
+        @Override
+        public long getTimeout() {
+            return DistroConfig.getInstance().getVerifyTimeoutMillis();
+        }
+        
+        @Override
+        public void onResponse(Response response) {
+            if (checkResponse(response)) {
+                NamingTpsMonitor.distroVerifySuccess(member.getAddress(), member.getIp());
+                distroCallback.onSuccess(((DistroDataResponse) response).getDistroData());
+            } else {
+                NamingTpsMonitor.distroVerifyFail(member.getAddress(), member.getIp());
+                distroCallback.onFailed(null);
+            }
+        }
+        
+        @Override
+        public void onException(Throwable e) {
+            if (isNoHandler(e)) {
+                Loggers.DISTRO.warn("[DISTRO] Target server {} not support verify digest, verify one by one instead.",
+                        targetServer);
+                digestUnsupportedTargets.put(targetServer, System.currentTimeMillis() + UNSUPPORTED_EXPIRE_MILLIS);
+            }
+            distroCallback.onFailed(e);
+        }
+    }
+    
     private class DistroVerifyCallbackWrapper implements RequestCallBack<Response> {
         
         private final String targetServer;
@@ -0,0 +1,142 @@
+/*
+ * Copyright 1999-2025 Alibaba Group Holding Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.alibaba.nacos.naming.consistency.ephemeral.distro.v2;
+
+import java.io.Serializable;
+import java.nio.charset.StandardCharsets;
+import java.util.HashSet;
+import java.util.Set;
+
+/**
+ * Digest for verifying clients.
+ *
+ * <p>Clients are spread into buckets by client id, and each bucket digest is the sum of the hash of client id and
+ * revision for all clients in this bucket. The root digest is the sum of all bucket digests, so two digests can be
+ * compared by root first and then by buckets. Because the digest is order independent, it can be calculated by one
+ * pass without sorting.
+ *
+ * @author Nacos
+ */
+public class DistroClientVerifyDigest implements Serializable {
+    
+    public static final int DEFAULT_BUCKET_COUNT = 512;
+    
+    private static final long serialVersionUID = -2716371339284157853L;
+    
+    private static final long FNV_OFFSET_BASIS = 0xcbf29ce484222325L;
+    
+    private static final long FNV_PRIME = 0x100000001b3L;
+    
+    private long root;
+    
+    private long[] buckets;
+    
+    public DistroClientVerifyDigest() {
+    }
+    
+    public DistroClientVerifyDigest(int bucketCount) {
+        this.buckets = new long[bucketCount];
+    }
+    
+    /**
+     * Add client into digest.
+     *
+     * @param clientId client id
+     * @param revision revision of client
+     */
+    public void add(String clientId, long revision) {
+        long hash = hash(clientId, revision);
+        buckets[bucketOf(clientId, buckets.length)] += hash;
+        root += hash;
+    }
+    
+    /**
+     * Whether the digest is completely matched with other digest.
+     *
+     * @param other other digest
+     * @return {@code true} if matched, otherwise {@code false}
+     */
+    public boolean isMatched(DistroClientVerifyDigest other) {
+        return null != other && root == other.root;
+    }
+    
+    /**
+     * Find buckets which are not matched with other digest.
+     *
+     * @param other other digest
+     * @return index of not matched buckets
+     */
+    public Set<Integer> mismatchedBuckets(DistroClientVerifyDigest other) {
+        Set<Integer> result = new HashSet<>();
+        if (isMatched(other)) {
+            return result;
+        }
+        for (int i = 0; i < buckets.length; i++) {
+            if (null == other || null == other.buckets || other.buckets.length != buckets.length
+                    || buckets[i] != other.buckets[i]) {
+                result.add(i);
+            }
+        }
+        return result;
+    }
+    
+    /**
+     * Calculate bucket index for client.
+     *
+     * @param clientId    client id
+     * @param bucketCount count of buckets
+     * @return bucket index
+     */
+    public static int bucketOf(String clientId, int bucketCount) {
+        return (clientId.hashCode() & Integer.MAX_VALUE) % bucketCount;
+    }
+    
+    private static long hash(String clientId, long revision) {
+        long result = FNV_OFFSET_BASIS;
+        for (byte each : clientId.getBytes(StandardCharsets.UTF_8)) {
+            result ^= each;
+            result *= FNV_PRIME;
+        }
+        result ^= revision;
+        result *= FNV_PRIME;
+        // finalize mix so that near revisions spread to all bits.
+        result ^= result >>> 33;
+        result *= 0xff51afd7ed558ccdL;
+        result ^= result >>> 33;
+        return result;
+    }
+    
+    public long getRoot() {
+        return root;
+    }
+    
+    public void setRoot(long root) {
+        this.root = root;
+    }
+    
+    public long[] getBuckets() {
+        return buckets;
+    }
+    
+    public void setBuckets(long[] buckets) {
+        this.buckets = buckets;
+    }
+    
+    public int getBucketCount() {
+        return null == buckets ? 0 : buckets.length;
+    }
+}
@@ -0,0 +1,114 @@
+/*
+ * Copyright 1999-2025 Alibaba Group Holding Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.alibaba.nacos.naming.consistency.ephemeral.distro.v2;
+
+import com.alibaba.nacos.naming.core.v2.client.Client;
+import com.alibaba.nacos.naming.core.v2.client.manager.ClientManager;
+
+import java.util.Collection;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ * Index of clients which have been verified by other servers.
+ *
+ * <p>For each source server, the id and revision of clients verified successfully are recorded, so that the local
+ * digest of one source server can be calculated without knowing the responsibility of clients. Records of servers
+ * which left the cluster are removed by {@link #retainServers(Collection)}.
+ *
+ * @author Nacos
+ */
+public class DistroClientVerifyIndex {
+    
+    private final ConcurrentMap<String, ConcurrentMap<String, Long>> verifiedClients = new ConcurrentHashMap<>();
+    
+    /**
+     * Record client has been verified by source server.
+     *
+     * @param sourceServer source server address
+     * @param clientId     client id
+     * @param revision     revision of client
+     */
+    public void record(String sourceServer, String clientId, long revision) {
+        verifiedClients.computeIfAbsent(sourceServer, s -> new ConcurrentHashMap<>(16)).put(clientId, revision);
+    }
+    
+    /**
+     * Compare remote digest of source server with local records, and renew the clients in matched buckets.
+     *
+     * <p>The records in not matched buckets will be removed, and they will be recorded again by verifying one by one.
+     *
+     * @param sourceServer  source server address
+     * @param remoteDigest  digest from source server
+     * @param clientManager client manager
+     * @return local digest of source server, buckets will be omitted if all matched
+     */
+    public DistroClientVerifyDigest compareAndRenew(String sourceServer, DistroClientVerifyDigest remoteDigest,
+            ClientManager clientManager) {
+        int bucketCount = remoteDigest.getBucketCount();
+        DistroClientVerifyDigest result = new DistroClientVerifyDigest(bucketCount);
+        ConcurrentMap<String, Long> records = verifiedClients.get(sourceServer);
+        if (null == records || 0 == bucketCount) {
+            return result;
+        }
+        for (Iterator<Map.Entry<String, Long>> iterator = records.entrySet().iterator(); iterator.hasNext(); ) {
+            Map.Entry<String, Long> entry = iterator.next();
+            Client client = clientManager.getClient(entry.getKey());
+            if (null == client || client.getRevision() != entry.getValue()) {
+                iterator.remove();
+                continue;
+            }
+            result.add(entry.getKey(), entry.getValue());
+        }
+        boolean allMatched = result.isMatched(remoteDigest);
+        for (Iterator<Map.Entry<String, Long>> iterator = records.entrySet().iterator(); iterator.hasNext(); ) {
+            Map.Entry<String, Long> entry = iterator.next();
+            int bucket = DistroClientVerifyDigest.bucketOf(entry.getKey(), bucketCount);
+            if (allMatched || result.getBuckets()[bucket] == remoteDigest.getBuckets()[bucket]) {
+                clientManager.verifyClient(new DistroClientVerifyInfo(entry.getKey(), entry.getValue()));
+            } else {
+                iterator.remove();
+            }
+        }
+        if (allMatched) {
+            result.setBuckets(null);
+        }
+        return result;
+    }
+    
+    /**
+     * Remove the records of source servers which are not in the cluster any more.
+     *
+     * @param servers addresses of current cluster members
+     */
+    public void retainServers(Collection<String> servers) {
+        verifiedClients.keySet().retainAll(servers);
+    }
+    
+    /**
+     * Get size of verified clients from source server.
+     *
+     * @param sourceServer source server address
+     * @return size of verified clients
+     */
+    public int size(String sourceServer) {
+        Map<String, Long> records = verifiedClients.get(sourceServer);
+        return null == records ? 0 : records.size();
+    }
+}
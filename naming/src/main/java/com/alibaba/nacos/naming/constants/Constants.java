@@ -65,6 +65,11 @@ public final class Constants {
      */
     public static final String EXPIRE_INSTANCE = "nacos.naming.expireInstance";
     
+    /**
+     * Whether store instances and client indexes in compact mode, default: false.
+     */
+    public static final String COMPACT_STORAGE_ENABLED = "nacos.naming.data.compact.enabled";
+    
     /**
      * UDP max retry times.
      */
@@ -43,4 +43,19 @@ public class PushConstants {
     public static final String PUSH_TASK_RETRY_DELAY = "nacos.naming.push.pushTaskRetryDelay";
     
     public static final long DEFAULT_PUSH_TASK_RETRY_DELAY = 1000L;
+    
+    /**
+     * Whether push only the changed instances to the clients which support incremental naming push.
+     */
+    public static final String PUSH_DELTA_ENABLED = "nacos.naming.push.delta.enabled";
+    
+    public static final boolean DEFAULT_PUSH_DELTA_ENABLED = true;
+    
+    /**
+     * Naming push delay task shard count, tasks of the same service are always merged and processed by the same shard.
+     * Only read when push delay task execute engine created, default is half of the available processors.
+     */
+    public static final String PUSH_TASK_SHARD_COUNT = "nacos.naming.push.pushTaskShardCount";
+    
+    public static final double DEFAULT_PUSH_TASK_SHARD_PROCESSORS_MULTIPLE = 0.5;
 }
@@ -0,0 +1,114 @@
+/*
+ * Copyright 1999-2025 Alibaba Group Holding Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.alibaba.nacos.naming.core.v2.index;
+
+import java.util.Arrays;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Map client id to int handle for compact client indexes.
+ *
+ * <p>Each handle is reference counted by the indexes which contain it, and will be recycled when no index contains it.
+ *
+ * @author Nacos
+ */
+public class ClientIdHandles {
+    
+    private static final int INIT_CAPACITY = 16;
+    
+    private final Map<String, Integer> handles = new ConcurrentHashMap<>();
+    
+    private volatile String[] clientIds = new String[INIT_CAPACITY];
+    
+    private int[] refCounts = new int[INIT_CAPACITY];
+    
+    private int[] freeHandles = new int[INIT_CAPACITY];
+    
+    private int freeCount;
+    
+    private int nextHandle;
+    
+    /**
+     * Acquire the handle of client id and increase its reference count, allocate new handle if absent.
+     *
+     * @param clientId client id
+     * @return handle of client id
+     */
+    public synchronized int acquire(String clientId) {
+        Integer handle = handles.get(clientId);
+        if (null == handle) {
+            handle = allocate(clientId);
+            handles.put(clientId, handle);
+        }
+        refCounts[handle]++;
+        return handle;
+    }
+    
+    /**
+     * Decrease the reference count of handle, and recycle the handle when reference count is zero.
+     *
+     * @param handle handle of client id
+     */
+    public synchronized void release(int handle) {
+        if (--refCounts[handle] > 0) {
+            return;
+        }
+        handles.remove(clientIds[handle]);
+        clientIds[handle] = null;
+        if (freeCount == freeHandles.length) {
+            freeHandles = Arrays.copyOf(freeHandles, freeCount << 1);
+        }
+        freeHandles[freeCount++] = handle;
+    }
+    
+    /**
+     * Find the handle of client id.
+     *
+     * @param clientId client id
+     * @return handle of client id, {@code -1} if not found
+     */
+    public int find(String clientId) {
+        Integer handle = handles.get(clientId);
+        return null == handle ? -1 : handle;
+    }
+    
+    /**
+     * Get client id of handle. Caller should make sure the handle is referenced during calling.
+     *
+     * @param handle handle of client id
+     * @return client id
+     */
+    public String getClientId(int handle) {
+        return clientIds[handle];
+    }
+    
+    public int size() {
+        return handles.size();
+    }
+    
+    private int allocate(String clientId) {
+        int handle = freeCount > 0 ? freeHandles[--freeCount] : nextHandle++;
+        if (handle >= clientIds.length) {
+            int newCapacity = clientIds.length << 1;
+            refCounts = Arrays.copyOf(refCounts, newCapacity);
+            clientIds = Arrays.copyOf(clientIds, newCapacity);
+        }
+        clientIds[handle] = clientId;
+        return handle;
+    }
+}
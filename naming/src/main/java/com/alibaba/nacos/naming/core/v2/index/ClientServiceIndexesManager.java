@@ -28,6 +28,7 @@ import com.alibaba.nacos.naming.core.v2.event.publisher.NamingEventPublisherFact
 import com.alibaba.nacos.naming.core.v2.event.service.ServiceEvent;
 import com.alibaba.nacos.naming.core.v2.pojo.InstancePublishInfo;
 import com.alibaba.nacos.naming.core.v2.pojo.Service;
+import com.alibaba.nacos.naming.misc.GlobalConfig;
 import org.springframework.stereotype.Component;
 
 import java.util.Collection;
@@ -49,7 +50,16 @@ public class ClientServiceIndexesManager extends SmartSubscriber {
     
     private final ConcurrentMap<Service, Set<String>> subscriberIndexes = new ConcurrentHashMap<>();
     
+    private final ClientIdHandles clientIdHandles = new ClientIdHandles();
+    
+    private final boolean compactStorage;
+    
     public ClientServiceIndexesManager() {
+        this(GlobalConfig.isCompactStorageEnabled());
+    }
+    
+    public ClientServiceIndexesManager(boolean compactStorage) {
+        this.compactStorage = compactStorage;
         NotifyCenter.registerSubscriber(this, NamingEventPublisherFactory.getInstance());
     }
     
@@ -65,6 +75,15 @@ public class ClientServiceIndexesManager extends SmartSubscriber {
         return subscriberIndexes.keySet();
     }
     
+    /**
+     * Get the count of client id handles, only used in compact storage mode.
+     *
+     * @return count of client id handles
+     */
+    public int getClientIdHandleCount() {
+        return clientIdHandles.size();
+    }
+    
     /**
      * Clear the service index without instances.
      *
@@ -128,7 +147,7 @@ public class ClientServiceIndexesManager extends SmartSubscriber {
     }
     
     private void addPublisherIndexes(Service service, String clientId) {
-        publisherIndexes.computeIfAbsent(service, key -> new ConcurrentHashSet<>()).add(clientId);
+        publisherIndexes.computeIfAbsent(service, key -> newClientIdSet()).add(clientId);
         NotifyCenter.publishEvent(new ServiceEvent.ServiceChangedEvent(service, true));
     }
     
@@ -141,13 +160,17 @@ public class ClientServiceIndexesManager extends SmartSubscriber {
     }
     
     private void addSubscriberIndexes(Service service, String clientId) {
-        Set<String> clientIds = subscriberIndexes.computeIfAbsent(service, key -> new ConcurrentHashSet<>());
+        Set<String> clientIds = subscriberIndexes.computeIfAbsent(service, key -> newClientIdSet());
         // Fix #5404, Only first time add need notify event.
         if (clientIds.add(clientId)) {
             NotifyCenter.publishEvent(new ServiceEvent.ServiceSubscribedEvent(service, clientId));
         }
     }
     
+    private Set<String> newClientIdSet() {
+        return compactStorage ? new CompactClientIdSet(clientIdHandles) : new ConcurrentHashSet<>();
+    }
+    
     private void removeSubscriberIndexes(Service service, String clientId) {
         Set<String> clientIds = subscriberIndexes.get(service);
         if (clientIds == null) {
@@ -0,0 +1,234 @@
+/*
+ * Copyright 1999-2025 Alibaba Group Holding Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.alibaba.nacos.naming.core.v2.index;
+
+import java.util.AbstractSet;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+
+/**
+ * Client id set which only stores int handles of client ids in an open addressing table.
+ *
+ * <p>Iterating works on a snapshot of the set, so it is weakly consistent like {@code ConcurrentHashSet}.
+ *
+ * @author Nacos
+ */
+public class CompactClientIdSet extends AbstractSet<String> {
+    
+    private static final int EMPTY = -1;
+    
+    private static final int INIT_CAPACITY = 4;
+    
+    private final ClientIdHandles clientIdHandles;
+    
+    private int[] table;
+    
+    private int size;
+    
+    public CompactClientIdSet(ClientIdHandles clientIdHandles) {
+        this.clientIdHandles = clientIdHandles;
+        this.table = newTable(INIT_CAPACITY);
+    }
+    
+    @Override
+    public boolean add(String clientId) {
+        int handle = clientIdHandles.acquire(clientId);
+        boolean added;
+        synchronized (this) {
+            added = addHandle(handle);
+        }
+        if (!added) {
+            clientIdHandles.release(handle);
+        }
+        return added;
+    }
+    
+    @Override
+    public boolean remove(Object o) {
+        if (!(o instanceof String)) {
+            return false;
+        }
+        int handle = clientIdHandles.find((String) o);
+        if (handle < 0) {
+            return false;
+        }
+        boolean removed;
+        synchronized (this) {
+            // The handle is referenced by this set if contained, so it can't be recycled and reused during checking.
+            removed = indexOf(handle) >= 0 && o.equals(clientIdHandles.getClientId(handle)) && removeHandle(handle);
+        }
+        if (removed) {
+            clientIdHandles.release(handle);
+        }
+        return removed;
+    }
+    
+    @Override
+    public boolean contains(Object o) {
+        if (!(o instanceof String)) {
+            return false;
+        }
+        int handle = clientIdHandles.find((String) o);
+        if (handle < 0) {
+            return false;
+        }
+        synchronized (this) {
+            return indexOf(handle) >= 0 && o.equals(clientIdHandles.getClientId(handle));
+        }
+    }
+    
+    @Override
+    public synchronized int size() {
+        return size;
+    }
+    
+    @Override
+    public synchronized void clear() {
+        for (int each : table) {
+            if (EMPTY != each) {
+                clientIdHandles.release(each);
+            }
+        }
+        table = newTable(INIT_CAPACITY);
+        size = 0;
+    }
+    
+    @Override
+    public Iterator<String> iterator() {
+        return new SnapshotIterator(snapshot());
+    }
+    
+    private synchronized String[] snapshot() {
+        String[] result = new String[size];
+        int index = 0;
+        for (int each : table) {
+            if (EMPTY != each) {
+                result[index++] = clientIdHandles.getClientId(each);
+            }
+        }
+        return result;
+    }
+    
+    private boolean addHandle(int handle) {
+        if (indexOf(handle) >= 0) {
+            return false;
+        }
+        if ((size + 1) << 1 > table.length) {
+            resize(table.length << 1);
+        }
+        insert(table, handle);
+        size++;
+        return true;
+    }
+    
+    private boolean removeHandle(int handle) {
+        int index = indexOf(handle);
+        if (index < 0) {
+            return false;
+        }
+        int mask = table.length - 1;
+        table[index] = EMPTY;
+        // Shift back the following entries in the same probe cluster.
+        for (int next = (index + 1) & mask; EMPTY != table[next]; next = (next + 1) & mask) {
+            int moved = table[next];
+            table[next] = EMPTY;
+            insert(table, moved);
+        }
+        size--;
+        if (table.length > INIT_CAPACITY && size << 3 < table.length) {
+            resize(table.length >> 1);
+        }
+        return true;
+    }
+    
+    private int indexOf(int handle) {
+        int mask = table.length - 1;
+        for (int index = hash(handle) & mask; EMPTY != table[index]; index = (index + 1) & mask) {
+            if (handle == table[index]) {
+                return index;
+            }
+        }
+        return -1;
+    }
+    
+    private void resize(int capacity) {
+        int[] newTable = newTable(capacity);
+        for (int each : table) {
+            if (EMPTY != each) {
+                insert(newTable, each);
+            }
+        }
+        table = newTable;
+    }
+    
+    private static void insert(int[] table, int handle) {
+        int mask = table.length - 1;
+        int index = hash(handle) & mask;
+        while (EMPTY != table[index]) {
+            index = (index + 1) & mask;
+        }
+        table[index] = handle;
+    }
+    
+    private static int hash(int handle) {
+        int h = handle * 0x9E3779B9;
+        return h ^ (h >>> 16);
+    }
+    
+    private static int[] newTable(int capacity) {
+        int[] result = new int[capacity];
+        Arrays.fill(result, EMPTY);
+        return result;
+    }
+    
+    private class SnapshotIterator implements Iterator<String> {
+        
+        private final String[] clientIds;
+        
+        private int cursor;
+        
+        private String current;
+        
+        private SnapshotIterator(String[] clientIds) {
+            this.clientIds = clientIds;
+        }
+        
+        @Override
+        public boolean hasNext() {
+            return cursor < clientIds.length;
+        }
+        
+        @Override
+        public String next() {
+            if (!hasNext()) {
+                throw new NoSuchElementException();
+            }
+            current = clientIds[cursor++];
+            return current;
+        }
+        
+        @Override
+        public void remove() {
+            if (null == current) {
+                throw new IllegalStateException();
+            }
+            CompactClientIdSet.this.remove(current);
+            current = null;
+        }
+    }
+}
@@ -32,6 +32,8 @@ import com.alibaba.nacos.naming.utils.InstanceUtil;
 import org.springframework.stereotype.Component;
 
 import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
 import java.util.HashSet;
 import java.util.LinkedList;
 import java.util.List;
@@ -60,6 +62,12 @@ public class ServiceStorage {
     
     private final ConcurrentMap<Service, Set<String>> serviceClusterIndex;
     
+    /**
+     * Parsed instances of each service, keyed by client id. Entries are reused by the next build as long as the
+     * publish info, its health status and the instance metadata are unchanged, so only changed instances are parsed.
+     */
+    private final ConcurrentMap<Service, ConcurrentMap<String, List<ParsedInstance>>> serviceInstanceIndexes;
+    
     public ServiceStorage(ClientServiceIndexesManager serviceIndexesManager, ClientManagerDelegate clientManager,
             SwitchDomain switchDomain, NamingMetadataManager metadataManager) {
         this.serviceIndexesManager = serviceIndexesManager;
@@ -68,6 +76,7 @@ public class ServiceStorage {
         this.metadataManager = metadataManager;
         this.serviceDataIndexes = new ConcurrentHashMap<>();
         this.serviceClusterIndex = new ConcurrentHashMap<>();
+        this.serviceInstanceIndexes = new ConcurrentHashMap<>();
     }
     
     public Set<String> getClusters(Service service) {
@@ -89,9 +98,15 @@ public class ServiceStorage {
         return result;
     }
     
+    /**
+     * Remove the push data, cluster index and parsed instances of the service.
+     *
+     * @param service service
+     */
     public void removeData(Service service) {
         serviceDataIndexes.remove(service);
         serviceClusterIndex.remove(service);
+        serviceInstanceIndexes.remove(service);
     }
     
     private ServiceInfo emptyServiceInfo(Service service) {
@@ -104,44 +119,64 @@ public class ServiceStorage {
     }
     
     private List<Instance> getAllInstancesFromIndex(Service service) {
-        Set<Instance> result = new HashSet<>();
+        ConcurrentMap<String, List<ParsedInstance>> parsedIndex = serviceInstanceIndexes
+                .computeIfAbsent(service, key -> new ConcurrentHashMap<>(16));
+        Collection<String> clientIds = serviceIndexesManager.getAllClientsRegisteredService(service);
+        List<Instance> result = new LinkedList<>();
+        Set<String> instanceKeys = new HashSet<>();
         Set<String> clusters = new HashSet<>();
-        for (String each : serviceIndexesManager.getAllClientsRegisteredService(service)) {
+        Set<String> activeClients = new HashSet<>();
+        for (String each : clientIds) {
             Optional<InstancePublishInfo> instancePublishInfo = getInstanceInfo(each, service);
-            if (instancePublishInfo.isPresent()) {
-                InstancePublishInfo publishInfo = instancePublishInfo.get();
-                //If it is a BatchInstancePublishInfo type, it will be processed manually and added to the instance list
-                if (publishInfo instanceof BatchInstancePublishInfo) {
-                    BatchInstancePublishInfo batchInstancePublishInfo = (BatchInstancePublishInfo) publishInfo;
-                    List<Instance> batchInstance = parseBatchInstance(service, batchInstancePublishInfo, clusters);
-                    result.addAll(batchInstance);
-                } else {
-                    Instance instance = parseInstance(service, instancePublishInfo.get());
-                    result.add(instance);
-                    clusters.add(instance.getClusterName());
+            if (!instancePublishInfo.isPresent()) {
+                continue;
+            }
+            activeClients.add(each);
+            List<ParsedInstance> parsedInstances = refreshParsedInstances(service, instancePublishInfo.get(),
+                    parsedIndex.get(each));
+            parsedIndex.put(each, parsedInstances);
+            for (ParsedInstance parsedInstance : parsedInstances) {
+                if (instanceKeys.add(parsedInstance.key)) {
+                    result.add(parsedInstance.instance);
                 }
+                clusters.add(parsedInstance.instance.getClusterName());
             }
         }
+        parsedIndex.keySet().retainAll(activeClients);
         // cache clusters of this service
         serviceClusterIndex.put(service, clusters);
-        return new LinkedList<>(result);
+        return result;
     }
     
     /**
-     * Parse batch instance.
-     * @param service service
-     * @param batchInstancePublishInfo batchInstancePublishInfo
-     * @return batch instance list
+     * Refresh the parsed instances of one client, reusing the previous results which are still up to date.
+     *
+     * <p>A {@link BatchInstancePublishInfo} is expanded into all of its instances and processed one by one.
+     *
+     * @param service         service
+     * @param publishInfo     current publish info of the client
+     * @param previousResults parsed instances of the last build, might be null
+     * @return parsed instances of the client
      */
-    private List<Instance> parseBatchInstance(Service service, BatchInstancePublishInfo batchInstancePublishInfo, Set<String> clusters) {
-        List<Instance> resultInstanceList = new ArrayList<>();
-        List<InstancePublishInfo> instancePublishInfos = batchInstancePublishInfo.getInstancePublishInfos();
-        for (InstancePublishInfo instancePublishInfo : instancePublishInfos) {
-            Instance instance = parseInstance(service, instancePublishInfo);
-            resultInstanceList.add(instance);
-            clusters.add(instance.getClusterName());
+    private List<ParsedInstance> refreshParsedInstances(Service service, InstancePublishInfo publishInfo,
+            List<ParsedInstance> previousResults) {
+        List<InstancePublishInfo> instancePublishInfos = publishInfo instanceof BatchInstancePublishInfo
+                ? ((BatchInstancePublishInfo) publishInfo).getInstancePublishInfos()
+                : Collections.singletonList(publishInfo);
+        List<ParsedInstance> result = new ArrayList<>(instancePublishInfos.size());
+        boolean sameShape = null != previousResults && previousResults.size() == instancePublishInfos.size();
+        for (int i = 0; i < instancePublishInfos.size(); i++) {
+            InstancePublishInfo each = instancePublishInfos.get(i);
+            InstanceMetadata metadata = metadataManager.getInstanceMetadata(service, each.getMetadataId())
+                    .orElse(null);
+            ParsedInstance previous = sameShape ? previousResults.get(i) : null;
+            if (null != previous && previous.isUpToDate(each, metadata)) {
+                result.add(previous);
+            } else {
+                result.add(new ParsedInstance(each, metadata, parseInstance(service, each, metadata)));
+            }
         }
-        return resultInstanceList;
+        return result;
     }
     
     private Optional<InstancePublishInfo> getInstanceInfo(String clientId, Service service) {
@@ -152,11 +187,43 @@ public class ServiceStorage {
         return Optional.ofNullable(client.getInstancePublishInfo(service));
     }
     
-    private Instance parseInstance(Service service, InstancePublishInfo instanceInfo) {
+    private Instance parseInstance(Service service, InstancePublishInfo instanceInfo, InstanceMetadata metadata) {
         Instance result = InstanceUtil.parseToApiInstance(service, instanceInfo);
-        Optional<InstanceMetadata> metadata = metadataManager
-                .getInstanceMetadata(service, instanceInfo.getMetadataId());
-        metadata.ifPresent(instanceMetadata -> InstanceUtil.updateInstanceMetadata(result, instanceMetadata));
+        if (null != metadata) {
+            InstanceUtil.updateInstanceMetadata(result, metadata);
+        }
         return result;
     }
+    
+    /**
+     * Instance parsed from a publish info, together with the inputs it was parsed from.
+     *
+     * <p>Publish infos are replaced on register and update, and metadata are replaced on every metadata change, so
+     * they are compared by reference. The health status is the only field changed in place by health checkers.
+     */
+    private static final class ParsedInstance {
+        
+        private final InstancePublishInfo publishInfo;
+        
+        private final boolean healthy;
+        
+        private final InstanceMetadata metadata;
+        
+        private final Instance instance;
+        
+        private final String key;
+        
+        private ParsedInstance(InstancePublishInfo publishInfo, InstanceMetadata metadata, Instance instance) {
+            this.publishInfo = publishInfo;
+            this.healthy = publishInfo.isHealthy();
+            this.metadata = metadata;
+            this.instance = instance;
+            this.key = instance.toString();
+        }
+        
+        private boolean isUpToDate(InstancePublishInfo currentPublishInfo, InstanceMetadata currentMetadata) {
+            return publishInfo == currentPublishInfo && healthy == currentPublishInfo.isHealthy()
+                    && metadata == currentMetadata;
+        }
+    }
 }
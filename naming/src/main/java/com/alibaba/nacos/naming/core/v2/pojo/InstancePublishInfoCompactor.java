@@ -0,0 +1,93 @@
+/*
+ * Copyright 1999-2025 Alibaba Group Holding Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.alibaba.nacos.naming.core.v2.pojo;
+
+import com.alibaba.nacos.core.utils.StringPool;
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compact {@link InstancePublishInfo} before it is stored by client.
+ *
+ * <p>Ip, cluster and metadata strings are pooled by {@link StringPool}, and instances with the same metadata share one
+ * canonical metadata map. The canonical map is unmodifiable because it is shared and also used as pool key, new
+ * metadata should be set by {@link InstancePublishInfo#setExtendDatum(Map)}.
+ *
+ * @author Nacos
+ */
+public final class InstancePublishInfoCompactor {
+    
+    private static final Cache<Map<String, Object>, Map<String, Object>> METADATA_POOL = CacheBuilder.newBuilder()
+            .maximumSize(1000000).expireAfterAccess(180, TimeUnit.SECONDS).build();
+    
+    private InstancePublishInfoCompactor() {
+    }
+    
+    /**
+     * Compact the instance publish info in place.
+     *
+     * @param instancePublishInfo instance publish info
+     */
+    public static void compact(InstancePublishInfo instancePublishInfo) {
+        if (null == instancePublishInfo) {
+            return;
+        }
+        if (instancePublishInfo instanceof BatchInstancePublishInfo) {
+            BatchInstancePublishInfo batchInstancePublishInfo = (BatchInstancePublishInfo) instancePublishInfo;
+            if (null != batchInstancePublishInfo.getInstancePublishInfos()) {
+                for (InstancePublishInfo each : batchInstancePublishInfo.getInstancePublishInfos()) {
+                    compact(each);
+                }
+            }
+        }
+        instancePublishInfo.setIp(StringPool.get(instancePublishInfo.getIp()));
+        instancePublishInfo.setCluster(StringPool.get(instancePublishInfo.getCluster()));
+        instancePublishInfo.setExtendDatum(compactMetadata(instancePublishInfo.getExtendDatum()));
+    }
+    
+    /**
+     * Get the canonical metadata map which equals to the input metadata.
+     *
+     * @param metadata metadata
+     * @return canonical metadata map
+     */
+    public static Map<String, Object> compactMetadata(Map<String, Object> metadata) {
+        if (null == metadata) {
+            return null;
+        }
+        Map<String, Object> result = METADATA_POOL.getIfPresent(metadata);
+        if (null != result) {
+            return result;
+        }
+        Map<String, Object> copy = new HashMap<>(metadata.size() > 0 ? (int) (metadata.size() / 0.75f) + 1 : 1);
+        for (Map.Entry<String, Object> entry : metadata.entrySet()) {
+            Object value = entry.getValue();
+            if (value instanceof String) {
+                value = StringPool.get((String) value);
+            }
+            copy.put(StringPool.get(entry.getKey()), value);
+        }
+        result = Collections.unmodifiableMap(copy);
+        Map<String, Object> existed = METADATA_POOL.asMap().putIfAbsent(result, result);
+        return null == existed ? result : existed;
+    }
+}
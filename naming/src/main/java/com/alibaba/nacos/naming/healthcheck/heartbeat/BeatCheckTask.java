@@ -16,6 +16,8 @@
 
 package com.alibaba.nacos.naming.healthcheck.heartbeat;
 
+import com.alibaba.nacos.api.common.Constants;
+
 /**
  * Check and update statues of ephemeral instances, remove them if they have been expired.
  *
@@ -23,6 +25,17 @@ package com.alibaba.nacos.naming.healthcheck.heartbeat;
  */
 public interface BeatCheckTask extends Runnable {
     
+    /**
+     * Default interval between twice checks, unit is millisecond.
+     */
+    long DEFAULT_CHECK_INTERVAL = 5000L;
+    
+    /**
+     * Max interval between twice checks when no smaller one is known, unit is millisecond. It equals the default heart
+     * beat timeout, so an instance added to the client after last check will not be checked later than its timeout.
+     */
+    long MAX_CHECK_INTERVAL = Constants.DEFAULT_HEART_BEAT_TIMEOUT;
+    
     /**
      * Task key.
      *
@@ -30,4 +43,22 @@ public interface BeatCheckTask extends Runnable {
      */
     String taskKey();
     
+    /**
+     * Get the time when this task should be checked next time, the result is only used after task run.
+     *
+     * @return next check time in milliseconds
+     */
+    default long getNextCheckTime() {
+        return System.currentTimeMillis() + DEFAULT_CHECK_INTERVAL;
+    }
+    
+    /**
+     * Get the max interval between twice checks of this task, the next check time is never later than it.
+     *
+     * @return max check interval in milliseconds
+     */
+    default long getMaxCheckInterval() {
+        return MAX_CHECK_INTERVAL;
+    }
+    
 }
@@ -0,0 +1,215 @@
+/*
+ * Copyright 1999-2025 Alibaba Group Holding Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.alibaba.nacos.naming.healthcheck.heartbeat;
+
+import com.alibaba.nacos.naming.healthcheck.NacosHealthCheckTask;
+import com.alibaba.nacos.naming.healthcheck.interceptor.HealthCheckTaskInterceptWrapper;
+import com.alibaba.nacos.naming.misc.GlobalExecutor;
+import com.alibaba.nacos.naming.misc.Loggers;
+
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Timing wheel for client beat check tasks.
+ *
+ * <p>All beat check tasks share one wheel which ticks on the naming health executor, instead of one scheduled future
+ * for each client. A task is put into the bucket of its next check time, see {@link BeatCheckTask#getNextCheckTime()},
+ * and each tick only runs the tasks of expired buckets in batches. So the scheduling cost depends on the count of due
+ * tasks rather than all clients, and clients which beat in time are checked only when their instances might expire.
+ *
+ * @author Nacos
+ */
+public class BeatCheckTimingWheel {
+    
+    private static final long TICK_DURATION = 500L;
+    
+    private static final int WHEEL_SIZE = 64;
+    
+    private static final int BATCH_SIZE = 512;
+    
+    private static final BeatCheckTimingWheel INSTANCE = new BeatCheckTimingWheel(TICK_DURATION, WHEEL_SIZE,
+            BATCH_SIZE);
+    
+    private final long tickDuration;
+    
+    private final int batchSize;
+    
+    private final long startTime;
+    
+    private final Map<String, BeatCheckEntry> entries = new ConcurrentHashMap<>();
+    
+    /**
+     * Entries which wait to be put into wheel, wheel buckets are only accessed by tick thread.
+     */
+    private final Queue<BeatCheckEntry> pendingEntries = new ConcurrentLinkedQueue<>();
+    
+    private final List<BeatCheckEntry>[] wheel;
+    
+    private final ScheduledFuture<?> tickFuture;
+    
+    private long currentTick;
+    
+    @SuppressWarnings("unchecked")
+    BeatCheckTimingWheel(long tickDuration, int wheelSize, int batchSize) {
+        this.tickDuration = tickDuration;
+        this.batchSize = batchSize;
+        this.startTime = System.currentTimeMillis();
+        this.wheel = new List[wheelSize];
+        for (int i = 0; i < wheelSize; i++) {
+            wheel[i] = new ArrayList<>();
+        }
+        this.tickFuture = GlobalExecutor.scheduleNamingHealth(this::tick, tickDuration, tickDuration,
+                TimeUnit.MILLISECONDS);
+    }
+    
+    public static BeatCheckTimingWheel getInstance() {
+        return INSTANCE;
+    }
+    
+    /**
+     * Schedule beat check task, the task will be checked repeatedly until it is cancelled.
+     *
+     * @param task beat check task
+     */
+    public void schedule(BeatCheckTask task) {
+        entries.computeIfAbsent(task.taskKey(), key -> {
+            BeatCheckEntry result = new BeatCheckEntry(task);
+            result.deadline = normalizeDeadline(task);
+            pendingEntries.add(result);
+            return result;
+        });
+    }
+    
+    /**
+     * Cancel beat check task, the entry will be removed from wheel when its bucket expired.
+     *
+     * @param task beat check task
+     */
+    public void cancel(BeatCheckTask task) {
+        BeatCheckEntry entry = entries.remove(task.taskKey());
+        if (null != entry) {
+            entry.cancelled = true;
+        }
+    }
+    
+    public int size() {
+        return entries.size();
+    }
+    
+    void stop() {
+        tickFuture.cancel(false);
+    }
+    
+    private void tick() {
+        try {
+            long targetTick = Math.max(currentTick + 1, (System.currentTimeMillis() - startTime) / tickDuration);
+            transferPendingEntries();
+            List<BeatCheckEntry> dueEntries = expireBuckets(targetTick);
+            currentTick = targetTick;
+            for (int i = 0; i < dueEntries.size(); i += batchSize) {
+                List<BeatCheckEntry> batch = dueEntries.subList(i, Math.min(i + batchSize, dueEntries.size()));
+                GlobalExecutor.scheduleNamingHealth(() -> runBatch(batch), 0, TimeUnit.MILLISECONDS);
+            }
+        } catch (Throwable e) {
+            Loggers.SRV_LOG.error("[BEAT-CHECK] timing wheel tick failed.", e);
+        }
+    }
+    
+    private void transferPendingEntries() {
+        BeatCheckEntry each;
+        while (null != (each = pendingEntries.poll())) {
+            if (each.cancelled) {
+                continue;
+            }
+            long tick = Math.max(currentTick + 1, (each.deadline - startTime + tickDuration - 1) / tickDuration);
+            each.tick = tick;
+            wheel[bucketIndex(tick)].add(each);
+        }
+    }
+    
+    private List<BeatCheckEntry> expireBuckets(long targetTick) {
+        List<BeatCheckEntry> result = new ArrayList<>();
+        long fromTick = Math.max(currentTick + 1, targetTick - wheel.length + 1);
+        for (long tick = fromTick; tick <= targetTick; tick++) {
+            Iterator<BeatCheckEntry> iterator = wheel[bucketIndex(tick)].iterator();
+            while (iterator.hasNext()) {
+                BeatCheckEntry each = iterator.next();
+                if (each.cancelled) {
+                    iterator.remove();
+                } else if (each.tick <= targetTick) {
+                    iterator.remove();
+                    result.add(each);
+                }
+            }
+        }
+        return result;
+    }
+    
+    private void runBatch(List<BeatCheckEntry> batch) {
+        for (BeatCheckEntry each : batch) {
+            if (each.cancelled) {
+                continue;
+            }
+            try {
+                each.runnable.run();
+            } catch (Throwable e) {
+                Loggers.SRV_LOG.warn("[BEAT-CHECK] check task {} failed.", each.task.taskKey(), e);
+            }
+            each.deadline = normalizeDeadline(each.task);
+            pendingEntries.add(each);
+        }
+    }
+    
+    private long normalizeDeadline(BeatCheckTask task) {
+        long now = System.currentTimeMillis();
+        return Math.min(Math.max(task.getNextCheckTime(), now + tickDuration), now + task.getMaxCheckInterval());
+    }
+    
+    private int bucketIndex(long tick) {
+        return (int) (tick % wheel.length);
+    }
+    
+    private static class BeatCheckEntry {
+        
+        private final BeatCheckTask task;
+        
+        private final Runnable runnable;
+        
+        private volatile boolean cancelled;
+        
+        private volatile long deadline;
+        
+        /**
+         * The tick of bucket which contains this entry, only accessed by tick thread.
+         */
+        private long tick;
+        
+        private BeatCheckEntry(BeatCheckTask task) {
+            this.task = task;
+            this.runnable = task instanceof NacosHealthCheckTask ? new HealthCheckTaskInterceptWrapper(
+                    (NacosHealthCheckTask) task) : task;
+        }
+    }
+}
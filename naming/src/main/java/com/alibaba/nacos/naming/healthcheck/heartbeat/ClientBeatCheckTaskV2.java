@@ -41,10 +41,15 @@ public class ClientBeatCheckTaskV2 extends AbstractExecuteTask implements BeatCh
     
     private final InstanceBeatCheckTaskInterceptorChain interceptorChain;
     
+    private volatile long nextCheckTime;
+    
+    private volatile long maxCheckInterval = MAX_CHECK_INTERVAL;
+    
     public ClientBeatCheckTaskV2(IpPortBasedClient client) {
         this.client = client;
         this.taskId = client.getResponsibleId();
         this.interceptorChain = InstanceBeatCheckTaskInterceptorChain.getInstance();
+        this.nextCheckTime = System.currentTimeMillis() + DEFAULT_CHECK_INTERVAL;
     }
     
     public GlobalConfig getGlobalConfig() {
@@ -61,18 +66,39 @@ public class ClientBeatCheckTaskV2 extends AbstractExecuteTask implements BeatCh
         return taskId;
     }
     
+    @Override
+    public long getNextCheckTime() {
+        return nextCheckTime;
+    }
+    
+    @Override
+    public long getMaxCheckInterval() {
+        return maxCheckInterval;
+    }
+    
     @Override
     public void doHealthCheck() {
+        long startTime = System.currentTimeMillis();
+        long result = Long.MAX_VALUE;
+        long interval = MAX_CHECK_INTERVAL;
         try {
             Collection<Service> services = client.getAllPublishedService();
             for (Service each : services) {
                 HealthCheckInstancePublishInfo instance = (HealthCheckInstancePublishInfo) client
                         .getInstancePublishInfo(each);
-                interceptorChain.doInterceptor(new InstanceBeatCheckTask(client, each, instance));
+                InstanceBeatCheckTask task = new InstanceBeatCheckTask(client, each, instance);
+                interceptorChain.doInterceptor(task);
+                result = Math.min(result, task.getNextCheckTime());
+                // Instances added later are likely to use the same heart beat timeout as the existing ones.
+                interval = Math.min(interval, UnhealthyInstanceChecker.getHeartBeatTimeout(each, instance));
             }
+            result = Math.min(result, startTime + interval);
         } catch (Exception e) {
             Loggers.SRV_LOG.warn("Exception while processing client beat time out.", e);
+            result = System.currentTimeMillis() + DEFAULT_CHECK_INTERVAL;
         }
+        maxCheckInterval = interval;
+        nextCheckTime = result;
     }
     
     @Override
@@ -87,5 +113,6 @@ public class ClientBeatCheckTaskV2 extends AbstractExecuteTask implements BeatCh
     
     @Override
     public void afterIntercept() {
+        nextCheckTime = System.currentTimeMillis() + DEFAULT_CHECK_INTERVAL;
     }
 }
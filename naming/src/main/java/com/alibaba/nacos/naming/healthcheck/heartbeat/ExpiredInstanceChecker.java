@@ -54,6 +54,14 @@ public class ExpiredInstanceChecker implements InstanceBeatChecker {
         }
     }
     
+    @Override
+    public long nextCheckTime(Client client, Service service, HealthCheckInstancePublishInfo instance) {
+        if (!ApplicationUtils.getBean(GlobalConfig.class).isExpireInstance()) {
+            return Long.MAX_VALUE;
+        }
+        return instance.getLastHeartBeatTime() + getTimeout(service, instance) + 1;
+    }
+    
     private boolean isExpireInstance(Service service, HealthCheckInstancePublishInfo instance) {
         long deleteTimeout = getTimeout(service, instance);
         return System.currentTimeMillis() - instance.getLastHeartBeatTime() > deleteTimeout;
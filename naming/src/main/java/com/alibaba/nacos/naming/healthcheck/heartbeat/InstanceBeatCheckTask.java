@@ -40,6 +40,8 @@ public class InstanceBeatCheckTask implements Interceptable {
     
     private final HealthCheckInstancePublishInfo instancePublishInfo;
     
+    private long nextCheckTime;
+    
     static {
         CHECKERS.add(new UnhealthyInstanceChecker());
         CHECKERS.add(new ExpiredInstanceChecker());
@@ -50,6 +52,7 @@ public class InstanceBeatCheckTask implements Interceptable {
         this.client = client;
         this.service = service;
         this.instancePublishInfo = instancePublishInfo;
+        this.nextCheckTime = System.currentTimeMillis() + BeatCheckTask.DEFAULT_CHECK_INTERVAL;
     }
     
     @Override
@@ -57,6 +60,16 @@ public class InstanceBeatCheckTask implements Interceptable {
         for (InstanceBeatChecker each : CHECKERS) {
             each.doCheck(client, service, instancePublishInfo);
         }
+        if (instancePublishInfo != client.getInstancePublishInfo(service)) {
+            // instance has been removed, nothing to check for it.
+            nextCheckTime = Long.MAX_VALUE;
+            return;
+        }
+        long result = Long.MAX_VALUE;
+        for (InstanceBeatChecker each : CHECKERS) {
+            result = Math.min(result, each.nextCheckTime(client, service, instancePublishInfo));
+        }
+        nextCheckTime = result;
     }
     
     @Override
@@ -74,4 +87,13 @@ public class InstanceBeatCheckTask implements Interceptable {
     public HealthCheckInstancePublishInfo getInstancePublishInfo() {
         return instancePublishInfo;
     }
+    
+    /**
+     * Get the next time the instance should be checked, default check interval later if the task is intercepted.
+     *
+     * @return next check time in milliseconds
+     */
+    public long getNextCheckTime() {
+        return nextCheckTime;
+    }
 }
@@ -35,4 +35,19 @@ public interface InstanceBeatChecker {
      * @param instance instance publish info
      */
     void doCheck(Client client, Service service, HealthCheckInstancePublishInfo instance);
+    
+    /**
+     * Get the earliest time when this checker might change the instance, which is called after {@link #doCheck}.
+     *
+     * <p>Returns {@link Long#MAX_VALUE} if the checker won't change the instance until it beats again. Default keeps
+     * the periodic check for checkers which can't tell it.
+     *
+     * @param client   client
+     * @param service  service of instance
+     * @param instance instance publish info
+     * @return next check time in milliseconds
+     */
+    default long nextCheckTime(Client client, Service service, HealthCheckInstancePublishInfo instance) {
+        return System.currentTimeMillis() + BeatCheckTask.DEFAULT_CHECK_INTERVAL;
+    }
 }
@@ -51,12 +51,27 @@ public class UnhealthyInstanceChecker implements InstanceBeatChecker {
         }
     }
     
+    @Override
+    public long nextCheckTime(Client client, Service service, HealthCheckInstancePublishInfo instance) {
+        if (!instance.isHealthy()) {
+            return Long.MAX_VALUE;
+        }
+        return instance.getLastHeartBeatTime() + getHeartBeatTimeout(service, instance) + 1;
+    }
+    
     private boolean isUnhealthy(Service service, HealthCheckInstancePublishInfo instance) {
-        long beatTimeout = getTimeout(service, instance);
+        long beatTimeout = getHeartBeatTimeout(service, instance);
         return System.currentTimeMillis() - instance.getLastHeartBeatTime() > beatTimeout;
     }
     
-    private long getTimeout(Service service, InstancePublishInfo instance) {
+    /**
+     * Get heart beat timeout of instance, the one in instance metadata takes precedence over the one registered.
+     *
+     * @param service  service of instance
+     * @param instance instance
+     * @return heart beat timeout in milliseconds
+     */
+    static long getHeartBeatTimeout(Service service, InstancePublishInfo instance) {
         Optional<Object> timeout = getTimeoutFromMetadata(service, instance);
         if (!timeout.isPresent()) {
             timeout = Optional.ofNullable(instance.getExtendDatum().get(PreservedMetadataKeys.HEART_BEAT_TIMEOUT));
@@ -64,7 +79,7 @@ public class UnhealthyInstanceChecker implements InstanceBeatChecker {
         return timeout.map(ConvertUtils::toLong).orElse(Constants.DEFAULT_HEART_BEAT_TIMEOUT);
     }
     
-    private Optional<Object> getTimeoutFromMetadata(Service service, InstancePublishInfo instance) {
+    private static Optional<Object> getTimeoutFromMetadata(Service service, InstancePublishInfo instance) {
         Optional<InstanceMetadata> instanceMetadata = ApplicationUtils.getBean(NamingMetadataManager.class)
                 .getInstanceMetadata(service, instance.getMetadataId());
         return instanceMetadata.map(metadata -> metadata.getExtendData().get(PreservedMetadataKeys.HEART_BEAT_TIMEOUT));
@@ -19,6 +19,7 @@ package com.alibaba.nacos.naming.misc;
 import com.alibaba.nacos.sys.env.EnvUtil;
 import org.springframework.stereotype.Component;
 
+import static com.alibaba.nacos.naming.constants.Constants.COMPACT_STORAGE_ENABLED;
 import static com.alibaba.nacos.naming.constants.Constants.DATA_WARMUP;
 import static com.alibaba.nacos.naming.constants.Constants.EMPTY_SERVICE_CLEAN_INTERVAL;
 import static com.alibaba.nacos.naming.constants.Constants.EMPTY_SERVICE_EXPIRED_TIME;
@@ -59,4 +60,8 @@ public class GlobalConfig {
         return EnvUtil.getProperty(EXPIRED_METADATA_EXPIRED_TIME, Long.class, 60000L);
     }
     
+    public static boolean isCompactStorageEnabled() {
+        return null != EnvUtil.getEnvironment() && EnvUtil.getProperty(COMPACT_STORAGE_ENABLED, Boolean.class, false);
+    }
+    
 }
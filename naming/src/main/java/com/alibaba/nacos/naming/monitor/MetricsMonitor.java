@@ -87,6 +87,11 @@ public class MetricsMonitor {
      */
     private final ConcurrentHashMap<String, AtomicInteger> namingPublisher = new ConcurrentHashMap<>();
     
+    /**
+     * push delay task shard index -> pending push task count.
+     */
+    private final ConcurrentHashMap<Integer, AtomicInteger> pushPendingTaskShardCount = new ConcurrentHashMap<>();
+    
     /**
      * topn service change count.
      */
@@ -198,6 +203,23 @@ public class MetricsMonitor {
         return INSTANCE.pushPendingTaskCount;
     }
     
+    /**
+     * Get the pending push task count gauge of the push delay task shard, register it if absent.
+     *
+     * @param shard index of push delay task shard
+     * @return pending push task count of the shard
+     */
+    public static AtomicInteger getPushPendingTaskShardCount(int shard) {
+        return INSTANCE.pushPendingTaskShardCount.computeIfAbsent(shard, index -> {
+            AtomicInteger result = new AtomicInteger();
+            List<Tag> tags = new ArrayList<>();
+            tags.add(new ImmutableTag("module", "naming"));
+            tags.add(new ImmutableTag("shard", String.valueOf(index)));
+            NacosMeterRegistryCenter.gauge(METER_REGISTRY, "nacos_naming_push_pending_task", tags, result);
+            return result;
+        });
+    }
+    
     public static AtomicLong getTotalPushCostForAvg() {
         return INSTANCE.totalPushCostForAvg;
     }
@@ -264,6 +286,26 @@ public class MetricsMonitor {
                 .counter(METER_REGISTRY, "nacos_exception", "module", "naming", "name", "leaderSendBeatFailed");
     }
     
+    /**
+     * Count of push payloads serialized for the fan-out of naming push.
+     *
+     * @return counter
+     */
+    public static Counter getPushPayloadSerializedCounter() {
+        return NacosMeterRegistryCenter
+                .counter(METER_REGISTRY, "nacos_naming_push_payload", "module", "naming", "name", "serialized");
+    }
+    
+    /**
+     * Count of pushes which reused a payload serialized for another subscriber with the same view.
+     *
+     * @return counter
+     */
+    public static Counter getPushPayloadReusedCounter() {
+        return NacosMeterRegistryCenter
+                .counter(METER_REGISTRY, "nacos_naming_push_payload", "module", "naming", "name", "reused");
+    }
+    
     /**
      * increment IpCount when use batchRegister instance.
      *
@@ -109,12 +109,20 @@ public class PerformanceLoggerThread {
             long v2SyncDone = 0;
             long v2SyncFail = 0;
             int v2VerifyFail = 0;
+            long v2BatchCount = 0;
+            long v2BatchDataCount = 0;
+            int v2MaxBatchSize = 0;
             if (v2Record.isPresent()) {
                 v2SyncDone = v2Record.get().getSuccessfulSyncCount();
                 v2SyncFail = v2Record.get().getFailedSyncCount();
                 v2VerifyFail = v2Record.get().getFailedVerifyCount();
+                v2BatchCount = v2Record.get().getBatchSyncCount();
+                v2BatchDataCount = v2Record.get().getBatchSyncDataCount();
+                v2MaxBatchSize = v2Record.get().getMaxBatchSize();
             }
             Loggers.PERFORMANCE_LOG.info("DISTRO:|{}|{}|{}|", v2SyncDone, v2SyncFail, v2VerifyFail);
+            Loggers.PERFORMANCE_LOG.info("DISTRO-BATCH:|{}|{}|{}|{}|", v2BatchCount, v2BatchDataCount, v2MaxBatchSize,
+                    DistroRecordsHolder.getInstance().getSyncLags());
         }
     }
     
@@ -44,7 +44,13 @@ public class PushPendingTaskCountMetricsCollector {
     @Autowired
     public PushPendingTaskCountMetricsCollector(NamingSubscriberServiceV2Impl namingSubscriberServiceV2) {
         executorService.scheduleWithFixedDelay(() -> {
-            MetricsMonitor.getPushPendingTaskCount().set(namingSubscriberServiceV2.getPushPendingTaskCount());
+            int[] shardCounts = namingSubscriberServiceV2.getPushPendingTaskShardCounts();
+            int total = 0;
+            for (int i = 0; i < shardCounts.length; i++) {
+                MetricsMonitor.getPushPendingTaskShardCount(i).set(shardCounts[i]);
+                total += shardCounts[i];
+            }
+            MetricsMonitor.getPushPendingTaskCount().set(total);
         }, DELAY_SECONDS, DELAY_SECONDS, TimeUnit.SECONDS);
     }
 }
@@ -136,4 +136,8 @@ public class NamingSubscriberServiceV2Impl extends SmartSubscriber implements Na
     public int getPushPendingTaskCount() {
         return delayTaskEngine.size();
     }
+    
+    public int[] getPushPendingTaskShardCounts() {
+        return delayTaskEngine.getShardSizes();
+    }
 }
@@ -37,6 +37,10 @@ public class PushConfig extends AbstractDynamicConfig {
     
     private long pushTaskRetryDelay = PushConstants.DEFAULT_PUSH_TASK_RETRY_DELAY;
     
+    private boolean pushDeltaEnabled = PushConstants.DEFAULT_PUSH_DELTA_ENABLED;
+    
+    private int pushTaskShardCount;
+    
     private PushConfig() {
         super(PUSH);
         resetConfig();
@@ -50,12 +54,17 @@ public class PushConfig extends AbstractDynamicConfig {
                 .getProperty(PushConstants.PUSH_TASK_TIMEOUT, Long.class, PushConstants.DEFAULT_PUSH_TASK_TIMEOUT);
         pushTaskRetryDelay = EnvUtil.getProperty(PushConstants.PUSH_TASK_RETRY_DELAY, Long.class,
                 PushConstants.DEFAULT_PUSH_TASK_RETRY_DELAY);
+        pushDeltaEnabled = EnvUtil.getProperty(PushConstants.PUSH_DELTA_ENABLED, Boolean.class,
+                PushConstants.DEFAULT_PUSH_DELTA_ENABLED);
+        pushTaskShardCount = EnvUtil.getProperty(PushConstants.PUSH_TASK_SHARD_COUNT, Integer.class,
+                EnvUtil.getAvailableProcessors(PushConstants.DEFAULT_PUSH_TASK_SHARD_PROCESSORS_MULTIPLE));
     }
     
     @Override
     protected String printConfig() {
         return "PushConfig{" + "pushTaskDelay=" + pushTaskDelay + ", pushTaskTimeout=" + pushTaskTimeout
-                + ", pushTaskRetryDelay=" + pushTaskRetryDelay + '}';
+                + ", pushTaskRetryDelay=" + pushTaskRetryDelay + ", pushDeltaEnabled=" + pushDeltaEnabled
+                + ", pushTaskShardCount=" + pushTaskShardCount + '}';
     }
     
     public static PushConfig getInstance() {
@@ -73,4 +82,12 @@ public class PushConfig extends AbstractDynamicConfig {
     public long getPushTaskRetryDelay() {
         return pushTaskRetryDelay;
     }
+    
+    public boolean isPushDeltaEnabled() {
+        return pushDeltaEnabled;
+    }
+    
+    public int getPushTaskShardCount() {
+        return pushTaskShardCount;
+    }
 }
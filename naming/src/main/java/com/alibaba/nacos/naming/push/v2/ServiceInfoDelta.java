@@ -0,0 +1,96 @@
+/*
+ * Copyright 1999-2025 Alibaba Group Holding Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.alibaba.nacos.naming.push.v2;
+
+import com.alibaba.nacos.api.naming.pojo.Instance;
+import com.alibaba.nacos.api.naming.pojo.ServiceInfo;
+import com.alibaba.nacos.api.naming.utils.NamingUtils;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedList;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Instances changed between two service infos pushed to the same subscriber.
+ *
+ * @author Nacos
+ */
+public final class ServiceInfoDelta {
+    
+    private final List<Instance> changedInstances;
+    
+    private final List<Instance> removedInstances;
+    
+    private ServiceInfoDelta(List<Instance> changedInstances, List<Instance> removedInstances) {
+        this.changedInstances = changedInstances;
+        this.removedInstances = removedInstances;
+    }
+    
+    /**
+     * Compute the delta from base to target.
+     *
+     * <p>Instances are matched by {@link NamingUtils#getInstanceDeltaKey(Instance)}. If some key is used by more than
+     * one instance, or the delta is not smaller than half of the target, the full service info should be pushed.
+     *
+     * @param base   service info acknowledged by the subscriber
+     * @param target service info to push
+     * @return delta, or {@code null} if the full service info should be pushed
+     */
+    public static ServiceInfoDelta compute(ServiceInfo base, ServiceInfo target) {
+        Map<String, Instance> baseInstances = indexInstances(base.getHosts());
+        Map<String, Instance> targetInstances = indexInstances(target.getHosts());
+        if (null == baseInstances || null == targetInstances) {
+            return null;
+        }
+        int limit = targetInstances.size() / 2;
+        List<Instance> changed = new LinkedList<>();
+        for (Map.Entry<String, Instance> entry : targetInstances.entrySet()) {
+            Instance previous = baseInstances.remove(entry.getKey());
+            if (null == previous || (previous != entry.getValue() && !previous.equals(entry.getValue()))) {
+                changed.add(entry.getValue());
+                if (changed.size() >= limit) {
+                    return null;
+                }
+            }
+        }
+        int deltaSize = changed.size() + baseInstances.size();
+        if (deltaSize > 0 && deltaSize >= limit) {
+            return null;
+        }
+        return new ServiceInfoDelta(changed, new ArrayList<>(baseInstances.values()));
+    }
+    
+    private static Map<String, Instance> indexInstances(List<Instance> instances) {
+        Map<String, Instance> result = new HashMap<>(instances.size() * 4 / 3 + 1);
+        for (Instance each : instances) {
+            if (null != result.put(NamingUtils.getInstanceDeltaKey(each), each)) {
+                return null;
+            }
+        }
+        return result;
+    }
+    
+    public List<Instance> getChangedInstances() {
+        return changedInstances;
+    }
+    
+    public List<Instance> getRemovedInstances() {
+        return removedInstances;
+    }
+}
@@ -16,48 +16,320 @@
 
 package com.alibaba.nacos.naming.push.v2.executor;
 
+import com.alibaba.nacos.api.ability.constant.AbilityKey;
+import com.alibaba.nacos.api.ability.constant.AbilityStatus;
 import com.alibaba.nacos.api.naming.pojo.ServiceInfo;
 import com.alibaba.nacos.api.naming.remote.request.NotifySubscriberRequest;
+import com.alibaba.nacos.api.naming.utils.NamingUtils;
+import com.alibaba.nacos.common.notify.Event;
+import com.alibaba.nacos.common.notify.NotifyCenter;
+import com.alibaba.nacos.common.notify.listener.SmartSubscriber;
+import com.alibaba.nacos.common.utils.StringUtils;
+import com.alibaba.nacos.core.remote.Connection;
+import com.alibaba.nacos.core.remote.ConnectionManager;
 import com.alibaba.nacos.core.remote.RpcPushService;
+import com.alibaba.nacos.core.remote.SharedPayloadRequest;
+import com.alibaba.nacos.naming.core.v2.event.client.ClientOperationEvent;
+import com.alibaba.nacos.naming.core.v2.event.publisher.NamingEventPublisherFactory;
+import com.alibaba.nacos.naming.core.v2.metadata.ServiceMetadata;
+import com.alibaba.nacos.naming.core.v2.pojo.Service;
 import com.alibaba.nacos.naming.misc.GlobalExecutor;
+import com.alibaba.nacos.naming.misc.Loggers;
+import com.alibaba.nacos.naming.monitor.MetricsMonitor;
 import com.alibaba.nacos.naming.pojo.Subscriber;
+import com.alibaba.nacos.naming.push.v2.PushConfig;
 import com.alibaba.nacos.naming.push.v2.PushDataWrapper;
+import com.alibaba.nacos.naming.push.v2.ServiceInfoDelta;
 import com.alibaba.nacos.naming.push.v2.task.NamingPushCallback;
+import com.alibaba.nacos.naming.selector.NoneSelector;
 import com.alibaba.nacos.naming.utils.ServiceUtil;
 import org.springframework.stereotype.Component;
 
+import java.util.LinkedList;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
 /**
  * Push execute service for rpc.
  *
+ * <p>For the clients which support {@link AbilityKey#SDK_CLIENT_SUPPORT_NAMING_DELTA_PUSH}, the service info
+ * acknowledged by the client is recorded, and the next push only contains the instances changed since then. If the
+ * client can't apply the delta, the full service info is pushed again.
+ *
  * @author xiweng.yy
  */
 @Component
-public class PushExecutorRpcImpl implements PushExecutor {
+public class PushExecutorRpcImpl extends SmartSubscriber implements PushExecutor {
+    
+    private static final String VIEW_KEY_SPLITTER = "@@";
+    
+    private static final String SERVICE_INFO_KEY_PREFIX = "rpcServiceInfo@@";
+    
+    private static final String FULL_PAYLOAD_KEY_PREFIX = "rpcFullPayload@@";
+    
+    private static final String DELTA_PAYLOAD_KEY_PREFIX = "rpcDeltaPayload@@";
     
     private final RpcPushService pushService;
     
-    public PushExecutorRpcImpl(RpcPushService pushService) {
+    private final ConnectionManager connectionManager;
+    
+    /**
+     * Service infos acknowledged by each client, key is client id.
+     */
+    private final ConcurrentMap<String, ConcurrentMap<Service, ServiceInfo>> ackedServiceInfos;
+    
+    public PushExecutorRpcImpl(RpcPushService pushService, ConnectionManager connectionManager) {
         this.pushService = pushService;
+        this.connectionManager = connectionManager;
+        this.ackedServiceInfos = new ConcurrentHashMap<>();
+        NotifyCenter.registerSubscriber(this, NamingEventPublisherFactory.getInstance());
     }
     
     @Override
     public void doPush(String clientId, Subscriber subscriber, PushDataWrapper data) {
-        pushService.pushWithoutAck(clientId,
-                NotifySubscriberRequest.buildNotifySubscriberRequest(getServiceInfo(data, subscriber)));
+        if (ackedServiceInfos.containsKey(clientId)) {
+            removeAckedServiceInfo(clientId, getService(subscriber));
+        }
+        pushService.pushWithoutAck(clientId, NotifySubscriberRequest
+                .buildNotifySubscriberRequest(getServiceInfo(data, subscriber, getViewKey(data, subscriber))));
     }
     
     @Override
     public void doPushWithCallback(String clientId, Subscriber subscriber, PushDataWrapper data,
             NamingPushCallback callBack) {
-        ServiceInfo actualServiceInfo = getServiceInfo(data, subscriber);
+        String viewKey = getViewKey(data, subscriber);
+        ServiceInfo actualServiceInfo = getServiceInfo(data, subscriber, viewKey);
         callBack.setActualServiceInfo(actualServiceInfo);
-        pushService.pushWithCallback(clientId, NotifySubscriberRequest.buildNotifySubscriberRequest(actualServiceInfo),
-                callBack, GlobalExecutor.getCallbackExecutor());
+        if (!isDeltaPushSupported(clientId)) {
+            pushService.pushWithCallback(clientId, getFullRequest(data, viewKey, actualServiceInfo), callBack,
+                    GlobalExecutor.getCallbackExecutor());
+            return;
+        }
+        Service service = getService(subscriber);
+        SharedPayloadRequest request = getDeltaRequest(data, viewKey, clientId, service, actualServiceInfo);
+        boolean delta = null != request;
+        if (!delta) {
+            request = getFullRequest(data, viewKey, actualServiceInfo);
+        }
+        pushService.pushWithCallback(clientId, request,
+                new AckRecordCallback(clientId, service, actualServiceInfo, delta, callBack),
+                GlobalExecutor.getCallbackExecutor());
+    }
+    
+    /**
+     * Get the key of the instances view seen by the subscriber. Subscribers with the same view get the same service
+     * info in one push, so the filtering and serialization are done once for each view.
+     *
+     * @param data       push data
+     * @param subscriber subscriber
+     * @return view key
+     */
+    private String getViewKey(PushDataWrapper data, Subscriber subscriber) {
+        ServiceMetadata serviceMetadata = data.getServiceMetadata();
+        boolean selectByIp = null != serviceMetadata && null != serviceMetadata.getSelector()
+                && !(serviceMetadata.getSelector() instanceof NoneSelector);
+        return subscriber.getCluster() + VIEW_KEY_SPLITTER + (selectByIp ? subscriber.getIp() : StringUtils.EMPTY);
     }
     
-    private ServiceInfo getServiceInfo(PushDataWrapper data, Subscriber subscriber) {
-        return ServiceUtil
+    private ServiceInfo getServiceInfo(PushDataWrapper data, Subscriber subscriber, String viewKey) {
+        Optional<ServiceInfo> cached = data.getProcessedPushData(SERVICE_INFO_KEY_PREFIX + viewKey);
+        if (cached.isPresent()) {
+            return cached.get();
+        }
+        ServiceInfo result = ServiceUtil
                 .selectInstancesWithHealthyProtection(data.getOriginalData(), data.getServiceMetadata(), false, true,
                         subscriber);
+        data.addProcessedPushData(SERVICE_INFO_KEY_PREFIX + viewKey, result);
+        return result;
+    }
+    
+    private SharedPayloadRequest getFullRequest(PushDataWrapper data, String viewKey, ServiceInfo serviceInfo) {
+        Optional<SharedPayloadRequest> cached = data.getProcessedPushData(FULL_PAYLOAD_KEY_PREFIX + viewKey);
+        if (cached.isPresent()) {
+            MetricsMonitor.getPushPayloadReusedCounter().increment();
+            return cached.get().duplicate();
+        }
+        SharedPayloadRequest result = SharedPayloadRequest
+                .of(NotifySubscriberRequest.buildNotifySubscriberRequest(serviceInfo));
+        MetricsMonitor.getPushPayloadSerializedCounter().increment();
+        data.addProcessedPushData(FULL_PAYLOAD_KEY_PREFIX + viewKey, result);
+        return result.duplicate();
+    }
+    
+    private boolean isDeltaPushSupported(String clientId) {
+        if (!PushConfig.getInstance().isPushDeltaEnabled()) {
+            return false;
+        }
+        Connection connection = connectionManager.getConnection(clientId);
+        return null != connection && AbilityStatus.SUPPORTED == connection.getConnectionAbility(
+                AbilityKey.SDK_CLIENT_SUPPORT_NAMING_DELTA_PUSH);
+    }
+    
+    private Service getService(Subscriber subscriber) {
+        String groupedServiceName = subscriber.getServiceName();
+        return Service.newService(subscriber.getNamespaceId(), NamingUtils.getGroupName(groupedServiceName),
+                NamingUtils.getServiceName(groupedServiceName));
+    }
+    
+    /**
+     * Get the delta request from the service info acknowledged by the client. Clients which acknowledged the same
+     * service info share the delta payload.
+     *
+     * @param data        push data
+     * @param viewKey     view key of the subscriber
+     * @param clientId    client id
+     * @param service     service
+     * @param serviceInfo service info to push
+     * @return delta request, or {@code null} if the full service info should be pushed
+     */
+    private SharedPayloadRequest getDeltaRequest(PushDataWrapper data, String viewKey, String clientId,
+            Service service, ServiceInfo serviceInfo) {
+        Map<Service, ServiceInfo> serviceInfos = ackedServiceInfos.get(clientId);
+        ServiceInfo base = null == serviceInfos ? null : serviceInfos.get(service);
+        if (null == base) {
+            return null;
+        }
+        String key = DELTA_PAYLOAD_KEY_PREFIX + viewKey + VIEW_KEY_SPLITTER + base.getLastRefTime();
+        Optional<DeltaPayload> cached = data.getProcessedPushData(key);
+        if (cached.isPresent() && cached.get().base == base) {
+            if (null == cached.get().request) {
+                return null;
+            }
+            MetricsMonitor.getPushPayloadReusedCounter().increment();
+            return cached.get().request.duplicate();
+        }
+        NotifySubscriberRequest request = buildDeltaRequest(base, serviceInfo);
+        SharedPayloadRequest result = null == request ? null : SharedPayloadRequest.of(request);
+        if (null != result) {
+            MetricsMonitor.getPushPayloadSerializedCounter().increment();
+        }
+        if (!cached.isPresent()) {
+            data.addProcessedPushData(key, new DeltaPayload(base, result));
+        }
+        return null == result ? null : result.duplicate();
+    }
+    
+    private NotifySubscriberRequest buildDeltaRequest(ServiceInfo base, ServiceInfo serviceInfo) {
+        ServiceInfoDelta delta = ServiceInfoDelta.compute(base, serviceInfo);
+        if (null == delta) {
+            return null;
+        }
+        return NotifySubscriberRequest.buildDeltaNotifySubscriberRequest(withoutHosts(serviceInfo),
+                base.getLastRefTime(), NamingUtils.calculateInstancesDigest(base.getHosts()),
+                delta.getChangedInstances(), delta.getRemovedInstances());
+    }
+    
+    private ServiceInfo withoutHosts(ServiceInfo serviceInfo) {
+        ServiceInfo result = new ServiceInfo();
+        result.setName(serviceInfo.getName());
+        result.setGroupName(serviceInfo.getGroupName());
+        result.setClusters(serviceInfo.getClusters());
+        result.setCacheMillis(serviceInfo.getCacheMillis());
+        result.setLastRefTime(serviceInfo.getLastRefTime());
+        result.setChecksum(serviceInfo.getChecksum());
+        result.setAllIPs(serviceInfo.isAllIPs());
+        result.setReachProtectionThreshold(serviceInfo.isReachProtectionThreshold());
+        return result;
+    }
+    
+    private void recordAckedServiceInfo(String clientId, Service service, ServiceInfo serviceInfo) {
+        ackedServiceInfos.computeIfAbsent(clientId, key -> new ConcurrentHashMap<>(4)).merge(service, serviceInfo,
+                (previous, current) -> previous.getLastRefTime() > current.getLastRefTime() ? previous : current);
+        // The client might be released during recording, check again to avoid leaking its service infos.
+        if (null == connectionManager.getConnection(clientId)) {
+            ackedServiceInfos.remove(clientId);
+        }
+    }
+    
+    private void removeAckedServiceInfo(String clientId, Service service) {
+        Map<Service, ServiceInfo> serviceInfos = ackedServiceInfos.get(clientId);
+        if (null != serviceInfos) {
+            serviceInfos.remove(service);
+        }
+    }
+    
+    @Override
+    public List<Class<? extends Event>> subscribeTypes() {
+        List<Class<? extends Event>> result = new LinkedList<>();
+        result.add(ClientOperationEvent.ClientUnsubscribeServiceEvent.class);
+        result.add(ClientOperationEvent.ClientReleaseEvent.class);
+        return result;
+    }
+    
+    @Override
+    public void onEvent(Event event) {
+        if (event instanceof ClientOperationEvent.ClientReleaseEvent) {
+            ackedServiceInfos.remove(((ClientOperationEvent.ClientReleaseEvent) event).getClientId());
+        } else if (event instanceof ClientOperationEvent.ClientUnsubscribeServiceEvent) {
+            ClientOperationEvent operationEvent = (ClientOperationEvent) event;
+            removeAckedServiceInfo(operationEvent.getClientId(), operationEvent.getService());
+        }
+    }
+    
+    private static class DeltaPayload {
+        
+        private final ServiceInfo base;
+        
+        private final SharedPayloadRequest request;
+        
+        private DeltaPayload(ServiceInfo base, SharedPayloadRequest request) {
+            this.base = base;
+            this.request = request;
+        }
+    }
+    
+    private class AckRecordCallback implements NamingPushCallback {
+        
+        private final String clientId;
+        
+        private final Service service;
+        
+        private final ServiceInfo serviceInfo;
+        
+        private final boolean delta;
+        
+        private final NamingPushCallback delegate;
+        
+        private AckRecordCallback(String clientId, Service service, ServiceInfo serviceInfo, boolean delta,
+                NamingPushCallback delegate) {
+            this.clientId = clientId;
+            this.service = service;
+            this.serviceInfo = serviceInfo;
+            this.delta = delta;
+            this.delegate = delegate;
+        }
+        
+        @Override
+        public long getTimeout() {
+            return delegate.getTimeout();
+        }
+        
+        @Override
+        public void onSuccess() {
+            recordAckedServiceInfo(clientId, service, serviceInfo);
+            delegate.onSuccess();
+        }
+        
+        @Override
+        public void onFail(Throwable e) {
+            removeAckedServiceInfo(clientId, service);
+            if (!delta) {
+                delegate.onFail(e);
+                return;
+            }
+            Loggers.PUSH.warn("[PUSH-DELTA] delta push failed, push full data instead, {}, target={}, reason={}",
+                    service, clientId, e.getMessage());
+            pushService.pushWithCallback(clientId, NotifySubscriberRequest.buildNotifySubscriberRequest(serviceInfo),
+                    new AckRecordCallback(clientId, service, serviceInfo, false, delegate),
+                    GlobalExecutor.getCallbackExecutor());
+        }
+        
+        @Override
+        public void setActualServiceInfo(ServiceInfo serviceInfo) {
+            delegate.setActualServiceInfo(serviceInfo);
+        }
     }
 }
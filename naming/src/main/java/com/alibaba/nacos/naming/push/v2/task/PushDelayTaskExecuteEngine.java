@@ -16,9 +16,13 @@
 
 package com.alibaba.nacos.naming.push.v2.task;
 
+import com.alibaba.nacos.api.exception.NacosException;
+import com.alibaba.nacos.common.executor.ExecutorFactory;
+import com.alibaba.nacos.common.executor.NameThreadFactory;
+import com.alibaba.nacos.common.task.AbstractDelayTask;
 import com.alibaba.nacos.common.task.NacosTask;
 import com.alibaba.nacos.common.task.NacosTaskProcessor;
-import com.alibaba.nacos.common.task.engine.NacosDelayTaskExecuteEngine;
+import com.alibaba.nacos.common.task.engine.AbstractNacosTaskExecuteEngine;
 import com.alibaba.nacos.naming.core.v2.client.manager.ClientManager;
 import com.alibaba.nacos.naming.core.v2.index.ClientServiceIndexesManager;
 import com.alibaba.nacos.naming.core.v2.index.ServiceStorage;
@@ -27,14 +31,27 @@ import com.alibaba.nacos.naming.core.v2.pojo.Service;
 import com.alibaba.nacos.naming.misc.Loggers;
 import com.alibaba.nacos.naming.misc.NamingExecuteTaskDispatcher;
 import com.alibaba.nacos.naming.misc.SwitchDomain;
+import com.alibaba.nacos.naming.push.v2.PushConfig;
 import com.alibaba.nacos.naming.push.v2.executor.PushExecutor;
 
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
 /**
  * Nacos naming push delay task execute engine.
  *
+ * <p>Tasks are hashed by key (the {@link Service}) onto several independent shards. Each shard merges its tasks in a
+ * lock-free map and processes them with its own single thread, so tasks of the same service are still merged and
+ * dispatched in order while different services do not contend on one lock and one thread.
+ *
  * @author xiweng.yy
  */
-public class PushDelayTaskExecuteEngine extends NacosDelayTaskExecuteEngine {
+public class PushDelayTaskExecuteEngine extends AbstractNacosTaskExecuteEngine<AbstractDelayTask> {
+    
+    private static final long PROCESS_INTERVAL = 100L;
     
     private final ClientManager clientManager;
     
@@ -48,10 +65,19 @@ public class PushDelayTaskExecuteEngine extends NacosDelayTaskExecuteEngine {
     
     private final SwitchDomain switchDomain;
     
+    private final PushDelayTaskShard[] shards;
+    
     public PushDelayTaskExecuteEngine(ClientManager clientManager, ClientServiceIndexesManager indexesManager,
                                       ServiceStorage serviceStorage, NamingMetadataManager metadataManager,
                                       PushExecutor pushExecutor, SwitchDomain switchDomain) {
-        super(PushDelayTaskExecuteEngine.class.getSimpleName(), Loggers.PUSH);
+        this(clientManager, indexesManager, serviceStorage, metadataManager, pushExecutor, switchDomain,
+                PushConfig.getInstance().getPushTaskShardCount());
+    }
+    
+    public PushDelayTaskExecuteEngine(ClientManager clientManager, ClientServiceIndexesManager indexesManager,
+                                      ServiceStorage serviceStorage, NamingMetadataManager metadataManager,
+                                      PushExecutor pushExecutor, SwitchDomain switchDomain, int shardCount) {
+        super(Loggers.PUSH);
         this.clientManager = clientManager;
         this.indexesManager = indexesManager;
         this.serviceStorage = serviceStorage;
@@ -59,6 +85,10 @@ public class PushDelayTaskExecuteEngine extends NacosDelayTaskExecuteEngine {
         this.pushExecutor = pushExecutor;
         this.switchDomain = switchDomain;
         setDefaultTaskProcessor(new PushDelayTaskProcessor(this));
+        this.shards = new PushDelayTaskShard[Math.max(1, shardCount)];
+        for (int i = 0; i < shards.length; i++) {
+            shards[i] = new PushDelayTaskShard(i);
+        }
     }
     
     public ClientManager getClientManager() {
@@ -82,11 +112,131 @@ public class PushDelayTaskExecuteEngine extends NacosDelayTaskExecuteEngine {
     }
     
     @Override
-    protected void processTasks() {
-        if (!switchDomain.isPushEnabled()) {
-            return;
+    public void addTask(Object key, AbstractDelayTask newTask) {
+        getShard(key).addTask(key, newTask);
+    }
+    
+    @Override
+    public AbstractDelayTask removeTask(Object key) {
+        return getShard(key).removeTask(key);
+    }
+    
+    @Override
+    public Collection<Object> getAllTaskKeys() {
+        Collection<Object> keys = new HashSet<>();
+        for (PushDelayTaskShard each : shards) {
+            keys.addAll(each.tasks.keySet());
+        }
+        return keys;
+    }
+    
+    @Override
+    public int size() {
+        int result = 0;
+        for (PushDelayTaskShard each : shards) {
+            result += each.tasks.size();
+        }
+        return result;
+    }
+    
+    @Override
+    public boolean isEmpty() {
+        for (PushDelayTaskShard each : shards) {
+            if (!each.tasks.isEmpty()) {
+                return false;
+            }
+        }
+        return true;
+    }
+    
+    /**
+     * Get the pending task count of each shard, the index of result is the index of shard.
+     *
+     * @return pending task count of each shard
+     */
+    public int[] getShardSizes() {
+        int[] result = new int[shards.length];
+        for (int i = 0; i < shards.length; i++) {
+            result[i] = shards[i].tasks.size();
+        }
+        return result;
+    }
+    
+    @Override
+    public void shutdown() throws NacosException {
+        for (PushDelayTaskShard each : shards) {
+            each.tasks.clear();
+            each.processingExecutor.shutdown();
+        }
+    }
+    
+    private PushDelayTaskShard getShard(Object key) {
+        return shards[(key.hashCode() & Integer.MAX_VALUE) % shards.length];
+    }
+    
+    private class PushDelayTaskShard implements Runnable {
+        
+        private final ConcurrentHashMap<Object, AbstractDelayTask> tasks = new ConcurrentHashMap<>(32);
+        
+        private final ScheduledExecutorService processingExecutor;
+        
+        private PushDelayTaskShard(int index) {
+            String name = PushDelayTaskExecuteEngine.class.getSimpleName() + "-" + index;
+            processingExecutor = ExecutorFactory.newSingleScheduledExecutorService(new NameThreadFactory(name));
+            processingExecutor.scheduleWithFixedDelay(this, PROCESS_INTERVAL, PROCESS_INTERVAL, TimeUnit.MILLISECONDS);
+        }
+        
+        private void addTask(Object key, AbstractDelayTask newTask) {
+            tasks.merge(key, newTask, (existTask, task) -> {
+                task.merge(existTask);
+                return task;
+            });
+        }
+        
+        private AbstractDelayTask removeTask(Object key) {
+            AbstractDelayTask task = tasks.get(key);
+            // Only remove the task which is read, if it is merged by other task meanwhile, process it next round.
+            if (null != task && task.shouldProcess() && tasks.remove(key, task)) {
+                return task;
+            }
+            return null;
+        }
+        
+        @Override
+        public void run() {
+            try {
+                if (!switchDomain.isPushEnabled()) {
+                    return;
+                }
+                processTasks();
+            } catch (Throwable e) {
+                getEngineLog().error(e.toString(), e);
+            }
+        }
+        
+        private void processTasks() {
+            for (Object taskKey : tasks.keySet()) {
+                AbstractDelayTask task = removeTask(taskKey);
+                if (null == task) {
+                    continue;
+                }
+                NacosTaskProcessor processor = getProcessor(taskKey);
+                try {
+                    // ReAdd task if process failed
+                    if (!processor.process(task)) {
+                        retryFailedTask(taskKey, task);
+                    }
+                } catch (Throwable e) {
+                    getEngineLog().error("Nacos task execute error ", e);
+                    retryFailedTask(taskKey, task);
+                }
+            }
+        }
+        
+        private void retryFailedTask(Object key, AbstractDelayTask task) {
+            task.setLastProcessTime(System.currentTimeMillis());
+            addTask(key, task);
         }
-        super.processTasks();
     }
     
     private static class PushDelayTaskProcessor implements NacosTaskProcessor {
@@ -0,0 +1,65 @@
+/*
+ * Copyright 1999-2025 Alibaba Group Holding Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.alibaba.nacos.naming.remote.rpc.handler;
+
+import com.alibaba.nacos.api.exception.NacosException;
+import com.alibaba.nacos.api.remote.RemoteConstants;
+import com.alibaba.nacos.api.remote.request.RequestMeta;
+import com.alibaba.nacos.api.remote.response.ResponseCode;
+import com.alibaba.nacos.common.utils.CollectionUtils;
+import com.alibaba.nacos.core.distributed.distro.DistroProtocol;
+import com.alibaba.nacos.core.remote.RequestHandler;
+import com.alibaba.nacos.core.remote.grpc.InvokeSource;
+import com.alibaba.nacos.naming.cluster.remote.request.DistroBatchDataRequest;
+import com.alibaba.nacos.naming.cluster.remote.response.DistroDataResponse;
+import com.alibaba.nacos.naming.misc.Loggers;
+import org.springframework.stereotype.Component;
+
+/**
+ * Distro batch data request handler.
+ *
+ * @author Nacos
+ */
+@InvokeSource(source = {RemoteConstants.LABEL_SOURCE_CLUSTER})
+@Component
+public class DistroBatchDataRequestHandler extends RequestHandler<DistroBatchDataRequest, DistroDataResponse> {
+    
+    private final DistroProtocol distroProtocol;
+    
+    public DistroBatchDataRequestHandler(DistroProtocol distroProtocol) {
+        this.distroProtocol = distroProtocol;
+    }
+    
+    @Override
+    public DistroDataResponse handle(DistroBatchDataRequest request, RequestMeta meta) throws NacosException {
+        DistroDataResponse result = new DistroDataResponse();
+        if (CollectionUtils.isEmpty(request.getDistroDataList())) {
+            return result;
+        }
+        try {
+            if (!distroProtocol.onBatchReceive(request.getDistroDataList())) {
+                result.setErrorInfo(ResponseCode.FAIL.getCode(), "[DISTRO-FAILED] distro batch data handle failed");
+            }
+        } catch (Exception e) {
+            Loggers.DISTRO.error("[DISTRO-FAILED] distro batch handle with exception", e);
+            result.setResultCode(ResponseCode.FAIL.getCode());
+            result.setErrorCode(ResponseCode.FAIL.getCode());
+            result.setMessage("handle distro batch request with exception");
+        }
+        return result;
+    }
+}
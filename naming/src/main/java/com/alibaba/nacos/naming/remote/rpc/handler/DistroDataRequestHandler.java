@@ -53,7 +53,7 @@ public class DistroDataRequestHandler extends RequestHandler<DistroDataRequest,
                 case VERIFY:
                     return handleVerify(request.getDistroData(), meta);
                 case SNAPSHOT:
-                    return handleSnapshot();
+                    return handleSnapshot(request);
                 case ADD:
                 case CHANGE:
                 case DELETE:
@@ -81,9 +81,11 @@ public class DistroDataRequestHandler extends RequestHandler<DistroDataRequest,
         return result;
     }
     
-    private DistroDataResponse handleSnapshot() {
+    private DistroDataResponse handleSnapshot(DistroDataRequest request) {
         DistroDataResponse result = new DistroDataResponse();
-        DistroData distroData = distroProtocol.onSnapshot(DistroClientDataProcessor.TYPE);
+        DistroData distroData = request.getChunkCount() > 1 ? distroProtocol
+                .onSnapshot(DistroClientDataProcessor.TYPE, request.getChunkIndex(), request.getChunkCount())
+                : distroProtocol.onSnapshot(DistroClientDataProcessor.TYPE);
         result.setDistroData(distroData);
         return result;
     }
@@ -0,0 +1,63 @@
+/*
+ * Copyright 1999-2025 Alibaba Group Holding Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.alibaba.nacos.naming.remote.rpc.handler;
+
+import com.alibaba.nacos.api.exception.NacosException;
+import com.alibaba.nacos.api.remote.RemoteConstants;
+import com.alibaba.nacos.api.remote.request.RequestMeta;
+import com.alibaba.nacos.api.remote.response.ResponseCode;
+import com.alibaba.nacos.core.distributed.distro.DistroProtocol;
+import com.alibaba.nacos.core.distributed.distro.entity.DistroData;
+import com.alibaba.nacos.core.remote.RequestHandler;
+import com.alibaba.nacos.core.remote.grpc.InvokeSource;
+import com.alibaba.nacos.naming.cluster.remote.request.DistroVerifyDigestRequest;
+import com.alibaba.nacos.naming.cluster.remote.response.DistroDataResponse;
+import com.alibaba.nacos.naming.misc.Loggers;
+import org.springframework.stereotype.Component;
+
+/**
+ * Distro verify digest request handler.
+ *
+ * @author Nacos
+ */
+@InvokeSource(source = {RemoteConstants.LABEL_SOURCE_CLUSTER})
+@Component
+public class DistroVerifyDigestRequestHandler extends RequestHandler<DistroVerifyDigestRequest, DistroDataResponse> {
+    
+    private final DistroProtocol distroProtocol;
+    
+    public DistroVerifyDigestRequestHandler(DistroProtocol distroProtocol) {
+        this.distroProtocol = distroProtocol;
+    }
+    
+    @Override
+    public DistroDataResponse handle(DistroVerifyDigestRequest request, RequestMeta meta) throws NacosException {
+        DistroDataResponse result = new DistroDataResponse();
+        try {
+            DistroData localDigest = distroProtocol.onVerifyDigest(request.getDistroData(), meta.getClientIp());
+            if (null == localDigest) {
+                result.setErrorInfo(ResponseCode.FAIL.getCode(), "[DISTRO-FAILED] distro verify digest not supported");
+            } else {
+                result.setDistroData(localDigest);
+            }
+        } catch (Exception e) {
+            Loggers.DISTRO.error("[DISTRO-FAILED] distro verify digest handle with exception", e);
+            result.setErrorInfo(ResponseCode.FAIL.getCode(), "handle distro verify digest request with exception");
+        }
+        return result;
+    }
+}
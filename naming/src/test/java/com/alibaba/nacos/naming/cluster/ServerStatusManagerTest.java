@@ -21,6 +21,7 @@ package com.alibaba.nacos.naming.cluster;
 import com.alibaba.nacos.consistency.cp.CPProtocol;
 import com.alibaba.nacos.core.distributed.ProtocolManager;
 import com.alibaba.nacos.core.distributed.distro.DistroProtocol;
+import com.alibaba.nacos.naming.consistency.ephemeral.distro.v2.DistroClientDataProcessor;
 import com.alibaba.nacos.naming.misc.GlobalConfig;
 import com.alibaba.nacos.naming.misc.GlobalExecutor;
 import com.alibaba.nacos.naming.misc.SwitchDomain;
@@ -88,7 +89,7 @@ class ServerStatusManagerTest {
         when(protocolManager.isCpInit()).thenReturn(true);
         when(globalConfig.isDataWarmup()).thenReturn(true);
         when(protocolManager.getCpProtocol()).thenReturn(cpProtocol);
-        when(distroProtocol.isInitialized()).thenReturn(false);
+        when(distroProtocol.isInitialized(DistroClientDataProcessor.TYPE)).thenReturn(false);
         Optional<String> errorMsg = serverStatusManager.getErrorMsg();
         assertTrue(errorMsg.isPresent());
         assertTrue(errorMsg.get().contains("distro"));
@@ -100,7 +101,7 @@ class ServerStatusManagerTest {
         when(globalConfig.isDataWarmup()).thenReturn(true);
         when(protocolManager.getCpProtocol()).thenReturn(cpProtocol);
         when(cpProtocol.isReady()).thenReturn(false);
-        when(distroProtocol.isInitialized()).thenReturn(true);
+        when(distroProtocol.isInitialized(DistroClientDataProcessor.TYPE)).thenReturn(true);
         Optional<String> errorMsg = serverStatusManager.getErrorMsg();
         assertTrue(errorMsg.isPresent());
         assertTrue(errorMsg.get().contains("raft"));
@@ -166,7 +167,7 @@ class ServerStatusManagerTest {
         when(globalConfig.isDataWarmup()).thenReturn(true);
         when(protocolManager.getCpProtocol()).thenReturn(cpProtocol);
         when(cpProtocol.isReady()).thenReturn(true);
-        when(distroProtocol.isInitialized()).thenReturn(true);
+        when(distroProtocol.isInitialized(DistroClientDataProcessor.TYPE)).thenReturn(true);
         ServerStatusManager.ServerStatusUpdater updater = serverStatusManager.new ServerStatusUpdater();
         updater.run();
         assertEquals(ServerStatus.UP, serverStatusManager.getServerStatus());
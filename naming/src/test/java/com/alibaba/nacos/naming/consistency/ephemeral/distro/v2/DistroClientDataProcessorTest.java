@@ -41,6 +41,7 @@ import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
 import org.mockito.Mock;
 import org.mockito.Mockito;
 import org.mockito.junit.jupiter.MockitoExtension;
@@ -61,6 +62,7 @@ import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
@@ -376,6 +378,21 @@ class DistroClientDataProcessorTest {
         assertEquals(DistroClientDataProcessor.TYPE, actual.getDistroKey().getResourceType());
     }
     
+    @Test
+    void testGetDatumSnapshotChunk() {
+        when(clientManager.allClientId()).thenReturn(Collections.singletonList(CLIENT_ID));
+        DistroData chunk0 = distroClientDataProcessor.getDatumSnapshot(0, 2);
+        DistroData chunk1 = distroClientDataProcessor.getDatumSnapshot(1, 2);
+        assertEquals(DataOperation.SNAPSHOT, chunk0.getType());
+        assertEquals(DataOperation.SNAPSHOT, chunk1.getType());
+        ArgumentCaptor<ClientSyncDatumSnapshot> captor = ArgumentCaptor.forClass(ClientSyncDatumSnapshot.class);
+        verify(serializer, times(2)).serialize(captor.capture());
+        int chunkSize0 = captor.getAllValues().get(0).getClientSyncDataList().size();
+        int chunkSize1 = captor.getAllValues().get(1).getClientSyncDataList().size();
+        assertEquals(1, chunkSize0 + chunkSize1);
+        assertEquals((CLIENT_ID.hashCode() & Integer.MAX_VALUE) % 2 == 0 ? 1 : 0, chunkSize0);
+    }
+    
     @Test
     void testGetVerifyData() {
         client.setRevision(10L);
@@ -386,4 +403,51 @@ class DistroClientDataProcessorTest {
         assertEquals(CLIENT_ID, list.iterator().next().getDistroKey().getResourceKey());
         assertEquals(DistroClientDataProcessor.TYPE, list.iterator().next().getDistroKey().getResourceType());
     }
-}
\ No newline at end of file
+    
+    @Test
+    void testProcessVerifyDigest() {
+        client.setRevision(10L);
+        DistroClientVerifyInfo verifyInfo = new DistroClientVerifyInfo(CLIENT_ID, 10L);
+        when(serializer.deserialize(any(), eq(DistroClientVerifyInfo.class))).thenReturn(verifyInfo);
+        when(clientManager.verifyClient(any(DistroClientVerifyInfo.class))).thenReturn(true);
+        assertTrue(distroClientDataProcessor.processVerifyData(distroData, MOCK_TARGET_SERVER));
+        DistroClientVerifyDigest remoteDigest = new DistroClientVerifyDigest(16);
+        remoteDigest.add(CLIENT_ID, 10L);
+        when(serializer.deserialize(any(), eq(DistroClientVerifyDigest.class))).thenReturn(remoteDigest);
+        DistroData actual = distroClientDataProcessor.processVerifyDigest(distroData, MOCK_TARGET_SERVER);
+        assertEquals(DataOperation.VERIFY, actual.getType());
+        verify(serializer).serialize(Mockito.argThat(
+                (Object digest) -> digest instanceof DistroClientVerifyDigest && remoteDigest.isMatched(
+                        (DistroClientVerifyDigest) digest)));
+        verify(clientManager, Mockito.times(2)).verifyClient(any(DistroClientVerifyInfo.class));
+    }
+    
+    @Test
+    void testGetVerifyDataByDigest() {
+        client.setRevision(10L);
+        when(clientManager.allClientId()).thenReturn(Collections.singletonList(CLIENT_ID));
+        DistroClientVerifyDigest localDigest = new DistroClientVerifyDigest(16);
+        localDigest.add(CLIENT_ID, 10L);
+        DistroData localData = new DistroData(distroKey, new byte[] {1});
+        DistroData remoteData = new DistroData(distroKey, new byte[] {2});
+        when(serializer.deserialize(eq(localData.getContent()), eq(DistroClientVerifyDigest.class))).thenReturn(
+                localDigest);
+        when(serializer.deserialize(eq(remoteData.getContent()), eq(DistroClientVerifyDigest.class))).thenReturn(
+                new DistroClientVerifyDigest(16));
+        List<DistroData> list = distroClientDataProcessor.getVerifyData(localData, remoteData);
+        assertEquals(1, list.size());
+        assertEquals(CLIENT_ID, list.get(0).getDistroKey().getResourceKey());
+        when(serializer.deserialize(eq(remoteData.getContent()), eq(DistroClientVerifyDigest.class))).thenReturn(
+                localDigest);
+        assertTrue(null == distroClientDataProcessor.getVerifyData(localData, remoteData));
+    }
+    
+    @Test
+    void testGetVerifyDigest() {
+        when(clientManager.allClientId()).thenReturn(Collections.singletonList(CLIENT_ID));
+        DistroData actual = distroClientDataProcessor.getVerifyDigest();
+        assertEquals(DataOperation.VERIFY, actual.getType());
+        assertEquals(DistroClientDataProcessor.TYPE, actual.getDistroKey().getResourceType());
+        verify(serializer).serialize(any(DistroClientVerifyDigest.class));
+    }
+}
@@ -25,9 +25,13 @@ import com.alibaba.nacos.core.cluster.NodeState;
 import com.alibaba.nacos.core.cluster.ServerMemberManager;
 import com.alibaba.nacos.core.cluster.remote.ClusterRpcClientProxy;
 import com.alibaba.nacos.core.distributed.distro.component.DistroCallback;
+import com.alibaba.nacos.core.distributed.distro.component.DistroVerifyDigestCallback;
 import com.alibaba.nacos.core.distributed.distro.entity.DistroData;
 import com.alibaba.nacos.core.distributed.distro.entity.DistroKey;
 import com.alibaba.nacos.core.distributed.distro.exception.DistroException;
+import com.alibaba.nacos.naming.cluster.remote.request.DistroBatchDataRequest;
+import com.alibaba.nacos.naming.cluster.remote.request.DistroDataRequest;
+import com.alibaba.nacos.naming.cluster.remote.request.DistroVerifyDigestRequest;
 import com.alibaba.nacos.naming.cluster.remote.response.DistroDataResponse;
 import com.alibaba.nacos.sys.env.EnvUtil;
 import com.alibaba.nacos.sys.utils.ApplicationUtils;
@@ -43,14 +47,20 @@ import org.mockito.quality.Strictness;
 import org.springframework.context.ConfigurableApplicationContext;
 import org.springframework.mock.env.MockEnvironment;
 
+import java.util.Arrays;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.argThat;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.doAnswer;
 import static org.mockito.Mockito.doThrow;
 import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
@@ -71,6 +81,9 @@ class DistroClientTransportAgentTest {
     @Mock
     DistroCallback distroCallback;
     
+    @Mock
+    DistroVerifyDigestCallback verifyDigestCallback;
+    
     @InjectMocks
     DistroClientTransportAgent transportAgent;
     
@@ -495,4 +508,137 @@ class DistroClientTransportAgentTest {
         when(clusterRpcClientProxy.sendRequest(eq(member), any(), any(Long.class))).thenReturn(response);
         transportAgent.getDatumSnapshot(member.getAddress());
     }
+    
+    @Test
+    void testGetDatumSnapshotChunkSuccess() throws NacosException {
+        when(memberManager.find(member.getAddress())).thenReturn(member);
+        member.setState(NodeState.UP);
+        when(clusterRpcClientProxy.isRunning(member)).thenReturn(true);
+        when(clusterRpcClientProxy.sendRequest(eq(member), any(), any(Long.class))).thenReturn(response);
+        assertTrue(transportAgent.supportChunkedSnapshot());
+        transportAgent.getDatumSnapshot(member.getAddress(), 1, 4);
+        verify(clusterRpcClientProxy).sendRequest(eq(member), argThat(request -> {
+            DistroDataRequest distroDataRequest = (DistroDataRequest) request;
+            return 1 == distroDataRequest.getChunkIndex() && 4 == distroDataRequest.getChunkCount();
+        }), any(Long.class));
+    }
+    
+    @Test
+    void testGetDatumSnapshotChunkFailure() throws NacosException {
+        assertThrows(DistroException.class, () -> {
+            when(memberManager.find(member.getAddress())).thenReturn(member);
+            member.setState(NodeState.UP);
+            when(clusterRpcClientProxy.isRunning(member)).thenReturn(true);
+            when(clusterRpcClientProxy.sendRequest(eq(member), any(), any(Long.class))).thenReturn(response);
+            response.setErrorInfo(ResponseCode.FAIL.getCode(), "TEST");
+            transportAgent.getDatumSnapshot(member.getAddress(), 1, 4);
+        });
+    }
+    
+    @Test
+    void testSupportBatchTransport() {
+        assertTrue(transportAgent.supportBatchTransport());
+    }
+    
+    @Test
+    void testSyncBatchDataForMemberNonExist() throws NacosException {
+        transportAgent.syncBatchData(Arrays.asList(new DistroData(), new DistroData()), member.getAddress(),
+                distroCallback);
+        verify(distroCallback).onSuccess();
+        verify(clusterRpcClientProxy, never()).asyncRequest(any(Member.class), any(), any());
+    }
+    
+    @Test
+    void testSyncBatchDataSuccess() throws NacosException {
+        when(memberManager.hasMember(member.getAddress())).thenReturn(true);
+        member.setState(NodeState.UP);
+        when(clusterRpcClientProxy.isRunning(member)).thenReturn(true);
+        transportAgent.syncBatchData(Arrays.asList(new DistroData(), new DistroData()), member.getAddress(),
+                distroCallback);
+        verify(distroCallback).onSuccess();
+        verify(clusterRpcClientProxy).asyncRequest(eq(member), any(DistroBatchDataRequest.class), any());
+    }
+    
+    @Test
+    void testSyncBatchDataFallbackForNoHandler() throws NacosException {
+        when(memberManager.hasMember(member.getAddress())).thenReturn(true);
+        member.setState(NodeState.UP);
+        when(clusterRpcClientProxy.isRunning(member)).thenReturn(true);
+        doAnswer(invocationOnMock -> {
+            RequestCallBack<Response> callback = invocationOnMock.getArgument(2);
+            callback.onException(new NacosException(NacosException.NO_HANDLER, "no handler"));
+            return null;
+        }).when(clusterRpcClientProxy).asyncRequest(eq(member), any(DistroBatchDataRequest.class), any());
+        doAnswer(invocationOnMock -> {
+            RequestCallBack<Response> callback = invocationOnMock.getArgument(2);
+            callback.onResponse(response);
+            return null;
+        }).when(clusterRpcClientProxy).asyncRequest(eq(member), any(DistroDataRequest.class), any());
+        List<DistroData> batch = Arrays.asList(new DistroData(), new DistroData());
+        transportAgent.syncBatchData(batch, member.getAddress(), distroCallback);
+        verify(distroCallback).onSuccess();
+        verify(clusterRpcClientProxy, times(2)).asyncRequest(eq(member), any(DistroDataRequest.class), any());
+        // target marked as batch unsupported, so the next batch is synced one by one directly.
+        transportAgent.syncBatchData(batch, member.getAddress(), distroCallback);
+        verify(clusterRpcClientProxy).asyncRequest(eq(member), any(DistroBatchDataRequest.class), any());
+        verify(clusterRpcClientProxy, times(4)).asyncRequest(eq(member), any(DistroDataRequest.class), any());
+    }
+    
+    @Test
+    void testSyncBatchDataFailure() throws NacosException {
+        when(memberManager.hasMember(member.getAddress())).thenReturn(true);
+        member.setState(NodeState.UP);
+        response.setErrorInfo(ResponseCode.FAIL.getCode(), "TEST");
+        when(clusterRpcClientProxy.isRunning(member)).thenReturn(true);
+        transportAgent.syncBatchData(Arrays.asList(new DistroData(), new DistroData()), member.getAddress(),
+                distroCallback);
+        verify(distroCallback).onFailed(null);
+    }
+    
+    @Test
+    void testSupportVerifyDigest() {
+        assertTrue(transportAgent.supportVerifyDigest());
+    }
+    
+    @Test
+    void testSyncVerifyDigestSuccess() throws NacosException {
+        when(memberManager.hasMember(member.getAddress())).thenReturn(true);
+        member.setState(NodeState.UP);
+        when(clusterRpcClientProxy.isRunning(member)).thenReturn(true);
+        DistroData remoteDigest = new DistroData();
+        ((DistroDataResponse) response).setDistroData(remoteDigest);
+        DistroData verifyDigest = new DistroData(new DistroKey("digest", "type"), new byte[0]);
+        transportAgent.syncVerifyDigest(verifyDigest, member.getAddress(), verifyDigestCallback);
+        verify(verifyDigestCallback).onSuccess(remoteDigest);
+        verify(clusterRpcClientProxy).asyncRequest(eq(member), any(DistroVerifyDigestRequest.class), any());
+        assertEquals(member.getAddress(), verifyDigest.getDistroKey().getTargetServer());
+    }
+    
+    @Test
+    void testSyncVerifyDigestForMemberUnhealthy() throws NacosException {
+        when(memberManager.hasMember(member.getAddress())).thenReturn(true);
+        DistroData verifyDigest = new DistroData(new DistroKey("digest", "type"), new byte[0]);
+        transportAgent.syncVerifyDigest(verifyDigest, member.getAddress(), verifyDigestCallback);
+        verify(verifyDigestCallback).onFailed(null);
+        verify(clusterRpcClientProxy, never()).asyncRequest(any(Member.class), any(), any());
+    }
+    
+    @Test
+    void testSyncVerifyDigestForNoHandler() throws NacosException {
+        when(memberManager.hasMember(member.getAddress())).thenReturn(true);
+        member.setState(NodeState.UP);
+        when(clusterRpcClientProxy.isRunning(member)).thenReturn(true);
+        doAnswer(invocationOnMock -> {
+            RequestCallBack<Response> callback = invocationOnMock.getArgument(2);
+            callback.onException(new NacosException(NacosException.NO_HANDLER, "no handler"));
+            return null;
+        }).when(clusterRpcClientProxy).asyncRequest(eq(member), any(DistroVerifyDigestRequest.class), any());
+        DistroData verifyDigest = new DistroData(new DistroKey("digest", "type"), new byte[0]);
+        transportAgent.syncVerifyDigest(verifyDigest, member.getAddress(), verifyDigestCallback);
+        verify(verifyDigestCallback).onFailed(any(NacosException.class));
+        // target marked as digest unsupported, so the next digest fails directly without request.
+        transportAgent.syncVerifyDigest(verifyDigest, member.getAddress(), verifyDigestCallback);
+        verify(verifyDigestCallback).onFailed(null);
+        verify(clusterRpcClientProxy).asyncRequest(eq(member), any(DistroVerifyDigestRequest.class), any());
+    }
 }
@@ -0,0 +1,70 @@
+/*
+ * Copyright 1999-2025 Alibaba Group Holding Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.alibaba.nacos.naming.consistency.ephemeral.distro.v2;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class DistroClientVerifyDigestTest {
+    
+    @Test
+    void testMatchedIgnoreOrder() {
+        DistroClientVerifyDigest digest1 = new DistroClientVerifyDigest(16);
+        digest1.add("client1", 1L);
+        digest1.add("client2", 2L);
+        DistroClientVerifyDigest digest2 = new DistroClientVerifyDigest(16);
+        digest2.add("client2", 2L);
+        digest2.add("client1", 1L);
+        assertTrue(digest1.isMatched(digest2));
+        assertTrue(digest1.mismatchedBuckets(digest2).isEmpty());
+    }
+    
+    @Test
+    void testMismatchedByRevision() {
+        DistroClientVerifyDigest digest1 = new DistroClientVerifyDigest(16);
+        digest1.add("client1", 1L);
+        digest1.add("client2", 2L);
+        DistroClientVerifyDigest digest2 = new DistroClientVerifyDigest(16);
+        digest2.add("client1", 1L);
+        digest2.add("client2", 3L);
+        assertFalse(digest1.isMatched(digest2));
+        Set<Integer> actual = digest1.mismatchedBuckets(digest2);
+        assertEquals(1, actual.size());
+        assertTrue(actual.contains(DistroClientVerifyDigest.bucketOf("client2", 16)));
+    }
+    
+    @Test
+    void testMismatchedWithoutRemoteBuckets() {
+        DistroClientVerifyDigest digest1 = new DistroClientVerifyDigest(16);
+        digest1.add("client1", 1L);
+        DistroClientVerifyDigest digest2 = new DistroClientVerifyDigest();
+        assertEquals(16, digest1.mismatchedBuckets(digest2).size());
+        assertEquals(16, digest1.mismatchedBuckets(null).size());
+    }
+    
+    @Test
+    void testBucketOf() {
+        int actual = DistroClientVerifyDigest.bucketOf("client1", 16);
+        assertTrue(actual >= 0 && actual < 16);
+        assertEquals(actual, DistroClientVerifyDigest.bucketOf("client1", 16));
+    }
+}
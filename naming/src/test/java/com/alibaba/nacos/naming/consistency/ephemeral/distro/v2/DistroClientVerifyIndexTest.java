@@ -0,0 +1,115 @@
+/*
+ * Copyright 1999-2025 Alibaba Group Holding Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.alibaba.nacos.naming.consistency.ephemeral.distro.v2;
+
+import com.alibaba.nacos.naming.core.v2.client.Client;
+import com.alibaba.nacos.naming.core.v2.client.impl.ConnectionBasedClient;
+import com.alibaba.nacos.naming.core.v2.client.manager.ClientManager;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.Collections;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class DistroClientVerifyIndexTest {
+    
+    private static final String SOURCE = "1.1.1.1:8848";
+    
+    @Mock
+    private ClientManager clientManager;
+    
+    private DistroClientVerifyIndex verifyIndex;
+    
+    private Client client1;
+    
+    private Client client2;
+    
+    @BeforeEach
+    void setUp() {
+        verifyIndex = new DistroClientVerifyIndex();
+        client1 = new ConnectionBasedClient("client1", false, 1L);
+        client2 = new ConnectionBasedClient("client2", false, 2L);
+        verifyIndex.record(SOURCE, "client1", 1L);
+        verifyIndex.record(SOURCE, "client2", 2L);
+    }
+    
+    @Test
+    void testCompareAndRenewAllMatched() {
+        when(clientManager.getClient("client1")).thenReturn(client1);
+        when(clientManager.getClient("client2")).thenReturn(client2);
+        DistroClientVerifyDigest remote = new DistroClientVerifyDigest(16);
+        remote.add("client1", 1L);
+        remote.add("client2", 2L);
+        DistroClientVerifyDigest actual = verifyIndex.compareAndRenew(SOURCE, remote, clientManager);
+        assertTrue(remote.isMatched(actual));
+        assertNull(actual.getBuckets());
+        verify(clientManager, times(2)).verifyClient(any(DistroClientVerifyInfo.class));
+        assertEquals(2, verifyIndex.size(SOURCE));
+    }
+    
+    @Test
+    void testCompareAndRenewPartMatched() {
+        when(clientManager.getClient("client1")).thenReturn(client1);
+        when(clientManager.getClient("client2")).thenReturn(client2);
+        DistroClientVerifyDigest remote = new DistroClientVerifyDigest(1024);
+        remote.add("client1", 1L);
+        remote.add("client2", 3L);
+        DistroClientVerifyDigest actual = verifyIndex.compareAndRenew(SOURCE, remote, clientManager);
+        assertEquals(1, remote.mismatchedBuckets(actual).size());
+        verify(clientManager).verifyClient(any(DistroClientVerifyInfo.class));
+        assertEquals(1, verifyIndex.size(SOURCE));
+    }
+    
+    @Test
+    void testCompareAndRenewRemovedClient() {
+        when(clientManager.getClient("client1")).thenReturn(client1);
+        DistroClientVerifyDigest remote = new DistroClientVerifyDigest(16);
+        remote.add("client1", 1L);
+        DistroClientVerifyDigest actual = verifyIndex.compareAndRenew(SOURCE, remote, clientManager);
+        assertTrue(remote.isMatched(actual));
+        assertEquals(1, verifyIndex.size(SOURCE));
+    }
+    
+    @Test
+    void testCompareAndRenewUnknownSource() {
+        DistroClientVerifyDigest remote = new DistroClientVerifyDigest(16);
+        remote.add("client1", 1L);
+        DistroClientVerifyDigest actual = verifyIndex.compareAndRenew("2.2.2.2:8848", remote, clientManager);
+        assertEquals(1, remote.mismatchedBuckets(actual).size());
+        verify(clientManager, never()).verifyClient(any(DistroClientVerifyInfo.class));
+    }
+    
+    @Test
+    void testRetainServers() {
+        verifyIndex.record("2.2.2.2:8848", "client3", 3L);
+        verifyIndex.retainServers(Collections.singletonList("2.2.2.2:8848"));
+        assertEquals(0, verifyIndex.size(SOURCE));
+        assertEquals(1, verifyIndex.size("2.2.2.2:8848"));
+    }
+}
@@ -39,6 +39,7 @@ import java.util.concurrent.ConcurrentMap;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 
 @ExtendWith(MockitoExtension.class)
 class ClientServiceIndexesManagerTest {
@@ -195,4 +196,25 @@ class ClientServiceIndexesManagerTest {
         assertEquals(1, allClientsSubscribeService.size());
     }
     
-}
\ No newline at end of file
+    @Test
+    void testCompactStorageIndexes() {
+        ClientServiceIndexesManager compactIndexesManager = new ClientServiceIndexesManager(true);
+        Service service1 = Service.newService("namespace", "group", "service1");
+        Service service2 = Service.newService("namespace", "group", "service2");
+        compactIndexesManager.onEvent(new ClientOperationEvent.ClientRegisterServiceEvent(service1, NACOS));
+        compactIndexesManager.onEvent(new ClientOperationEvent.ClientSubscribeServiceEvent(service1, NACOS));
+        compactIndexesManager.onEvent(new ClientOperationEvent.ClientSubscribeServiceEvent(service2, NACOS));
+        assertTrue(compactIndexesManager.getAllClientsRegisteredService(service1).contains(NACOS));
+        assertEquals(1, compactIndexesManager.getAllClientsSubscribeService(service1).size());
+        assertEquals(1, compactIndexesManager.getAllClientsSubscribeService(service2).size());
+        assertEquals(1, compactIndexesManager.getClientIdHandleCount());
+        
+        compactIndexesManager.onEvent(new ClientOperationEvent.ClientDeregisterServiceEvent(service1, NACOS));
+        compactIndexesManager.onEvent(new ClientOperationEvent.ClientUnsubscribeServiceEvent(service1, NACOS));
+        assertTrue(compactIndexesManager.getAllClientsRegisteredService(service1).isEmpty());
+        assertEquals(1, compactIndexesManager.getClientIdHandleCount());
+        compactIndexesManager.onEvent(new ClientOperationEvent.ClientUnsubscribeServiceEvent(service2, NACOS));
+        assertTrue(compactIndexesManager.getSubscribedService().isEmpty());
+        assertEquals(0, compactIndexesManager.getClientIdHandleCount());
+    }
+}
@@ -0,0 +1,114 @@
+/*
+ * Copyright 1999-2025 Alibaba Group Holding Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.alibaba.nacos.naming.core.v2.index;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class CompactClientIdSetTest {
+    
+    private ClientIdHandles clientIdHandles;
+    
+    private CompactClientIdSet clientIdSet;
+    
+    @BeforeEach
+    void setUp() {
+        clientIdHandles = new ClientIdHandles();
+        clientIdSet = new CompactClientIdSet(clientIdHandles);
+    }
+    
+    @Test
+    void testAddAndRemove() {
+        assertTrue(clientIdSet.add("1.1.1.1:8848#true"));
+        assertFalse(clientIdSet.add("1.1.1.1:8848#true"));
+        assertTrue(clientIdSet.contains("1.1.1.1:8848#true"));
+        assertFalse(clientIdSet.contains("2.2.2.2:8848#true"));
+        assertEquals(1, clientIdSet.size());
+        assertEquals(1, clientIdHandles.size());
+        assertFalse(clientIdSet.remove("2.2.2.2:8848#true"));
+        assertTrue(clientIdSet.remove("1.1.1.1:8848#true"));
+        assertTrue(clientIdSet.isEmpty());
+        assertEquals(0, clientIdHandles.size());
+    }
+    
+    @Test
+    void testHandleSharedAndRecycled() {
+        CompactClientIdSet anotherSet = new CompactClientIdSet(clientIdHandles);
+        clientIdSet.add("clientA");
+        anotherSet.add("clientA");
+        assertEquals(1, clientIdHandles.size());
+        int handle = clientIdHandles.find("clientA");
+        clientIdSet.remove("clientA");
+        assertEquals(handle, clientIdHandles.find("clientA"));
+        assertTrue(anotherSet.contains("clientA"));
+        anotherSet.remove("clientA");
+        assertEquals(-1, clientIdHandles.find("clientA"));
+        // recycled handle is reused by new client id, and old client id is not matched any more.
+        anotherSet.add("clientB");
+        assertEquals(handle, clientIdHandles.find("clientB"));
+        assertFalse(anotherSet.contains("clientA"));
+        assertTrue(anotherSet.contains("clientB"));
+    }
+    
+    @Test
+    void testManyClientIds() {
+        Set<String> expected = new HashSet<>();
+        for (int i = 0; i < 1000; i++) {
+            expected.add("client" + i);
+            clientIdSet.add("client" + i);
+        }
+        assertEquals(expected, new HashSet<>(clientIdSet));
+        for (int i = 0; i < 1000; i += 2) {
+            expected.remove("client" + i);
+            clientIdSet.remove("client" + i);
+        }
+        assertEquals(500, clientIdSet.size());
+        assertEquals(expected, new HashSet<>(clientIdSet));
+        assertEquals(500, clientIdHandles.size());
+    }
+    
+    @Test
+    void testIteratorRemove() {
+        clientIdSet.add("clientA");
+        clientIdSet.add("clientB");
+        Iterator<String> iterator = clientIdSet.iterator();
+        while (iterator.hasNext()) {
+            if ("clientA".equals(iterator.next())) {
+                iterator.remove();
+            }
+        }
+        assertEquals(1, clientIdSet.size());
+        assertTrue(clientIdSet.contains("clientB"));
+    }
+    
+    @Test
+    void testClear() {
+        clientIdSet.add("clientA");
+        clientIdSet.add("clientB");
+        clientIdSet.clear();
+        assertTrue(clientIdSet.isEmpty());
+        assertEquals(0, clientIdHandles.size());
+    }
+}
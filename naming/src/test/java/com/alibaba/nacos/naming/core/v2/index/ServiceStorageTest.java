@@ -18,7 +18,10 @@ package com.alibaba.nacos.naming.core.v2.index;
 
 import com.alibaba.nacos.api.naming.pojo.Instance;
 import com.alibaba.nacos.api.naming.pojo.ServiceInfo;
+import com.alibaba.nacos.naming.core.v2.ServiceManager;
+import com.alibaba.nacos.naming.core.v2.client.Client;
 import com.alibaba.nacos.naming.core.v2.client.manager.ClientManagerDelegate;
+import com.alibaba.nacos.naming.core.v2.metadata.InstanceMetadata;
 import com.alibaba.nacos.naming.core.v2.metadata.NamingMetadataManager;
 import com.alibaba.nacos.naming.core.v2.pojo.InstancePublishInfo;
 import com.alibaba.nacos.naming.core.v2.pojo.Service;
@@ -33,9 +36,12 @@ import org.mockito.junit.jupiter.MockitoExtension;
 import java.lang.reflect.Field;
 import java.lang.reflect.InvocationTargetException;
 import java.lang.reflect.Method;
+import java.util.Arrays;
 import java.util.Collections;
+import java.util.HashMap;
 import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
 import java.util.concurrent.ConcurrentMap;
@@ -43,6 +49,9 @@ import java.util.concurrent.ConcurrentMap;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 
 @ExtendWith(MockitoExtension.class)
 class ServiceStorageTest {
@@ -155,12 +164,90 @@ class ServiceStorageTest {
     @Test
     void testParseInstance() throws NoSuchMethodException, InvocationTargetException, IllegalAccessException {
         Class<ServiceStorage> serviceStorageClass = ServiceStorage.class;
-        Method parseInstance = serviceStorageClass.getDeclaredMethod("parseInstance", Service.class, InstancePublishInfo.class);
+        Method parseInstance = serviceStorageClass.getDeclaredMethod("parseInstance", Service.class, InstancePublishInfo.class,
+                InstanceMetadata.class);
         parseInstance.setAccessible(true);
-        Instance instance = (Instance) parseInstance.invoke(serviceStorage, SERVICE, instancePublishInfo);
+        InstanceMetadata metadata = new InstanceMetadata();
+        metadata.setEnabled(false);
+        Instance instance = (Instance) parseInstance.invoke(serviceStorage, SERVICE, instancePublishInfo, metadata);
         
-        Mockito.verify(namingMetadataManager).getInstanceMetadata(SERVICE, instancePublishInfo.getMetadataId());
         assertNotNull(instance);
+        assertFalse(instance.isEnabled());
+    }
+    
+    @Test
+    void testGetPushDataReusesUnchangedInstances() {
+        Service singleton = ServiceManager.getInstance().getSingleton(SERVICE);
+        try {
+            final Client client1 = mockClient("client1", new InstancePublishInfo("1.1.1.1", 8848));
+            InstancePublishInfo publishInfo2 = new InstancePublishInfo("1.1.1.2", 8848);
+            mockClient("client2", publishInfo2);
+            Mockito.when(clientServiceIndexesManager.getAllClientsRegisteredService(singleton))
+                    .thenReturn(Arrays.asList("client1", "client2"));
+            Mockito.when(namingMetadataManager.getInstanceMetadata(Mockito.eq(singleton), Mockito.anyString()))
+                    .thenReturn(Optional.empty());
+            Map<String, Instance> first = toMap(serviceStorage.getPushData(SERVICE));
+            assertEquals(2, first.size());
+            
+            publishInfo2.setHealthy(true);
+            Map<String, Instance> second = toMap(serviceStorage.getPushData(SERVICE));
+            assertSame(first.get("1.1.1.1"), second.get("1.1.1.1"));
+            assertNotSame(first.get("1.1.1.2"), second.get("1.1.1.2"));
+            assertTrue(second.get("1.1.1.2").isHealthy());
+            
+            Mockito.when(client1.getInstancePublishInfo(singleton))
+                    .thenReturn(new InstancePublishInfo("1.1.1.3", 8848));
+            Map<String, Instance> third = toMap(serviceStorage.getPushData(SERVICE));
+            assertEquals(2, third.size());
+            assertTrue(third.containsKey("1.1.1.3"));
+            assertSame(second.get("1.1.1.2"), third.get("1.1.1.2"));
+        } finally {
+            ServiceManager.getInstance().removeSingleton(SERVICE);
+        }
+    }
+    
+    @Test
+    void testGetPushDataRefreshesChangedMetadataAndRemovedClient() {
+        Service singleton = ServiceManager.getInstance().getSingleton(SERVICE);
+        try {
+            InstancePublishInfo publishInfo1 = new InstancePublishInfo("1.1.1.1", 8848);
+            mockClient("client1", publishInfo1);
+            mockClient("client2", new InstancePublishInfo("1.1.1.2", 8848));
+            Mockito.when(clientServiceIndexesManager.getAllClientsRegisteredService(singleton))
+                    .thenReturn(Arrays.asList("client1", "client2"));
+            Mockito.when(namingMetadataManager.getInstanceMetadata(Mockito.eq(singleton), Mockito.anyString()))
+                    .thenReturn(Optional.empty());
+            Map<String, Instance> first = toMap(serviceStorage.getPushData(SERVICE));
+            assertTrue(first.get("1.1.1.1").isEnabled());
+            
+            InstanceMetadata metadata = new InstanceMetadata();
+            metadata.setEnabled(false);
+            Mockito.when(namingMetadataManager.getInstanceMetadata(singleton, publishInfo1.getMetadataId()))
+                    .thenReturn(Optional.of(metadata));
+            Mockito.when(clientServiceIndexesManager.getAllClientsRegisteredService(singleton))
+                    .thenReturn(Collections.singletonList("client1"));
+            Map<String, Instance> second = toMap(serviceStorage.getPushData(SERVICE));
+            assertEquals(1, second.size());
+            assertFalse(second.get("1.1.1.1").isEnabled());
+        } finally {
+            ServiceManager.getInstance().removeSingleton(SERVICE);
+        }
+    }
+    
+    private Client mockClient(String clientId, InstancePublishInfo publishInfo) {
+        Client client = Mockito.mock(Client.class);
+        Mockito.when(client.getInstancePublishInfo(ServiceManager.getInstance().getSingleton(SERVICE)))
+                .thenReturn(publishInfo);
+        Mockito.when(clientManagerDelegate.getClient(clientId)).thenReturn(client);
+        return client;
+    }
+    
+    private Map<String, Instance> toMap(ServiceInfo serviceInfo) {
+        Map<String, Instance> result = new HashMap<>(4);
+        for (Instance each : serviceInfo.getHosts()) {
+            result.put(each.getIp(), each);
+        }
+        return result;
     }
     
 }
\ No newline at end of file
@@ -0,0 +1,83 @@
+/*
+ * Copyright 1999-2025 Alibaba Group Holding Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.alibaba.nacos.naming.core.v2.pojo;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class InstancePublishInfoCompactorTest {
+    
+    @Test
+    void testCompact() {
+        InstancePublishInfo instance1 = newInstance(8848);
+        InstancePublishInfo instance2 = newInstance(8849);
+        InstancePublishInfoCompactor.compact(instance1);
+        InstancePublishInfoCompactor.compact(instance2);
+        assertSame(instance1.getIp(), instance2.getIp());
+        assertSame(instance1.getCluster(), instance2.getCluster());
+        assertSame(instance1.getExtendDatum(), instance2.getExtendDatum());
+        assertEquals(newInstance(8848), instance1);
+        assertEquals("1.0.0", instance1.getExtendDatum().get("version"));
+    }
+    
+    @Test
+    void testCompactBatchInstance() {
+        BatchInstancePublishInfo batchInstance = new BatchInstancePublishInfo();
+        InstancePublishInfo instance1 = newInstance(8848);
+        InstancePublishInfo instance2 = newInstance(8849);
+        batchInstance.setInstancePublishInfos(Arrays.asList(instance1, instance2));
+        InstancePublishInfoCompactor.compact(batchInstance);
+        assertSame(instance1.getExtendDatum(), instance2.getExtendDatum());
+    }
+    
+    @Test
+    void testCompactMetadata() {
+        assertNull(InstancePublishInfoCompactor.compactMetadata(null));
+        Map<String, Object> empty1 = InstancePublishInfoCompactor.compactMetadata(new HashMap<>());
+        Map<String, Object> empty2 = InstancePublishInfoCompactor.compactMetadata(Collections.emptyMap());
+        assertSame(empty1, empty2);
+        Map<String, Object> metadata = new HashMap<>();
+        metadata.put("weight", 2.0D);
+        assertEquals(metadata, InstancePublishInfoCompactor.compactMetadata(metadata));
+    }
+    
+    @Test
+    void testCompactMetadataUnmodifiable() {
+        Map<String, Object> metadata = new HashMap<>();
+        metadata.put("unmodifiable", "true");
+        Map<String, Object> compacted = InstancePublishInfoCompactor.compactMetadata(metadata);
+        assertThrows(UnsupportedOperationException.class, () -> compacted.put("unmodifiable", "false"));
+        metadata.put("unmodifiable", "false");
+        assertEquals("true", compacted.get("unmodifiable"));
+    }
+    
+    private InstancePublishInfo newInstance(int port) {
+        InstancePublishInfo result = new InstancePublishInfo(new String("1.1.1.1"), port);
+        result.setCluster(new String("DEFAULT"));
+        result.getExtendDatum().put(new String("version"), new String("1.0.0"));
+        return result;
+    }
+}
@@ -0,0 +1,112 @@
+/*
+ * Copyright 1999-2025 Alibaba Group Holding Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.alibaba.nacos.naming.healthcheck.heartbeat;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class BeatCheckTimingWheelTest {
+    
+    private BeatCheckTimingWheel timingWheel;
+    
+    @BeforeEach
+    void setUp() {
+        timingWheel = new BeatCheckTimingWheel(20L, 8, 2);
+    }
+    
+    @AfterEach
+    void tearDown() {
+        timingWheel.stop();
+    }
+    
+    @Test
+    void testScheduleRepeatedly() throws InterruptedException {
+        MockBeatCheckTask task = new MockBeatCheckTask("test", 0L);
+        timingWheel.schedule(task);
+        timingWheel.schedule(task);
+        assertEquals(1, timingWheel.size());
+        TimeUnit.MILLISECONDS.sleep(300L);
+        assertTrue(task.count.get() > 1);
+    }
+    
+    @Test
+    void testScheduleInBatches() throws InterruptedException {
+        MockBeatCheckTask[] tasks = new MockBeatCheckTask[5];
+        for (int i = 0; i < tasks.length; i++) {
+            tasks[i] = new MockBeatCheckTask("test" + i, 0L);
+            timingWheel.schedule(tasks[i]);
+        }
+        TimeUnit.MILLISECONDS.sleep(200L);
+        for (MockBeatCheckTask each : tasks) {
+            assertTrue(each.count.get() > 0);
+        }
+    }
+    
+    @Test
+    void testNotDueTaskNotRun() throws InterruptedException {
+        MockBeatCheckTask task = new MockBeatCheckTask("test", BeatCheckTask.MAX_CHECK_INTERVAL);
+        timingWheel.schedule(task);
+        TimeUnit.MILLISECONDS.sleep(300L);
+        assertEquals(0, task.count.get());
+    }
+    
+    @Test
+    void testCancel() throws InterruptedException {
+        MockBeatCheckTask task = new MockBeatCheckTask("test", 0L);
+        timingWheel.schedule(task);
+        timingWheel.cancel(task);
+        assertEquals(0, timingWheel.size());
+        TimeUnit.MILLISECONDS.sleep(200L);
+        assertEquals(0, task.count.get());
+    }
+    
+    private static class MockBeatCheckTask implements BeatCheckTask {
+        
+        private final String key;
+        
+        private final long checkInterval;
+        
+        private final AtomicInteger count = new AtomicInteger();
+        
+        private MockBeatCheckTask(String key, long checkInterval) {
+            this.key = key;
+            this.checkInterval = checkInterval;
+        }
+        
+        @Override
+        public String taskKey() {
+            return key;
+        }
+        
+        @Override
+        public long getNextCheckTime() {
+            return System.currentTimeMillis() + checkInterval;
+        }
+        
+        @Override
+        public void run() {
+            count.incrementAndGet();
+        }
+    }
+}
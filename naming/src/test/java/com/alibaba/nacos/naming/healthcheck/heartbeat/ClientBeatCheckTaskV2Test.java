@@ -16,6 +16,7 @@
 
 package com.alibaba.nacos.naming.healthcheck.heartbeat;
 
+import com.alibaba.nacos.api.common.Constants;
 import com.alibaba.nacos.api.naming.PreservedMetadataKeys;
 import com.alibaba.nacos.common.utils.InternetAddressUtil;
 import com.alibaba.nacos.naming.consistency.KeyBuilder;
@@ -161,6 +162,56 @@ class ClientBeatCheckTaskV2Test {
         assertFalse(client.getInstancePublishInfo(Service.newService(NAMESPACE, GROUP_NAME, SERVICE_NAME)).isHealthy());
     }
     
+    @Test
+    void testNextCheckTimeWithHeartBeat() {
+        long heartBeatTime = System.currentTimeMillis();
+        injectInstance(true, heartBeatTime);
+        when(globalConfig.isExpireInstance()).thenReturn(true);
+        beatCheckTask.run();
+        assertEquals(heartBeatTime + Constants.DEFAULT_HEART_BEAT_TIMEOUT + 1, beatCheckTask.getNextCheckTime());
+    }
+    
+    @Test
+    void testNextCheckTimeWithUnhealthyInstance() {
+        long heartBeatTime = System.currentTimeMillis() - Constants.DEFAULT_IP_DELETE_TIMEOUT + 1000L;
+        injectInstance(false, heartBeatTime);
+        when(globalConfig.isExpireInstance()).thenReturn(true);
+        beatCheckTask.run();
+        assertEquals(heartBeatTime + Constants.DEFAULT_IP_DELETE_TIMEOUT + 1, beatCheckTask.getNextCheckTime());
+    }
+    
+    @Test
+    void testNextCheckTimeWithoutInstance() {
+        long startTime = System.currentTimeMillis();
+        beatCheckTask.run();
+        assertTrue(beatCheckTask.getNextCheckTime() >= startTime + BeatCheckTask.MAX_CHECK_INTERVAL);
+    }
+    
+    @Test
+    void testNextCheckTimeAfterIntercept() {
+        long startTime = System.currentTimeMillis();
+        beatCheckTask.afterIntercept();
+        long nextCheckTime = beatCheckTask.getNextCheckTime();
+        assertTrue(nextCheckTime >= startTime + BeatCheckTask.DEFAULT_CHECK_INTERVAL);
+        assertTrue(nextCheckTime < startTime + BeatCheckTask.MAX_CHECK_INTERVAL);
+    }
+    
+    @Test
+    void testMaxCheckIntervalFromInstanceHeartBeatTimeout() {
+        long startTime = System.currentTimeMillis();
+        injectInstance(false, startTime).getExtendDatum().put(PreservedMetadataKeys.HEART_BEAT_TIMEOUT, 3000);
+        when(globalConfig.isExpireInstance()).thenReturn(true);
+        beatCheckTask.run();
+        assertEquals(3000L, beatCheckTask.getMaxCheckInterval());
+        assertTrue(beatCheckTask.getNextCheckTime() <= System.currentTimeMillis() + 3000L);
+    }
+    
+    @Test
+    void testMaxCheckIntervalWithoutInstance() {
+        beatCheckTask.run();
+        assertEquals(BeatCheckTask.MAX_CHECK_INTERVAL, beatCheckTask.getMaxCheckInterval());
+    }
+    
     private HealthCheckInstancePublishInfo injectInstance(boolean healthy, long heartbeatTime) {
         HealthCheckInstancePublishInfo instance = new HealthCheckInstancePublishInfo(IP, PORT);
         instance.setHealthy(healthy);
@@ -67,6 +67,14 @@ class MetricsMonitorTest {
         assertEquals(1, MetricsMonitor.getFailedPushMonitor().incrementAndGet());
     }
     
+    @Test
+    void testGetPushPendingTaskShardCount() {
+        MetricsMonitor.getPushPendingTaskShardCount(1).set(5);
+        assertEquals(5, MetricsMonitor.getPushPendingTaskShardCount(1).get());
+        assertEquals(5, NacosMeterRegistryCenter.getMeterRegistry(NacosMeterRegistryCenter.NAMING_STABLE_REGISTRY)
+                .get("nacos_naming_push_pending_task").tag("shard", "1").gauge().value());
+    }
+    
     @Test
     void testIncrementIpCountWithBatchRegister() {
         BatchInstancePublishInfo test = new BatchInstancePublishInfo();
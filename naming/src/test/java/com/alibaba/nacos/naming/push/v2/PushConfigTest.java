@@ -29,6 +29,7 @@ import java.lang.reflect.InvocationTargetException;
 import java.util.concurrent.TimeUnit;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
 
 class PushConfigTest {
     
@@ -66,12 +67,25 @@ class PushConfigTest {
         mockEnvironment.setProperty(PushConstants.PUSH_TASK_DELAY, String.valueOf(pushTaskDelay));
         mockEnvironment.setProperty(PushConstants.PUSH_TASK_TIMEOUT, String.valueOf(pushTaskTimeout));
         mockEnvironment.setProperty(PushConstants.PUSH_TASK_RETRY_DELAY, String.valueOf(pushTaskRetryDelay));
+        mockEnvironment.setProperty(PushConstants.PUSH_DELTA_ENABLED, "false");
+        mockEnvironment.setProperty(PushConstants.PUSH_TASK_SHARD_COUNT, "4");
         Constructor<PushConfig> declaredConstructor = PushConfig.class.getDeclaredConstructor();
         declaredConstructor.setAccessible(true);
         PushConfig pushConfig = declaredConstructor.newInstance();
         assertEquals(pushTaskDelay, pushConfig.getPushTaskDelay());
         assertEquals(pushTaskTimeout, pushConfig.getPushTaskTimeout());
         assertEquals(pushTaskRetryDelay, pushConfig.getPushTaskRetryDelay());
-        
+        assertFalse(pushConfig.isPushDeltaEnabled());
+        assertEquals(4, pushConfig.getPushTaskShardCount());
+    }
+    
+    @Test
+    void testDefaultPushTaskShardCount() throws NoSuchMethodException, InvocationTargetException,
+            InstantiationException, IllegalAccessException {
+        Constructor<PushConfig> declaredConstructor = PushConfig.class.getDeclaredConstructor();
+        declaredConstructor.setAccessible(true);
+        PushConfig pushConfig = declaredConstructor.newInstance();
+        assertEquals(EnvUtil.getAvailableProcessors(PushConstants.DEFAULT_PUSH_TASK_SHARD_PROCESSORS_MULTIPLE),
+                pushConfig.getPushTaskShardCount());
     }
 }
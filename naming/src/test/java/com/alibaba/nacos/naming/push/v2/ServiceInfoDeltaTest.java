@@ -0,0 +1,91 @@
+/*
+ * Copyright 1999-2025 Alibaba Group Holding Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.alibaba.nacos.naming.push.v2;
+
+import com.alibaba.nacos.api.naming.pojo.Instance;
+import com.alibaba.nacos.api.naming.pojo.ServiceInfo;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class ServiceInfoDeltaTest {
+    
+    @Test
+    void testComputeUnchanged() {
+        ServiceInfo base = buildServiceInfo(1, 10);
+        ServiceInfoDelta actual = ServiceInfoDelta.compute(base, buildServiceInfo(1, 10));
+        assertNotNull(actual);
+        assertTrue(actual.getChangedInstances().isEmpty());
+        assertTrue(actual.getRemovedInstances().isEmpty());
+    }
+    
+    @Test
+    void testComputeChanged() {
+        ServiceInfo base = buildServiceInfo(1, 10);
+        ServiceInfo target = buildServiceInfo(2, 11);
+        target.getHosts().get(0).setHealthy(false);
+        ServiceInfoDelta actual = ServiceInfoDelta.compute(base, target);
+        assertNotNull(actual);
+        assertEquals(2, actual.getChangedInstances().size());
+        for (Instance each : actual.getChangedInstances()) {
+            assertTrue("1.1.1.2".equals(each.getIp()) && !each.isHealthy() || "1.1.1.11".equals(each.getIp()));
+        }
+        assertEquals(1, actual.getRemovedInstances().size());
+        assertEquals("1.1.1.1", actual.getRemovedInstances().get(0).getIp());
+    }
+    
+    @Test
+    void testComputeTooManyChanged() {
+        assertNull(ServiceInfoDelta.compute(buildServiceInfo(1, 10), buildServiceInfo(6, 15)));
+        assertNull(ServiceInfoDelta.compute(buildServiceInfo(1, 10), buildServiceInfo(1, 1)));
+    }
+    
+    @Test
+    void testComputeWithDuplicatedInstance() {
+        ServiceInfo base = buildServiceInfo(1, 10);
+        ServiceInfo target = buildServiceInfo(1, 10);
+        Instance duplicated = buildInstance(1);
+        duplicated.setWeight(2.0D);
+        target.getHosts().add(duplicated);
+        assertNull(ServiceInfoDelta.compute(base, target));
+        assertNull(ServiceInfoDelta.compute(target, base));
+    }
+    
+    private ServiceInfo buildServiceInfo(int from, int to) {
+        ServiceInfo result = new ServiceInfo("G@@S");
+        List<Instance> hosts = new ArrayList<>();
+        for (int i = from; i <= to; i++) {
+            hosts.add(buildInstance(i));
+        }
+        result.setHosts(hosts);
+        return result;
+    }
+    
+    private Instance buildInstance(int index) {
+        Instance result = new Instance();
+        result.setIp("1.1.1." + index);
+        result.setPort(8848);
+        result.setClusterName("DEFAULT");
+        return result;
+    }
+}
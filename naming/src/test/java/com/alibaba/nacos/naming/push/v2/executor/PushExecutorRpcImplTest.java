@@ -16,19 +16,30 @@
 
 package com.alibaba.nacos.naming.push.v2.executor;
 
+import com.alibaba.nacos.api.ability.constant.AbilityKey;
+import com.alibaba.nacos.api.ability.constant.AbilityStatus;
+import com.alibaba.nacos.api.exception.NacosException;
 import com.alibaba.nacos.api.naming.pojo.Instance;
 import com.alibaba.nacos.api.naming.pojo.ServiceInfo;
 import com.alibaba.nacos.api.naming.remote.request.NotifySubscriberRequest;
+import com.alibaba.nacos.api.naming.utils.NamingUtils;
 import com.alibaba.nacos.api.remote.PushCallBack;
+import com.alibaba.nacos.api.remote.request.ServerRequest;
+import com.alibaba.nacos.core.monitor.NacosMeterRegistryCenter;
+import com.alibaba.nacos.core.remote.Connection;
+import com.alibaba.nacos.core.remote.ConnectionManager;
 import com.alibaba.nacos.core.remote.RpcPushService;
+import com.alibaba.nacos.core.remote.SharedPayloadRequest;
 import com.alibaba.nacos.naming.core.v2.metadata.ServiceMetadata;
 import com.alibaba.nacos.naming.misc.GlobalExecutor;
+import com.alibaba.nacos.naming.monitor.MetricsMonitor;
 import com.alibaba.nacos.naming.pojo.Subscriber;
 import com.alibaba.nacos.naming.push.v2.PushDataWrapper;
 import com.alibaba.nacos.naming.push.v2.task.NamingPushCallback;
 import com.alibaba.nacos.naming.selector.SelectorManager;
 import com.alibaba.nacos.sys.env.EnvUtil;
 import com.alibaba.nacos.sys.utils.ApplicationUtils;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
@@ -39,13 +50,19 @@ import org.mockito.stubbing.Answer;
 import org.springframework.context.ConfigurableApplicationContext;
 import org.springframework.mock.env.MockEnvironment;
 
+import java.util.ArrayList;
 import java.util.List;
 import java.util.UUID;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
@@ -69,6 +86,12 @@ class PushExecutorRpcImplTest {
     @Mock
     private ConfigurableApplicationContext context;
     
+    @Mock
+    private ConnectionManager connectionManager;
+    
+    @Mock
+    private Connection connection;
+    
     private PushDataWrapper pushData;
     
     private PushExecutorRpcImpl pushExecutor;
@@ -80,7 +103,7 @@ class PushExecutorRpcImplTest {
         EnvUtil.setEnvironment(new MockEnvironment());
         serviceMetadata = new ServiceMetadata();
         pushData = new PushDataWrapper(serviceMetadata, new ServiceInfo("G@@S"));
-        pushExecutor = new PushExecutorRpcImpl(pushService);
+        pushExecutor = new PushExecutorRpcImpl(pushService, connectionManager);
         EnvUtil.setEnvironment(new MockEnvironment());
         ApplicationUtils.injectContext(context);
         when(context.getBean(SelectorManager.class)).thenReturn(selectorManager);
@@ -97,17 +120,128 @@ class PushExecutorRpcImplTest {
     @Test
     void testDoPushWithCallback() {
         doAnswer(new CallbackAnswer()).when(pushService)
-                .pushWithCallback(eq(rpcClientId), any(NotifySubscriberRequest.class), eq(pushCallBack),
+                .pushWithCallback(eq(rpcClientId), any(SharedPayloadRequest.class), eq(pushCallBack),
                         eq(GlobalExecutor.getCallbackExecutor()));
         pushExecutor.doPushWithCallback(rpcClientId, subscriber, pushData, pushCallBack);
         verify(pushCallBack).onSuccess();
     }
     
+    @Test
+    void testDoPushWithCallbackByDelta() {
+        mockDeltaSupportedSubscriber();
+        List<NotifySubscriberRequest> requests = new ArrayList<>();
+        doAnswer(invocationOnMock -> {
+            requests.add(unwrap(invocationOnMock.getArgument(1)));
+            ((PushCallBack) invocationOnMock.getArgument(2)).onSuccess();
+            return null;
+        }).when(pushService).pushWithCallback(eq(rpcClientId), any(ServerRequest.class),
+                any(PushCallBack.class), eq(GlobalExecutor.getCallbackExecutor()));
+        pushExecutor.doPushWithCallback(rpcClientId, subscriber, buildPushData("1.1.1.1", "1.1.1.2", "1.1.1.3",
+                "1.1.1.4", "1.1.1.6", "1.1.1.7"), pushCallBack);
+        pushExecutor.doPushWithCallback(rpcClientId, subscriber, buildPushData("1.1.1.1", "1.1.1.2", "1.1.1.3",
+                "1.1.1.5", "1.1.1.6", "1.1.1.7"), pushCallBack);
+        
+        assertEquals(2, requests.size());
+        assertEquals(0L, requests.get(0).getBaseRevision());
+        assertEquals(6, requests.get(0).getServiceInfo().getHosts().size());
+        NotifySubscriberRequest deltaRequest = requests.get(1);
+        assertEquals(requests.get(0).getServiceInfo().getLastRefTime(), deltaRequest.getBaseRevision());
+        assertEquals(NamingUtils.calculateInstancesDigest(requests.get(0).getServiceInfo().getHosts()),
+                deltaRequest.getBaseDigest());
+        assertTrue(deltaRequest.getServiceInfo().getHosts().isEmpty());
+        assertEquals(1, deltaRequest.getChangedInstances().size());
+        assertEquals("1.1.1.5", deltaRequest.getChangedInstances().get(0).getIp());
+        assertEquals(1, deltaRequest.getRemovedInstances().size());
+        assertEquals("1.1.1.4", deltaRequest.getRemovedInstances().get(0).getIp());
+        verify(pushCallBack, times(2)).onSuccess();
+    }
+    
+    @Test
+    void testDoPushWithCallbackFallbackWhenDeltaFailed() {
+        mockDeltaSupportedSubscriber();
+        List<NotifySubscriberRequest> requests = new ArrayList<>();
+        doAnswer(invocationOnMock -> {
+            NotifySubscriberRequest request = unwrap(invocationOnMock.getArgument(1));
+            requests.add(request);
+            PushCallBack callBack = invocationOnMock.getArgument(2);
+            if (request.getBaseRevision() > 0) {
+                callBack.onFail(new NacosException(NacosException.CLIENT_INVALID_PARAM, "base not matched"));
+            } else {
+                callBack.onSuccess();
+            }
+            return null;
+        }).when(pushService).pushWithCallback(eq(rpcClientId), any(ServerRequest.class),
+                any(PushCallBack.class), eq(GlobalExecutor.getCallbackExecutor()));
+        pushExecutor.doPushWithCallback(rpcClientId, subscriber, buildPushData("1.1.1.1", "1.1.1.2", "1.1.1.3",
+                "1.1.1.4", "1.1.1.6", "1.1.1.7"), pushCallBack);
+        pushExecutor.doPushWithCallback(rpcClientId, subscriber, buildPushData("1.1.1.1", "1.1.1.2", "1.1.1.3",
+                "1.1.1.5", "1.1.1.6", "1.1.1.7"), pushCallBack);
+        
+        assertEquals(3, requests.size());
+        assertTrue(requests.get(1).getBaseRevision() > 0);
+        assertEquals(0L, requests.get(2).getBaseRevision());
+        assertEquals(6, requests.get(2).getServiceInfo().getHosts().size());
+        verify(pushCallBack, times(2)).onSuccess();
+        verify(pushCallBack, never()).onFail(any());
+    }
+    
+    @Test
+    void testDoPushWithCallbackSharePayload() {
+        List<ServerRequest> requests = new ArrayList<>();
+        doAnswer(invocationOnMock -> {
+            requests.add(invocationOnMock.getArgument(1));
+            return null;
+        }).when(pushService).pushWithCallback(any(), any(ServerRequest.class), eq(pushCallBack),
+                eq(GlobalExecutor.getCallbackExecutor()));
+        // add simple meterRegistry.
+        NacosMeterRegistryCenter.getMeterRegistry(NacosMeterRegistryCenter.NAMING_STABLE_REGISTRY)
+                .add(new SimpleMeterRegistry());
+        final double serialized = MetricsMonitor.getPushPayloadSerializedCounter().count();
+        final double reused = MetricsMonitor.getPushPayloadReusedCounter().count();
+        PushDataWrapper data = buildPushData("1.1.1.1", "1.1.1.2");
+        pushExecutor.doPushWithCallback(rpcClientId, subscriber, data, pushCallBack);
+        pushExecutor.doPushWithCallback(UUID.randomUUID().toString(), subscriber, data, pushCallBack);
+        
+        assertEquals(2, requests.size());
+        assertNotSame(requests.get(0), requests.get(1));
+        assertSame(unwrap(requests.get(0)), unwrap(requests.get(1)));
+        assertEquals(serialized + 1, MetricsMonitor.getPushPayloadSerializedCounter().count());
+        assertEquals(reused + 1, MetricsMonitor.getPushPayloadReusedCounter().count());
+    }
+    
+    private NotifySubscriberRequest unwrap(ServerRequest request) {
+        return request instanceof SharedPayloadRequest
+                ? (NotifySubscriberRequest) ((SharedPayloadRequest) request).getRequest()
+                : (NotifySubscriberRequest) request;
+    }
+    
+    private void mockDeltaSupportedSubscriber() {
+        when(subscriber.getNamespaceId()).thenReturn("public");
+        when(subscriber.getServiceName()).thenReturn("G@@S");
+        when(connectionManager.getConnection(rpcClientId)).thenReturn(connection);
+        when(connection.getConnectionAbility(AbilityKey.SDK_CLIENT_SUPPORT_NAMING_DELTA_PUSH))
+                .thenReturn(AbilityStatus.SUPPORTED);
+    }
+    
+    private PushDataWrapper buildPushData(String... ips) {
+        ServiceInfo serviceInfo = new ServiceInfo("G@@S");
+        List<Instance> hosts = new ArrayList<>();
+        for (String each : ips) {
+            Instance instance = new Instance();
+            instance.setIp(each);
+            instance.setPort(8848);
+            instance.setClusterName("DEFAULT");
+            hosts.add(instance);
+        }
+        serviceInfo.setHosts(hosts);
+        return new PushDataWrapper(serviceMetadata, serviceInfo);
+    }
+    
     private class CallbackAnswer implements Answer<Void> {
         
         @Override
         public Void answer(InvocationOnMock invocationOnMock) throws Throwable {
-            NotifySubscriberRequest pushRequest = invocationOnMock.getArgument(1);
+            NotifySubscriberRequest pushRequest = unwrap(invocationOnMock.getArgument(1));
             assertEquals(pushData.getOriginalData().toString(), pushRequest.getServiceInfo().toString());
             PushCallBack callBack = invocationOnMock.getArgument(2);
             callBack.onSuccess();
@@ -16,6 +16,7 @@
 
 package com.alibaba.nacos.naming.push.v2.task;
 
+import com.alibaba.nacos.api.exception.NacosException;
 import com.alibaba.nacos.api.naming.pojo.ServiceInfo;
 import com.alibaba.nacos.naming.core.v2.client.Client;
 import com.alibaba.nacos.naming.core.v2.client.manager.ClientManager;
@@ -33,15 +34,23 @@ import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.mockito.junit.jupiter.MockitoSettings;
+import org.mockito.quality.Strictness;
 
+import java.util.Arrays;
 import java.util.Collections;
 import java.util.concurrent.TimeUnit;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
+@MockitoSettings(strictness = Strictness.LENIENT)
 @ExtendWith(MockitoExtension.class)
 class PushDelayTaskExecuteEngineTest {
     
@@ -99,4 +108,44 @@ class PushDelayTaskExecuteEngineTest {
         verify(pushExecutor).doPushWithCallback(anyString(), any(Subscriber.class), any(PushDataWrapper.class),
                 any(NamingPushCallback.class));
     }
+    
+    @Test
+    void testAddTaskToShards() throws NacosException {
+        when(switchDomain.isPushEnabled()).thenReturn(false);
+        PushDelayTaskExecuteEngine shardedEngine = new PushDelayTaskExecuteEngine(clientManager, indexesManager,
+                serviceStorage, metadataManager, pushExecutor, switchDomain, 4);
+        try {
+            for (int i = 0; i < 16; i++) {
+                Service each = Service.newService("N", "G", "S" + i);
+                shardedEngine.addTask(each, new PushDelayTask(each, 0L));
+            }
+            shardedEngine.addTask(service, new PushDelayTask(service, 0L, "client1"));
+            shardedEngine.addTask(service, new PushDelayTask(service, 0L, "client2"));
+            int[] shardSizes = shardedEngine.getShardSizes();
+            assertEquals(4, shardSizes.length);
+            assertEquals(17, Arrays.stream(shardSizes).sum());
+            assertEquals(17, shardedEngine.size());
+            assertEquals(17, shardedEngine.getAllTaskKeys().size());
+            PushDelayTask merged = (PushDelayTask) shardedEngine.removeTask(service);
+            assertEquals(2, merged.getTargetClients().size());
+            assertEquals(16, shardedEngine.size());
+        } finally {
+            shardedEngine.shutdown();
+        }
+        assertTrue(shardedEngine.isEmpty());
+    }
+    
+    @Test
+    void testRemoveTaskNotReady() throws NacosException {
+        when(switchDomain.isPushEnabled()).thenReturn(false);
+        PushDelayTaskExecuteEngine shardedEngine = new PushDelayTaskExecuteEngine(clientManager, indexesManager,
+                serviceStorage, metadataManager, pushExecutor, switchDomain, 2);
+        try {
+            shardedEngine.addTask(service, new PushDelayTask(service, 10000L));
+            assertNull(shardedEngine.removeTask(service));
+            assertFalse(shardedEngine.isEmpty());
+        } finally {
+            shardedEngine.shutdown();
+        }
+    }
 }
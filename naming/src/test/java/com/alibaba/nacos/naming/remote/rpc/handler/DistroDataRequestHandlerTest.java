@@ -84,4 +84,16 @@ class DistroDataRequestHandlerTest {
         DistroDataResponse response4 = distroDataRequestHandler.handle(distroDataRequest, requestMeta);
         assertNull(response4.getDistroData());
     }
+    
+    @Test
+    void testHandleSnapshotChunk() throws NacosException {
+        DistroData distroData = new DistroData();
+        Mockito.when(distroProtocol.onSnapshot(Mockito.any(), Mockito.eq(1), Mockito.eq(4))).thenReturn(distroData);
+        DistroDataRequest distroDataRequest = new DistroDataRequest();
+        distroDataRequest.setDataOperation(SNAPSHOT);
+        distroDataRequest.setChunkIndex(1);
+        distroDataRequest.setChunkCount(4);
+        DistroDataResponse response = distroDataRequestHandler.handle(distroDataRequest, new RequestMeta());
+        assertEquals(distroData, response.getDistroData());
+    }
 }
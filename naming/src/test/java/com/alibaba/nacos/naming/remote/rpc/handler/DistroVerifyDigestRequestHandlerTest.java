@@ -0,0 +1,71 @@
+/*
+ * Copyright 1999-2025 Alibaba Group Holding Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.alibaba.nacos.naming.remote.rpc.handler;
+
+import com.alibaba.nacos.api.exception.NacosException;
+import com.alibaba.nacos.api.remote.request.RequestMeta;
+import com.alibaba.nacos.api.remote.response.ResponseCode;
+import com.alibaba.nacos.core.distributed.distro.DistroProtocol;
+import com.alibaba.nacos.core.distributed.distro.entity.DistroData;
+import com.alibaba.nacos.naming.cluster.remote.request.DistroVerifyDigestRequest;
+import com.alibaba.nacos.naming.cluster.remote.response.DistroDataResponse;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class DistroVerifyDigestRequestHandlerTest {
+    
+    @InjectMocks
+    private DistroVerifyDigestRequestHandler distroVerifyDigestRequestHandler;
+    
+    @Mock
+    private DistroProtocol distroProtocol;
+    
+    @Test
+    void testHandleSuccess() throws NacosException {
+        DistroData localDigest = new DistroData();
+        when(distroProtocol.onVerifyDigest(any(), any())).thenReturn(localDigest);
+        DistroDataResponse response = distroVerifyDigestRequestHandler.handle(
+                new DistroVerifyDigestRequest(new DistroData()), new RequestMeta());
+        assertTrue(response.isSuccess());
+        assertEquals(localDigest, response.getDistroData());
+    }
+    
+    @Test
+    void testHandleNotSupported() throws NacosException {
+        when(distroProtocol.onVerifyDigest(any(), any())).thenReturn(null);
+        DistroDataResponse response = distroVerifyDigestRequestHandler.handle(
+                new DistroVerifyDigestRequest(new DistroData()), new RequestMeta());
+        assertEquals(ResponseCode.FAIL.getCode(), response.getResultCode());
+    }
+    
+    @Test
+    void testHandleException() throws NacosException {
+        when(distroProtocol.onVerifyDigest(any(), any())).thenThrow(new RuntimeException("test"));
+        DistroDataResponse response = distroVerifyDigestRequestHandler.handle(
+                new DistroVerifyDigestRequest(new DistroData()), new RequestMeta());
+        assertEquals(ResponseCode.FAIL.getCode(), response.getResultCode());
+    }
+}